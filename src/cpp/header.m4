@@ -31,7 +31,7 @@ namespace cloud_datastore {
 class QuadrupleBuilder {
 public:
   void parseDecimal(std::vector<uint8_t>& digits, int64_t exp10) {
-    parse(digits, exp10);
+    parse(digits, static_cast<int32_t>(digits.size()), exp10);
   }
 
   void avoidDecimal128CollisionsWithDouble() {
@@ -3,11 +3,10 @@ define(int32_constant, `static constexpr int32_t $1 = translit($2, _);')dnl
 define(uint64_constant, `static constexpr uint64_t $1 = translit($2, _)L;')dnl
 define(double_constant, `static constexpr double $1 = $2;')dnl
 define(double_computed_constant, `static double $1 = $2;')dnl
-define(uint64_array_array_constant, `static std::array<std::array<uint64_t, 4>, 33> $1 = {{ shift($@) }};')dnl
+define(uint64_array_array_constant, `static std::array<std::array<uint64_t, 4>, eval(($# - 1) / 4)> $1 = {{ shift($@) }};')dnl
 define(cst_uint64, `translit($1, _)LL')dnl
 define(cst_array, ` {{ static_cast<uint64_t>($1), $2, $3, $4 }}')dnl
 define(uint64_array, `')dnl
-define(new_digit_array, `std::vector<uint8_t> $1($2)')dnl
 
 define(def_init, `')dnl
 define(def_fn, `$1 QuadrupleBuilder::$2(shift(shift($@))) {')dnl
@@ -7,7 +7,6 @@ define(uint64_array_array_constant, `private static final long[][] $1 = { shift(
 define(cst_uint64, translit($1, _)L)dnl
 define(cst_array, { $@ })dnl
 define(uint64_array, `private final long[] $1 = new long[$2];')dnl
-define(new_digit_array, `byte[] $1 = new byte[$2];')dnl
 
 define(def_init, `')dnl
 define(def_fn, `private $1 $2(shift(shift($@))) {')dnl
@@ -62,10 +61,16 @@ public class QuadrupleBuilder {
 
   public static QuadrupleBuilder parseDecimal(byte[] digits, int exp10) {
     QuadrupleBuilder q = new QuadrupleBuilder();
-    q.parse(digits, exp10);
+    q.parse(digits, digits.length, exp10);
     return q;
   }
 
+  # Parses the first length digits of digits, reusing this builder (and its buffers). The result
+  # only depends on the arguments, not on any previous use of this builder.
+  public void parseDecimal(byte[] digits, int length, int exp10) {
+    parse(digits, length, exp10);
+  }
+
   public void avoidDecimal128CollisionsWithDouble() {
     doAvoidDecimal128CollisionsWithDouble();
   }
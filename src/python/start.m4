@@ -10,7 +10,6 @@ define(uint64_array_array_constant, {$1 = ( shift($@) )})dnl
 define(cst_uint64, $1)dnl
 define(cst_array, ( $@ ))dnl
 define(uint64_array, {self.$1 = [0] * $2})dnl
-define(new_digit_array, {$1 = [0] * $2})dnl
 define(false, False)dnl
 define(true, True)dnl
 define(null, None)dnl
@@ -75,7 +74,8 @@ class QuadrupleBuilder(object):
   @staticmethod
   def parseDecimal(digits, exp10):
     q = QuadrupleBuilder()
-    q.parse([ord(c) - 48 for c in digits], exp10)
+    digits = [ord(c) - 48 for c in digits]
+    q.parse(digits, len(digits), exp10)
     return q
 
   def avoidDecimal128CollisionsWithDouble(self):
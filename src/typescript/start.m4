@@ -7,7 +7,6 @@ define(uint64_array_array_constant, `static $1: bigint[][] = [ shift($@) ];')dnl
 define(cst_uint64, `$1n')dnl
 define(cst_array, `[ $1n, shift($@) ]')dnl
 define(uint64_array, `$1: bigint[] = new Array($2).fill(0n);')dnl
-define(new_digit_array, `let $1: number[] = new Array($2).fill(0);')dnl
 
 define(def_init, `')dnl
 define(def_fn, `$2(shift(shift($@))) : $1 {')dnl
@@ -62,7 +61,7 @@ export class QuadrupleBuilder {
 
   static parseDecimal(digits: number[], exp10: number): QuadrupleBuilder {
     let q = new QuadrupleBuilder();
-    q.parse(digits, exp10);
+    q.parse(digits, digits.length, exp10);
     return q;
   }
 
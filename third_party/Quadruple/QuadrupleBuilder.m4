@@ -17,6 +17,16 @@ dnl  limitations under the License.
   # 2^192 = 6.277e57, so the 58-th digit after point may affect the result
   int32_constant(MAX_MANTISSA_LENGTH, 59)
 
+  # 10^19 < 2^64, so a decimal mantissa of up to 19 significant digits fits in 64 bits
+  int32_constant(MAX_SHORT_MANTISSA_LENGTH, 19)
+
+  # The range of decimal exponents in POWERS_OF_10
+  int32_constant(MIN_POWER_OF_10, -400)
+  int32_constant(MAX_POWER_OF_10, 400)
+
+  # 5^82 < 2^192, so the entries of POWERS_OF_10 for 0 <= e <= 82 are exact
+  int32_constant(MAX_EXACT_POWER_OF_10, 82)
+
   # Max value of the decimal exponent, corresponds to EXPONENT_OF_MAX_VALUE
   int32_constant(MAX_EXP10, 646456993)
 
@@ -295,6 +305,1613 @@ dnl  limitations under the License.
     # 0.56766155260037313438164181629489689531186932477276639365773003794e-646456993
     cst_array(-646456993, cst_uint64(0x9152_447b_9d7c_da9a), cst_uint64(0x3b4d_3f61_10d7_7aad), cst_uint64(0xfa81_bad1_c394_adb4)))
 
+  # An array of powers of ten, from 10^MIN_POWER_OF_10 to 10^MAX_POWER_OF_10. Each value consists
+  # of 4 longs: binary exponent and 3 x 64 bits of mantissa, including the leading 1 and truncated,
+  # so that 10^e ~= mantissa * 2^(exponent - 191). Used by parseShort and multiplyByPowerOf10.
+  uint64_array_array_constant(POWERS_OF_10,
+    # 10^-400
+    cst_array(-1329, cst_uint64(0x95fe_7e07_c91e_fafa), cst_uint64(0x3931_b850_df08_e738), cst_uint64(0x65f2_4b69_63ae_1e57)),
+    # 10^-399
+    cst_array(-1326, cst_uint64(0xbb7e_1d89_bb66_b9b8), cst_uint64(0xc77e_2665_16cb_2106), cst_uint64(0x7f6e_de43_bc99_a5ed)),
+    # 10^-398
+    cst_array(-1323, cst_uint64(0xea5d_a4ec_2a40_6826), cst_uint64(0xf95d_affe_5c7d_e948), cst_uint64(0x1f4a_95d4_abc0_0f68)),
+    # 10^-397
+    cst_array(-1319, cst_uint64(0x927a_8713_9a68_4118), cst_uint64(0x5bda_8dfe_f9ce_b1cd), cst_uint64(0x138e_9da4_eb58_09a1)),
+    # 10^-396
+    cst_array(-1316, cst_uint64(0xb719_28d8_8102_515e), cst_uint64(0x72d1_317e_b842_5e40), cst_uint64(0x5872_450e_262e_0c09)),
+    # 10^-395
+    cst_array(-1313, cst_uint64(0xe4df_730e_a142_e5b6), cst_uint64(0x0f85_7dde_6652_f5d0), cst_uint64(0x6e8e_d651_afb9_8f0c)),
+    # 10^-394
+    cst_array(-1309, cst_uint64(0x8f0b_a7e9_24c9_cf91), cst_uint64(0xc9b3_6eaa_fff3_d9a2), cst_uint64(0x4519_45f3_0dd3_f967)),
+    # 10^-393
+    cst_array(-1306, cst_uint64(0xb2ce_91e3_6dfc_4376), cst_uint64(0x3c20_4a55_bff0_d00a), cst_uint64(0xd65f_976f_d148_f7c1)),
+    # 10^-392
+    cst_array(-1303, cst_uint64(0xdf82_365c_497b_5453), cst_uint64(0xcb28_5ceb_2fed_040d), cst_uint64(0x8bf7_7d4b_c59b_35b1)),
+    # 10^-391
+    cst_array(-1299, cst_uint64(0x8bb1_61f9_aded_14b4), cst_uint64(0x5ef9_3a12_fdf4_2288), cst_uint64(0x777a_ae4f_5b81_018f)),
+    # 10^-390
+    cst_array(-1296, cst_uint64(0xae9d_ba78_1968_59e1), cst_uint64(0x76b7_8897_bd71_2b2a), cst_uint64(0x9559_59e3_3261_41f2)),
+    # 10^-389
+    cst_array(-1293, cst_uint64(0xda45_2916_1fc2_7059), cst_uint64(0xd465_6abd_accd_75f5), cst_uint64(0x3aaf_b05b_fef9_926f)),
+    # 10^-388
+    cst_array(-1289, cst_uint64(0x886b_39ad_d3d9_8638), cst_uint64(0x24bf_62b6_8c00_69b9), cst_uint64(0x44ad_ce39_7f5b_fb85)),
+    # 10^-387
+    cst_array(-1286, cst_uint64(0xaa86_0819_48cf_e7c6), cst_uint64(0x2def_3b64_2f00_8427), cst_uint64(0x95d9_41c7_df32_fa67)),
+    # 10^-386
+    cst_array(-1283, cst_uint64(0xd527_8a1f_9b03_e1b7), cst_uint64(0xb96b_0a3d_3ac0_a531), cst_uint64(0x7b4f_9239_d6ff_b901)),
+    # 10^-385
+    cst_array(-1279, cst_uint64(0x8538_b653_c0e2_6d12), cst_uint64(0xd3e2_e666_44b8_673e), cst_uint64(0xed11_bb64_265f_d3a0)),
+    # 10^-384
+    cst_array(-1276, cst_uint64(0xa686_e3e8_b11b_0857), cst_uint64(0x88db_9fff_d5e6_810e), cst_uint64(0xa856_2a3d_2ff7_c888)),
+    # 10^-383
+    cst_array(-1273, cst_uint64(0xd028_9ce2_dd61_ca6d), cst_uint64(0x6b12_87ff_cb60_2152), cst_uint64(0x526b_b4cc_7bf5_baab)),
+    # 10^-382
+    cst_array(-1269, cst_uint64(0x8219_620d_ca5d_1e84), cst_uint64(0x62eb_94ff_df1c_14d3), cst_uint64(0x7383_50ff_cd79_94aa)),
+    # 10^-381
+    cst_array(-1266, cst_uint64(0xa29f_ba91_3cf4_6625), cst_uint64(0x7ba6_7a3f_d6e3_1a08), cst_uint64(0x5064_253f_c0d7_f9d5)),
+    # 10^-380
+    cst_array(-1263, cst_uint64(0xcb47_a935_8c31_7fae), cst_uint64(0xda90_18cf_cc9b_e08a), cst_uint64(0x647d_2e8f_b10d_f84b)),
+    # 10^-379
+    cst_array(-1260, cst_uint64(0xfe19_9382_ef3d_df9a), cst_uint64(0x9134_1f03_bfc2_d8ac), cst_uint64(0xfd9c_7a33_9d51_765d)),
+    # 10^-378
+    cst_array(-1256, cst_uint64(0x9ecf_fc31_d586_abc0), cst_uint64(0x9ac0_9362_57d9_c76c), cst_uint64(0x1e81_cc60_4252_e9fa)),
+    # 10^-377
+    cst_array(-1253, cst_uint64(0xc683_fb3e_4ae8_56b0), cst_uint64(0xc170_b83a_edd0_3947), cst_uint64(0x2622_3f78_52e7_a479)),
+    # 10^-376
+    cst_array(-1250, cst_uint64(0xf824_fa0d_dda2_6c5c), cst_uint64(0xf1cc_e649_a944_4798), cst_uint64(0xefaa_cf56_67a1_8d97)),
+    # 10^-375
+    cst_array(-1246, cst_uint64(0x9b17_1c48_aa85_83ba), cst_uint64(0x1720_0fee_09ca_acbf), cst_uint64(0x95ca_c196_00c4_f87e)),
+    # 10^-374
+    cst_array(-1243, cst_uint64(0xc1dc_e35a_d526_e4a8), cst_uint64(0x9ce8_13e9_8c3d_57ef), cst_uint64(0x7b3d_71fb_80f6_369e)),
+    # 10^-373
+    cst_array(-1240, cst_uint64(0xf254_1c31_8a70_9dd2), cst_uint64(0xc422_18e3_ef4c_adeb), cst_uint64(0x5a0c_ce7a_6133_c446)),
+    # 10^-372
+    cst_array(-1236, cst_uint64(0x9774_919e_f686_62a3), cst_uint64(0xba95_4f8e_758f_ecb3), cst_uint64(0x1848_010c_7cc0_5aab)),
+    # 10^-371
+    cst_array(-1233, cst_uint64(0xbd51_b606_b427_fb4c), cst_uint64(0xa93a_a372_12f3_e7df), cst_uint64(0xde5a_014f_9bf0_7156)),
+    # 10^-370
+    cst_array(-1230, cst_uint64(0xeca6_2388_6131_fa1f), cst_uint64(0xd389_4c4e_97b0_e1d7), cst_uint64(0xd5f0_81a3_82ec_8dac)),
+    # 10^-369
+    cst_array(-1226, cst_uint64(0x93e7_d635_3cbf_3c53), cst_uint64(0xe435_cfb1_1ece_8d26), cst_uint64(0xe5b6_5106_31d3_d88b)),
+    # 10^-368
+    cst_array(-1223, cst_uint64(0xb8e1_cbc2_8bef_0b68), cst_uint64(0xdd43_439d_6682_3070), cst_uint64(0x9f23_e547_be48_ceae)),
+    # 10^-367
+    cst_array(-1220, cst_uint64(0xe71a_3eb3_2eea_ce43), cst_uint64(0x1494_1484_c022_bc8c), cst_uint64(0xc6ec_de99_addb_025a)),
+    # 10^-366
+    cst_array(-1216, cst_uint64(0x9070_672f_fd52_c0e9), cst_uint64(0xecdc_8cd2_f815_b5d7), cst_uint64(0xfc54_0b20_0ca8_e178)),
+    # 10^-365
+    cst_array(-1213, cst_uint64(0xb48c_80fb_fca7_7124), cst_uint64(0x6813_b007_b61b_234d), cst_uint64(0xfb69_0de8_0fd3_19d6)),
+    # 10^-364
+    cst_array(-1210, cst_uint64(0xe1af_a13a_fbd1_4d6d), cst_uint64(0x8218_9c09_a3a1_ec21), cst_uint64(0x7a43_5162_13c7_e04c)),
+    # 10^-363
+    cst_array(-1206, cst_uint64(0x8d0d_c4c4_dd62_d064), cst_uint64(0x714f_6186_0645_3394), cst_uint64(0xec6a_12dd_4c5c_ec2f)),
+    # 10^-362
+    cst_array(-1203, cst_uint64(0xb051_35f6_14bb_847d), cst_uint64(0x8da3_39e7_87d6_807a), cst_uint64(0x2784_9794_9f74_273b)),
+    # 10^-361
+    cst_array(-1200, cst_uint64(0xdc65_8373_99ea_659c), cst_uint64(0xf10c_0861_69cc_2098), cst_uint64(0xb165_bd79_c751_310a)),
+    # 10^-360
+    cst_array(-1196, cst_uint64(0x89bf_7228_4032_7f82), cst_uint64(0x16a7_853c_e21f_945f), cst_uint64(0x6edf_966c_1c92_bea6)),
+    # 10^-359
+    cst_array(-1193, cst_uint64(0xac2f_4eb2_503f_1f62), cst_uint64(0x9c51_668c_1aa7_7977), cst_uint64(0x4a97_7c07_23b7_6e50)),
+    # 10^-358
+    cst_array(-1190, cst_uint64(0xd73b_225e_e44e_e73b), cst_uint64(0x4365_c02f_2151_57d5), cst_uint64(0x1d3d_5b08_eca5_49e4)),
+    # 10^-357
+    cst_array(-1186, cst_uint64(0x8684_f57b_4eb1_5085), cst_uint64(0x0a1f_981d_74d2_d6e5), cst_uint64(0x3246_58e5_93e7_4e2e)),
+    # 10^-356
+    cst_array(-1183, cst_uint64(0xa826_32da_225d_a4a6), cst_uint64(0x4ca7_7e24_d207_8c9e), cst_uint64(0x7ed7_ef1e_f8e1_21ba)),
+    # 10^-355
+    cst_array(-1180, cst_uint64(0xd22f_bf90_aaf5_0dcf), cst_uint64(0xdfd1_5dae_0689_6fc6), cst_uint64(0x1e8d_eae6_b719_6a28)),
+    # 10^-354
+    cst_array(-1176, cst_uint64(0x835d_d7ba_6ad9_28a1), cst_uint64(0xebe2_da8c_c415_e5db), cst_uint64(0xd318_b2d0_326f_e259)),
+    # 10^-353
+    cst_array(-1173, cst_uint64(0xa435_4da9_058f_72ca), cst_uint64(0x66db_912f_f51b_5f52), cst_uint64(0xc7de_df84_3f0b_daef)),
+    # 10^-352
+    cst_array(-1170, cst_uint64(0xcd42_a113_46f3_4f7d), cst_uint64(0x0092_757b_f262_3727), cst_uint64(0x79d6_9765_4ece_d1ab)),
+    # 10^-351
+    cst_array(-1166, cst_uint64(0x8049_a4ac_0c58_11ae), cst_uint64(0x205b_896d_777d_6278), cst_uint64(0xac26_1e9f_5141_430b)),
+    # 10^-350
+    cst_array(-1163, cst_uint64(0xa05c_0dd7_0f6e_1619), cst_uint64(0xa872_6bc8_d55c_bb16), cst_uint64(0xd72f_a647_2591_93ce)),
+    # 10^-349
+    cst_array(-1160, cst_uint64(0xc873_114c_d349_9ba0), cst_uint64(0x128f_06bb_0ab3_e9dc), cst_uint64(0x8cfb_8fd8_eef5_f8c1)),
+    # 10^-348
+    cst_array(-1157, cst_uint64(0xfa8f_d5a0_081c_0288), cst_uint64(0x1732_c869_cd60_e453), cst_uint64(0xb03a_73cf_2ab3_76f2)),
+    # 10^-347
+    cst_array(-1153, cst_uint64(0x9c99_e584_0511_8195), cst_uint64(0x0e7f_bd42_205c_8eb4), cst_uint64(0x4e24_8861_7ab0_2a57)),
+    # 10^-346
+    cst_array(-1150, cst_uint64(0xc3c0_5ee5_0655_e1fa), cst_uint64(0x521f_ac92_a873_b261), cst_uint64(0x61ad_aa79_d95c_34ed)),
+    # 10^-345
+    cst_array(-1147, cst_uint64(0xf4b0_769e_47eb_5a78), cst_uint64(0xe6a7_97b7_5290_9ef9), cst_uint64(0xba19_1518_4fb3_4228)),
+    # 10^-344
+    cst_array(-1143, cst_uint64(0x98ee_4a22_ecf3_188b), cst_uint64(0x9028_bed2_939a_635c), cst_uint64(0x144f_ad2f_31d0_0959)),
+    # 10^-343
+    cst_array(-1140, cst_uint64(0xbf29_dcab_a82f_deae), cst_uint64(0x7432_ee87_3880_fc33), cst_uint64(0x1963_987a_fe44_0baf)),
+    # 10^-342
+    cst_array(-1137, cst_uint64(0xeef4_53d6_923b_d65a), cst_uint64(0x113f_aa29_06a1_3b3f), cst_uint64(0xdfbc_7e99_bdd5_0e9b)),
+    # 10^-341
+    cst_array(-1133, cst_uint64(0x9558_b466_1b65_65f8), cst_uint64(0x4ac7_ca59_a424_c507), cst_uint64(0xebd5_cf20_16a5_2921)),
+    # 10^-340
+    cst_array(-1130, cst_uint64(0xbaae_e17f_a23e_bf76), cst_uint64(0x5d79_bcf0_0d2d_f649), cst_uint64(0xe6cb_42e8_1c4e_7369)),
+    # 10^-339
+    cst_array(-1127, cst_uint64(0xe95a_99df_8ace_6f53), cst_uint64(0xf4d8_2c2c_1079_73dc), cst_uint64(0x607e_13a2_2362_1044)),
+    # 10^-338
+    cst_array(-1123, cst_uint64(0x91d8_a02b_b6c1_0594), cst_uint64(0x7907_1b9b_8a4b_e869), cst_uint64(0xbc4e_cc45_561d_4a2a)),
+    # 10^-337
+    cst_array(-1120, cst_uint64(0xb64e_c836_a471_46f9), cst_uint64(0x9748_e282_6cde_e284), cst_uint64(0x2b62_7f56_aba4_9cb5)),
+    # 10^-336
+    cst_array(-1117, cst_uint64(0xe3e2_7a44_4d8d_98b7), cst_uint64(0xfd1b_1b23_0816_9b25), cst_uint64(0x363b_1f2c_568d_c3e2)),
+    # 10^-335
+    cst_array(-1113, cst_uint64(0x8e6d_8c6a_b078_7f72), cst_uint64(0xfe30_f0f5_e50e_20f7), cst_uint64(0x41e4_f37b_b618_9a6d)),
+    # 10^-334
+    cst_array(-1110, cst_uint64(0xb208_ef85_5c96_9f4f), cst_uint64(0xbdbd_2d33_5e51_a935), cst_uint64(0x125e_305a_a39e_c108)),
+    # 10^-333
+    cst_array(-1107, cst_uint64(0xde8b_2b66_b3bc_4723), cst_uint64(0xad2c_7880_35e6_1382), cst_uint64(0x56f5_bc71_4c86_714b)),
+    # 10^-332
+    cst_array(-1103, cst_uint64(0x8b16_fb20_3055_ac76), cst_uint64(0x4c3b_cb50_21af_cc31), cst_uint64(0x7659_95c6_cfd4_06ce)),
+    # 10^-331
+    cst_array(-1100, cst_uint64(0xaddc_b9e8_3c6b_1793), cst_uint64(0xdf4a_be24_2a1b_bf3d), cst_uint64(0xd3ef_fb38_83c9_0882)),
+    # 10^-330
+    cst_array(-1097, cst_uint64(0xd953_e862_4b85_dd78), cst_uint64(0xd71d_6dad_34a2_af0d), cst_uint64(0x48eb_fa06_a4bb_4aa3)),
+    # 10^-329
+    cst_array(-1093, cst_uint64(0x87d4_713d_6f33_aa6b), cst_uint64(0x8672_648c_40e5_ad68), cst_uint64(0x4d93_7c44_26f5_0ea6)),
+    # 10^-328
+    cst_array(-1090, cst_uint64(0xa9c9_8d8c_cb00_9506), cst_uint64(0x680e_fdaf_511f_18c2), cst_uint64(0x60f8_5b55_30b2_524f)),
+    # 10^-327
+    cst_array(-1087, cst_uint64(0xd43b_f0ef_fdc0_ba48), cst_uint64(0x0212_bd1b_2566_def2), cst_uint64(0xf936_722a_7cde_e6e3)),
+    # 10^-326
+    cst_array(-1083, cst_uint64(0x84a5_7695_fe98_746d), cst_uint64(0x014b_b630_f760_4b57), cst_uint64(0xdbc2_075a_8e0b_504e)),
+    # 10^-325
+    cst_array(-1080, cst_uint64(0xa5ce_d43b_7e3e_9188), cst_uint64(0x419e_a3bd_3538_5e2d), cst_uint64(0xd2b2_8931_318e_2461)),
+    # 10^-324
+    cst_array(-1077, cst_uint64(0xcf42_894a_5dce_35ea), cst_uint64(0x5206_4cac_8286_75b9), cst_uint64(0x475f_2b7d_7df1_ad7a)),
+    # 10^-323
+    cst_array(-1073, cst_uint64(0x8189_95ce_7aa0_e1b2), cst_uint64(0x7343_efeb_d194_0993), cst_uint64(0xcc9b_7b2e_6eb7_0c6c)),
+    # 10^-322
+    cst_array(-1070, cst_uint64(0xa1eb_fb42_1949_1a1f), cst_uint64(0x1014_ebe6_c5f9_0bf8), cst_uint64(0xbfc2_59fa_0a64_cf87)),
+    # 10^-321
+    cst_array(-1067, cst_uint64(0xca66_fa12_9f9b_60a6), cst_uint64(0xd41a_26e0_7777_4ef6), cst_uint64(0xefb2_f078_8cfe_0369)),
+    # 10^-320
+    cst_array(-1064, cst_uint64(0xfd00_b897_4782_38d0), cst_uint64(0x8920_b098_9555_22b4), cst_uint64(0xab9f_ac96_b03d_8443)),
+    # 10^-319
+    cst_array(-1060, cst_uint64(0x9e20_735e_8cb1_6382), cst_uint64(0x55b4_6e5f_5d55_35b0), cst_uint64(0xeb43_cbde_2e26_72aa)),
+    # 10^-318
+    cst_array(-1057, cst_uint64(0xc5a8_9036_2fdd_bc62), cst_uint64(0xeb21_89f7_34aa_831d), cst_uint64(0x2614_bed5_b9b0_0f54)),
+    # 10^-317
+    cst_array(-1054, cst_uint64(0xf712_b443_bbd5_2b7b), cst_uint64(0xa5e9_ec75_01d5_23e4), cst_uint64(0x6f99_ee8b_281c_132a)),
+    # 10^-316
+    cst_array(-1050, cst_uint64(0x9a6b_b0aa_5565_3b2d), cst_uint64(0x47b2_33c9_2125_366e), cst_uint64(0xc5c0_3516_f911_8bfa)),
+    # 10^-315
+    cst_array(-1047, cst_uint64(0xc106_9cd4_eabe_89f8), cst_uint64(0x999e_c0bb_696e_840a), cst_uint64(0x7730_425c_b755_eef8)),
+    # 10^-314
+    cst_array(-1044, cst_uint64(0xf148_440a_256e_2c76), cst_uint64(0xc006_70ea_43ca_250d), cst_uint64(0x14fc_52f3_e52b_6ab7)),
+    # 10^-313
+    cst_array(-1040, cst_uint64(0x96cd_2a86_5764_dbca), cst_uint64(0x3804_0692_6a5e_5728), cst_uint64(0x2d1d_b3d8_6f3b_22b2)),
+    # 10^-312
+    cst_array(-1037, cst_uint64(0xbc80_7527_ed3e_12bc), cst_uint64(0xc605_0837_04f5_ecf2), cst_uint64(0x3865_20ce_8b09_eb5f)),
+    # 10^-311
+    cst_array(-1034, cst_uint64(0xeba0_9271_e88d_976b), cst_uint64(0xf786_4a44_c633_682e), cst_uint64(0xc67e_6902_2dcc_6636)),
+    # 10^-310
+    cst_array(-1030, cst_uint64(0x9344_5b87_3158_7ea3), cst_uint64(0x7ab3_ee6a_fbe0_211d), cst_uint64(0x3c0f_01a1_5c9f_bfe2)),
+    # 10^-309
+    cst_array(-1027, cst_uint64(0xb815_7268_fdae_9e4c), cst_uint64(0x5960_ea05_bad8_2964), cst_uint64(0x8b12_c209_b3c7_afda)),
+    # 10^-308
+    cst_array(-1024, cst_uint64(0xe61a_cf03_3d1a_45df), cst_uint64(0x6fb9_2487_298e_33bd), cst_uint64(0xadd7_728c_20b9_9bd1)),
+    # 10^-307
+    cst_array(-1020, cst_uint64(0x8fd0_c162_0630_6bab), cst_uint64(0xa5d3_b6d4_79f8_e056), cst_uint64(0x8ca6_a797_9474_0162)),
+    # 10^-306
+    cst_array(-1017, cst_uint64(0xb3c4_f1ba_87bc_8696), cst_uint64(0x8f48_a489_9877_186c), cst_uint64(0x2fd0_517d_7991_01bb)),
+    # 10^-305
+    cst_array(-1014, cst_uint64(0xe0b6_2e29_29ab_a83c), cst_uint64(0x331a_cdab_fe94_de87), cst_uint64(0x3bc4_65dc_d7f5_422a)),
+    # 10^-304
+    cst_array(-1010, cst_uint64(0x8c71_dcd9_ba0b_4925), cst_uint64(0x9ff0_c08b_7f1d_0b14), cst_uint64(0x855a_bfaa_06f9_495a)),
+    # 10^-303
+    cst_array(-1007, cst_uint64(0xaf8e_5410_288e_1b6f), cst_uint64(0x07ec_f0ae_5ee4_4dd9), cst_uint64(0xa6b1_6f94_88b7_9bb1)),
+    # 10^-302
+    cst_array(-1004, cst_uint64(0xdb71_e914_32b1_a24a), cst_uint64(0xc9e8_2cd9_f69d_6150), cst_uint64(0x105d_cb79_aae5_829d)),
+    # 10^-301
+    cst_array(-1000, cst_uint64(0x8927_31ac_9faf_056e), cst_uint64(0xbe31_1c08_3a22_5cd2), cst_uint64(0x0a3a_9f2c_0acf_71a2)),
+    # 10^-300
+    cst_array(-997, cst_uint64(0xab70_fe17_c79a_c6ca), cst_uint64(0x6dbd_630a_48aa_f406), cst_uint64(0x8cc9_46f7_0d83_4e0b)),
+    # 10^-299
+    cst_array(-994, cst_uint64(0xd64d_3d9d_b981_787d), cst_uint64(0x092c_bbcc_dad5_b108), cst_uint64(0x2ffb_98b4_d0e4_218d)),
+    # 10^-298
+    cst_array(-990, cst_uint64(0x85f0_4682_93f0_eb4e), cst_uint64(0x25bb_f560_08c5_8ea5), cst_uint64(0x1dfd_3f71_028e_94f8)),
+    # 10^-297
+    cst_array(-987, cst_uint64(0xa76c_5823_38ed_2621), cst_uint64(0xaf2a_f2b8_0af6_f24e), cst_uint64(0x657c_8f4d_4332_3a36)),
+    # 10^-296
+    cst_array(-984, cst_uint64(0xd147_6e2c_0728_6faa), cst_uint64(0x1af5_af66_0db4_aee1), cst_uint64(0xfedb_b320_93fe_c8c4)),
+    # 10^-295
+    cst_array(-980, cst_uint64(0x82cc_a4db_8479_45ca), cst_uint64(0x50d9_8d9f_c890_ed4d), cst_uint64(0x3f49_4ff4_5c7f_3d7a)),
+    # 10^-294
+    cst_array(-977, cst_uint64(0xa37f_ce12_6597_973c), cst_uint64(0xe50f_f107_bab5_28a0), cst_uint64(0x8f1b_a3f1_739f_0cd9)),
+    # 10^-293
+    cst_array(-974, cst_uint64(0xcc5f_c196_fefd_7d0c), cst_uint64(0x1e53_ed49_a962_72c8), cst_uint64(0xb2e2_8ced_d086_d010)),
+    # 10^-292
+    cst_array(-971, cst_uint64(0xff77_b1fc_bebc_dc4f), cst_uint64(0x25e8_e89c_13bb_0f7a), cst_uint64(0xdf9b_3029_44a8_8414)),
+    # 10^-291
+    cst_array(-967, cst_uint64(0x9faa_cf3d_f736_09b1), cst_uint64(0x77b1_9161_8c54_e9ac), cst_uint64(0xcbc0_fe19_cae9_528c)),
+    # 10^-290
+    cst_array(-964, cst_uint64(0xc795_830d_7503_8c1d), cst_uint64(0xd59d_f5b9_ef6a_2417), cst_uint64(0xfeb1_3da0_3da3_a72f)),
+    # 10^-289
+    cst_array(-961, cst_uint64(0xf97a_e3d0_d244_6f25), cst_uint64(0x4b05_7328_6b44_ad1d), cst_uint64(0xfe5d_8d08_4d0c_90fb)),
+    # 10^-288
+    cst_array(-957, cst_uint64(0x9bec_ce62_836a_c577), cst_uint64(0x4ee3_67f9_430a_ec32), cst_uint64(0xbefa_7825_3027_da9d)),
+    # 10^-287
+    cst_array(-954, cst_uint64(0xc2e8_01fb_2445_76d5), cst_uint64(0x229c_41f7_93cd_a73f), cst_uint64(0x6eb9_162e_7c31_d144)),
+    # 10^-286
+    cst_array(-951, cst_uint64(0xf3a2_0279_ed56_d48a), cst_uint64(0x6b43_5275_78c1_110f), cst_uint64(0x4a67_5bba_1b3e_4595)),
+    # 10^-285
+    cst_array(-947, cst_uint64(0x9845_418c_3456_44d6), cst_uint64(0x830a_1389_6b78_aaa9), cst_uint64(0x8e80_9954_5106_eb7d)),
+    # 10^-284
+    cst_array(-944, cst_uint64(0xbe56_91ef_416b_d60c), cst_uint64(0x23cc_986b_c656_d553), cst_uint64(0xf220_bfa9_6548_a65c)),
+    # 10^-283
+    cst_array(-941, cst_uint64(0xedec_366b_11c6_cb8f), cst_uint64(0x2cbf_be86_b7ec_8aa8), cst_uint64(0xeea8_ef93_be9a_cff4)),
+    # 10^-282
+    cst_array(-937, cst_uint64(0x94b3_a202_eb1c_3f39), cst_uint64(0x7bf7_d714_32f3_d6a9), cst_uint64(0x9529_95bc_5720_c1f8)),
+    # 10^-281
+    cst_array(-934, cst_uint64(0xb9e0_8a83_a5e3_4f07), cst_uint64(0xdaf5_ccd9_3fb0_cc53), cst_uint64(0xfa73_fb2b_6ce8_f276)),
+    # 10^-280
+    cst_array(-931, cst_uint64(0xe858_ad24_8f5c_22c9), cst_uint64(0xd1b3_400f_8f9c_ff68), cst_uint64(0xf910_f9f6_4823_2f14)),
+    # 10^-279
+    cst_array(-927, cst_uint64(0x9137_6c36_d999_95be), cst_uint64(0x2310_0809_b9c2_1fa1), cst_uint64(0x9baa_9c39_ed15_fd6c)),
+    # 10^-278
+    cst_array(-924, cst_uint64(0xb585_4744_8fff_fb2d), cst_uint64(0xabd4_0a0c_2832_a78a), cst_uint64(0x0295_4348_685b_7cc7)),
+    # 10^-277
+    cst_array(-921, cst_uint64(0xe2e6_9915_b3ff_f9f9), cst_uint64(0x16c9_0c8f_323f_516c), cst_uint64(0x833a_941a_8272_5bf9)),
+    # 10^-276
+    cst_array(-917, cst_uint64(0x8dd0_1fad_907f_fc3b), cst_uint64(0xae3d_a7d9_7f67_92e3), cst_uint64(0xd204_9c90_9187_797c)),
+    # 10^-275
+    cst_array(-914, cst_uint64(0xb144_2798_f49f_fb4a), cst_uint64(0x99cd_11cf_df41_779c), cst_uint64(0xc685_c3b4_b5e9_57db)),
+    # 10^-274
+    cst_array(-911, cst_uint64(0xdd95_317f_31c7_fa1d), cst_uint64(0x4040_5643_d711_d583), cst_uint64(0xf827_34a1_e363_add2)),
+    # 10^-273
+    cst_array(-907, cst_uint64(0x8a7d_3eef_7f1c_fc52), cst_uint64(0x4828_35ea_666b_2572), cst_uint64(0x7b18_80e5_2e1e_4ca3)),
+    # 10^-272
+    cst_array(-904, cst_uint64(0xad1c_8eab_5ee4_3b66), cst_uint64(0xda32_4365_0005_eecf), cst_uint64(0x19de_a11e_79a5_dfcc)),
+    # 10^-271
+    cst_array(-901, cst_uint64(0xd863_b256_369d_4a40), cst_uint64(0x90be_d43e_4007_6a82), cst_uint64(0xe056_4966_180f_57bf)),
+    # 10^-270
+    cst_array(-897, cst_uint64(0x873e_4f75_e222_4e68), cst_uint64(0x5a77_44a6_e804_a291), cst_uint64(0xcc35_eddf_cf09_96d7)),
+    # 10^-269
+    cst_array(-894, cst_uint64(0xa90d_e353_5aaa_e202), cst_uint64(0x7115_15d0_a205_cb36), cst_uint64(0x3f43_6957_c2cb_fc8d)),
+    # 10^-268
+    cst_array(-891, cst_uint64(0xd351_5c28_3155_9a83), cst_uint64(0x0d5a_5b44_ca87_3e03), cst_uint64(0xcf14_43ad_b37e_fbb0)),
+    # 10^-267
+    cst_array(-887, cst_uint64(0x8412_d999_1ed5_8091), cst_uint64(0xe858_790a_fe94_86c2), cst_uint64(0x616c_aa4c_902f_5d4e)),
+    # 10^-266
+    cst_array(-884, cst_uint64(0xa517_8fff_668a_e0b6), cst_uint64(0x626e_974d_be39_a872), cst_uint64(0xf9c7_d4df_b43b_34a2)),
+    # 10^-265
+    cst_array(-881, cst_uint64(0xce5d_73ff_402d_98e3), cst_uint64(0xfb0a_3d21_2dc8_128f), cst_uint64(0xb839_ca17_a14a_01ca)),
+    # 10^-264
+    cst_array(-877, cst_uint64(0x80fa_687f_881c_7f8e), cst_uint64(0x7ce6_6634_bc9d_0b99), cst_uint64(0xd324_1e4e_c4ce_411e)),
+    # 10^-263
+    cst_array(-874, cst_uint64(0xa139_029f_6a23_9f72), cst_uint64(0x1c1f_ffc1_ebc4_4e80), cst_uint64(0x47ed_25e2_7601_d166)),
+    # 10^-262
+    cst_array(-871, cst_uint64(0xc987_4347_44ac_874e), cst_uint64(0xa327_ffb2_66b5_6220), cst_uint64(0x59e8_6f5b_1382_45bf)),
+    # 10^-261
+    cst_array(-868, cst_uint64(0xfbe9_1419_15d7_a922), cst_uint64(0x4bf1_ff9f_0062_baa8), cst_uint64(0x7062_8b31_d862_d72f)),
+    # 10^-260
+    cst_array(-864, cst_uint64(0x9d71_ac8f_ada6_c9b5), cst_uint64(0x6f77_3fc3_603d_b4a9), cst_uint64(0x463d_96ff_273d_c67d)),
+    # 10^-259
+    cst_array(-861, cst_uint64(0xc4ce_17b3_9910_7c22), cst_uint64(0xcb55_0fb4_384d_21d3), cst_uint64(0x97cc_fcbe_f10d_381d)),
+    # 10^-258
+    cst_array(-858, cst_uint64(0xf601_9da0_7f54_9b2b), cst_uint64(0x7e2a_53a1_4660_6a48), cst_uint64(0x7dc0_3bee_ad50_8624)),
+    # 10^-257
+    cst_array(-854, cst_uint64(0x99c1_0284_4f94_e0fb), cst_uint64(0x2eda_7444_cbfc_426d), cst_uint64(0x4e98_2575_2c52_53d6)),
+    # 10^-256
+    cst_array(-851, cst_uint64(0xc031_4325_637a_1939), cst_uint64(0xfa91_1155_fefb_5308), cst_uint64(0xa23e_2ed2_7766_e8cc)),
+    # 10^-255
+    cst_array(-848, cst_uint64(0xf03d_93ee_bc58_9f88), cst_uint64(0x7935_55ab_7eba_27ca), cst_uint64(0xcacd_ba87_1540_a2ff)),
+    # 10^-254
+    cst_array(-844, cst_uint64(0x9626_7c75_35b7_63b5), cst_uint64(0x4bc1_558b_2f34_58de), cst_uint64(0xbec0_9494_6d48_65df)),
+    # 10^-253
+    cst_array(-841, cst_uint64(0xbbb0_1b92_8325_3ca2), cst_uint64(0x9eb1_aaed_fb01_6f16), cst_uint64(0x6e70_b9b9_889a_7f57)),
+    # 10^-252
+    cst_array(-838, cst_uint64(0xea9c_2277_23ee_8bcb), cst_uint64(0x465e_15a9_79c1_cadc), cst_uint64(0x0a0c_e827_eac1_1f2d)),
+    # 10^-251
+    cst_array(-834, cst_uint64(0x92a1_958a_7675_175f), cst_uint64(0x0bfa_cd89_ec19_1ec9), cst_uint64(0x8648_1118_f2b8_b37c)),
+    # 10^-250
+    cst_array(-831, cst_uint64(0xb749_faed_1412_5d36), cst_uint64(0xcef9_80ec_671f_667b), cst_uint64(0xe7da_155f_2f66_e05b)),
+    # 10^-249
+    cst_array(-828, cst_uint64(0xe51c_79a8_5916_f484), cst_uint64(0x82b7_e127_80e7_401a), cst_uint64(0xe1d0_9ab6_fb40_9872)),
+    # 10^-248
+    cst_array(-824, cst_uint64(0x8f31_cc09_37ae_58d2), cst_uint64(0xd1b2_ecb8_b090_8810), cst_uint64(0xcd22_60b2_5d08_5f47)),
+    # 10^-247
+    cst_array(-821, cst_uint64(0xb2fe_3f0b_8599_ef07), cst_uint64(0x861f_a7e6_dcb4_aa15), cst_uint64(0x006a_f8de_f44a_7719)),
+    # 10^-246
+    cst_array(-818, cst_uint64(0xdfbd_cece_6700_6ac9), cst_uint64(0x67a7_91e0_93e1_d49a), cst_uint64(0x4085_b716_b15d_14e0)),
+    # 10^-245
+    cst_array(-814, cst_uint64(0x8bd6_a141_0060_42bd), cst_uint64(0xe0c8_bb2c_5c6d_24e0), cst_uint64(0x6853_926e_2eda_2d0c)),
+    # 10^-244
+    cst_array(-811, cst_uint64(0xaecc_4991_4078_536d), cst_uint64(0x58fa_e9f7_7388_6e18), cst_uint64(0x8268_7709_ba90_b84f)),
+    # 10^-243
+    cst_array(-808, cst_uint64(0xda7f_5bf5_9096_6848), cst_uint64(0xaf39_a475_506a_899e), cst_uint64(0xa302_94cc_2934_e662)),
+    # 10^-242
+    cst_array(-804, cst_uint64(0x888f_9979_7a5e_012d), cst_uint64(0x6d84_06c9_5242_9603), cst_uint64(0x25e1_9cff_99c1_0ffd)),
+    # 10^-241
+    cst_array(-801, cst_uint64(0xaab3_7fd7_d8f5_8178), cst_uint64(0xc8e5_087b_a6d3_3b83), cst_uint64(0xef5a_043f_8031_53fd)),
+    # 10^-240
+    cst_array(-798, cst_uint64(0xd560_5fcd_cf32_e1d6), cst_uint64(0xfb1e_4a9a_9088_0a64), cst_uint64(0xeb30_854f_603d_a8fc)),
+    # 10^-239
+    cst_array(-794, cst_uint64(0x855c_3be0_a17f_cd26), cst_uint64(0x5cf2_eea0_9a55_067f), cst_uint64(0x12fe_5351_9c26_899d)),
+    # 10^-238
+    cst_array(-791, cst_uint64(0xa6b3_4ad8_c9df_c06f), cst_uint64(0xf42f_aa48_c0ea_481e), cst_uint64(0xd7bd_e826_0330_2c05)),
+    # 10^-237
+    cst_array(-788, cst_uint64(0xd060_1d8e_fc57_b08b), cst_uint64(0xf13b_94da_f124_da26), cst_uint64(0x8dad_622f_83fc_3706)),
+    # 10^-236
+    cst_array(-784, cst_uint64(0x823c_1279_5db6_ce57), cst_uint64(0x76c5_3d08_d6b7_0858), cst_uint64(0x188c_5d5d_b27d_a264)),
+    # 10^-235
+    cst_array(-781, cst_uint64(0xa2cb_1717_b524_81ed), cst_uint64(0x5476_8c4b_0c64_ca6e), cst_uint64(0x1eaf_74b5_1f1d_0afd)),
+    # 10^-234
+    cst_array(-778, cst_uint64(0xcb7d_dcdd_a26d_a268), cst_uint64(0xa994_2f5d_cf7d_fd09), cst_uint64(0xa65b_51e2_66e4_4dbc)),
+    # 10^-233
+    cst_array(-775, cst_uint64(0xfe5d_5415_0b09_0b02), cst_uint64(0xd3f9_3b35_435d_7c4c), cst_uint64(0x0ff2_265b_009d_612b)),
+    # 10^-232
+    cst_array(-771, cst_uint64(0x9efa_548d_26e5_a6e1), cst_uint64(0xc47b_c501_4a1a_6daf), cst_uint64(0x89f7_57f8_e062_5cbb)),
+    # 10^-231
+    cst_array(-768, cst_uint64(0xc6b8_e9b0_709f_109a), cst_uint64(0x359a_b641_9ca1_091b), cst_uint64(0x6c75_2df7_187a_f3e9)),
+    # 10^-230
+    cst_array(-765, cst_uint64(0xf867_241c_8cc6_d4c0), cst_uint64(0xc301_63d2_03c9_4b62), cst_uint64(0x4792_7974_de99_b0e4)),
+    # 10^-229
+    cst_array(-761, cst_uint64(0x9b40_7691_d7fc_44f8), cst_uint64(0x79e0_de63_425d_cf1d), cst_uint64(0x6cbb_8be9_0b20_0e8e)),
+    # 10^-228
+    cst_array(-758, cst_uint64(0xc210_9436_4dfb_5636), cst_uint64(0x9859_15fc_12f5_42e4), cst_uint64(0xc7ea_6ee3_4de8_1232)),
+    # 10^-227
+    cst_array(-755, cst_uint64(0xf294_b943_e17a_2bc4), cst_uint64(0x3e6f_5b7b_17b2_939d), cst_uint64(0xf9e5_0a9c_2162_16bf)),
+    # 10^-226
+    cst_array(-751, cst_uint64(0x979c_f3ca_6cec_5b5a), cst_uint64(0xa705_992c_eecf_9c42), cst_uint64(0xbc2f_26a1_94dd_4e37)),
+    # 10^-225
+    cst_array(-748, cst_uint64(0xbd84_30bd_0827_7231), cst_uint64(0x50c6_ff78_2a83_8353), cst_uint64(0x6b3a_f049_fa14_a1c5)),
+    # 10^-224
+    cst_array(-745, cst_uint64(0xece5_3cec_4a31_4ebd), cst_uint64(0xa4f8_bf56_3524_6428), cst_uint64(0x4609_ac5c_7899_ca36)),
+    # 10^-223
+    cst_array(-741, cst_uint64(0x940f_4613_ae5e_d136), cst_uint64(0x871b_7795_e136_be99), cst_uint64(0x2bc6_0bb9_cb60_1e62)),
+    # 10^-222
+    cst_array(-738, cst_uint64(0xb913_1798_99f6_8584), cst_uint64(0x28e2_557b_5984_6e3f), cst_uint64(0x76b7_8ea8_3e38_25fa)),
+    # 10^-221
+    cst_array(-735, cst_uint64(0xe757_dd7e_c074_26e5), cst_uint64(0x331a_eada_2fe5_89cf), cst_uint64(0x5465_7252_4dc6_2f79)),
+    # 10^-220
+    cst_array(-731, cst_uint64(0x9096_ea6f_3848_984f), cst_uint64(0x3ff0_d2c8_5def_7621), cst_uint64(0x94bf_6773_709b_ddab)),
+    # 10^-219
+    cst_array(-728, cst_uint64(0xb4bc_a50b_065a_be63), cst_uint64(0x0fed_077a_756b_53a9), cst_uint64(0xf9ef_4150_4cc2_d516)),
+    # 10^-218
+    cst_array(-725, cst_uint64(0xe1eb_ce4d_c7f1_6dfb), cst_uint64(0xd3e8_4959_12c6_2894), cst_uint64(0x786b_11a4_5ff3_8a5c)),
+    # 10^-217
+    cst_array(-721, cst_uint64(0x8d33_60f0_9cf6_e4bd), cst_uint64(0x6471_2dd7_abbb_d95c), cst_uint64(0xcb42_eb06_bbf8_3679)),
+    # 10^-216
+    cst_array(-718, cst_uint64(0xb080_392c_c434_9dec), cst_uint64(0xbd8d_794d_96aa_cfb3), cst_uint64(0xfe13_a5c8_6af6_4418)),
+    # 10^-215
+    cst_array(-715, cst_uint64(0xdca0_4777_f541_c567), cst_uint64(0xecf0_d7a0_fc55_83a0), cst_uint64(0xfd98_8f3a_85b3_d51e)),
+    # 10^-214
+    cst_array(-711, cst_uint64(0x89e4_2caa_f949_1b60), cst_uint64(0xf416_86c4_9db5_7244), cst_uint64(0x9e7f_5984_9390_6532)),
+    # 10^-213
+    cst_array(-708, cst_uint64(0xac5d_37d5_b79b_6239), cst_uint64(0x311c_2875_c522_ced5), cst_uint64(0xc61f_2fe5_b874_7e7f)),
+    # 10^-212
+    cst_array(-705, cst_uint64(0xd774_85cb_2582_3ac7), cst_uint64(0x7d63_3293_366b_828b), cst_uint64(0x37a6_fbdf_2691_9e1f)),
+    # 10^-211
+    cst_array(-701, cst_uint64(0x86a8_d39e_f771_64bc), cst_uint64(0xae5d_ff9c_0203_3197), cst_uint64(0x02c8_5d6b_781b_02d3)),
+    # 10^-210
+    cst_array(-698, cst_uint64(0xa853_0886_b54d_bdeb), cst_uint64(0xd9f5_7f83_0283_fdfc), cst_uint64(0xc37a_74c6_5621_c388)),
+    # 10^-209
+    cst_array(-695, cst_uint64(0xd267_caa8_62a1_2d66), cst_uint64(0xd072_df63_c324_fd7b), cst_uint64(0xf459_11f7_ebaa_346a)),
+    # 10^-208
+    cst_array(-691, cst_uint64(0x8380_dea9_3da4_bc60), cst_uint64(0x4247_cb9e_59f7_1e6d), cst_uint64(0x78b7_ab3a_f34a_60c2)),
+    # 10^-207
+    cst_array(-688, cst_uint64(0xa461_1653_8d0d_eb78), cst_uint64(0x52d9_be85_f074_e608), cst_uint64(0xd6e5_9609_b01c_f8f3)),
+    # 10^-206
+    cst_array(-685, cst_uint64(0xcd79_5be8_7051_6656), cst_uint64(0x6790_2e27_6c92_1f8b), cst_uint64(0x0c9e_fb8c_1c24_3730)),
+    # 10^-205
+    cst_array(-681, cst_uint64(0x806b_d971_4632_dff6), cst_uint64(0x00ba_1cd8_a3db_53b6), cst_uint64(0xe7e3_5d37_9196_a27e)),
+    # 10^-204
+    cst_array(-678, cst_uint64(0xa086_cfcd_97bf_97f3), cst_uint64(0x80e8_a40e_ccd2_28a4), cst_uint64(0xa1dc_3485_75fc_4b1d)),
+    # 10^-203
+    cst_array(-675, cst_uint64(0xc8a8_83c0_fdaf_7df0), cst_uint64(0x6122_cd12_8006_b2cd), cst_uint64(0xca53_41a6_d37b_5de5)),
+    # 10^-202
+    cst_array(-672, cst_uint64(0xfad2_a4b1_3d1b_5d6c), cst_uint64(0x796b_8057_2008_5f81), cst_uint64(0x3ce8_1210_885a_355e)),
+    # 10^-201
+    cst_array(-668, cst_uint64(0x9cc3_a6ee_c631_1a63), cst_uint64(0xcbe3_3036_7405_3bb0), cst_uint64(0xc611_0b4a_5538_615b)),
+    # 10^-200
+    cst_array(-665, cst_uint64(0xc3f4_90aa_77bd_60fc), cst_uint64(0xbedb_fc44_1106_8a9c), cst_uint64(0xf795_4e1c_ea86_79b1)),
+    # 10^-199
+    cst_array(-662, cst_uint64(0xf4f1_b4d5_15ac_b93b), cst_uint64(0xee92_fb55_1548_2d44), cst_uint64(0x357a_a1a4_2528_181e)),
+    # 10^-198
+    cst_array(-658, cst_uint64(0x9917_1105_2d8b_f3c5), cst_uint64(0x751b_dd15_2d4d_1c4a), cst_uint64(0xa16c_a506_9739_0f12)),
+    # 10^-197
+    cst_array(-655, cst_uint64(0xbf5c_d546_78ee_f0b6), cst_uint64(0xd262_d45a_78a0_635d), cst_uint64(0x49c7_ce48_3d07_52d7)),
+    # 10^-196
+    cst_array(-652, cst_uint64(0xef34_0a98_172a_ace4), cst_uint64(0x86fb_8971_16c8_7c34), cst_uint64(0x9c39_c1da_4c49_278d)),
+    # 10^-195
+    cst_array(-648, cst_uint64(0x9580_869f_0e7a_ac0e), cst_uint64(0xd45d_35e6_ae3d_4da0), cst_uint64(0xe1a4_1928_6fad_b8b8)),
+    # 10^-194
+    cst_array(-645, cst_uint64(0xbae0_a846_d219_5712), cst_uint64(0x8974_8360_59cc_a109), cst_uint64(0x1a0d_1f72_8b99_26e6)),
+    # 10^-193
+    cst_array(-642, cst_uint64(0xe998_d258_869f_acd7), cst_uint64(0x2bd1_a438_703f_c94b), cst_uint64(0x6090_674f_2e7f_70a0)),
+    # 10^-192
+    cst_array(-638, cst_uint64(0x91ff_8377_5423_cc06), cst_uint64(0x7b63_06a3_4627_ddcf), cst_uint64(0x1c5a_4091_7d0f_a664)),
+    # 10^-191
+    cst_array(-635, cst_uint64(0xb67f_6455_292c_bf08), cst_uint64(0x1a3b_c84c_17b1_d542), cst_uint64(0xe370_d0b5_dc53_8ffd)),
+    # 10^-190
+    cst_array(-632, cst_uint64(0xe41f_3d6a_7377_eeca), cst_uint64(0x20ca_ba5f_1d9e_4a93), cst_uint64(0x9c4d_04e3_5368_73fc)),
+    # 10^-189
+    cst_array(-628, cst_uint64(0x8e93_8662_882a_f53e), cst_uint64(0x547e_b47b_7282_ee9c), cst_uint64(0x41b0_230e_1421_487d)),
+    # 10^-188
+    cst_array(-625, cst_uint64(0xb238_67fb_2a35_b28d), cst_uint64(0xe99e_619a_4f23_aa43), cst_uint64(0x521c_2bd1_9929_9a9d)),
+    # 10^-187
+    cst_array(-622, cst_uint64(0xdec6_81f9_f4c3_1f31), cst_uint64(0x6405_fa00_e2ec_94d4), cst_uint64(0x26a3_36c5_ff74_0144)),
+    # 10^-186
+    cst_array(-618, cst_uint64(0x8b3c_113c_38f9_f37e), cst_uint64(0xde83_bc40_8dd3_dd04), cst_uint64(0x9826_023b_bfa8_80ca)),
+    # 10^-185
+    cst_array(-615, cst_uint64(0xae0b_158b_4738_705e), cst_uint64(0x9624_ab50_b148_d445), cst_uint64(0xbe2f_82ca_af92_a0fd)),
+    # 10^-184
+    cst_array(-612, cst_uint64(0xd98d_daee_1906_8c76), cst_uint64(0x3bad_d624_dd9b_0957), cst_uint64(0x2dbb_637d_5b77_493d)),
+    # 10^-183
+    cst_array(-608, cst_uint64(0x87f8_a8d4_cfa4_17c9), cst_uint64(0xe54c_a5d7_0a80_e5d6), cst_uint64(0x7c95_1e2e_592a_8dc6)),
+    # 10^-182
+    cst_array(-605, cst_uint64(0xa9f6_d30a_038d_1dbc), cst_uint64(0x5e9f_cf4c_cd21_1f4c), cst_uint64(0x1bba_65b9_ef75_3137)),
+    # 10^-181
+    cst_array(-602, cst_uint64(0xd474_87cc_8470_652b), cst_uint64(0x7647_c320_0069_671f), cst_uint64(0x22a8_ff28_6b52_7d85)),
+    # 10^-180
+    cst_array(-598, cst_uint64(0x84c8_d4df_d2c6_3f3b), cst_uint64(0x29ec_d9f4_0041_e073), cst_uint64(0x75a9_9f79_4313_8e73)),
+    # 10^-179
+    cst_array(-595, cst_uint64(0xa5fb_0a17_c777_cf09), cst_uint64(0xf468_1071_0052_5890), cst_uint64(0x5314_0757_93d8_7210)),
+    # 10^-178
+    cst_array(-592, cst_uint64(0xcf79_cc9d_b955_c2cc), cst_uint64(0x7182_148d_4066_eeb4), cst_uint64(0x67d9_092d_78ce_8e94)),
+    # 10^-177
+    cst_array(-588, cst_uint64(0x81ac_1fe2_93d5_99bf), cst_uint64(0xc6f1_4cd8_4840_5530), cst_uint64(0xc0e7_a5bc_6b81_191c)),
+    # 10^-176
+    cst_array(-585, cst_uint64(0xa217_27db_38cb_002f), cst_uint64(0xb8ad_a00e_5a50_6a7c), cst_uint64(0xf121_8f2b_8661_5f63)),
+    # 10^-175
+    cst_array(-582, cst_uint64(0xca9c_f1d2_06fd_c03b), cst_uint64(0xa6d9_0811_f0e4_851c), cst_uint64(0x2d69_f2f6_67f9_b73c)),
+    # 10^-174
+    cst_array(-579, cst_uint64(0xfd44_2e46_88bd_304a), cst_uint64(0x908f_4a16_6d1d_a663), cst_uint64(0x38c4_6fb4_01f8_250c)),
+    # 10^-173
+    cst_array(-575, cst_uint64(0x9e4a_9cec_1576_3e2e), cst_uint64(0x9a59_8e4e_0432_87fe), cst_uint64(0x037a_c5d0_813b_1727)),
+    # 10^-172
+    cst_array(-572, cst_uint64(0xc5dd_4427_1ad3_cdba), cst_uint64(0x40ef_f1e1_853f_29fd), cst_uint64(0x8459_7744_a189_dcf1)),
+    # 10^-171
+    cst_array(-569, cst_uint64(0xf754_9530_e188_c128), cst_uint64(0xd12b_ee59_e68e_f47c), cst_uint64(0xe56f_d515_c9ec_542d)),
+    # 10^-170
+    cst_array(-565, cst_uint64(0x9a94_dd3e_8cf5_78b9), cst_uint64(0x82bb_74f8_3019_58ce), cst_uint64(0x0f65_e52d_9e33_b49c)),
+    # 10^-169
+    cst_array(-562, cst_uint64(0xc13a_148e_3032_d6e7), cst_uint64(0xe36a_5236_3c1f_af01), cst_uint64(0x933f_5e79_05c0_a1c3)),
+    # 10^-168
+    cst_array(-559, cst_uint64(0xf188_99b1_bc3f_8ca1), cst_uint64(0xdc44_e6c3_cb27_9ac1), cst_uint64(0xf80f_3617_4730_ca34)),
+    # 10^-167
+    cst_array(-555, cst_uint64(0x96f5_600f_15a7_b7e5), cst_uint64(0x29ab_103a_5ef8_c0b9), cst_uint64(0x3b09_81ce_8c7e_7e61)),
+    # 10^-166
+    cst_array(-552, cst_uint64(0xbcb2_b812_db11_a5de), cst_uint64(0x7415_d448_f6b6_f0e7), cst_uint64(0x89cb_e242_2f9e_1df9)),
+    # 10^-165
+    cst_array(-549, cst_uint64(0xebdf_6617_91d6_0f56), cst_uint64(0x111b_495b_3464_ad21), cst_uint64(0x6c3e_dad2_bb85_a577)),
+    # 10^-164
+    cst_array(-545, cst_uint64(0x936b_9fce_bb25_c995), cst_uint64(0xcab1_0dd9_00be_ec34), cst_uint64(0xe3a7_48c3_b533_876a)),
+    # 10^-163
+    cst_array(-542, cst_uint64(0xb846_87c2_69ef_3bfb), cst_uint64(0x3d5d_514f_40ee_a742), cst_uint64(0x1c91_1af4_a280_6945)),
+    # 10^-162
+    cst_array(-539, cst_uint64(0xe658_29b3_046b_0afa), cst_uint64(0x0cb4_a5a3_112a_5112), cst_uint64(0xa3b5_61b1_cb20_8396)),
+    # 10^-161
+    cst_array(-535, cst_uint64(0x8ff7_1a0f_e2c2_e6dc), cst_uint64(0x47f0_e785_eaba_72ab), cst_uint64(0xa651_5d0f_1ef4_523e)),
+    # 10^-160
+    cst_array(-532, cst_uint64(0xb3f4_e093_db73_a093), cst_uint64(0x59ed_2167_6569_0f56), cst_uint64(0x8fe5_b452_e6b1_66cd)),
+    # 10^-159
+    cst_array(-529, cst_uint64(0xe0f2_18b8_d250_88b8), cst_uint64(0x3068_69c1_3ec3_532c), cst_uint64(0x33df_2167_a05d_c081)),
+    # 10^-158
+    cst_array(-525, cst_uint64(0x8c97_4f73_8372_5573), cst_uint64(0x1e41_4218_c73a_13fb), cst_uint64(0xa06b_74e0_c43a_9850)),
+    # 10^-157
+    cst_array(-522, cst_uint64(0xafbd_2350_644e_eacf), cst_uint64(0xe5d1_929e_f908_98fa), cst_uint64(0x8886_5218_f549_3e64)),
+    # 10^-156
+    cst_array(-519, cst_uint64(0xdbac_6c24_7d62_a583), cst_uint64(0xdf45_f746_b74a_bf39), cst_uint64(0x2aa7_e69f_329b_8dfe)),
+    # 10^-155
+    cst_array(-515, cst_uint64(0x894b_c396_ce5d_a772), cst_uint64(0x6b8b_ba8c_328e_b783), cst_uint64(0xbaa8_f023_7fa1_38be)),
+    # 10^-154
+    cst_array(-512, cst_uint64(0xab9e_b47c_81f5_114f), cst_uint64(0x066e_a92f_3f32_6564), cst_uint64(0xa953_2c2c_5f89_86ee)),
+    # 10^-153
+    cst_array(-509, cst_uint64(0xd686_619b_a272_55a2), cst_uint64(0xc80a_537b_0efe_febd), cst_uint64(0xd3a7_f737_776b_e8aa)),
+    # 10^-152
+    cst_array(-505, cst_uint64(0x8613_fd01_4587_7585), cst_uint64(0xbd06_742c_e95f_5f36), cst_uint64(0xa448_fa82_aaa3_716a)),
+    # 10^-151
+    cst_array(-502, cst_uint64(0xa798_fc41_96e9_52e7), cst_uint64(0x2c48_1138_23b7_3704), cst_uint64(0x4d5b_3923_554c_4dc5)),
+    # 10^-150
+    cst_array(-499, cst_uint64(0xd17f_3b51_fca3_a7a0), cst_uint64(0xf75a_1586_2ca5_04c5), cst_uint64(0x60b2_076c_2a9f_6136)),
+    # 10^-149
+    cst_array(-495, cst_uint64(0x82ef_8513_3de6_48c4), cst_uint64(0x9a98_4d73_dbe7_22fb), cst_uint64(0x5c6f_44a3_9aa3_9cc1)),
+    # 10^-148
+    cst_array(-492, cst_uint64(0xa3ab_6658_0d5f_daf5), cst_uint64(0xc13e_60d0_d2e0_ebba), cst_uint64(0x338b_15cc_814c_83f2)),
+    # 10^-147
+    cst_array(-489, cst_uint64(0xcc96_3fee_10b7_d1b3), cst_uint64(0x318d_f905_0799_26a8), cst_uint64(0xc06d_db3f_a19f_a4ef)),
+    # 10^-146
+    cst_array(-486, cst_uint64(0xffbb_cfe9_94e5_c61f), cst_uint64(0xfdf1_7746_497f_7052), cst_uint64(0xf089_520f_8a07_8e2a)),
+    # 10^-145
+    cst_array(-482, cst_uint64(0x9fd5_61f1_fd0f_9bd3), cst_uint64(0xfeb6_ea8b_edef_a633), cst_uint64(0xd655_d349_b644_b8da)),
+    # 10^-144
+    cst_array(-479, cst_uint64(0xc7ca_ba6e_7c53_82c8), cst_uint64(0xfe64_a52e_e96b_8fc0), cst_uint64(0xcbeb_481c_23d5_e711)),
+    # 10^-143
+    cst_array(-476, cst_uint64(0xf9bd_690a_1b68_637b), cst_uint64(0x3dfd_ce7a_a3c6_73b0), cst_uint64(0xfee6_1a23_2ccb_60d5)),
+    # 10^-142
+    cst_array(-472, cst_uint64(0x9c16_61a6_5121_3e2d), cst_uint64(0x06be_a10c_a65c_084e), cst_uint64(0x9f4f_d055_fbff_1c85)),
+    # 10^-141
+    cst_array(-469, cst_uint64(0xc31b_fa0f_e569_8db8), cst_uint64(0x486e_494f_cff3_0a62), cst_uint64(0x4723_c46b_7afe_e3a7)),
+    # 10^-140
+    cst_array(-466, cst_uint64(0xf3e2_f893_dec3_f126), cst_uint64(0x5a89_dba3_c3ef_ccfa), cst_uint64(0xd8ec_b586_59be_9c90)),
+    # 10^-139
+    cst_array(-462, cst_uint64(0x986d_db5c_6b3a_76b7), cst_uint64(0xf896_2946_5a75_e01c), cst_uint64(0xc793_f173_f817_21da)),
+    # 10^-138
+    cst_array(-459, cst_uint64(0xbe89_5233_8609_1465), cst_uint64(0xf6bb_b397_f113_5823), cst_uint64(0xf978_edd0_f61c_ea51)),
+    # 10^-137
+    cst_array(-456, cst_uint64(0xee2b_a6c0_678b_597f), cst_uint64(0x746a_a07d_ed58_2e2c), cst_uint64(0xf7d7_2945_33a4_24e5)),
+    # 10^-136
+    cst_array(-452, cst_uint64(0x94db_4838_40b7_17ef), cst_uint64(0xa8c2_a44e_b457_1cdc), cst_uint64(0x1ae6_79cb_4046_970f)),
+    # 10^-135
+    cst_array(-449, cst_uint64(0xba12_1a46_50e4_ddeb), cst_uint64(0x92f3_4d62_616c_e413), cst_uint64(0x21a0_183e_1058_3cd3)),
+    # 10^-134
+    cst_array(-446, cst_uint64(0xe896_a0d7_e51e_1566), cst_uint64(0x77b0_20ba_f9c8_1d17), cst_uint64(0xea08_1e4d_946e_4c07)),
+    # 10^-133
+    cst_array(-442, cst_uint64(0x915e_2486_ef32_cd60), cst_uint64(0x0ace_1474_dc1d_122e), cst_uint64(0xf245_12f0_7cc4_ef84)),
+    # 10^-132
+    cst_array(-439, cst_uint64(0xb5b5_ada8_aaff_80b8), cst_uint64(0x0d81_9992_1324_56ba), cst_uint64(0xaed6_57ac_9bf6_2b66)),
+    # 10^-131
+    cst_array(-436, cst_uint64(0xe323_1912_d5bf_60e6), cst_uint64(0x10e1_fff6_97ed_6c69), cst_uint64(0x5a8b_ed97_c2f3_b63f)),
+    # 10^-130
+    cst_array(-432, cst_uint64(0x8df5_efab_c597_9c8f), cst_uint64(0xca8d_3ffa_1ef4_63c1), cst_uint64(0xd897_747e_d9d8_51e7)),
+    # 10^-129
+    cst_array(-429, cst_uint64(0xb173_6b96_b6fd_83b3), cst_uint64(0xbd30_8ff8_a6b1_7cb2), cst_uint64(0x4ebd_519e_904e_6661)),
+    # 10^-128
+    cst_array(-426, cst_uint64(0xddd0_467c_64bc_e4a0), cst_uint64(0xac7c_b3f6_d05d_dbde), cst_uint64(0xe26c_a606_3461_fffa)),
+    # 10^-127
+    cst_array(-422, cst_uint64(0x8aa2_2c0d_bef6_0ee4), cst_uint64(0x6bcd_f07a_423a_a96b), cst_uint64(0x4d83_e7c3_e0bd_3ffc)),
+    # 10^-126
+    cst_array(-419, cst_uint64(0xad4a_b711_2eb3_929d), cst_uint64(0x86c1_6c98_d2c9_53c6), cst_uint64(0x20e4_e1b4_d8ec_8ffb)),
+    # 10^-125
+    cst_array(-416, cst_uint64(0xd89d_64d5_7a60_7744), cst_uint64(0xe871_c7bf_077b_a8b7), cst_uint64(0xa91e_1a22_0f27_b3fa)),
+    # 10^-124
+    cst_array(-412, cst_uint64(0x8762_5f05_6c7c_4a8b), cst_uint64(0x1147_1cd7_64ad_4972), cst_uint64(0xc9b2_d055_4978_d07c)),
+    # 10^-123
+    cst_array(-409, cst_uint64(0xa93a_f6c6_c79b_5d2d), cst_uint64(0xd598_e40d_3dd8_9bcf), cst_uint64(0x7c1f_846a_9bd7_049b)),
+    # 10^-122
+    cst_array(-406, cst_uint64(0xd389_b478_7982_3479), cst_uint64(0x4aff_1d10_8d4e_c2c3), cst_uint64(0x5b27_6585_42cc_c5c2)),
+    # 10^-121
+    cst_array(-402, cst_uint64(0x8436_10cb_4bf1_60cb), cst_uint64(0xcedf_722a_5851_39ba), cst_uint64(0x18f8_9f73_49bf_fb99)),
+    # 10^-120
+    cst_array(-399, cst_uint64(0xa543_94fe_1eed_b8fe), cst_uint64(0xc297_4eb4_ee65_8828), cst_uint64(0x9f36_c750_1c2f_fa80)),
+    # 10^-119
+    cst_array(-396, cst_uint64(0xce94_7a3d_a6a9_273e), cst_uint64(0x733d_2262_29fe_ea32), cst_uint64(0xc704_7924_233b_f920)),
+    # 10^-118
+    cst_array(-392, cst_uint64(0x811c_cc66_8829_b887), cst_uint64(0x0806_357d_5a3f_525f), cst_uint64(0xbc62_cbb6_9605_7bb4)),
+    # 10^-117
+    cst_array(-389, cst_uint64(0xa163_ff80_2a34_26a8), cst_uint64(0xca07_c2dc_b0cf_26f7), cst_uint64(0xab7b_7ea4_3b86_daa1)),
+    # 10^-116
+    cst_array(-386, cst_uint64(0xc9bc_ff60_34c1_3052), cst_uint64(0xfc89_b393_dd02_f0b5), cst_uint64(0x965a_5e4d_4a68_9149)),
+    # 10^-115
+    cst_array(-383, cst_uint64(0xfc2c_3f38_41f1_7c67), cst_uint64(0xbbac_2078_d443_ace2), cst_uint64(0xfbf0_f5e0_9d02_b59b)),
+    # 10^-114
+    cst_array(-379, cst_uint64(0x9d9b_a783_2936_edc0), cst_uint64(0xd54b_944b_84aa_4c0d), cst_uint64(0xdd76_99ac_6221_b181)),
+    # 10^-113
+    cst_array(-376, cst_uint64(0xc502_9163_f384_a931), cst_uint64(0x0a9e_795e_65d4_df11), cst_uint64(0x54d4_4017_7aaa_1de1)),
+    # 10^-112
+    cst_array(-373, cst_uint64(0xf643_35bc_f065_d37d), cst_uint64(0x4d46_17b5_ff4a_16d5), cst_uint64(0xaa09_501d_5954_a559)),
+    # 10^-111
+    cst_array(-369, cst_uint64(0x99ea_0196_163f_a42e), cst_uint64(0x504b_ced1_bf8e_4e45), cst_uint64(0x8a45_d212_57d4_e758)),
+    # 10^-110
+    cst_array(-366, cst_uint64(0xc064_81fb_9bcf_8d39), cst_uint64(0xe45e_c286_2f71_e1d6), cst_uint64(0xecd7_4696_edca_212e)),
+    # 10^-109
+    cst_array(-363, cst_uint64(0xf07d_a27a_82c3_7088), cst_uint64(0x5d76_7327_bb4e_5a4c), cst_uint64(0xa80d_183c_a93c_a979)),
+    # 10^-108
+    cst_array(-359, cst_uint64(0x964e_858c_91ba_2655), cst_uint64(0x3a6a_07f8_d510_f86f), cst_uint64(0xe908_2f25_e9c5_e9ec)),
+    # 10^-107
+    cst_array(-356, cst_uint64(0xbbe2_26ef_b628_afea), cst_uint64(0x8904_89f7_0a55_368b), cst_uint64(0xe34a_3aef_6437_6467)),
+    # 10^-106
+    cst_array(-353, cst_uint64(0xeada_b0ab_a3b2_dbe5), cst_uint64(0x2b45_ac74_ccea_842e), cst_uint64(0xdc1c_c9ab_3d45_3d80)),
+    # 10^-105
+    cst_array(-349, cst_uint64(0x92c8_ae6b_464f_c96f), cst_uint64(0x3b0b_8bc9_0012_929d), cst_uint64(0x4991_fe0b_064b_4670)),
+    # 10^-104
+    cst_array(-346, cst_uint64(0xb77a_da06_17e3_bbcb), cst_uint64(0x09ce_6ebb_4017_3744), cst_uint64(0x9bf6_7d8d_c7de_180c)),
+    # 10^-103
+    cst_array(-343, cst_uint64(0xe559_9087_9ddc_aabd), cst_uint64(0xcc42_0a6a_101d_0515), cst_uint64(0xc2f4_1cf1_39d5_9e0f)),
+    # 10^-102
+    cst_array(-339, cst_uint64(0x8f57_fa54_c2a9_eab6), cst_uint64(0x9fa9_4682_4a12_232d), cst_uint64(0x99d8_9216_c425_82c9)),
+    # 10^-101
+    cst_array(-336, cst_uint64(0xb32d_f8e9_f354_6564), cst_uint64(0x4793_9822_dc96_abf9), cst_uint64(0x004e_b69c_752e_e37c)),
+    # 10^-100
+    cst_array(-333, cst_uint64(0xdff9_7724_7029_7ebd), cst_uint64(0x5978_7e2b_93bc_56f7), cst_uint64(0x4062_6443_927a_9c5b)),
+    # 10^-99
+    cst_array(-329, cst_uint64(0x8bfb_ea76_c619_ef36), cst_uint64(0x57eb_4edb_3c55_b65a), cst_uint64(0x883d_7eaa_3b8c_a1b9)),
+    # 10^-98
+    cst_array(-326, cst_uint64(0xaefa_e514_77a0_6b03), cst_uint64(0xede6_2292_0b6b_23f1), cst_uint64(0x2a4c_de54_ca6f_ca27)),
+    # 10^-97
+    cst_array(-323, cst_uint64(0xdab9_9e59_9588_85c4), cst_uint64(0xe95f_ab36_8e45_eced), cst_uint64(0x74e0_15e9_fd0b_bcb1)),
+    # 10^-96
+    cst_array(-319, cst_uint64(0x88b4_02f7_fd75_539b), cst_uint64(0x11db_cb02_18eb_b414), cst_uint64(0x690c_0db2_3e27_55ee)),
+    # 10^-95
+    cst_array(-316, cst_uint64(0xaae1_03b5_fcd2_a881), cst_uint64(0xd652_bdc2_9f26_a119), cst_uint64(0x834f_111e_cdb1_2b6a)),
+    # 10^-94
+    cst_array(-313, cst_uint64(0xd599_44a3_7c07_52a2), cst_uint64(0x4be7_6d33_46f0_495f), cst_uint64(0xe422_d566_811d_7645)),
+    # 10^-93
+    cst_array(-309, cst_uint64(0x857f_cae6_2d84_93a5), cst_uint64(0x6f70_a440_0c56_2ddb), cst_uint64(0xee95_c560_10b2_69eb)),
+    # 10^-92
+    cst_array(-306, cst_uint64(0xa6df_bd9f_b8e5_b88e), cst_uint64(0xcb4c_cd50_0f6b_b952), cst_uint64(0xea3b_36b8_14df_0466)),
+    # 10^-91
+    cst_array(-303, cst_uint64(0xd097_ad07_a71f_26b2), cst_uint64(0x7e20_00a4_1346_a7a7), cst_uint64(0xa4ca_0466_1a16_c57f)),
+    # 10^-90
+    cst_array(-299, cst_uint64(0x825e_cc24_c873_782f), cst_uint64(0x8ed4_0066_8c0c_28c8), cst_uint64(0xc6fe_42bf_d04e_3b6f)),
+    # 10^-89
+    cst_array(-296, cst_uint64(0xa2f6_7f2d_fa90_563b), cst_uint64(0x7289_0080_2f0f_32fa), cst_uint64(0xf8bd_d36f_c461_ca4b)),
+    # 10^-88
+    cst_array(-293, cst_uint64(0xcbb4_1ef9_7934_6bca), cst_uint64(0x4f2b_40a0_3ad2_ffb9), cst_uint64(0xb6ed_484b_b57a_3cde)),
+    # 10^-87
+    cst_array(-290, cst_uint64(0xfea1_26b7_d781_86bc), cst_uint64(0xe2f6_10c8_4987_bfa8), cst_uint64(0x24a8_9a5e_a2d8_cc16)),
+    # 10^-86
+    cst_array(-286, cst_uint64(0x9f24_b832_e6b0_f436), cst_uint64(0x0dd9_ca7d_2df4_d7c9), cst_uint64(0x16e9_607b_25c7_7f8d)),
+    # 10^-85
+    cst_array(-283, cst_uint64(0xc6ed_e63f_a05d_3143), cst_uint64(0x9150_3d1c_7972_0dbb), cst_uint64(0x5ca3_b899_ef39_5f71)),
+    # 10^-84
+    cst_array(-280, cst_uint64(0xf8a9_5fcf_8874_7d94), cst_uint64(0x75a4_4c63_97ce_912a), cst_uint64(0x33cc_a6c0_6b07_b74d)),
+    # 10^-83
+    cst_array(-276, cst_uint64(0x9b69_dbe1_b548_ce7c), cst_uint64(0xc986_afbe_3ee1_1aba), cst_uint64(0x605f_e838_42e4_d290)),
+    # 10^-82
+    cst_array(-273, cst_uint64(0xc244_52da_229b_021b), cst_uint64(0xfbe8_5bad_ce99_6168), cst_uint64(0xf877_e246_539e_0734)),
+    # 10^-81
+    cst_array(-270, cst_uint64(0xf2d5_6790_ab41_c2a2), cst_uint64(0xfae2_7299_423f_b9c3), cst_uint64(0x3695_dad7_e885_8901)),
+    # 10^-80
+    cst_array(-266, cst_uint64(0x97c5_60ba_6b09_19a5), cst_uint64(0xdccd_879f_c967_d41a), cst_uint64(0x021d_a8c6_f153_75a1)),
+    # 10^-79
+    cst_array(-263, cst_uint64(0xbdb6_b8e9_05cb_600f), cst_uint64(0x5400_e987_bbc1_c920), cst_uint64(0x82a5_12f8_ada8_5309)),
+    # 10^-78
+    cst_array(-260, cst_uint64(0xed24_6723_473e_3813), cst_uint64(0x2901_23e9_aab2_3b68), cst_uint64(0xa34e_57b6_d912_67cb)),
+    # 10^-77
+    cst_array(-256, cst_uint64(0x9436_c076_0c86_e30b), cst_uint64(0xf9a0_b672_0aaf_6521), cst_uint64(0x6610_f6d2_47ab_80df)),
+    # 10^-76
+    cst_array(-253, cst_uint64(0xb944_7093_8fa8_9bce), cst_uint64(0xf808_e40e_8d5b_3e69), cst_uint64(0xbf95_3486_d996_6117)),
+    # 10^-75
+    cst_array(-250, cst_uint64(0xe795_8cb8_7392_c2c2), cst_uint64(0xb60b_1d12_30b2_0e04), cst_uint64(0x2f7a_81a8_8ffb_f95d)),
+    # 10^-74
+    cst_array(-246, cst_uint64(0x90bd_77f3_483b_b9b9), cst_uint64(0xb1c6_f22b_5e6f_48c2), cst_uint64(0x9dac_9109_59fd_7bda)),
+    # 10^-73
+    cst_array(-243, cst_uint64(0xb4ec_d5f0_1a4a_a828), cst_uint64(0x1e38_aeb6_360b_1af3), cst_uint64(0x4517_b54b_b07c_dad0)),
+    # 10^-72
+    cst_array(-240, cst_uint64(0xe228_0b6c_20dd_5232), cst_uint64(0x25c6_da63_c38d_e1b0), cst_uint64(0x165d_a29e_9c9c_1184)),
+    # 10^-71
+    cst_array(-236, cst_uint64(0x8d59_0723_948a_535f), cst_uint64(0x579c_487e_5a38_ad0e), cst_uint64(0x0dfa_85a3_21e1_8af3)),
+    # 10^-70
+    cst_array(-233, cst_uint64(0xb0af_48ec_79ac_e837), cst_uint64(0x2d83_5a9d_f0c6_d851), cst_uint64(0x9179_270b_ea59_edaf)),
+    # 10^-69
+    cst_array(-230, cst_uint64(0xdcdb_1b27_9818_2244), cst_uint64(0xf8e4_3145_6cf8_8e65), cst_uint64(0xf5d7_70ce_e4f0_691b)),
+    # 10^-68
+    cst_array(-226, cst_uint64(0x8a08_f0f8_bf0f_156b), cst_uint64(0x1b8e_9ecb_641b_58ff), cst_uint64(0xb9a6_a681_4f16_41b1)),
+    # 10^-67
+    cst_array(-223, cst_uint64(0xac8b_2d36_eed2_dac5), cst_uint64(0xe272_467e_3d22_2f3f), cst_uint64(0xa810_5021_a2db_d21d)),
+    # 10^-66
+    cst_array(-220, cst_uint64(0xd7ad_f884_aa87_9177), cst_uint64(0x5b0e_d81d_cc6a_bb0f), cst_uint64(0x9214_642a_0b92_c6a5)),
+    # 10^-65
+    cst_array(-216, cst_uint64(0x86cc_bb52_ea94_baea), cst_uint64(0x98e9_4712_9fc2_b4e9), cst_uint64(0xbb4c_be9a_473b_bc27)),
+    # 10^-64
+    cst_array(-213, cst_uint64(0xa87f_ea27_a539_e9a5), cst_uint64(0x3f23_98d7_47b3_6224), cst_uint64(0x2a1f_ee40_d90a_ab31)),
+    # 10^-63
+    cst_array(-210, cst_uint64(0xd29f_e4b1_8e88_640e), cst_uint64(0x8eec_7f0d_19a0_3aad), cst_uint64(0x34a7_e9d1_0f4d_55fd)),
+    # 10^-62
+    cst_array(-206, cst_uint64(0x83a3_eeee_f915_3e89), cst_uint64(0x1953_cf68_3004_24ac), cst_uint64(0x40e8_f222_a990_55be)),
+    # 10^-61
+    cst_array(-203, cst_uint64(0xa48c_eaaa_b75a_8e2b), cst_uint64(0x5fa8_c342_3c05_2dd7), cst_uint64(0x5123_2eab_53f4_6b2d)),
+    # 10^-60
+    cst_array(-200, cst_uint64(0xcdb0_2555_6531_31b6), cst_uint64(0x3792_f412_cb06_794d), cst_uint64(0x256b_fa56_28f1_85f9)),
+    # 10^-59
+    cst_array(-196, cst_uint64(0x808e_1755_5f3e_bf11), cst_uint64(0xe2bb_d88b_bee4_0bd0), cst_uint64(0x3763_7c75_d996_f3bb)),
+    # 10^-58
+    cst_array(-193, cst_uint64(0xa0b1_9d2a_b70e_6ed6), cst_uint64(0x5b6a_ceae_ae9d_0ec4), cst_uint64(0x453c_5b93_4ffc_b0aa)),
+    # 10^-57
+    cst_array(-190, cst_uint64(0xc8de_0475_64d2_0a8b), cst_uint64(0xf245_825a_5a44_5275), cst_uint64(0x568b_7278_23fb_dcd5)),
+    # 10^-56
+    cst_array(-187, cst_uint64(0xfb15_8592_be06_8d2e), cst_uint64(0xeed6_e2f0_f0d5_6712), cst_uint64(0xac2e_4f16_2cfa_d40a)),
+    # 10^-55
+    cst_array(-183, cst_uint64(0x9ced_737b_b6c4_183d), cst_uint64(0x5546_4dd6_9685_606b), cst_uint64(0xab9c_f16d_dc1c_c486)),
+    # 10^-54
+    cst_array(-180, cst_uint64(0xc428_d05a_a475_1e4c), cst_uint64(0xaa97_e14c_3c26_b886), cst_uint64(0x9684_2dc9_5323_f5a8)),
+    # 10^-53
+    cst_array(-177, cst_uint64(0xf533_0471_4d92_65df), cst_uint64(0xd53d_d99f_4b30_66a8), cst_uint64(0x3c25_393b_a7ec_f312)),
+    # 10^-52
+    cst_array(-173, cst_uint64(0x993f_e2c6_d07b_7fab), cst_uint64(0xe546_a803_8efe_4029), cst_uint64(0x2597_43c5_48f4_17eb)),
+    # 10^-51
+    cst_array(-170, cst_uint64(0xbf8f_db78_849a_5f96), cst_uint64(0xde98_5204_72bd_d033), cst_uint64(0x6efd_14b6_9b31_1de6)),
+    # 10^-50
+    cst_array(-167, cst_uint64(0xef73_d256_a5c0_f77c), cst_uint64(0x963e_6685_8f6d_4440), cst_uint64(0x4abc_59e4_41fd_6560)),
+    # 10^-49
+    cst_array(-163, cst_uint64(0x95a8_6376_2798_9aad), cst_uint64(0xdde7_0013_79a4_4aa8), cst_uint64(0x2eb5_b82e_a93e_5f5c)),
+    # 10^-48
+    cst_array(-160, cst_uint64(0xbb12_7c53_b17e_c159), cst_uint64(0x5560_c018_580d_5d52), cst_uint64(0x3a63_263a_538d_f733)),
+    # 10^-47
+    cst_array(-157, cst_uint64(0xe9d7_1b68_9dde_71af), cst_uint64(0xaab8_f01e_6e10_b4a6), cst_uint64(0xc8fb_efc8_e871_74ff)),
+    # 10^-46
+    cst_array(-153, cst_uint64(0x9226_7121_62ab_070d), cst_uint64(0xcab3_9613_04ca_70e8), cst_uint64(0x3d9d_75dd_9146_e91f)),
+    # 10^-45
+    cst_array(-150, cst_uint64(0xb6b0_0d69_bb55_c8d1), cst_uint64(0x3d60_7b97_c5fd_0d22), cst_uint64(0x4d04_d354_f598_a367)),
+    # 10^-44
+    cst_array(-147, cst_uint64(0xe45c_10c4_2a2b_3b05), cst_uint64(0x8cb8_9a7d_b77c_506a), cst_uint64(0xe046_082a_32fe_cc41)),
+    # 10^-43
+    cst_array(-143, cst_uint64(0x8eb9_8a7a_9a5b_04e3), cst_uint64(0x77f3_608e_92ad_b242), cst_uint64(0xcc2b_c51a_5fdf_3fa9)),
+    # 10^-42
+    cst_array(-140, cst_uint64(0xb267_ed19_40f1_c61c), cst_uint64(0x55f0_38b2_3759_1ed3), cst_uint64(0x7f36_b660_f7d7_0f93)),
+    # 10^-41
+    cst_array(-137, cst_uint64(0xdf01_e85f_912e_37a3), cst_uint64(0x6b6c_46de_c52f_6688), cst_uint64(0x5f04_63f9_35cc_d378)),
+    # 10^-40
+    cst_array(-133, cst_uint64(0x8b61_313b_babc_e2c6), cst_uint64(0x2323_ac4b_3b3d_a015), cst_uint64(0x3b62_be7b_c1a0_042b)),
+    # 10^-39
+    cst_array(-130, cst_uint64(0xae39_7d8a_a96c_1b77), cst_uint64(0xabec_975e_0a0d_081a), cst_uint64(0x8a3b_6e1a_b208_0536)),
+    # 10^-38
+    cst_array(-127, cst_uint64(0xd9c7_dced_53c7_2255), cst_uint64(0x96e7_bd35_8c90_4a21), cst_uint64(0x2cca_49a1_5e8a_0683)),
+    # 10^-37
+    cst_array(-123, cst_uint64(0x881c_ea14_545c_7575), cst_uint64(0x7e50_d641_77da_2e54), cst_uint64(0xbbfe_6e04_db16_4412)),
+    # 10^-36
+    cst_array(-120, cst_uint64(0xaa24_2499_6973_92d2), cst_uint64(0xdde5_0bd1_d5d0_b9e9), cst_uint64(0xeafe_0986_11db_d516)),
+    # 10^-35
+    cst_array(-117, cst_uint64(0xd4ad_2dbf_c3d0_7787), cst_uint64(0x955e_4ec6_4b44_e864), cst_uint64(0x65bd_8be7_9652_ca5c)),
+    # 10^-34
+    cst_array(-113, cst_uint64(0x84ec_3c97_da62_4ab4), cst_uint64(0xbd5a_f13b_ef0b_113e), cst_uint64(0xbf96_7770_bdf3_be79)),
+    # 10^-33
+    cst_array(-110, cst_uint64(0xa627_4bbd_d0fa_dd61), cst_uint64(0xecb1_ad8a_eacd_d58e), cst_uint64(0x6f7c_154c_ed70_ae18)),
+    # 10^-32
+    cst_array(-107, cst_uint64(0xcfb1_1ead_4539_94ba), cst_uint64(0x67de_18ed_a581_4af2), cst_uint64(0x0b5b_1aa0_28cc_d99e)),
+    # 10^-31
+    cst_array(-103, cst_uint64(0x81ce_b32c_4b43_fcf4), cst_uint64(0x80ea_cf94_8770_ced7), cst_uint64(0x4718_f0a4_1980_0802)),
+    # 10^-30
+    cst_array(-100, cst_uint64(0xa242_5ff7_5e14_fc31), cst_uint64(0xa125_8379_a94d_028d), cst_uint64(0x18df_2ccd_1fe0_0a03)),
+    # 10^-29
+    cst_array(-97, cst_uint64(0xcad2_f7f5_359a_3b3e), cst_uint64(0x096e_e458_13a0_4330), cst_uint64(0x5f16_f800_67d8_0c84)),
+    # 10^-28
+    cst_array(-94, cst_uint64(0xfd87_b5f2_8300_ca0d), cst_uint64(0x8bca_9d6e_1888_53fc), cst_uint64(0x76dc_b600_81ce_0fa5)),
+    # 10^-27
+    cst_array(-90, cst_uint64(0x9e74_d1b7_91e0_7e48), cst_uint64(0x775e_a264_cf55_347d), cst_uint64(0xca49_f1c0_5120_c9c7)),
+    # 10^-26
+    cst_array(-87, cst_uint64(0xc612_0625_7658_9dda), cst_uint64(0x9536_4afe_032a_819d), cst_uint64(0x3cdc_6e30_6568_fc39)),
+    # 10^-25
+    cst_array(-84, cst_uint64(0xf796_87ae_d3ee_c551), cst_uint64(0x3a83_ddbd_83f5_2204), cst_uint64(0x8c13_89bc_7ec3_3b47)),
+    # 10^-24
+    cst_array(-80, cst_uint64(0x9abe_14cd_4475_3b52), cst_uint64(0xc492_6a96_7279_3542), cst_uint64(0xd78c_3615_cf3a_050c)),
+    # 10^-23
+    cst_array(-77, cst_uint64(0xc16d_9a00_9592_8a27), cst_uint64(0x75b7_053c_0f17_8293), cst_uint64(0x8d6f_439b_4308_8650)),
+    # 10^-22
+    cst_array(-74, cst_uint64(0xf1c9_0080_baf7_2cb1), cst_uint64(0x5324_c68b_12dd_6338), cst_uint64(0x70cb_1482_13ca_a7e4)),
+    # 10^-21
+    cst_array(-70, cst_uint64(0x971d_a050_74da_7bee), cst_uint64(0xd3f6_fc16_ebca_5e03), cst_uint64(0x467e_ecd1_4c5e_a8ee)),
+    # 10^-20
+    cst_array(-67, cst_uint64(0xbce5_0864_9211_1aea), cst_uint64(0x88f4_bb1c_a6bc_f584), cst_uint64(0x181e_a805_9f76_532a)),
+    # 10^-19
+    cst_array(-64, cst_uint64(0xec1e_4a7d_b695_61a5), cst_uint64(0x2b31_e9e3_d06c_32e5), cst_uint64(0x1e26_5207_0753_e7f4)),
+    # 10^-18
+    cst_array(-60, cst_uint64(0x9392_ee8e_921d_5d07), cst_uint64(0x3aff_322e_6243_9fcf), cst_uint64(0x32d7_f344_6494_70f9)),
+    # 10^-17
+    cst_array(-57, cst_uint64(0xb877_aa32_36a4_b449), cst_uint64(0x09be_feb9_fad4_87c2), cst_uint64(0xff8d_f015_7db9_8d37)),
+    # 10^-16
+    cst_array(-54, cst_uint64(0xe695_94be_c44d_e15b), cst_uint64(0x4c2e_be68_7989_a9b3), cst_uint64(0xbf71_6c1a_dd27_f085)),
+    # 10^-15
+    cst_array(-50, cst_uint64(0x901d_7cf7_3ab0_acd9), cst_uint64(0x0f9d_3701_4bf6_0a10), cst_uint64(0x57a6_e390_ca38_f653)),
+    # 10^-14
+    cst_array(-47, cst_uint64(0xb424_dc35_095c_d80f), cst_uint64(0x5384_84c1_9ef3_8c94), cst_uint64(0x6d90_9c74_fcc7_33e8)),
+    # 10^-13
+    cst_array(-44, cst_uint64(0xe12e_1342_4bb4_0e13), cst_uint64(0x2865_a5f2_06b0_6fb9), cst_uint64(0x88f4_c392_3bf9_00e2)),
+    # 10^-12
+    cst_array(-40, cst_uint64(0x8cbc_cc09_6f50_88cb), cst_uint64(0xf93f_87b7_442e_45d3), cst_uint64(0xf598_fa3b_657b_a08d)),
+    # 10^-11
+    cst_array(-37, cst_uint64(0xafeb_ff0b_cb24_aafe), cst_uint64(0xf78f_69a5_1539_d748), cst_uint64(0xf2ff_38ca_3eda_88b0)),
+    # 10^-10
+    cst_array(-34, cst_uint64(0xdbe6_fece_bded_d5be), cst_uint64(0xb573_440e_5a88_4d1b), cst_uint64(0x2fbf_06fc_ce91_2adc)),
+    # 10^-9
+    cst_array(-30, cst_uint64(0x8970_5f41_36b4_a597), cst_uint64(0x3168_0a88_f895_3030), cst_uint64(0xfdd7_645e_011a_bac9)),
+    # 10^-8
+    cst_array(-27, cst_uint64(0xabcc_7711_8461_cefc), cst_uint64(0xfdc2_0d2b_36ba_7c3d), cst_uint64(0x3d4d_3d75_8161_697c)),
+    # 10^-7
+    cst_array(-24, cst_uint64(0xd6bf_94d5_e57a_42bc), cst_uint64(0x3d32_9076_0469_1b4c), cst_uint64(0x8ca0_8cd2_e1b9_c3db)),
+    # 10^-6
+    cst_array(-20, cst_uint64(0x8637_bd05_af6c_69b5), cst_uint64(0xa63f_9a49_c2c1_b10f), cst_uint64(0xd7e4_5803_cd14_1a69)),
+    # 10^-5
+    cst_array(-17, cst_uint64(0xa7c5_ac47_1b47_8423), cst_uint64(0x0fcf_80dc_3372_1d53), cst_uint64(0xcddd_6e04_c059_2103)),
+    # 10^-4
+    cst_array(-14, cst_uint64(0xd1b7_1758_e219_652b), cst_uint64(0xd3c3_6113_404e_a4a8), cst_uint64(0xc154_c985_f06f_6944)),
+    # 10^-3
+    cst_array(-10, cst_uint64(0x8312_6e97_8d4f_df3b), cst_uint64(0x645a_1cac_0831_26e9), cst_uint64(0x78d4_fdf3_b645_a1ca)),
+    # 10^-2
+    cst_array(-7, cst_uint64(0xa3d7_0a3d_70a3_d70a), cst_uint64(0x3d70_a3d7_0a3d_70a3), cst_uint64(0xd70a_3d70_a3d7_0a3d)),
+    # 10^-1
+    cst_array(-4, cst_uint64(0xcccc_cccc_cccc_cccc), cst_uint64(0xcccc_cccc_cccc_cccc), cst_uint64(0xcccc_cccc_cccc_cccc)),
+    # 10^0
+    cst_array(0, cst_uint64(0x8000_0000_0000_0000), cst_uint64(0x0000_0000_0000_0000), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^1
+    cst_array(3, cst_uint64(0xa000_0000_0000_0000), cst_uint64(0x0000_0000_0000_0000), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^2
+    cst_array(6, cst_uint64(0xc800_0000_0000_0000), cst_uint64(0x0000_0000_0000_0000), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^3
+    cst_array(9, cst_uint64(0xfa00_0000_0000_0000), cst_uint64(0x0000_0000_0000_0000), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^4
+    cst_array(13, cst_uint64(0x9c40_0000_0000_0000), cst_uint64(0x0000_0000_0000_0000), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^5
+    cst_array(16, cst_uint64(0xc350_0000_0000_0000), cst_uint64(0x0000_0000_0000_0000), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^6
+    cst_array(19, cst_uint64(0xf424_0000_0000_0000), cst_uint64(0x0000_0000_0000_0000), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^7
+    cst_array(23, cst_uint64(0x9896_8000_0000_0000), cst_uint64(0x0000_0000_0000_0000), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^8
+    cst_array(26, cst_uint64(0xbebc_2000_0000_0000), cst_uint64(0x0000_0000_0000_0000), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^9
+    cst_array(29, cst_uint64(0xee6b_2800_0000_0000), cst_uint64(0x0000_0000_0000_0000), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^10
+    cst_array(33, cst_uint64(0x9502_f900_0000_0000), cst_uint64(0x0000_0000_0000_0000), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^11
+    cst_array(36, cst_uint64(0xba43_b740_0000_0000), cst_uint64(0x0000_0000_0000_0000), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^12
+    cst_array(39, cst_uint64(0xe8d4_a510_0000_0000), cst_uint64(0x0000_0000_0000_0000), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^13
+    cst_array(43, cst_uint64(0x9184_e72a_0000_0000), cst_uint64(0x0000_0000_0000_0000), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^14
+    cst_array(46, cst_uint64(0xb5e6_20f4_8000_0000), cst_uint64(0x0000_0000_0000_0000), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^15
+    cst_array(49, cst_uint64(0xe35f_a931_a000_0000), cst_uint64(0x0000_0000_0000_0000), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^16
+    cst_array(53, cst_uint64(0x8e1b_c9bf_0400_0000), cst_uint64(0x0000_0000_0000_0000), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^17
+    cst_array(56, cst_uint64(0xb1a2_bc2e_c500_0000), cst_uint64(0x0000_0000_0000_0000), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^18
+    cst_array(59, cst_uint64(0xde0b_6b3a_7640_0000), cst_uint64(0x0000_0000_0000_0000), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^19
+    cst_array(63, cst_uint64(0x8ac7_2304_89e8_0000), cst_uint64(0x0000_0000_0000_0000), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^20
+    cst_array(66, cst_uint64(0xad78_ebc5_ac62_0000), cst_uint64(0x0000_0000_0000_0000), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^21
+    cst_array(69, cst_uint64(0xd8d7_26b7_177a_8000), cst_uint64(0x0000_0000_0000_0000), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^22
+    cst_array(73, cst_uint64(0x8786_7832_6eac_9000), cst_uint64(0x0000_0000_0000_0000), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^23
+    cst_array(76, cst_uint64(0xa968_163f_0a57_b400), cst_uint64(0x0000_0000_0000_0000), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^24
+    cst_array(79, cst_uint64(0xd3c2_1bce_cced_a100), cst_uint64(0x0000_0000_0000_0000), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^25
+    cst_array(83, cst_uint64(0x8459_5161_4014_84a0), cst_uint64(0x0000_0000_0000_0000), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^26
+    cst_array(86, cst_uint64(0xa56f_a5b9_9019_a5c8), cst_uint64(0x0000_0000_0000_0000), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^27
+    cst_array(89, cst_uint64(0xcecb_8f27_f420_0f3a), cst_uint64(0x0000_0000_0000_0000), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^28
+    cst_array(93, cst_uint64(0x813f_3978_f894_0984), cst_uint64(0x4000_0000_0000_0000), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^29
+    cst_array(96, cst_uint64(0xa18f_07d7_36b9_0be5), cst_uint64(0x5000_0000_0000_0000), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^30
+    cst_array(99, cst_uint64(0xc9f2_c9cd_0467_4ede), cst_uint64(0xa400_0000_0000_0000), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^31
+    cst_array(102, cst_uint64(0xfc6f_7c40_4581_2296), cst_uint64(0x4d00_0000_0000_0000), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^32
+    cst_array(106, cst_uint64(0x9dc5_ada8_2b70_b59d), cst_uint64(0xf020_0000_0000_0000), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^33
+    cst_array(109, cst_uint64(0xc537_1912_364c_e305), cst_uint64(0x6c28_0000_0000_0000), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^34
+    cst_array(112, cst_uint64(0xf684_df56_c3e0_1bc6), cst_uint64(0xc732_0000_0000_0000), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^35
+    cst_array(116, cst_uint64(0x9a13_0b96_3a6c_115c), cst_uint64(0x3c7f_4000_0000_0000), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^36
+    cst_array(119, cst_uint64(0xc097_ce7b_c907_15b3), cst_uint64(0x4b9f_1000_0000_0000), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^37
+    cst_array(122, cst_uint64(0xf0bd_c21a_bb48_db20), cst_uint64(0x1e86_d400_0000_0000), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^38
+    cst_array(126, cst_uint64(0x9676_9950_b50d_88f4), cst_uint64(0x1314_4480_0000_0000), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^39
+    cst_array(129, cst_uint64(0xbc14_3fa4_e250_eb31), cst_uint64(0x17d9_55a0_0000_0000), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^40
+    cst_array(132, cst_uint64(0xeb19_4f8e_1ae5_25fd), cst_uint64(0x5dcf_ab08_0000_0000), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^41
+    cst_array(136, cst_uint64(0x92ef_d1b8_d0cf_37be), cst_uint64(0x5aa1_cae5_0000_0000), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^42
+    cst_array(139, cst_uint64(0xb7ab_c627_0503_05ad), cst_uint64(0xf14a_3d9e_4000_0000), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^43
+    cst_array(142, cst_uint64(0xe596_b7b0_c643_c719), cst_uint64(0x6d9c_cd05_d000_0000), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^44
+    cst_array(146, cst_uint64(0x8f7e_32ce_7bea_5c6f), cst_uint64(0xe482_0023_a200_0000), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^45
+    cst_array(149, cst_uint64(0xb35d_bf82_1ae4_f38b), cst_uint64(0xdda2_802c_8a80_0000), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^46
+    cst_array(152, cst_uint64(0xe035_2f62_a19e_306e), cst_uint64(0xd50b_2037_ad20_0000), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^47
+    cst_array(156, cst_uint64(0x8c21_3d9d_a502_de45), cst_uint64(0x4526_f422_cc34_0000), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^48
+    cst_array(159, cst_uint64(0xaf29_8d05_0e43_95d6), cst_uint64(0x9670_b12b_7f41_0000), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^49
+    cst_array(162, cst_uint64(0xdaf3_f046_51d4_7b4c), cst_uint64(0x3c0c_dd76_5f11_4000), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^50
+    cst_array(166, cst_uint64(0x88d8_762b_f324_cd0f), cst_uint64(0xa588_0a69_fb6a_c800), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^51
+    cst_array(169, cst_uint64(0xab0e_93b6_efee_0053), cst_uint64(0x8eea_0d04_7a45_7a00), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^52
+    cst_array(172, cst_uint64(0xd5d2_38a4_abe9_8068), cst_uint64(0x72a4_9045_98d6_d880), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^53
+    cst_array(176, cst_uint64(0x85a3_6366_eb71_f041), cst_uint64(0x47a6_da2b_7f86_4750), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^54
+    cst_array(179, cst_uint64(0xa70c_3c40_a64e_6c51), cst_uint64(0x9990_90b6_5f67_d924), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^55
+    cst_array(182, cst_uint64(0xd0cf_4b50_cfe2_0765), cst_uint64(0xfff4_b4e3_f741_cf6d), cst_uint64(0x0000_0000_0000_0000)),
+    # 10^56
+    cst_array(186, cst_uint64(0x8281_8f12_81ed_449f), cst_uint64(0xbff8_f10e_7a89_21a4), cst_uint64(0x2000_0000_0000_0000)),
+    # 10^57
+    cst_array(189, cst_uint64(0xa321_f2d7_2268_95c7), cst_uint64(0xaff7_2d52_192b_6a0d), cst_uint64(0x2800_0000_0000_0000)),
+    # 10^58
+    cst_array(192, cst_uint64(0xcbea_6f8c_eb02_bb39), cst_uint64(0x9bf4_f8a6_9f76_4490), cst_uint64(0x7200_0000_0000_0000)),
+    # 10^59
+    cst_array(195, cst_uint64(0xfee5_0b70_25c3_6a08), cst_uint64(0x02f2_36d0_4753_d5b4), cst_uint64(0x8e80_0000_0000_0000)),
+    # 10^60
+    cst_array(199, cst_uint64(0x9f4f_2726_179a_2245), cst_uint64(0x01d7_6242_2c94_6590), cst_uint64(0xd910_0000_0000_0000)),
+    # 10^61
+    cst_array(202, cst_uint64(0xc722_f0ef_9d80_aad6), cst_uint64(0x424d_3ad2_b7b9_7ef5), cst_uint64(0x0f54_0000_0000_0000)),
+    # 10^62
+    cst_array(205, cst_uint64(0xf8eb_ad2b_84e0_d58b), cst_uint64(0xd2e0_8987_65a7_deb2), cst_uint64(0x5329_0000_0000_0000)),
+    # 10^63
+    cst_array(209, cst_uint64(0x9b93_4c3b_330c_8577), cst_uint64(0x63cc_55f4_9f88_eb2f), cst_uint64(0x73f9_a000_0000_0000)),
+    # 10^64
+    cst_array(212, cst_uint64(0xc278_1f49_ffcf_a6d5), cst_uint64(0x3cbf_6b71_c76b_25fb), cst_uint64(0x50f8_0800_0000_0000)),
+    # 10^65
+    cst_array(215, cst_uint64(0xf316_271c_7fc3_908a), cst_uint64(0x8bef_464e_3945_ef7a), cst_uint64(0x2536_0a00_0000_0000)),
+    # 10^66
+    cst_array(219, cst_uint64(0x97ed_d871_cfda_3a56), cst_uint64(0x9775_8bf0_e3cb_b5ac), cst_uint64(0x5741_c640_0000_0000)),
+    # 10^67
+    cst_array(222, cst_uint64(0xbde9_4e8e_43d0_c8ec), cst_uint64(0x3d52_eeed_1cbe_a317), cst_uint64(0x6d12_37d0_0000_0000)),
+    # 10^68
+    cst_array(225, cst_uint64(0xed63_a231_d4c4_fb27), cst_uint64(0x4ca7_aaa8_63ee_4bdd), cst_uint64(0x4856_c5c4_0000_0000)),
+    # 10^69
+    cst_array(229, cst_uint64(0x945e_455f_24fb_1cf8), cst_uint64(0x8fe8_caa9_3e74_ef6a), cst_uint64(0x4d36_3b9a_8000_0000)),
+    # 10^70
+    cst_array(232, cst_uint64(0xb975_d6b6_ee39_e436), cst_uint64(0xb3e2_fd53_8e12_2b44), cst_uint64(0xe083_ca81_2000_0000)),
+    # 10^71
+    cst_array(235, cst_uint64(0xe7d3_4c64_a9c8_5d44), cst_uint64(0x60db_bca8_7196_b616), cst_uint64(0x18a4_bd21_6800_0000)),
+    # 10^72
+    cst_array(239, cst_uint64(0x90e4_0fbe_ea1d_3a4a), cst_uint64(0xbc89_55e9_46fe_31cd), cst_uint64(0xcf66_f634_e100_0000)),
+    # 10^73
+    cst_array(242, cst_uint64(0xb51d_13ae_a4a4_88dd), cst_uint64(0x6bab_ab63_98bd_be41), cst_uint64(0x4340_b3c2_1940_0000)),
+    # 10^74
+    cst_array(245, cst_uint64(0xe264_589a_4dcd_ab14), cst_uint64(0xc696_963c_7eed_2dd1), cst_uint64(0x9410_e0b2_9f90_0000)),
+    # 10^75
+    cst_array(249, cst_uint64(0x8d7e_b760_70a0_8aec), cst_uint64(0xfc1e_1de5_cf54_3ca2), cst_uint64(0xfc8a_8c6f_a3ba_0000)),
+    # 10^76
+    cst_array(252, cst_uint64(0xb0de_6538_8cc8_ada8), cst_uint64(0x3b25_a55f_4329_4bcb), cst_uint64(0xbbad_2f8b_8ca8_8000)),
+    # 10^77
+    cst_array(255, cst_uint64(0xdd15_fe86_affa_d912), cst_uint64(0x49ef_0eb7_13f3_9ebe), cst_uint64(0xaa98_7b6e_6fd2_a000)),
+    # 10^78
+    cst_array(259, cst_uint64(0x8a2d_bf14_2dfc_c7ab), cst_uint64(0x6e35_6932_6c78_4337), cst_uint64(0x2a9f_4d25_05e3_a400)),
+    # 10^79
+    cst_array(262, cst_uint64(0xacb9_2ed9_397b_f996), cst_uint64(0x49c2_c37f_0796_5404), cst_uint64(0xf547_206e_475c_8d00)),
+    # 10^80
+    cst_array(265, cst_uint64(0xd7e7_7a8f_87da_f7fb), cst_uint64(0xdc33_745e_c97b_e906), cst_uint64(0x3298_e889_d933_b040)),
+    # 10^81
+    cst_array(269, cst_uint64(0x86f0_ac99_b4e8_dafd), cst_uint64(0x69a0_28bb_3ded_71a3), cst_uint64(0xdf9f_9156_27c0_4e28)),
+    # 10^82
+    cst_array(272, cst_uint64(0xa8ac_d7c0_2223_11bc), cst_uint64(0xc408_32ea_0d68_ce0c), cst_uint64(0xd787_75ab_b1b0_61b2)),
+    # 10^83
+    cst_array(275, cst_uint64(0xd2d8_0db0_2aab_d62b), cst_uint64(0xf50a_3fa4_90c3_0190), cst_uint64(0x0d69_5316_9e1c_7a1e)),
+    # 10^84
+    cst_array(279, cst_uint64(0x83c7_088e_1aab_65db), cst_uint64(0x7926_67c6_da79_e0fa), cst_uint64(0x0861_d3ee_22d1_cc53)),
+    # 10^85
+    cst_array(282, cst_uint64(0xa4b8_cab1_a156_3f52), cst_uint64(0x5770_01b8_9118_5938), cst_uint64(0x8a7a_48e9_ab86_3f67)),
+    # 10^86
+    cst_array(285, cst_uint64(0xcde6_fd5e_09ab_cf26), cst_uint64(0xed4c_0226_b55e_6f86), cst_uint64(0xad18_db24_1667_cf41)),
+    # 10^87
+    cst_array(289, cst_uint64(0x80b0_5e5a_c60b_6178), cst_uint64(0x544f_8158_315b_05b4), cst_uint64(0x2c2f_88f6_8e00_e189)),
+    # 10^88
+    cst_array(292, cst_uint64(0xa0dc_75f1_778e_39d6), cst_uint64(0x6963_61ae_3db1_c721), cst_uint64(0x373b_6b34_3181_19eb)),
+    # 10^89
+    cst_array(295, cst_uint64(0xc913_936d_d571_c84c), cst_uint64(0x03bc_3a19_cd1e_38e9), cst_uint64(0x850a_4601_3de1_6066)),
+    # 10^90
+    cst_array(298, cst_uint64(0xfb58_7849_4ace_3a5f), cst_uint64(0x04ab_48a0_4065_c723), cst_uint64(0xe64c_d781_8d59_b87f)),
+    # 10^91
+    cst_array(302, cst_uint64(0x9d17_4b2d_cec0_e47b), cst_uint64(0x62eb_0d64_283f_9c76), cst_uint64(0x6ff0_06b0_f858_134f)),
+    # 10^92
+    cst_array(305, cst_uint64(0xc45d_1df9_4271_1d9a), cst_uint64(0x3ba5_d0bd_324f_8394), cst_uint64(0x0bec_085d_366e_1823)),
+    # 10^93
+    cst_array(308, cst_uint64(0xf574_6577_930d_6500), cst_uint64(0xca8f_44ec_7ee3_6479), cst_uint64(0x0ee7_0a74_8409_9e2c)),
+    # 10^94
+    cst_array(312, cst_uint64(0x9968_bf6a_bbe8_5f20), cst_uint64(0x7e99_8b13_cf4e_1ecb), cst_uint64(0xa950_6688_d286_02dc)),
+    # 10^95
+    cst_array(315, cst_uint64(0xbfc2_ef45_6ae2_76e8), cst_uint64(0x9e3f_edd8_c321_a67e), cst_uint64(0x93a4_802b_0727_8393)),
+    # 10^96
+    cst_array(318, cst_uint64(0xefb3_ab16_c59b_14a2), cst_uint64(0xc5cf_e94e_f3ea_101e), cst_uint64(0x388d_a035_c8f1_6477)),
+    # 10^97
+    cst_array(322, cst_uint64(0x95d0_4aee_3b80_ece5), cst_uint64(0xbba1_f1d1_5872_4a12), cst_uint64(0xe358_8421_9d96_deca)),
+    # 10^98
+    cst_array(325, cst_uint64(0xbb44_5da9_ca61_281f), cst_uint64(0x2a8a_6e45_ae8e_dc97), cst_uint64(0x9c2e_a52a_04fc_967d)),
+    # 10^99
+    cst_array(328, cst_uint64(0xea15_7514_3cf9_7226), cst_uint64(0xf52d_09d7_1a32_93bd), cst_uint64(0x833a_4e74_863b_bc1c)),
+    # 10^100
+    cst_array(332, cst_uint64(0x924d_692c_a61b_e758), cst_uint64(0x593c_2626_705f_9c56), cst_uint64(0x7204_7108_d3e5_5592)),
+    # 10^101
+    cst_array(335, cst_uint64(0xb6e0_c377_cfa2_e12e), cst_uint64(0x6f8b_2fb0_0c77_836c), cst_uint64(0x0e85_8d4b_08de_aaf6)),
+    # 10^102
+    cst_array(338, cst_uint64(0xe498_f455_c38b_997a), cst_uint64(0x0b6d_fb9c_0f95_6447), cst_uint64(0x1226_f09d_cb16_55b4)),
+    # 10^103
+    cst_array(342, cst_uint64(0x8edf_98b5_9a37_3fec), cst_uint64(0x4724_bd41_89bd_5eac), cst_uint64(0x6b58_5662_9eed_f590)),
+    # 10^104
+    cst_array(345, cst_uint64(0xb297_7ee3_00c5_0fe7), cst_uint64(0x58ed_ec91_ec2c_b657), cst_uint64(0x862e_6bfb_46a9_72f4)),
+    # 10^105
+    cst_array(348, cst_uint64(0xdf3d_5e9b_c0f6_53e1), cst_uint64(0x2f29_67b6_6737_e3ed), cst_uint64(0x67ba_06fa_1853_cfb2)),
+    # 10^106
+    cst_array(352, cst_uint64(0x8b86_5b21_5899_f46c), cst_uint64(0xbd79_e0d2_0082_ee74), cst_uint64(0x60d4_445c_4f34_61cf)),
+    # 10^107
+    cst_array(355, cst_uint64(0xae67_f1e9_aec0_7187), cst_uint64(0xecd8_5906_80a3_aa11), cst_uint64(0x7909_5573_6301_7a43)),
+    # 10^108
+    cst_array(358, cst_uint64(0xda01_ee64_1a70_8de9), cst_uint64(0xe80e_6f48_20cc_9495), cst_uint64(0xd74b_aad0_3bc1_d8d3)),
+    # 10^109
+    cst_array(362, cst_uint64(0x8841_34fe_9086_58b2), cst_uint64(0x3109_058d_147f_dcdd), cst_uint64(0xa68f_4ac2_2559_2784)),
+    # 10^110
+    cst_array(365, cst_uint64(0xaa51_823e_34a7_eede), cst_uint64(0xbd4b_46f0_599f_d415), cst_uint64(0x1033_1d72_aeaf_7165)),
+    # 10^111
+    cst_array(368, cst_uint64(0xd4e5_e2cd_c1d1_ea96), cst_uint64(0x6c9e_18ac_7007_c91a), cst_uint64(0x543f_e4cf_5a5b_4dbe)),
+    # 10^112
+    cst_array(372, cst_uint64(0x850f_adc0_9923_329e), cst_uint64(0x03e2_cf6b_c604_ddb0), cst_uint64(0x74a7_ef01_9879_1097)),
+    # 10^113
+    cst_array(375, cst_uint64(0xa653_9930_bf6b_ff45), cst_uint64(0x84db_8346_b786_151c), cst_uint64(0x91d1_eac1_fe97_54bd)),
+    # 10^114
+    cst_array(378, cst_uint64(0xcfe8_7f7c_ef46_ff16), cst_uint64(0xe612_6418_6567_9a63), cst_uint64(0xb646_6572_7e3d_29ec)),
+    # 10^115
+    cst_array(382, cst_uint64(0x81f1_4fae_158c_5f6e), cst_uint64(0x4fcb_7e8f_3f60_c07e), cst_uint64(0x51eb_ff67_8ee6_3a33)),
+    # 10^116
+    cst_array(385, cst_uint64(0xa26d_a399_9aef_7749), cst_uint64(0xe3be_5e33_0f38_f09d), cst_uint64(0xe666_ff41_729f_c8c0)),
+    # 10^117
+    cst_array(388, cst_uint64(0xcb09_0c80_01ab_551c), cst_uint64(0x5cad_f5bf_d307_2cc5), cst_uint64(0x6000_bf11_cf47_baf0)),
+    # 10^118
+    cst_array(391, cst_uint64(0xfdcb_4fa0_0216_2a63), cst_uint64(0x73d9_732f_c7c8_f7f6), cst_uint64(0xb800_eed6_4319_a9ad)),
+    # 10^119
+    cst_array(395, cst_uint64(0x9e9f_11c4_014d_da7e), cst_uint64(0x2867_e7fd_dcdd_9afa), cst_uint64(0x3300_9545_e9f0_0a0c)),
+    # 10^120
+    cst_array(398, cst_uint64(0xc646_d635_01a1_511d), cst_uint64(0xb281_e1fd_5415_01b8), cst_uint64(0xbfc0_ba97_646c_0c8f)),
+    # 10^121
+    cst_array(401, cst_uint64(0xf7d8_8bc2_4209_a565), cst_uint64(0x1f22_5a7c_a91a_4226), cst_uint64(0xefb0_e93d_3d87_0fb3)),
+    # 10^122
+    cst_array(405, cst_uint64(0x9ae7_5759_6946_075f), cst_uint64(0x3375_788d_e9b0_6958), cst_uint64(0x55ce_91c6_4674_69cf)),
+    # 10^123
+    cst_array(408, cst_uint64(0xc1a1_2d2f_c397_8937), cst_uint64(0x0052_d6b1_641c_83ae), cst_uint64(0x6b42_3637_d811_8443)),
+    # 10^124
+    cst_array(411, cst_uint64(0xf209_787b_b47d_6b84), cst_uint64(0xc067_8c5d_bd23_a49a), cst_uint64(0x0612_c3c5_ce15_e554)),
+    # 10^125
+    cst_array(415, cst_uint64(0x9745_eb4d_50ce_6332), cst_uint64(0xf840_b7ba_9636_46e0), cst_uint64(0x43cb_ba5b_a0cd_af55)),
+    # 10^126
+    cst_array(418, cst_uint64(0xbd17_6620_a501_fbff), cst_uint64(0xb650_e5a9_3bc3_d898), cst_uint64(0x54be_a8f2_8901_1b2a)),
+    # 10^127
+    cst_array(421, cst_uint64(0xec5d_3fa8_ce42_7aff), cst_uint64(0xa3e5_1f13_8ab4_cebe), cst_uint64(0x69ee_532f_2b41_61f4)),
+    # 10^128
+    cst_array(425, cst_uint64(0x93ba_47c9_80e9_8cdf), cst_uint64(0xc66f_336c_36b1_0137), cst_uint64(0x0234_f3fd_7b08_dd39)),
+    # 10^129
+    cst_array(428, cst_uint64(0xb8a8_d9bb_e123_f017), cst_uint64(0xb80b_0047_445d_4184), cst_uint64(0xc2c2_30fc_d9cb_1487)),
+    # 10^130
+    cst_array(431, cst_uint64(0xe6d3_102a_d96c_ec1d), cst_uint64(0xa60d_c059_1574_91e5), cst_uint64(0xf372_bd3c_103d_d9a9)),
+    # 10^131
+    cst_array(435, cst_uint64(0x9043_ea1a_c7e4_1392), cst_uint64(0x87c8_9837_ad68_db2f), cst_uint64(0xb827_b645_8a26_a809)),
+    # 10^132
+    cst_array(438, cst_uint64(0xb454_e4a1_79dd_1877), cst_uint64(0x29ba_be45_98c3_11fb), cst_uint64(0xa631_a3d6_ecb0_520c)),
+    # 10^133
+    cst_array(441, cst_uint64(0xe16a_1dc9_d854_5e94), cst_uint64(0xf429_6dd6_fef3_d67a), cst_uint64(0x8fbe_0ccc_a7dc_668f)),
+    # 10^134
+    cst_array(445, cst_uint64(0x8ce2_529e_2734_bb1d), cst_uint64(0x1899_e4a6_5f58_660c), cst_uint64(0x99d6_c7ff_e8e9_c019)),
+    # 10^135
+    cst_array(448, cst_uint64(0xb01a_e745_b101_e9e4), cst_uint64(0x5ec0_5dcf_f72e_7f8f), cst_uint64(0xc04c_79ff_e324_301f)),
+    # 10^136
+    cst_array(451, cst_uint64(0xdc21_a117_1d42_645d), cst_uint64(0x7670_7543_f4fa_1f73), cst_uint64(0xb05f_987f_dbed_3c27)),
+    # 10^137
+    cst_array(455, cst_uint64(0x8995_04ae_7249_7eba), cst_uint64(0x6a06_494a_791c_53a8), cst_uint64(0x4e3b_bf4f_e974_4598)),
+    # 10^138
+    cst_array(458, cst_uint64(0xabfa_45da_0edb_de69), cst_uint64(0x0487_db9d_1763_6892), cst_uint64(0x61ca_af23_e3d1_56ff)),
+    # 10^139
+    cst_array(461, cst_uint64(0xd6f8_d750_9292_d603), cst_uint64(0x45a9_d284_5d3c_42b6), cst_uint64(0xfa3d_5aec_dcc5_acbe)),
+    # 10^140
+    cst_array(465, cst_uint64(0x865b_8692_5b9b_c5c2), cst_uint64(0x0b8a_2392_ba45_a9b2), cst_uint64(0x5c66_58d4_09fb_8bf7)),
+    # 10^141
+    cst_array(468, cst_uint64(0xa7f2_6836_f282_b732), cst_uint64(0x8e6c_ac77_68d7_141e), cst_uint64(0xf37f_ef09_0c7a_6ef5)),
+    # 10^142
+    cst_array(471, cst_uint64(0xd1ef_0244_af23_64ff), cst_uint64(0x3207_d795_430c_d926), cst_uint64(0xb05f_eacb_4f99_0ab2)),
+    # 10^143
+    cst_array(475, cst_uint64(0x8335_616a_ed76_1f1f), cst_uint64(0x7f44_e6bd_49e8_07b8), cst_uint64(0x2e3b_f2bf_11bf_a6af)),
+    # 10^144
+    cst_array(478, cst_uint64(0xa402_b9c5_a8d3_a6e7), cst_uint64(0x5f16_206c_9c62_09a6), cst_uint64(0x39ca_ef6e_d62f_905b)),
+    # 10^145
+    cst_array(481, cst_uint64(0xcd03_6837_1308_90a1), cst_uint64(0x36db_a887_c37a_8c0f), cst_uint64(0xc83d_ab4a_8bbb_7472)),
+    # 10^146
+    cst_array(485, cst_uint64(0x8022_2122_6be5_5a64), cst_uint64(0xc249_4954_da2c_9789), cst_uint64(0xdd26_8b0e_9755_28c7)),
+    # 10^147
+    cst_array(488, cst_uint64(0xa02a_a96b_06de_b0fd), cst_uint64(0xf2db_9baa_10b7_bd6c), cst_uint64(0x5470_2dd2_3d2a_72f9)),
+    # 10^148
+    cst_array(491, cst_uint64(0xc835_53c5_c896_5d3d), cst_uint64(0x6f92_8294_94e5_acc7), cst_uint64(0x698c_3946_cc75_0fb7)),
+    # 10^149
+    cst_array(494, cst_uint64(0xfa42_a8b7_3abb_f48c), cst_uint64(0xcb77_2339_ba1f_17f9), cst_uint64(0x43ef_4798_7f92_53a5)),
+    # 10^150
+    cst_array(498, cst_uint64(0x9c69_a972_84b5_78d7), cst_uint64(0xff2a_7604_1453_6efb), cst_uint64(0xca75_8cbf_4fbb_7447)),
+    # 10^151
+    cst_array(501, cst_uint64(0xc384_13cf_25e2_d70d), cst_uint64(0xfef5_1385_1968_4aba), cst_uint64(0xbd12_efef_23aa_5159)),
+    # 10^152
+    cst_array(504, cst_uint64(0xf465_18c2_ef5b_8cd1), cst_uint64(0x7eb2_5866_5fc2_5d69), cst_uint64(0x6c57_abea_ec94_e5af)),
+    # 10^153
+    cst_array(508, cst_uint64(0x98bf_2f79_d599_3802), cst_uint64(0xef2f_773f_fbd9_7a61), cst_uint64(0xe3b6_cb72_d3dd_0f8d)),
+    # 10^154
+    cst_array(511, cst_uint64(0xbeee_fb58_4aff_8603), cst_uint64(0xaafb_550f_facf_d8fa), cst_uint64(0x5ca4_7e4f_88d4_5371)),
+    # 10^155
+    cst_array(514, cst_uint64(0xeeaa_ba2e_5dbf_6784), cst_uint64(0x95ba_2a53_f983_cf38), cst_uint64(0xf3cd_9de3_6b09_684d)),
+    # 10^156
+    cst_array(518, cst_uint64(0x952a_b45c_fa97_a0b2), cst_uint64(0xdd94_5a74_7bf2_6183), cst_uint64(0x9860_82ae_22e5_e130)),
+    # 10^157
+    cst_array(521, cst_uint64(0xba75_6174_393d_88df), cst_uint64(0x94f9_7111_9aee_f9e4), cst_uint64(0x7e78_a359_ab9f_597c)),
+    # 10^158
+    cst_array(524, cst_uint64(0xe912_b9d1_478c_eb17), cst_uint64(0x7a37_cd56_01aa_b85d), cst_uint64(0x9e16_cc30_1687_2fdb)),
+    # 10^159
+    cst_array(528, cst_uint64(0x91ab_b422_ccb8_12ee), cst_uint64(0xac62_e055_c10a_b33a), cst_uint64(0x82ce_3f9e_0e14_7de9)),
+    # 10^160
+    cst_array(531, cst_uint64(0xb616_a12b_7fe6_17aa), cst_uint64(0x577b_986b_314d_6009), cst_uint64(0x2381_cf85_9199_9d63)),
+    # 10^161
+    cst_array(534, cst_uint64(0xe39c_4976_5fdf_9d94), cst_uint64(0xed5a_7e85_fda0_b80b), cst_uint64(0x6c62_4366_f600_04bc)),
+    # 10^162
+    cst_array(538, cst_uint64(0x8e41_ade9_fbeb_c27d), cst_uint64(0x1458_8f13_be84_7307), cst_uint64(0x23bd_6a20_59c0_02f5)),
+    # 10^163
+    cst_array(541, cst_uint64(0xb1d2_1964_7ae6_b31c), cst_uint64(0x596e_b2d8_ae25_8fc8), cst_uint64(0xecac_c4a8_7030_03b3)),
+    # 10^164
+    cst_array(544, cst_uint64(0xde46_9fbd_99a0_5fe3), cst_uint64(0x6fca_5f8e_d9ae_f3bb), cst_uint64(0x27d7_f5d2_8c3c_04a0)),
+    # 10^165
+    cst_array(548, cst_uint64(0x8aec_23d6_8004_3bee), cst_uint64(0x25de_7bb9_480d_5854), cst_uint64(0xf8e6_f9a3_97a5_82e4)),
+    # 10^166
+    cst_array(551, cst_uint64(0xada7_2ccc_2005_4ae9), cst_uint64(0xaf56_1aa7_9a10_ae6a), cst_uint64(0x3720_b80c_7d8e_e39d)),
+    # 10^167
+    cst_array(554, cst_uint64(0xd910_f7ff_2806_9da4), cst_uint64(0x1b2b_a151_8094_da04), cst_uint64(0xc4e8_e60f_9cf2_9c84)),
+    # 10^168
+    cst_array(558, cst_uint64(0x87aa_9aff_7904_2286), cst_uint64(0x90fb_44d2_f05d_0842), cst_uint64(0xfb11_8fc9_c217_a1d2)),
+    # 10^169
+    cst_array(561, cst_uint64(0xa995_41bf_5745_2b28), cst_uint64(0x353a_1607_ac74_4a53), cst_uint64(0xb9d5_f3bc_329d_8a47)),
+    # 10^170
+    cst_array(564, cst_uint64(0xd3fa_922f_2d16_75f2), cst_uint64(0x4288_9b89_9791_5ce8), cst_uint64(0xa84b_70ab_3f44_ecd9)),
+    # 10^171
+    cst_array(568, cst_uint64(0x847c_9b5d_7c2e_09b7), cst_uint64(0x6995_6135_feba_da11), cst_uint64(0x692f_266b_078b_1407)),
+    # 10^172
+    cst_array(571, cst_uint64(0xa59b_c234_db39_8c25), cst_uint64(0x43fa_b983_7e69_9095), cst_uint64(0xc37a_f005_c96d_d909)),
+    # 10^173
+    cst_array(574, cst_uint64(0xcf02_b2c2_1207_ef2e), cst_uint64(0x94f9_67e4_5e03_f4bb), cst_uint64(0x3459_ac07_3bc9_4f4c)),
+    # 10^174
+    cst_array(578, cst_uint64(0x8161_afb9_4b44_f57d), cst_uint64(0x1d1b_e0ee_bac2_78f5), cst_uint64(0x00b8_0b84_855d_d18f)),
+    # 10^175
+    cst_array(581, cst_uint64(0xa1ba_1ba7_9e16_32dc), cst_uint64(0x6462_d92a_6973_1732), cst_uint64(0x40e6_0e65_a6b5_45f3)),
+    # 10^176
+    cst_array(584, cst_uint64(0xca28_a291_859b_bf93), cst_uint64(0x7d7b_8f75_03cf_dcfe), cst_uint64(0xd11f_91ff_1062_9770)),
+    # 10^177
+    cst_array(587, cst_uint64(0xfcb2_cb35_e702_af78), cst_uint64(0x5cda_7352_44c3_d43e), cst_uint64(0x8567_767e_d47b_3d4c)),
+    # 10^178
+    cst_array(591, cst_uint64(0x9def_bf01_b061_adab), cst_uint64(0x3a08_8813_6afa_64a7), cst_uint64(0x1360_aa0f_44cd_064f)),
+    # 10^179
+    cst_array(594, cst_uint64(0xc56b_aec2_1c7a_1916), cst_uint64(0x088a_aa18_45b8_fdd0), cst_uint64(0xd838_d493_1600_47e3)),
+    # 10^180
+    cst_array(597, cst_uint64(0xf6c6_9a72_a398_9f5b), cst_uint64(0x8aad_549e_5727_3d45), cst_uint64(0x0e47_09b7_db80_59dc)),
+    # 10^181
+    cst_array(601, cst_uint64(0x9a3c_2087_a63f_6399), cst_uint64(0x36ac_54e2_f678_864b), cst_uint64(0x28ec_6612_e930_3829)),
+    # 10^182
+    cst_array(604, cst_uint64(0xc0cb_28a9_8fcf_3c7f), cst_uint64(0x8457_6a1b_b416_a7dd), cst_uint64(0xf327_7f97_a37c_4634)),
+    # 10^183
+    cst_array(607, cst_uint64(0xf0fd_f2d3_f3c3_0b9f), cst_uint64(0x656d_44a2_a11c_51d5), cst_uint64(0x6ff1_5f7d_8c5b_57c1)),
+    # 10^184
+    cst_array(611, cst_uint64(0x969e_b7c4_7859_e743), cst_uint64(0x9f64_4ae5_a4b1_b325), cst_uint64(0x65f6_dbae_77b9_16d8)),
+    # 10^185
+    cst_array(614, cst_uint64(0xbc46_65b5_9670_6114), cst_uint64(0x873d_5d9f_0dde_1fee), cst_uint64(0xbf74_929a_15a7_5c8f)),
+    # 10^186
+    cst_array(617, cst_uint64(0xeb57_ff22_fc0c_7959), cst_uint64(0xa90c_b506_d155_a7ea), cst_uint64(0x6f51_b740_9b11_33b2)),
+    # 10^187
+    cst_array(621, cst_uint64(0x9316_ff75_dd87_cbd8), cst_uint64(0x09a7_f124_42d5_88f2), cst_uint64(0x8593_1288_60ea_c04f)),
+    # 10^188
+    cst_array(624, cst_uint64(0xb7dc_bf53_54e9_bece), cst_uint64(0x0c11_ed6d_538a_eb2f), cst_uint64(0x26f7_d72a_7925_7063)),
+    # 10^189
+    cst_array(627, cst_uint64(0xe5d3_ef28_2a24_2e81), cst_uint64(0x8f16_68c8_a86d_a5fa), cst_uint64(0xf0b5_ccf5_176e_cc7c)),
+    # 10^190
+    cst_array(631, cst_uint64(0x8fa4_7579_1a56_9d10), cst_uint64(0xf96e_017d_6944_87bc), cst_uint64(0xd671_a019_2ea5_3fcd)),
+    # 10^191
+    cst_array(634, cst_uint64(0xb38d_92d7_60ec_4455), cst_uint64(0x37c9_81dc_c395_a9ac), cst_uint64(0x0c0e_081f_7a4e_8fc1)),
+    # 10^192
+    cst_array(637, cst_uint64(0xe070_f78d_3927_556a), cst_uint64(0x85bb_e253_f47b_1417), cst_uint64(0x0f11_8a27_58e2_33b1)),
+    # 10^193
+    cst_array(641, cst_uint64(0x8c46_9ab8_43b8_9562), cst_uint64(0x9395_6d74_78cc_ec8e), cst_uint64(0x696a_f658_978d_604f)),
+    # 10^194
+    cst_array(644, cst_uint64(0xaf58_4166_54a6_babb), cst_uint64(0x387a_c8d1_9700_27b2), cst_uint64(0x03c5_b3ee_bd70_b862)),
+    # 10^195
+    cst_array(647, cst_uint64(0xdb2e_51bf_e9d0_696a), cst_uint64(0x0699_7b05_fcc0_319e), cst_uint64(0x84b7_20ea_6ccc_e67b)),
+    # 10^196
+    cst_array(651, cst_uint64(0x88fc_f317_f222_41e2), cst_uint64(0x441f_ece3_bdf8_1f03), cst_uint64(0x12f2_7492_8400_100d)),
+    # 10^197
+    cst_array(654, cst_uint64(0xab3c_2fdd_eeaa_d25a), cst_uint64(0xd527_e81c_ad76_26c3), cst_uint64(0xd7af_11b7_2500_1410)),
+    # 10^198
+    cst_array(657, cst_uint64(0xd60b_3bd5_6a55_86f1), cst_uint64(0x8a71_e223_d8d3_b074), cst_uint64(0xcd9a_d624_ee40_1914)),
+    # 10^199
+    cst_array(661, cst_uint64(0x85c7_0565_6275_7456), cst_uint64(0xf687_2d56_6784_4e49), cst_uint64(0x0080_c5d7_14e8_0fac)),
+    # 10^200
+    cst_array(664, cst_uint64(0xa738_c6be_bb12_d16c), cst_uint64(0xb428_f8ac_0165_61db), cst_uint64(0x40a0_f74c_da22_1398)),
+    # 10^201
+    cst_array(667, cst_uint64(0xd106_f86e_69d7_85c7), cst_uint64(0xe133_36d7_01be_ba52), cst_uint64(0x10c9_3520_10aa_987e)),
+    # 10^202
+    cst_array(671, cst_uint64(0x82a4_5b45_0226_b39c), cst_uint64(0xecc0_0246_6117_3473), cst_uint64(0x4a7d_c134_0a6a_9f4e)),
+    # 10^203
+    cst_array(674, cst_uint64(0xa34d_7216_42b0_6084), cst_uint64(0x27f0_02d7_f95d_0190), cst_uint64(0x1d1d_3181_0d05_4722)),
+    # 10^204
+    cst_array(677, cst_uint64(0xcc20_ce9b_d35c_78a5), cst_uint64(0x31ec_038d_f7b4_41f4), cst_uint64(0x2464_7de1_5046_98eb)),
+    # 10^205
+    cst_array(680, cst_uint64(0xff29_0242_c833_96ce), cst_uint64(0x7e67_0471_75a1_5271), cst_uint64(0x2d7d_9d59_a458_3f26)),
+    # 10^206
+    cst_array(684, cst_uint64(0x9f79_a169_bd20_3e41), cst_uint64(0x0f00_62c6_e984_d386), cst_uint64(0xbc6e_8258_06b7_2777)),
+    # 10^207
+    cst_array(687, cst_uint64(0xc758_09c4_2c68_4dd1), cst_uint64(0x52c0_7b78_a3e6_0868), cst_uint64(0x6b8a_22ee_0864_f155)),
+    # 10^208
+    cst_array(690, cst_uint64(0xf92e_0c35_3782_6145), cst_uint64(0xa770_9a56_ccdf_8a82), cst_uint64(0x866c_aba9_8a7e_2dab)),
+    # 10^209
+    cst_array(694, cst_uint64(0x9bbc_c7a1_42b1_7ccb), cst_uint64(0x88a6_6076_400b_b691), cst_uint64(0x9403_eb49_f68e_dc8b)),
+    # 10^210
+    cst_array(697, cst_uint64(0xc2ab_f989_935d_dbfe), cst_uint64(0x6acf_f893_d00e_a435), cst_uint64(0xf904_e61c_7432_93ad)),
+    # 10^211
+    cst_array(700, cst_uint64(0xf356_f7eb_f835_52fe), cst_uint64(0x0583_f6b8_c412_4d43), cst_uint64(0x7746_1fa3_913f_3899)),
+    # 10^212
+    cst_array(704, cst_uint64(0x9816_5af3_7b21_53de), cst_uint64(0xc372_7a33_7a8b_704a), cst_uint64(0x2a8b_d3c6_3ac7_835f)),
+    # 10^213
+    cst_array(707, cst_uint64(0xbe1b_f1b0_59e9_a8d6), cst_uint64(0x744f_18c0_592e_4c5c), cst_uint64(0xb52e_c8b7_c979_6437)),
+    # 10^214
+    cst_array(710, cst_uint64(0xeda2_ee1c_7064_130c), cst_uint64(0x1162_def0_6f79_df73), cst_uint64(0xe27a_7ae5_bbd7_bd45)),
+    # 10^215
+    cst_array(714, cst_uint64(0x9485_d4d1_c63e_8be7), cst_uint64(0x8add_cb56_45ac_2ba8), cst_uint64(0x6d8c_8ccf_9566_d64b)),
+    # 10^216
+    cst_array(717, cst_uint64(0xb9a7_4a06_37ce_2ee1), cst_uint64(0x6d95_3e2b_d717_3692), cst_uint64(0x88ef_b003_7ac0_8bde)),
+    # 10^217
+    cst_array(720, cst_uint64(0xe811_1c87_c5c1_ba99), cst_uint64(0xc8fa_8db6_ccdd_0437), cst_uint64(0x2b2b_9c04_5970_aed5)),
+    # 10^218
+    cst_array(724, cst_uint64(0x910a_b1d4_db99_14a0), cst_uint64(0x1d9c_9892_400a_22a2), cst_uint64(0x7afb_4182_b7e6_6d45)),
+    # 10^219
+    cst_array(727, cst_uint64(0xb54d_5e4a_127f_59c8), cst_uint64(0x2503_beb6_d00c_ab4b), cst_uint64(0x19ba_11e3_65e0_0897)),
+    # 10^220
+    cst_array(730, cst_uint64(0xe2a0_b5dc_971f_303a), cst_uint64(0x2e44_ae64_840f_d61d), cst_uint64(0xe028_965c_3f58_0abc)),
+    # 10^221
+    cst_array(734, cst_uint64(0x8da4_71a9_de73_7e24), cst_uint64(0x5cea_ecfe_d289_e5d2), cst_uint64(0xac19_5df9_a797_06b6)),
+    # 10^222
+    cst_array(737, cst_uint64(0xb10d_8e14_5610_5dad), cst_uint64(0x7425_a83e_872c_5f47), cst_uint64(0x571f_b578_117c_c863)),
+    # 10^223
+    cst_array(740, cst_uint64(0xdd50_f199_6b94_7518), cst_uint64(0xd12f_124e_28f7_7719), cst_uint64(0x2ce7_a2d6_15db_fa7c)),
+    # 10^224
+    cst_array(744, cst_uint64(0x8a52_96ff_e33c_c92f), cst_uint64(0x82bd_6b70_d99a_aa6f), cst_uint64(0xbc10_c5c5_cda9_7c8d)),
+    # 10^225
+    cst_array(747, cst_uint64(0xace7_3cbf_dc0b_fb7b), cst_uint64(0x636c_c64d_1001_550b), cst_uint64(0xab14_f737_4113_dbb1)),
+    # 10^226
+    cst_array(750, cst_uint64(0xd821_0bef_d30e_fa5a), cst_uint64(0x3c47_f7e0_5401_aa4e), cst_uint64(0x95da_3505_1158_d29d)),
+    # 10^227
+    cst_array(754, cst_uint64(0x8714_a775_e3e9_5c78), cst_uint64(0x65ac_faec_3481_0a71), cst_uint64(0x1da8_6123_2ad7_83a2)),
+    # 10^228
+    cst_array(757, cst_uint64(0xa8d9_d153_5ce3_b396), cst_uint64(0x7f18_39a7_41a1_4d0d), cst_uint64(0x6512_796b_f58d_648b)),
+    # 10^229
+    cst_array(760, cst_uint64(0xd310_45a8_341c_a07c), cst_uint64(0x1ede_4811_1209_a050), cst_uint64(0xbe57_17c6_f2f0_bdad)),
+    # 10^230
+    cst_array(764, cst_uint64(0x83ea_2b89_2091_e44d), cst_uint64(0x934a_ed0a_ab46_0432), cst_uint64(0x76f6_6edc_57d6_768c)),
+    # 10^231
+    cst_array(767, cst_uint64(0xa4e4_b66b_68b6_5d60), cst_uint64(0xf81d_a84d_5617_853f), cst_uint64(0x14b4_0a93_6dcc_142f)),
+    # 10^232
+    cst_array(770, cst_uint64(0xce1d_e406_42e3_f4b9), cst_uint64(0x3625_1260_ab9d_668e), cst_uint64(0xd9e1_0d38_493f_193b)),
+    # 10^233
+    cst_array(774, cst_uint64(0x80d2_ae83_e9ce_78f3), cst_uint64(0xc1d7_2b7c_6b42_6019), cst_uint64(0x482c_a843_2dc7_6fc5)),
+    # 10^234
+    cst_array(777, cst_uint64(0xa107_5a24_e442_1730), cst_uint64(0xb24c_f65b_8612_f81f), cst_uint64(0x9a37_d253_f939_4bb6)),
+    # 10^235
+    cst_array(780, cst_uint64(0xc949_30ae_1d52_9cfc), cst_uint64(0xdee0_33f2_6797_b627), cst_uint64(0x80c5_c6e8_f787_9ea4)),
+    # 10^236
+    cst_array(783, cst_uint64(0xfb9b_7cd9_a4a7_443c), cst_uint64(0x1698_40ef_017d_a3b1), cst_uint64(0x60f7_38a3_3569_864d)),
+    # 10^237
+    cst_array(787, cst_uint64(0x9d41_2e08_06e8_8aa5), cst_uint64(0x8e1f_2895_60ee_864e), cst_uint64(0xdc9a_8366_0161_f3f0)),
+    # 10^238
+    cst_array(790, cst_uint64(0xc491_798a_08a2_ad4e), cst_uint64(0xf1a6_f2ba_b92a_27e2), cst_uint64(0x93c1_243f_81ba_70ec)),
+    # 10^239
+    cst_array(793, cst_uint64(0xf5b5_d7ec_8acb_58a2), cst_uint64(0xae10_af69_6774_b1db), cst_uint64(0x38b1_6d4f_6229_0d27)),
+    # 10^240
+    cst_array(797, cst_uint64(0x9991_a6f3_d6bf_1765), cst_uint64(0xacca_6da1_e0a8_ef29), cst_uint64(0x036e_e451_9d59_a838)),
+    # 10^241
+    cst_array(800, cst_uint64(0xbff6_10b0_cc6e_dd3f), cst_uint64(0x17fd_090a_58d3_2af3), cst_uint64(0x444a_9d66_04b0_1247)),
+    # 10^242
+    cst_array(803, cst_uint64(0xeff3_94dc_ff8a_948e), cst_uint64(0xddfc_4b4c_ef07_f5b0), cst_uint64(0x155d_44bf_85dc_16d8)),
+    # 10^243
+    cst_array(807, cst_uint64(0x95f8_3d0a_1fb6_9cd9), cst_uint64(0x4abd_af10_1564_f98e), cst_uint64(0x0d5a_4af7_b3a9_8e47)),
+    # 10^244
+    cst_array(810, cst_uint64(0xbb76_4c4c_a7a4_440f), cst_uint64(0x9d6d_1ad4_1abe_37f1), cst_uint64(0x90b0_ddb5_a093_f1d9)),
+    # 10^245
+    cst_array(813, cst_uint64(0xea53_df5f_d18d_5513), cst_uint64(0x84c8_6189_216d_c5ed), cst_uint64(0xf4dd_1523_08b8_ee4f)),
+    # 10^246
+    cst_array(817, cst_uint64(0x9274_6b9b_e2f8_552c), cst_uint64(0x32fd_3cf5_b4e4_9bb4), cst_uint64(0xb90a_2d35_e573_94f1)),
+    # 10^247
+    cst_array(820, cst_uint64(0xb711_8682_dbb6_6a77), cst_uint64(0x3fbc_8c33_221d_c2a1), cst_uint64(0xe74c_b883_5ed0_7a2e)),
+    # 10^248
+    cst_array(823, cst_uint64(0xe4d5_e823_92a4_0515), cst_uint64(0x0fab_af3f_eaa5_334a), cst_uint64(0x611f_e6a4_3684_98b9)),
+    # 10^249
+    cst_array(827, cst_uint64(0x8f05_b116_3ba6_832d), cst_uint64(0x29cb_4d87_f2a7_400e), cst_uint64(0x7cb3_f026_a212_df74)),
+    # 10^250
+    cst_array(830, cst_uint64(0xb2c7_1d5b_ca90_23f8), cst_uint64(0x743e_20e9_ef51_1012), cst_uint64(0x1be0_ec30_4a97_9751)),
+    # 10^251
+    cst_array(833, cst_uint64(0xdf78_e4b2_bd34_2cf6), cst_uint64(0x914d_a924_6b25_5416), cst_uint64(0xa2d9_273c_5d3d_7d25)),
+    # 10^252
+    cst_array(837, cst_uint64(0x8bab_8eef_b640_9c1a), cst_uint64(0x1ad0_89b6_c2f7_548e), cst_uint64(0x25c7_b885_ba46_6e37)),
+    # 10^253
+    cst_array(840, cst_uint64(0xae96_72ab_a3d0_c320), cst_uint64(0xa184_ac24_73b5_29b1), cst_uint64(0xaf39_a6a7_28d8_09c5)),
+    # 10^254
+    cst_array(843, cst_uint64(0xda3c_0f56_8cc4_f3e8), cst_uint64(0xc9e5_d72d_90a2_741e), cst_uint64(0x1b08_1050_f30e_0c36)),
+    # 10^255
+    cst_array(847, cst_uint64(0x8865_8996_17fb_1871), cst_uint64(0x7e2f_a67c_7a65_8892), cst_uint64(0xd0e5_0a32_97e8_c7a2)),
+    # 10^256
+    cst_array(850, cst_uint64(0xaa7e_ebfb_9df9_de8d), cst_uint64(0xddbb_901b_98fe_eab7), cst_uint64(0x851e_4cbf_3de2_f98a)),
+    # 10^257
+    cst_array(853, cst_uint64(0xd51e_a6fa_8578_5631), cst_uint64(0x552a_7422_7f3e_a565), cst_uint64(0x6665_dfef_0d5b_b7ed)),
+    # 10^258
+    cst_array(857, cst_uint64(0x8533_285c_936b_35de), cst_uint64(0xd53a_8895_8f87_275f), cst_uint64(0x5fff_abf5_6859_52f4)),
+    # 10^259
+    cst_array(860, cst_uint64(0xa67f_f273_b846_0356), cst_uint64(0x8a89_2aba_f368_f137), cst_uint64(0x37ff_96f2_c26f_a7b1)),
+    # 10^260
+    cst_array(863, cst_uint64(0xd01f_ef10_a657_842c), cst_uint64(0x2d2b_7569_b043_2d85), cst_uint64(0x05ff_7caf_730b_919d)),
+    # 10^261
+    cst_array(867, cst_uint64(0x8213_f56a_67f6_b29b), cst_uint64(0x9c3b_2962_0e29_fc73), cst_uint64(0x23bf_aded_a7e7_3b02)),
+    # 10^262
+    cst_array(870, cst_uint64(0xa298_f2c5_01f4_5f42), cst_uint64(0x8349_f3ba_91b4_7b8f), cst_uint64(0xecaf_9969_11e1_09c3)),
+    # 10^263
+    cst_array(873, cst_uint64(0xcb3f_2f76_4271_7713), cst_uint64(0x241c_70a9_3621_9a73), cst_uint64(0xe7db_7fc3_5659_4c34)),
+    # 10^264
+    cst_array(876, cst_uint64(0xfe0e_fb53_d30d_d4d7), cst_uint64(0xed23_8cd3_83aa_0110), cst_uint64(0xe1d2_5fb4_2bef_9f41)),
+    # 10^265
+    cst_array(880, cst_uint64(0x9ec9_5d14_63e8_a506), cst_uint64(0xf436_3804_324a_40aa), cst_uint64(0x8d23_7bd0_9b75_c388)),
+    # 10^266
+    cst_array(883, cst_uint64(0xc67b_b459_7ce2_ce48), cst_uint64(0xb143_c605_3edc_d0d5), cst_uint64(0x306c_5ac4_c253_346a)),
+    # 10^267
+    cst_array(886, cst_uint64(0xf81a_a16f_dc1b_81da), cst_uint64(0xdd94_b786_8e94_050a), cst_uint64(0x7c87_7175_f2e8_0185)),
+    # 10^268
+    cst_array(890, cst_uint64(0x9b10_a4e5_e991_3128), cst_uint64(0xca7c_f2b4_191c_8326), cst_uint64(0x8dd4_a6e9_b7d1_00f3)),
+    # 10^269
+    cst_array(893, cst_uint64(0xc1d4_ce1f_63f5_7d72), cst_uint64(0xfd1c_2f61_1f63_a3f0), cst_uint64(0x3149_d0a4_25c5_4130)),
+    # 10^270
+    cst_array(896, cst_uint64(0xf24a_01a7_3cf2_dccf), cst_uint64(0xbc63_3b39_673c_8cec), cst_uint64(0x3d9c_44cd_2f36_917c)),
+    # 10^271
+    cst_array(900, cst_uint64(0x976e_4108_8617_ca01), cst_uint64(0xd5be_0503_e085_d813), cst_uint64(0xa681_ab00_3d82_1aed)),
+    # 10^272
+    cst_array(903, cst_uint64(0xbd49_d14a_a79d_bc82), cst_uint64(0x4b2d_8644_d8a7_4e18), cst_uint64(0x9022_15c0_4ce2_a1a9)),
+    # 10^273
+    cst_array(906, cst_uint64(0xec9c_459d_5185_2ba2), cst_uint64(0xddf8_e7d6_0ed1_219e), cst_uint64(0xb42a_9b30_601b_4a13)),
+    # 10^274
+    cst_array(910, cst_uint64(0x93e1_ab82_52f3_3b45), cst_uint64(0xcabb_90e5_c942_b503), cst_uint64(0x309a_a0fe_3c11_0e4c)),
+    # 10^275
+    cst_array(913, cst_uint64(0xb8da_1662_e7b0_0a17), cst_uint64(0x3d6a_751f_3b93_6243), cst_uint64(0xfcc1_493d_cb15_51df)),
+    # 10^276
+    cst_array(916, cst_uint64(0xe710_9bfb_a19c_0c9d), cst_uint64(0x0cc5_1267_0a78_3ad4), cst_uint64(0xfbf1_9b8d_3dda_a657)),
+    # 10^277
+    cst_array(920, cst_uint64(0x906a_617d_4501_87e2), cst_uint64(0x27fb_2b80_668b_24c5), cst_uint64(0x1d77_0138_46a8_a7f6)),
+    # 10^278
+    cst_array(923, cst_uint64(0xb484_f9dc_9641_e9da), cst_uint64(0xb1f9_f660_802d_edf6), cst_uint64(0x64d4_c186_5852_d1f4)),
+    # 10^279
+    cst_array(926, cst_uint64(0xe1a6_3853_bbd2_6451), cst_uint64(0x5e78_73f8_a039_6973), cst_uint64(0xfe09_f1e7_ee67_8671)),
+    # 10^280
+    cst_array(930, cst_uint64(0x8d07_e334_5563_7eb2), cst_uint64(0xdb0b_487b_6423_e1e8), cst_uint64(0x7ec6_3730_f500_b406)),
+    # 10^281
+    cst_array(933, cst_uint64(0xb049_dc01_6abc_5e5f), cst_uint64(0x91ce_1a9a_3d2c_da62), cst_uint64(0x9e77_c4fd_3240_e108)),
+    # 10^282
+    cst_array(936, cst_uint64(0xdc5c_5301_c56b_75f7), cst_uint64(0x7641_a140_cc78_10fb), cst_uint64(0x4615_b63c_7ed1_194a)),
+    # 10^283
+    cst_array(940, cst_uint64(0x89b9_b3e1_1b63_29ba), cst_uint64(0xa9e9_04c8_7fcb_0a9d), cst_uint64(0x0bcd_91e5_cf42_afce)),
+    # 10^284
+    cst_array(943, cst_uint64(0xac28_20d9_623b_f429), cst_uint64(0x5463_45fa_9fbd_cd44), cst_uint64(0x4ec0_f65f_4313_5bc2)),
+    # 10^285
+    cst_array(946, cst_uint64(0xd732_290f_baca_f133), cst_uint64(0xa97c_1779_47ad_4095), cst_uint64(0x6271_33f7_13d8_32b2)),
+    # 10^286
+    cst_array(950, cst_uint64(0x867f_59a9_d4be_d6c0), cst_uint64(0x49ed_8eab_cccc_485d), cst_uint64(0x5d86_c07a_6c67_1faf)),
+    # 10^287
+    cst_array(953, cst_uint64(0xa81f_3014_49ee_8c70), cst_uint64(0x5c68_f256_bfff_5a74), cst_uint64(0xb4e8_7099_0780_e79b)),
+    # 10^288
+    cst_array(956, cst_uint64(0xd226_fc19_5c6a_2f8c), cst_uint64(0x7383_2eec_6fff_3111), cst_uint64(0xe222_8cbf_4961_2182)),
+    # 10^289
+    cst_array(960, cst_uint64(0x8358_5d8f_d9c2_5db7), cst_uint64(0xc831_fd53_c5ff_7eab), cst_uint64(0x2d55_97f7_8ddc_b4f1)),
+    # 10^290
+    cst_array(963, cst_uint64(0xa42e_74f3_d032_f525), cst_uint64(0xba3e_7ca8_b77f_5e55), cst_uint64(0xf8aa_fdf5_7153_e22d)),
+    # 10^291
+    cst_array(966, cst_uint64(0xcd3a_1230_c43f_b26f), cst_uint64(0x28ce_1bd2_e55f_35eb), cst_uint64(0x76d5_bd72_cda8_dab9)),
+    # 10^292
+    cst_array(970, cst_uint64(0x8044_4b5e_7aa7_cf85), cst_uint64(0x7980_d163_cf5b_81b3), cst_uint64(0x2a45_9667_c089_88b3)),
+    # 10^293
+    cst_array(973, cst_uint64(0xa055_5e36_1951_c366), cst_uint64(0xd7e1_05bc_c332_621f), cst_uint64(0xf4d6_fc01_b0ab_eae0)),
+    # 10^294
+    cst_array(976, cst_uint64(0xc86a_b5c3_9fa6_3440), cst_uint64(0x8dd9_472b_f3fe_faa7), cst_uint64(0xf20c_bb02_1cd6_e599)),
+    # 10^295
+    cst_array(979, cst_uint64(0xfa85_6334_878f_c150), cst_uint64(0xb14f_98f6_f0fe_b951), cst_uint64(0xee8f_e9c2_a40c_9eff)),
+    # 10^296
+    cst_array(983, cst_uint64(0x9c93_5e00_d4b9_d8d2), cst_uint64(0x6ed1_bf9a_569f_33d3), cst_uint64(0x3519_f219_a687_e35f)),
+    # 10^297
+    cst_array(986, cst_uint64(0xc3b8_3581_09e8_4f07), cst_uint64(0x0a86_2f80_ec47_00c8), cst_uint64(0x0260_6ea0_1029_dc37)),
+    # 10^298
+    cst_array(989, cst_uint64(0xf4a6_42e1_4c62_62c8), cst_uint64(0xcd27_bb61_2758_c0fa), cst_uint64(0x02f8_8a48_1434_5345)),
+    # 10^299
+    cst_array(993, cst_uint64(0x98e7_e9cc_cfbd_7dbd), cst_uint64(0x8038_d51c_b897_789c), cst_uint64(0x41db_566d_0ca0_b40b)),
+    # 10^300
+    cst_array(996, cst_uint64(0xbf21_e440_03ac_dd2c), cst_uint64(0xe047_0a63_e6bd_56c3), cst_uint64(0x5252_2c08_4fc8_e10e)),
+    # 10^301
+    cst_array(999, cst_uint64(0xeeea_5d50_0498_1478), cst_uint64(0x1858_ccfc_e06c_ac74), cst_uint64(0x26e6_b70a_63bb_1951)),
+    # 10^302
+    cst_array(1003, cst_uint64(0x9552_7a52_02df_0ccb), cst_uint64(0x0f37_801e_0c43_ebc8), cst_uint64(0x9850_3266_7e54_efd3)),
+    # 10^303
+    cst_array(1006, cst_uint64(0xbaa7_18e6_8396_cffd), cst_uint64(0xd305_6025_8f54_e6ba), cst_uint64(0xbe64_3f00_1dea_2bc7)),
+    # 10^304
+    cst_array(1009, cst_uint64(0xe950_df20_247c_83fd), cst_uint64(0x47c6_b82e_f32a_2069), cst_uint64(0x6dfd_4ec0_2564_b6b9)),
+    # 10^305
+    cst_array(1013, cst_uint64(0x91d2_8b74_16cd_d27e), cst_uint64(0x4cdc_331d_57fa_5441), cst_uint64(0xe4be_5138_175e_f234)),
+    # 10^306
+    cst_array(1016, cst_uint64(0xb647_2e51_1c81_471d), cst_uint64(0xe013_3fe4_adf8_e952), cst_uint64(0x5ded_e586_1d36_aec1)),
+    # 10^307
+    cst_array(1019, cst_uint64(0xe3d8_f9e5_63a1_98e5), cst_uint64(0x5818_0fdd_d977_23a6), cst_uint64(0xf569_5ee7_a484_5a71)),
+    # 10^308
+    cst_array(1023, cst_uint64(0x8e67_9c2f_5e44_ff8f), cst_uint64(0x570f_09ea_a7ea_7648), cst_uint64(0x5961_db50_c6d2_b886)),
+    # 10^309
+    cst_array(1026, cst_uint64(0xb201_833b_35d6_3f73), cst_uint64(0x2cd2_cc65_51e5_13da), cst_uint64(0x6fba_5224_f887_66a8)),
+    # 10^310
+    cst_array(1029, cst_uint64(0xde81_e40a_034b_cf4f), cst_uint64(0xf807_7f7e_a65e_58d1), cst_uint64(0x0ba8_e6ae_36a9_4052)),
+    # 10^311
+    cst_array(1033, cst_uint64(0x8b11_2e86_420f_6191), cst_uint64(0xfb04_afaf_27fa_f782), cst_uint64(0xa749_902c_e229_c833)),
+    # 10^312
+    cst_array(1036, cst_uint64(0xadd5_7a27_d293_39f6), cst_uint64(0x79c5_db9a_f1f9_b563), cst_uint64(0x511b_f438_1ab4_3a40)),
+    # 10^313
+    cst_array(1039, cst_uint64(0xd94a_d8b1_c738_0874), cst_uint64(0x1837_5281_ae78_22bc), cst_uint64(0x2562_f146_2161_48d0)),
+    # 10^314
+    cst_array(1043, cst_uint64(0x87ce_c76f_1c83_0548), cst_uint64(0x8f22_9391_0d0b_15b5), cst_uint64(0x975d_d6cb_d4dc_cd82)),
+    # 10^315
+    cst_array(1046, cst_uint64(0xa9c2_794a_e3a3_c69a), cst_uint64(0xb2eb_3875_504d_db22), cst_uint64(0xfd35_4c7e_ca14_00e3)),
+    # 10^316
+    cst_array(1049, cst_uint64(0xd433_179d_9c8c_b841), cst_uint64(0x5fa6_0692_a461_51eb), cst_uint64(0xbc82_9f9e_7c99_011b)),
+    # 10^317
+    cst_array(1053, cst_uint64(0x849f_eec2_81d7_f328), cst_uint64(0xdbc7_c41b_a6bc_d333), cst_uint64(0x55d1_a3c3_0ddf_a0b1)),
+    # 10^318
+    cst_array(1056, cst_uint64(0xa5c7_ea73_224d_eff3), cst_uint64(0x12b9_b522_906c_0800), cst_uint64(0x2b46_0cb3_d157_88dd)),
+    # 10^319
+    cst_array(1059, cst_uint64(0xcf39_e50f_eae1_6bef), cst_uint64(0xd768_226b_3487_0a00), cst_uint64(0x3617_8fe0_c5ad_6b15)),
+    # 10^320
+    cst_array(1063, cst_uint64(0x8184_2f29_f2cc_e375), cst_uint64(0xe6a1_1583_00d4_6640), cst_uint64(0x21ce_b9ec_7b8c_62ed)),
+    # 10^321
+    cst_array(1066, cst_uint64(0xa1e5_3af4_6f80_1c53), cst_uint64(0x6049_5ae3_c109_7fd0), cst_uint64(0x2a42_6867_9a6f_7ba8)),
+    # 10^322
+    cst_array(1069, cst_uint64(0xca5e_89b1_8b60_2368), cst_uint64(0x385b_b19c_b14b_dfc4), cst_uint64(0x34d3_0281_810b_5a92)),
+    # 10^323
+    cst_array(1072, cst_uint64(0xfcf6_2c1d_ee38_2c42), cst_uint64(0x4672_9e03_dd9e_d7b5), cst_uint64(0x4207_c321_e14e_3137)),
+    # 10^324
+    cst_array(1076, cst_uint64(0x9e19_db92_b4e3_1ba9), cst_uint64(0x6c07_a2c2_6a83_46d1), cst_uint64(0x4944_d9f5_2cd0_dec2)),
+    # 10^325
+    cst_array(1079, cst_uint64(0xc5a0_5277_621b_e293), cst_uint64(0xc709_8b73_0524_1885), cst_uint64(0x9b96_1072_7805_1673)),
+    # 10^326
+    cst_array(1082, cst_uint64(0xf708_6715_3aa2_db38), cst_uint64(0xb8cb_ee4f_c66d_1ea7), cst_uint64(0x027b_948f_1606_5c10)),
+    # 10^327
+    cst_array(1086, cst_uint64(0x9a65_406d_44a5_c903), cst_uint64(0x737f_74f1_dc04_3328), cst_uint64(0x618d_3cd9_6dc3_f98a)),
+    # 10^328
+    cst_array(1089, cst_uint64(0xc0fe_9088_95cf_3b44), cst_uint64(0x505f_522e_5305_3ff2), cst_uint64(0x79f0_8c0f_c934_f7ec)),
+    # 10^329
+    cst_array(1092, cst_uint64(0xf13e_34aa_bb43_0a15), cst_uint64(0x6477_26b9_e7c6_8fef), cst_uint64(0x186c_af13_bb82_35e7)),
+    # 10^330
+    cst_array(1096, cst_uint64(0x96c6_e0ea_b509_e64d), cst_uint64(0x5eca_7834_30dc_19f5), cst_uint64(0x6f43_ed6c_5531_61b0)),
+    # 10^331
+    cst_array(1099, cst_uint64(0xbc78_9925_624c_5fe0), cst_uint64(0xb67d_1641_3d13_2072), cst_uint64(0xcb14_e8c7_6a7d_ba1d)),
+    # 10^332
+    cst_array(1102, cst_uint64(0xeb96_bf6e_badf_77d8), cst_uint64(0xe41c_5bd1_8c57_e88f), cst_uint64(0x7dda_22f9_451d_28a4)),
+    # 10^333
+    cst_array(1106, cst_uint64(0x933e_37a5_34cb_aae7), cst_uint64(0x8e91_b962_f7b6_f159), cst_uint64(0xaea8_55db_cb32_3966)),
+    # 10^334
+    cst_array(1109, cst_uint64(0xb80d_c58e_81fe_95a1), cst_uint64(0x7236_27bb_b5a4_adb0), cst_uint64(0x1a52_6b52_bdfe_c7c0)),
+    # 10^335
+    cst_array(1112, cst_uint64(0xe611_36f2_227e_3b09), cst_uint64(0xcec3_b1aa_a30d_d91c), cst_uint64(0x20e7_0627_6d7e_79b0)),
+    # 10^336
+    cst_array(1116, cst_uint64(0x8fca_c257_558e_e4e6), cst_uint64(0x213a_4f0a_a5e8_a7b1), cst_uint64(0x9490_63d8_a46f_0c0e)),
+    # 10^337
+    cst_array(1119, cst_uint64(0xb3bd_72ed_2af2_9e1f), cst_uint64(0xa988_e2cd_4f62_d19d), cst_uint64(0xf9b4_7cce_cd8a_cf11)),
+    # 10^338
+    cst_array(1122, cst_uint64(0xe0ac_cfa8_75af_45a7), cst_uint64(0x93eb_1b80_a33b_8605), cst_uint64(0x7821_9c02_80ed_82d6)),
+    # 10^339
+    cst_array(1126, cst_uint64(0x8c6c_01c9_498d_8b88), cst_uint64(0xbc72_f130_6605_33c3), cst_uint64(0x6b15_0181_9094_71c5)),
+    # 10^340
+    cst_array(1129, cst_uint64(0xaf87_023b_9bf0_ee6a), cst_uint64(0xeb8f_ad7c_7f86_80b4), cst_uint64(0x45da_41e1_f4b9_8e37)),
+    # 10^341
+    cst_array(1132, cst_uint64(0xdb68_c2ca_82ed_2a05), cst_uint64(0xa673_98db_9f68_20e1), cst_uint64(0x5750_d25a_71e7_f1c5)),
+    # 10^342
+    cst_array(1136, cst_uint64(0x8921_79be_91d4_3a43), cst_uint64(0x8808_3f89_43a1_148c), cst_uint64(0xd692_8378_8730_f71b)),
+    # 10^343
+    cst_array(1139, cst_uint64(0xab69_d82e_3649_48d4), cst_uint64(0x6a0a_4f6b_9489_59b0), cst_uint64(0x0c37_2456_a8fd_34e2)),
+    # 10^344
+    cst_array(1142, cst_uint64(0xd644_4e39_c3db_9b09), cst_uint64(0x848c_e346_79ab_b01c), cst_uint64(0x0f44_ed6c_533c_821a)),
+    # 10^345
+    cst_array(1146, cst_uint64(0x85ea_b0e4_1a69_40e5), cst_uint64(0xf2d8_0e0c_0c0b_4e11), cst_uint64(0x898b_1463_b405_d150)),
+    # 10^346
+    cst_array(1149, cst_uint64(0xa765_5d1d_2103_911f), cst_uint64(0x6f8e_118f_0f0e_2195), cst_uint64(0xebed_d97c_a107_45a4)),
+    # 10^347
+    cst_array(1152, cst_uint64(0xd13e_b464_6944_7567), cst_uint64(0x4b71_95f2_d2d1_a9fb), cst_uint64(0x66e9_4fdb_c949_170e)),
+    # 10^348
+    cst_array(1156, cst_uint64(0x82c7_30be_c1ca_c960), cst_uint64(0x8f26_fdb7_c3c3_0a3d), cst_uint64(0x2051_d1e9_5dcd_ae68)),
+    # 10^349
+    cst_array(1159, cst_uint64(0xa378_fcee_723d_7bb8), cst_uint64(0xb2f0_bd25_b4b3_cccc), cst_uint64(0x6866_4663_b541_1a03)),
+    # 10^350
+    cst_array(1162, cst_uint64(0xcc57_3c2a_0ecc_daa6), cst_uint64(0xdfac_ec6f_21e0_bfff), cst_uint64(0x827f_d7fc_a291_6083)),
+    # 10^351
+    cst_array(1165, cst_uint64(0xff6d_0b34_9280_1150), cst_uint64(0x9798_278a_ea58_efff), cst_uint64(0x631f_cdfb_cb35_b8a4)),
+    # 10^352
+    cst_array(1169, cst_uint64(0x9fa4_2700_db90_0ad2), cst_uint64(0x5ebf_18b6_d277_95ff), cst_uint64(0x9df3_e0bd_5f01_9366)),
+    # 10^353
+    cst_array(1172, cst_uint64(0xc78d_30c1_1274_0d86), cst_uint64(0xf66e_dee4_8715_7b7f), cst_uint64(0x8570_d8ec_b6c1_f840)),
+    # 10^354
+    cst_array(1175, cst_uint64(0xf970_7cf1_5711_10e8), cst_uint64(0xb40a_969d_a8da_da5f), cst_uint64(0x66cd_0f27_e472_7650)),
+    # 10^355
+    cst_array(1179, cst_uint64(0x9be6_4e16_d66a_aa91), cst_uint64(0x7086_9e22_8988_c87b), cst_uint64(0xa040_2978_eec7_89f2)),
+    # 10^356
+    cst_array(1182, cst_uint64(0xc2df_e19c_8c05_5535), cst_uint64(0xcca8_45ab_2bea_fa9a), cst_uint64(0x8850_33d7_2a79_6c6f)),
+    # 10^357
+    cst_array(1185, cst_uint64(0xf397_da03_af06_aa83), cst_uint64(0x3fd2_5715_f6e5_b941), cst_uint64(0x2a64_40cc_f517_c78a)),
+    # 10^358
+    cst_array(1189, cst_uint64(0x983e_e842_4d64_2a92), cst_uint64(0x07e3_766d_ba4f_93c8), cst_uint64(0xba7e_a880_192e_dcb6)),
+    # 10^359
+    cst_array(1192, cst_uint64(0xbe4e_a252_e0bd_3536), cst_uint64(0x89dc_5409_28e3_78ba), cst_uint64(0xe91e_52a0_1f7a_93e4)),
+    # 10^360
+    cst_array(1195, cst_uint64(0xede2_4ae7_98ec_8284), cst_uint64(0x2c53_690b_731c_56e9), cst_uint64(0xa365_e748_2759_38dd)),
+    # 10^361
+    cst_array(1199, cst_uint64(0x94ad_6ed0_bf93_d192), cst_uint64(0x9bb4_21a7_27f1_b652), cst_uint64(0x061f_b08d_1897_c38a)),
+    # 10^362
+    cst_array(1202, cst_uint64(0xb9d8_ca84_ef78_c5f7), cst_uint64(0x42a1_2a10_f1ee_23e6), cst_uint64(0x87a7_9cb0_5ebd_b46d)),
+    # 10^363
+    cst_array(1205, cst_uint64(0xe84e_fd26_2b56_f775), cst_uint64(0x1349_7495_2e69_ace0), cst_uint64(0x2991_83dc_766d_2188)),
+    # 10^364
+    cst_array(1209, cst_uint64(0x9131_5e37_db16_5aa9), cst_uint64(0x2c0d_e8dd_3d02_0c0c), cst_uint64(0x19fa_f269_ca04_34f5)),
+    # 10^365
+    cst_array(1212, cst_uint64(0xb57d_b5c5_d1db_f153), cst_uint64(0x7711_6314_8c42_8f0f), cst_uint64(0x2079_af04_3c85_4232)),
+    # 10^366
+    cst_array(1215, cst_uint64(0xe2dd_2337_4652_eda8), cst_uint64(0x54d5_bbd9_af53_32d2), cst_uint64(0xe898_1ac5_4ba6_92bf)),
+    # 10^367
+    cst_array(1219, cst_uint64(0x8dca_3602_8bf3_d489), cst_uint64(0x3505_9568_0d93_ffc3), cst_uint64(0xd15f_10bb_4f48_1bb7)),
+    # 10^368
+    cst_array(1222, cst_uint64(0xb13c_c383_2ef0_c9ab), cst_uint64(0x8246_fac2_10f8_ffb4), cst_uint64(0xc5b6_d4ea_231a_22a5)),
+    # 10^369
+    cst_array(1225, cst_uint64(0xdd8b_f463_faac_fc16), cst_uint64(0x62d8_b972_9537_3fa1), cst_uint64(0xf724_8a24_abe0_ab4e)),
+    # 10^370
+    cst_array(1229, cst_uint64(0x8a77_78be_7cac_1d8d), cst_uint64(0xfdc7_73e7_9d42_87c5), cst_uint64(0x3a76_d656_eb6c_6b11)),
+    # 10^371
+    cst_array(1232, cst_uint64(0xad15_56ee_1bd7_24f1), cst_uint64(0x7d39_50e1_8493_29b6), cst_uint64(0x8914_8bec_a647_85d5)),
+    # 10^372
+    cst_array(1235, cst_uint64(0xd85a_aca9_a2cc_ee2d), cst_uint64(0xdc87_a519_e5b7_f424), cst_uint64(0x2b59_aee7_cfd9_674a)),
+    # 10^373
+    cst_array(1239, cst_uint64(0x8738_abea_05c0_14dc), cst_uint64(0xa9d4_c730_2f92_f896), cst_uint64(0x9b18_0d50_e1e7_e08e)),
+    # 10^374
+    cst_array(1242, cst_uint64(0xa906_d6e4_8730_1a13), cst_uint64(0xd449_f8fc_3b77_b6bc), cst_uint64(0x41de_10a5_1a61_d8b2)),
+    # 10^375
+    cst_array(1245, cst_uint64(0xd348_8c9d_a8fc_2098), cst_uint64(0xc95c_773b_4a55_a46b), cst_uint64(0x5255_94ce_60fa_4edf)),
+    # 10^376
+    cst_array(1249, cst_uint64(0x840d_57e2_899d_945f), cst_uint64(0x7dd9_ca85_0e75_86c3), cst_uint64(0x1375_7d00_fc9c_714b)),
+    # 10^377
+    cst_array(1252, cst_uint64(0xa510_addb_2c04_f977), cst_uint64(0x5d50_3d26_5212_e873), cst_uint64(0xd852_dc41_3bc3_8d9e)),
+    # 10^378
+    cst_array(1255, cst_uint64(0xce54_d951_f706_37d5), cst_uint64(0x34a4_4c6f_e697_a290), cst_uint64(0xce67_9351_8ab4_7105)),
+    # 10^379
+    cst_array(1259, cst_uint64(0x80f5_07d3_3a63_e2e5), cst_uint64(0x40e6_afc5_f01e_c59a), cst_uint64(0x8100_bc12_f6b0_c6a3)),
+    # 10^380
+    cst_array(1262, cst_uint64(0xa132_49c8_08fc_db9e), cst_uint64(0x9120_5bb7_6c26_7701), cst_uint64(0x2140_eb17_b45c_f84c)),
+    # 10^381
+    cst_array(1265, cst_uint64(0xc97e_dc3a_0b3c_1286), cst_uint64(0x3568_72a5_4730_14c1), cst_uint64(0x6991_25dd_a174_365f)),
+    # 10^382
+    cst_array(1268, cst_uint64(0xfbde_9348_8e0b_1727), cst_uint64(0xc2c2_8f4e_98fc_19f1), cst_uint64(0xc3f5_6f55_09d1_43f7)),
+    # 10^383
+    cst_array(1272, cst_uint64(0x9d6b_1c0d_58c6_ee78), cst_uint64(0xd9b9_9991_1f9d_9037), cst_uint64(0x1a79_6595_2622_ca7a)),
+    # 10^384
+    cst_array(1275, cst_uint64(0xc4c5_e310_aef8_aa17), cst_uint64(0x1027_fff5_6784_f444), cst_uint64(0xe117_befa_6fab_7d19)),
+    # 10^385
+    cst_array(1278, cst_uint64(0xf5f7_5bd4_dab6_d49c), cst_uint64(0xd431_fff2_c166_3156), cst_uint64(0x195d_aeb9_0b96_5c60)),
+    # 10^386
+    cst_array(1282, cst_uint64(0x99ba_9965_08b2_44e2), cst_uint64(0x049f_3ff7_b8df_ded5), cst_uint64(0xcfda_8d33_a73d_f9bc)),
+    # 10^387
+    cst_array(1285, cst_uint64(0xc029_3fbe_4ade_d61a), cst_uint64(0x85c7_0ff5_a717_d68b), cst_uint64(0x43d1_3080_910d_782b)),
+    # 10^388
+    cst_array(1288, cst_uint64(0xf033_8fad_dd96_8ba1), cst_uint64(0x2738_d3f3_10dd_cc2e), cst_uint64(0x14c5_7ca0_b550_d635)),
+    # 10^389
+    cst_array(1292, cst_uint64(0x9620_39cc_aa7e_1744), cst_uint64(0xb883_8477_ea8a_9f9c), cst_uint64(0xccfb_6de4_7152_85e1)),
+    # 10^390
+    cst_array(1295, cst_uint64(0xbba8_483f_d51d_9d15), cst_uint64(0xe6a4_6595_e52d_4784), cst_uint64(0x003a_495d_8da7_275a)),
+    # 10^391
+    cst_array(1298, cst_uint64(0xea92_5a4f_ca65_045b), cst_uint64(0x604d_7efb_5e78_9965), cst_uint64(0x0048_dbb4_f110_f130)),
+    # 10^392
+    cst_array(1302, cst_uint64(0x929b_7871_de7f_22b9), cst_uint64(0x1c30_6f5d_1b0b_5fdf), cst_uint64(0x202d_8951_16aa_96be)),
+    # 10^393
+    cst_array(1305, cst_uint64(0xb742_568e_561e_eb67), cst_uint64(0x633c_8b34_61ce_37d6), cst_uint64(0xe838_eba5_5c55_3c6d)),
+    # 10^394
+    cst_array(1308, cst_uint64(0xe512_ec31_eba6_a641), cst_uint64(0x3c0b_ae01_7a41_c5cc), cst_uint64(0xa247_268e_b36a_8b89)),
+    # 10^395
+    cst_array(1312, cst_uint64(0x8f2b_d39f_3348_27e8), cst_uint64(0xc587_4cc0_ec69_1b9f), cst_uint64(0xe56c_7819_3022_9735)),
+    # 10^396
+    cst_array(1315, cst_uint64(0xb2f6_c887_001a_31e2), cst_uint64(0xf6e9_1ff1_2783_6287), cst_uint64(0xdec7_961f_7c2b_3d03)),
+    # 10^397
+    cst_array(1318, cst_uint64(0xdfb4_7aa8_c020_be5b), cst_uint64(0xb4a3_67ed_7164_3b29), cst_uint64(0xd679_7ba7_5b36_0c44)),
+    # 10^398
+    cst_array(1322, cst_uint64(0x8bd0_cca9_7814_76f9), cst_uint64(0x50e6_20f4_66de_a4fa), cst_uint64(0x260b_ed48_9901_c7aa)),
+    # 10^399
+    cst_array(1325, cst_uint64(0xaec4_ffd3_d619_94b7), cst_uint64(0xa51f_a931_8096_4e38), cst_uint64(0xaf8e_e89a_bf42_3995)),
+    # 10^400
+    cst_array(1328, cst_uint64(0xda76_3fc8_cb9f_f9e5), cst_uint64(0x8e67_937d_e0bb_e1c6), cst_uint64(0xdb72_a2c1_6f12_c7fa)))
+
 
   # Buffers used internally
   # The order of words in the arrays is big-endian: the highest part is in buff[0] (in buff[1] for
@@ -306,16 +1923,22 @@ dnl  limitations under the License.
     uint64_array(buffer6x32C, 6)
     uint64_array(buffer12x32, 12)
 
-  def_fn(ret_void, parse, digits_decl(digits), int32_decl(exp10))
-    exp10 += array_len(digits) - 1; # digits is viewed as x.yyy below.
+  # Parses the first length decimal digits of digits, multiplied by 10^exp10. Only length digits
+  # are read, and digits is not modified, so a caller can reuse a larger buffer across calls.
+  def_fn(ret_void, parse, digits_decl(digits), int32_decl(length), int32_decl(exp10))
     field(exponent) = 0;
     field(mantHi) = cst_uint64(0);
     field(mantLo) = cst_uint64(0);
     field(rounding) = 0;
 
+    c_if(fn(parseShort)(digits, length, exp10))
+      return;
+    c_end
+    exp10 += length - 1; # digits is viewed as x.yyy below.
+
     # Finds numeric value of the decimal mantissa
     let(uint64_array_decl(mantissa, 6)) = field(buffer6x32C);
-    let(int32_decl(exp10Corr)) = fn(parseMantissa)(digits, mantissa);
+    let(int32_decl(exp10Corr)) = fn(parseMantissa)(digits, length, mantissa);
 
     c_if(exp10Corr == 0 c_and fn(isEmpty)(mantissa))
       # Mantissa == 0
@@ -334,11 +1957,137 @@ dnl  limitations under the License.
       return;
     c_end
 
+    c_if(fn(multiplyByPowerOf10)(exp10, mantissa))
+      return;
+    c_end
+
     let(double_decl(exp2)) = fn(findBinaryExponent)(exp10, mantissa);
     # Finds binary mantissa and possible exponent correction. Fills the fields.
     fn(findBinaryMantissa)(exp10, exp2, mantissa);
   c_end
 
+  # Handles the common case of a mantissa with at most MAX_SHORT_MANTISSA_LENGTH significant
+  # digits, multiplied by a power of ten in POWERS_OF_10. The mantissa then fits in 64 bits, and a
+  # single multiplication by the 192-bit power of ten gives the binary mantissa with an error of at
+  # most 4 lsbs of its 192 bits. This is rounded exactly like the result of the general algorithm,
+  # unless bits 128..159 show it is within 2^32 lsbs of a rounding boundary (or of an exact value),
+  # in which case the error of up to MAX_ERROR of the general algorithm may decide the result.
+  # @param digits the decimal digits
+  # @param length the number of digits to use
+  # @param exp10 the decimal exponent of the last digit
+  # @return true if the fields were set, false if the general algorithm is needed
+  def_fn(ret_bool, parseShort, digits_decl(digits), int32_decl(length), int32_decl(exp10))
+    let(int32_decl(firstDigit)) = 0;
+    c_while(firstDigit < length c_and digits[firstDigit] == 0)
+      firstDigit += 1;
+    c_end
+    c_if(firstDigit == length)
+      return true; # Zero
+    c_end
+    let(int32_decl(lastDigit)) = length;
+    c_while(digits[lastDigit - 1] == 0) # Trailing zeroes only change the exponent
+      lastDigit -= 1;
+      exp10 += 1;
+    c_end
+    c_if(lastDigit - firstDigit > cst(MAX_SHORT_MANTISSA_LENGTH))
+      return false;
+    c_end
+    c_if(exp10 < cst(MIN_POWER_OF_10))
+      return false;
+    c_end
+    c_if(exp10 > cst(MAX_POWER_OF_10))
+      return false;
+    c_end
+
+    let(uint64_decl(mant)) = cst_uint64(0);
+    c_for_range(i, firstDigit, lastDigit)
+      let(uint64_decl(digit)) = to_uint64(digits[i]) & cst_uint64(0xFF);
+      c_if(digit > cst_uint64(9))
+        # Not a decimal digit (such as the Java Character.isDigit digits outside ASCII): keep the
+        # result of the general algorithm, whatever it is
+        return false;
+      c_end
+      mant = mant * cst_uint64(10) + digit;
+    c_end
+    # Left-justify the mantissa, and unpack it as the 64 most significant bits of a 192-bit value
+    let(int32_decl(shift)) = f_number_of_leading_zeros(mant);
+    mant = wrap_uint64(mant << to_uint64(shift));
+    let(uint64_array_decl(mantissa, 6)) = field(buffer6x32C);
+    mantissa[0] = lsr(mant, cst_uint64(32));
+    mantissa[1] = mant & cst(LOWER_32_BITS);
+    c_for_range(i, 2, 6)
+      mantissa[i] = cst_uint64(0);
+    c_end
+
+    # The value is mant * 2^-shift * power[1..3] * 2^(power[0] - 191), where mant is in [2^63, 2^64)
+    # and power[1..3] in [2^191, 2^192)
+    let(bool_decl(exactPower)) = exp10 >= 0 c_and exp10 <= cst(MAX_EXACT_POWER_OF_10);
+    return fn(roundPowerOf10Product)(mantissa, exp10, 65 - shift, exactPower);
+  c_end
+
+  # Handles a mantissa with more than MAX_SHORT_MANTISSA_LENGTH digits multiplied by a power of ten
+  # in POWERS_OF_10, like parseShort: the 192-bit mantissa computed by parseMantissa (with an error
+  # of about one lsb) is multiplied by the 192-bit power of ten, which replaces the approximation of
+  # the binary exponent with logarithms and the multiplications by powers of two of
+  # findBinaryMantissa. The result is rounded exactly like the result of findBinaryMantissa unless it
+  # is within 2^32 lsbs of a rounding boundary.
+  # @param exp10 the decimal exponent, the mantissa being in the x.yyy form
+  # @param mantissa the decimal mantissa divided by ten, as computed by parseMantissa; not modified
+  # @return true if the fields were set, false if findBinaryMantissa is needed
+  def_fn(ret_bool, multiplyByPowerOf10, int32_decl(exp10), uint64_array_decl(mantissa, 6))
+    # The mantissa is x.yyy / 10
+    let(int32_decl(exp)) = exp10 + 1;
+    c_if(exp < cst(MIN_POWER_OF_10))
+      return false;
+    c_end
+    c_if(exp > cst(MAX_POWER_OF_10))
+      return false;
+    c_end
+    # The value is mantissa * 2^-192 * power[1..3] * 2^(power[0] - 191). The mantissa is not exact
+    # in general.
+    return fn(roundPowerOf10Product)(mantissa, exp, 1, false);
+  c_end
+
+  # Multiplies the unpacked mantissa by 10^exp10 from POWERS_OF_10, and rounds the product to the
+  # fields with roundProduct, unless bits 128..159 of the normalized product show that the errors of
+  # the product (of a few lsbs) or of the general algorithm (of up to MAX_ERROR lsbs) could decide
+  # the rounding: the product is then within 2^32 lsbs of a rounding boundary, or of an exact value
+  # which is only accepted when it is known to be exact.
+  # @param mantissa the unpacked mantissa, not modified
+  # @param exp10 the decimal exponent, in [MIN_POWER_OF_10, MAX_POWER_OF_10]
+  # @param expCorr the binary exponent of the product, before normalization, minus power[0]
+  # @param exactPower true if the mantissa and 10^exp10 are exact
+  # @return true if the fields were set, false if the general algorithm is needed
+  def_fn(ret_bool, roundPowerOf10Product, uint64_array_decl(mantissa, 6), int32_decl(exp10), int32_decl(expCorr), bool_decl(exactPower))
+    let(uint64_array_decl(power, 4)) = cst(POWERS_OF_10)[exp10 - cst(MIN_POWER_OF_10)];
+    let(uint64_array_decl(product, 12)) = field(buffer12x32);
+    fn(multUnpacked6x32byPacked)(mantissa, power, product);
+    expCorr += fn(normalizeMant)(product);
+
+    c_if(product[4] == cst_uint64(0))
+      c_if(c_not(exactPower))
+        return false;
+      c_end
+      c_for_range(i, 5, array_len(product))
+        c_if(product[i] != cst_uint64(0))
+          return false;
+        c_end
+      c_end
+      # Exact
+    c_end
+    c_if(product[4] == cst_uint64(0x7FFF_FFFF))
+      return false;
+    c_end
+    c_if(product[4] == cst_uint64(0x8000_0000))
+      return false;
+    c_end
+    c_if(product[4] == cst(LOWER_32_BITS))
+      return false;
+    c_end
+    fn(roundProduct)(to_double(wrap_uint64(power[0] + to_uint64(cst(EXPONENT_BIAS)))) + to_double(expCorr), product);
+    return true;
+  c_end
+
   # There are doubles D and Decimal128 numbers M with M != D that have the same Quadruple
   # representation (example: D = 0.5 + 15877 * 2^-53, M = Decimal128.fromDouble(D)). To
   # allow correct comparison results of doubles and Decimal128 using Quadruple, this
@@ -380,39 +2129,49 @@ dnl  limitations under the License.
     c_end
   c_end
 
-  def_fn(ret_int32, parseMantissa, digits_decl(digits), uint64_array_decl(mantissa, 6))
+  def_fn(ret_int32, parseMantissa, digits_decl(digits), int32_decl(length), uint64_array_decl(mantissa, 6))
     c_for_range(i, 0, 6)
       mantissa[i] = cst_uint64(0);
     c_end
 
     # Skip leading zeroes
     let(int32_decl(firstDigit)) = 0;
-    c_while(firstDigit < array_len(digits) c_and digits[firstDigit] == 0)
+    c_while(firstDigit < length c_and digits[firstDigit] == 0)
       firstDigit += 1;
     c_end
-    c_if(firstDigit == array_len(digits))
+    c_if(firstDigit == length)
       return 0; # All zeroes
     c_end
     let(int32_decl(expCorr)) = -firstDigit;
 
     # Limit the string length to avoid unnecessary fuss
-    c_if(array_len(digits) - firstDigit > cst(MAX_MANTISSA_LENGTH))
-      let(bool_decl(carry)) = digits[cst(MAX_MANTISSA_LENGTH)] >= 5; # The highest digit to be truncated
+    let(int32_decl(lastDigit)) = length;
+    let(bool_decl(carry)) = false;
+    c_if(length - firstDigit > cst(MAX_MANTISSA_LENGTH))
+      carry = digits[cst(MAX_MANTISSA_LENGTH)] >= 5; # The highest digit to be truncated
+      lastDigit = firstDigit + cst(MAX_MANTISSA_LENGTH);
+    c_end
 
-      new_digit_array(truncated, cst(MAX_MANTISSA_LENGTH));
-      c_for_range(i, 0, cst(MAX_MANTISSA_LENGTH))
-        truncated[i] = digits[i + firstDigit];
-      c_end
-      c_if(carry) # Round-up: add carry
-        expCorr += fn(addCarry)(truncated); # May add an extra digit in front of it (99..99 -> 100)
+    # Round-up: the carry is added to the digits as they are consumed, rather than to a truncated
+    # copy of them
+    c_for_range_down(i, lastDigit, firstDigit) # digits, starting from the last
+      let(uint64_decl(digit)) = to_uint64(digits[i]);
+      c_if(carry)
+        c_if(digit == cst_uint64(9))
+          digit = cst_uint64(0);
+        c_else
+          digit += cst_uint64(1);
+          carry = false;
+        c_end
       c_end
-      digits = truncated;
-      firstDigit = 0;
+      mantissa[0] |= digit << cst_uint64(32);
+      fn(divBuffBy10)(mantissa);
     c_end
-
-    c_for_range_down(i, array_len(digits), firstDigit) # digits, starting from the last
-      mantissa[0] |= to_uint64(digits[i]) << cst_uint64(32);
+    c_if(carry)
+      # All the digits were 9 - the carry adds an extra digit in front of them (99..99 -> 100..00)
+      mantissa[0] |= cst_uint64(1) << cst_uint64(32);
       fn(divBuffBy10)(mantissa);
+      expCorr += 1;
     c_end
     return expCorr;
   c_end
@@ -443,24 +2202,6 @@ dnl  limitations under the License.
     return true;
   c_end
 
-  # Adds one to a decimal number represented as a sequence of decimal digits. propagates carry as
-  # needed, so that {@code addCarryTo("6789") = "6790", addCarryTo("9999") = "10000"} etc.
-  # @return 1 if an additional higher "1" was added in front of the number as a result of
-  #     rounding-up, 0 otherwise
-  def_fn(ret_int32, addCarry, digits_decl(digits))
-    c_for_range_down(i, array_len(digits), 0) # starting with the lowest digit
-      let(digit_decl(c)) = digits[i];
-      c_if(c == 9)
-        digits[i] = 0;
-      c_else
-        digits[i] = to_digit(digits[i] + 1);
-        return 0;
-      c_end
-    c_end
-    digits[0] = 1;
-    return 1;
-  c_end
-
   # Finds binary exponent, using decimal exponent and mantissa.<br>
   # exp2 = exp10 * log<sub>2</sub>(10) + log<sub>2</sub>(mant)<br>
   # @param exp10 decimal exponent
@@ -500,7 +2241,13 @@ dnl  limitations under the License.
     # compensate possible inaccuracy of logarithms used to compute exp2
     exp2 += fn(normalizeMant)(product);
     exp2 += cst(EXPONENT_BIAS); # add bias
+    fn(roundProduct)(exp2, product);
+  c_end
 
+  # Rounds the normalized product to 128 bits and fills the fields.
+  # @param exp2 the biased binary exponent of the product
+  # @param product the unpacked and normalized product, 192 bits of which are used
+  def_fn(ret_void, roundProduct, double_decl(exp2), uint64_array_decl(product, 12))
     # For subnormal values, exp2 <= 0. We just return 0 for them, as they are
     # far from any range we are interested in.
     c_if(exp2 <= 0)
@@ -34,6 +34,16 @@ namespace cloud_datastore {
   // 2^192 = 6.277e57, so the 58-th digit after point may affect the result
   static constexpr int32_t MAX_MANTISSA_LENGTH = 59;
 
+  // 10^19 < 2^64, so a decimal mantissa of up to 19 significant digits fits in 64 bits
+  static constexpr int32_t MAX_SHORT_MANTISSA_LENGTH = 19;
+
+  // The range of decimal exponents in POWERS_OF_10
+  static constexpr int32_t MIN_POWER_OF_10 = -400;
+  static constexpr int32_t MAX_POWER_OF_10 = 400;
+
+  // 5^82 < 2^192, so the entries of POWERS_OF_10 for 0 <= e <= 82 are exact
+  static constexpr int32_t MAX_EXACT_POWER_OF_10 = 82;
+
   // Max value of the decimal exponent, corresponds to EXPONENT_OF_MAX_VALUE
   static constexpr int32_t MAX_EXP10 = 646456993;
 
@@ -265,6 +275,812 @@ namespace cloud_datastore {
     // 0.56766155260037313438164181629489689531186932477276639365773003794e-646456993
      {{ static_cast<uint64_t>(-646456993),0x9152447b9d7cda9aLL,0x3b4d3f6110d77aadLL,0xfa81bad1c394adb4LL }} }};
 
+  // An array of powers of ten, from 10^MIN_POWER_OF_10 to 10^MAX_POWER_OF_10. Each value consists
+  // of 4 longs: binary exponent and 3 x 64 bits of mantissa, including the leading 1 and truncated,
+  // so that 10^e ~= mantissa * 2^(exponent - 191). Used by parseShort and multiplyByPowerOf10.
+  static std::array<std::array<uint64_t, 4>, 801> POWERS_OF_10 = {{ // 10^-400
+     {{ static_cast<uint64_t>(-1329),0x95fe7e07c91efafaLL,0x3931b850df08e738LL,0x65f24b6963ae1e57LL }},// 10^-399
+     {{ static_cast<uint64_t>(-1326),0xbb7e1d89bb66b9b8LL,0xc77e266516cb2106LL,0x7f6ede43bc99a5edLL }},// 10^-398
+     {{ static_cast<uint64_t>(-1323),0xea5da4ec2a406826LL,0xf95daffe5c7de948LL,0x1f4a95d4abc00f68LL }},// 10^-397
+     {{ static_cast<uint64_t>(-1319),0x927a87139a684118LL,0x5bda8dfef9ceb1cdLL,0x138e9da4eb5809a1LL }},// 10^-396
+     {{ static_cast<uint64_t>(-1316),0xb71928d88102515eLL,0x72d1317eb8425e40LL,0x5872450e262e0c09LL }},// 10^-395
+     {{ static_cast<uint64_t>(-1313),0xe4df730ea142e5b6LL,0x0f857dde6652f5d0LL,0x6e8ed651afb98f0cLL }},// 10^-394
+     {{ static_cast<uint64_t>(-1309),0x8f0ba7e924c9cf91LL,0xc9b36eaafff3d9a2LL,0x451945f30dd3f967LL }},// 10^-393
+     {{ static_cast<uint64_t>(-1306),0xb2ce91e36dfc4376LL,0x3c204a55bff0d00aLL,0xd65f976fd148f7c1LL }},// 10^-392
+     {{ static_cast<uint64_t>(-1303),0xdf82365c497b5453LL,0xcb285ceb2fed040dLL,0x8bf77d4bc59b35b1LL }},// 10^-391
+     {{ static_cast<uint64_t>(-1299),0x8bb161f9aded14b4LL,0x5ef93a12fdf42288LL,0x777aae4f5b81018fLL }},// 10^-390
+     {{ static_cast<uint64_t>(-1296),0xae9dba78196859e1LL,0x76b78897bd712b2aLL,0x955959e3326141f2LL }},// 10^-389
+     {{ static_cast<uint64_t>(-1293),0xda4529161fc27059LL,0xd4656abdaccd75f5LL,0x3aafb05bfef9926fLL }},// 10^-388
+     {{ static_cast<uint64_t>(-1289),0x886b39add3d98638LL,0x24bf62b68c0069b9LL,0x44adce397f5bfb85LL }},// 10^-387
+     {{ static_cast<uint64_t>(-1286),0xaa86081948cfe7c6LL,0x2def3b642f008427LL,0x95d941c7df32fa67LL }},// 10^-386
+     {{ static_cast<uint64_t>(-1283),0xd5278a1f9b03e1b7LL,0xb96b0a3d3ac0a531LL,0x7b4f9239d6ffb901LL }},// 10^-385
+     {{ static_cast<uint64_t>(-1279),0x8538b653c0e26d12LL,0xd3e2e66644b8673eLL,0xed11bb64265fd3a0LL }},// 10^-384
+     {{ static_cast<uint64_t>(-1276),0xa686e3e8b11b0857LL,0x88db9fffd5e6810eLL,0xa8562a3d2ff7c888LL }},// 10^-383
+     {{ static_cast<uint64_t>(-1273),0xd0289ce2dd61ca6dLL,0x6b1287ffcb602152LL,0x526bb4cc7bf5baabLL }},// 10^-382
+     {{ static_cast<uint64_t>(-1269),0x8219620dca5d1e84LL,0x62eb94ffdf1c14d3LL,0x738350ffcd7994aaLL }},// 10^-381
+     {{ static_cast<uint64_t>(-1266),0xa29fba913cf46625LL,0x7ba67a3fd6e31a08LL,0x5064253fc0d7f9d5LL }},// 10^-380
+     {{ static_cast<uint64_t>(-1263),0xcb47a9358c317faeLL,0xda9018cfcc9be08aLL,0x647d2e8fb10df84bLL }},// 10^-379
+     {{ static_cast<uint64_t>(-1260),0xfe199382ef3ddf9aLL,0x91341f03bfc2d8acLL,0xfd9c7a339d51765dLL }},// 10^-378
+     {{ static_cast<uint64_t>(-1256),0x9ecffc31d586abc0LL,0x9ac0936257d9c76cLL,0x1e81cc604252e9faLL }},// 10^-377
+     {{ static_cast<uint64_t>(-1253),0xc683fb3e4ae856b0LL,0xc170b83aedd03947LL,0x26223f7852e7a479LL }},// 10^-376
+     {{ static_cast<uint64_t>(-1250),0xf824fa0ddda26c5cLL,0xf1cce649a9444798LL,0xefaacf5667a18d97LL }},// 10^-375
+     {{ static_cast<uint64_t>(-1246),0x9b171c48aa8583baLL,0x17200fee09caacbfLL,0x95cac19600c4f87eLL }},// 10^-374
+     {{ static_cast<uint64_t>(-1243),0xc1dce35ad526e4a8LL,0x9ce813e98c3d57efLL,0x7b3d71fb80f6369eLL }},// 10^-373
+     {{ static_cast<uint64_t>(-1240),0xf2541c318a709dd2LL,0xc42218e3ef4cadebLL,0x5a0cce7a6133c446LL }},// 10^-372
+     {{ static_cast<uint64_t>(-1236),0x9774919ef68662a3LL,0xba954f8e758fecb3LL,0x1848010c7cc05aabLL }},// 10^-371
+     {{ static_cast<uint64_t>(-1233),0xbd51b606b427fb4cLL,0xa93aa37212f3e7dfLL,0xde5a014f9bf07156LL }},// 10^-370
+     {{ static_cast<uint64_t>(-1230),0xeca623886131fa1fLL,0xd3894c4e97b0e1d7LL,0xd5f081a382ec8dacLL }},// 10^-369
+     {{ static_cast<uint64_t>(-1226),0x93e7d6353cbf3c53LL,0xe435cfb11ece8d26LL,0xe5b6510631d3d88bLL }},// 10^-368
+     {{ static_cast<uint64_t>(-1223),0xb8e1cbc28bef0b68LL,0xdd43439d66823070LL,0x9f23e547be48ceaeLL }},// 10^-367
+     {{ static_cast<uint64_t>(-1220),0xe71a3eb32eeace43LL,0x14941484c022bc8cLL,0xc6ecde99addb025aLL }},// 10^-366
+     {{ static_cast<uint64_t>(-1216),0x9070672ffd52c0e9LL,0xecdc8cd2f815b5d7LL,0xfc540b200ca8e178LL }},// 10^-365
+     {{ static_cast<uint64_t>(-1213),0xb48c80fbfca77124LL,0x6813b007b61b234dLL,0xfb690de80fd319d6LL }},// 10^-364
+     {{ static_cast<uint64_t>(-1210),0xe1afa13afbd14d6dLL,0x82189c09a3a1ec21LL,0x7a43516213c7e04cLL }},// 10^-363
+     {{ static_cast<uint64_t>(-1206),0x8d0dc4c4dd62d064LL,0x714f618606453394LL,0xec6a12dd4c5cec2fLL }},// 10^-362
+     {{ static_cast<uint64_t>(-1203),0xb05135f614bb847dLL,0x8da339e787d6807aLL,0x278497949f74273bLL }},// 10^-361
+     {{ static_cast<uint64_t>(-1200),0xdc65837399ea659cLL,0xf10c086169cc2098LL,0xb165bd79c751310aLL }},// 10^-360
+     {{ static_cast<uint64_t>(-1196),0x89bf722840327f82LL,0x16a7853ce21f945fLL,0x6edf966c1c92bea6LL }},// 10^-359
+     {{ static_cast<uint64_t>(-1193),0xac2f4eb2503f1f62LL,0x9c51668c1aa77977LL,0x4a977c0723b76e50LL }},// 10^-358
+     {{ static_cast<uint64_t>(-1190),0xd73b225ee44ee73bLL,0x4365c02f215157d5LL,0x1d3d5b08eca549e4LL }},// 10^-357
+     {{ static_cast<uint64_t>(-1186),0x8684f57b4eb15085LL,0x0a1f981d74d2d6e5LL,0x324658e593e74e2eLL }},// 10^-356
+     {{ static_cast<uint64_t>(-1183),0xa82632da225da4a6LL,0x4ca77e24d2078c9eLL,0x7ed7ef1ef8e121baLL }},// 10^-355
+     {{ static_cast<uint64_t>(-1180),0xd22fbf90aaf50dcfLL,0xdfd15dae06896fc6LL,0x1e8deae6b7196a28LL }},// 10^-354
+     {{ static_cast<uint64_t>(-1176),0x835dd7ba6ad928a1LL,0xebe2da8cc415e5dbLL,0xd318b2d0326fe259LL }},// 10^-353
+     {{ static_cast<uint64_t>(-1173),0xa4354da9058f72caLL,0x66db912ff51b5f52LL,0xc7dedf843f0bdaefLL }},// 10^-352
+     {{ static_cast<uint64_t>(-1170),0xcd42a11346f34f7dLL,0x0092757bf2623727LL,0x79d697654eced1abLL }},// 10^-351
+     {{ static_cast<uint64_t>(-1166),0x8049a4ac0c5811aeLL,0x205b896d777d6278LL,0xac261e9f5141430bLL }},// 10^-350
+     {{ static_cast<uint64_t>(-1163),0xa05c0dd70f6e1619LL,0xa8726bc8d55cbb16LL,0xd72fa647259193ceLL }},// 10^-349
+     {{ static_cast<uint64_t>(-1160),0xc873114cd3499ba0LL,0x128f06bb0ab3e9dcLL,0x8cfb8fd8eef5f8c1LL }},// 10^-348
+     {{ static_cast<uint64_t>(-1157),0xfa8fd5a0081c0288LL,0x1732c869cd60e453LL,0xb03a73cf2ab376f2LL }},// 10^-347
+     {{ static_cast<uint64_t>(-1153),0x9c99e58405118195LL,0x0e7fbd42205c8eb4LL,0x4e2488617ab02a57LL }},// 10^-346
+     {{ static_cast<uint64_t>(-1150),0xc3c05ee50655e1faLL,0x521fac92a873b261LL,0x61adaa79d95c34edLL }},// 10^-345
+     {{ static_cast<uint64_t>(-1147),0xf4b0769e47eb5a78LL,0xe6a797b752909ef9LL,0xba1915184fb34228LL }},// 10^-344
+     {{ static_cast<uint64_t>(-1143),0x98ee4a22ecf3188bLL,0x9028bed2939a635cLL,0x144fad2f31d00959LL }},// 10^-343
+     {{ static_cast<uint64_t>(-1140),0xbf29dcaba82fdeaeLL,0x7432ee873880fc33LL,0x1963987afe440bafLL }},// 10^-342
+     {{ static_cast<uint64_t>(-1137),0xeef453d6923bd65aLL,0x113faa2906a13b3fLL,0xdfbc7e99bdd50e9bLL }},// 10^-341
+     {{ static_cast<uint64_t>(-1133),0x9558b4661b6565f8LL,0x4ac7ca59a424c507LL,0xebd5cf2016a52921LL }},// 10^-340
+     {{ static_cast<uint64_t>(-1130),0xbaaee17fa23ebf76LL,0x5d79bcf00d2df649LL,0xe6cb42e81c4e7369LL }},// 10^-339
+     {{ static_cast<uint64_t>(-1127),0xe95a99df8ace6f53LL,0xf4d82c2c107973dcLL,0x607e13a223621044LL }},// 10^-338
+     {{ static_cast<uint64_t>(-1123),0x91d8a02bb6c10594LL,0x79071b9b8a4be869LL,0xbc4ecc45561d4a2aLL }},// 10^-337
+     {{ static_cast<uint64_t>(-1120),0xb64ec836a47146f9LL,0x9748e2826cdee284LL,0x2b627f56aba49cb5LL }},// 10^-336
+     {{ static_cast<uint64_t>(-1117),0xe3e27a444d8d98b7LL,0xfd1b1b2308169b25LL,0x363b1f2c568dc3e2LL }},// 10^-335
+     {{ static_cast<uint64_t>(-1113),0x8e6d8c6ab0787f72LL,0xfe30f0f5e50e20f7LL,0x41e4f37bb6189a6dLL }},// 10^-334
+     {{ static_cast<uint64_t>(-1110),0xb208ef855c969f4fLL,0xbdbd2d335e51a935LL,0x125e305aa39ec108LL }},// 10^-333
+     {{ static_cast<uint64_t>(-1107),0xde8b2b66b3bc4723LL,0xad2c788035e61382LL,0x56f5bc714c86714bLL }},// 10^-332
+     {{ static_cast<uint64_t>(-1103),0x8b16fb203055ac76LL,0x4c3bcb5021afcc31LL,0x765995c6cfd406ceLL }},// 10^-331
+     {{ static_cast<uint64_t>(-1100),0xaddcb9e83c6b1793LL,0xdf4abe242a1bbf3dLL,0xd3effb3883c90882LL }},// 10^-330
+     {{ static_cast<uint64_t>(-1097),0xd953e8624b85dd78LL,0xd71d6dad34a2af0dLL,0x48ebfa06a4bb4aa3LL }},// 10^-329
+     {{ static_cast<uint64_t>(-1093),0x87d4713d6f33aa6bLL,0x8672648c40e5ad68LL,0x4d937c4426f50ea6LL }},// 10^-328
+     {{ static_cast<uint64_t>(-1090),0xa9c98d8ccb009506LL,0x680efdaf511f18c2LL,0x60f85b5530b2524fLL }},// 10^-327
+     {{ static_cast<uint64_t>(-1087),0xd43bf0effdc0ba48LL,0x0212bd1b2566def2LL,0xf936722a7cdee6e3LL }},// 10^-326
+     {{ static_cast<uint64_t>(-1083),0x84a57695fe98746dLL,0x014bb630f7604b57LL,0xdbc2075a8e0b504eLL }},// 10^-325
+     {{ static_cast<uint64_t>(-1080),0xa5ced43b7e3e9188LL,0x419ea3bd35385e2dLL,0xd2b28931318e2461LL }},// 10^-324
+     {{ static_cast<uint64_t>(-1077),0xcf42894a5dce35eaLL,0x52064cac828675b9LL,0x475f2b7d7df1ad7aLL }},// 10^-323
+     {{ static_cast<uint64_t>(-1073),0x818995ce7aa0e1b2LL,0x7343efebd1940993LL,0xcc9b7b2e6eb70c6cLL }},// 10^-322
+     {{ static_cast<uint64_t>(-1070),0xa1ebfb4219491a1fLL,0x1014ebe6c5f90bf8LL,0xbfc259fa0a64cf87LL }},// 10^-321
+     {{ static_cast<uint64_t>(-1067),0xca66fa129f9b60a6LL,0xd41a26e077774ef6LL,0xefb2f0788cfe0369LL }},// 10^-320
+     {{ static_cast<uint64_t>(-1064),0xfd00b897478238d0LL,0x8920b098955522b4LL,0xab9fac96b03d8443LL }},// 10^-319
+     {{ static_cast<uint64_t>(-1060),0x9e20735e8cb16382LL,0x55b46e5f5d5535b0LL,0xeb43cbde2e2672aaLL }},// 10^-318
+     {{ static_cast<uint64_t>(-1057),0xc5a890362fddbc62LL,0xeb2189f734aa831dLL,0x2614bed5b9b00f54LL }},// 10^-317
+     {{ static_cast<uint64_t>(-1054),0xf712b443bbd52b7bLL,0xa5e9ec7501d523e4LL,0x6f99ee8b281c132aLL }},// 10^-316
+     {{ static_cast<uint64_t>(-1050),0x9a6bb0aa55653b2dLL,0x47b233c92125366eLL,0xc5c03516f9118bfaLL }},// 10^-315
+     {{ static_cast<uint64_t>(-1047),0xc1069cd4eabe89f8LL,0x999ec0bb696e840aLL,0x7730425cb755eef8LL }},// 10^-314
+     {{ static_cast<uint64_t>(-1044),0xf148440a256e2c76LL,0xc00670ea43ca250dLL,0x14fc52f3e52b6ab7LL }},// 10^-313
+     {{ static_cast<uint64_t>(-1040),0x96cd2a865764dbcaLL,0x380406926a5e5728LL,0x2d1db3d86f3b22b2LL }},// 10^-312
+     {{ static_cast<uint64_t>(-1037),0xbc807527ed3e12bcLL,0xc605083704f5ecf2LL,0x386520ce8b09eb5fLL }},// 10^-311
+     {{ static_cast<uint64_t>(-1034),0xeba09271e88d976bLL,0xf7864a44c633682eLL,0xc67e69022dcc6636LL }},// 10^-310
+     {{ static_cast<uint64_t>(-1030),0x93445b8731587ea3LL,0x7ab3ee6afbe0211dLL,0x3c0f01a15c9fbfe2LL }},// 10^-309
+     {{ static_cast<uint64_t>(-1027),0xb8157268fdae9e4cLL,0x5960ea05bad82964LL,0x8b12c209b3c7afdaLL }},// 10^-308
+     {{ static_cast<uint64_t>(-1024),0xe61acf033d1a45dfLL,0x6fb92487298e33bdLL,0xadd7728c20b99bd1LL }},// 10^-307
+     {{ static_cast<uint64_t>(-1020),0x8fd0c16206306babLL,0xa5d3b6d479f8e056LL,0x8ca6a79794740162LL }},// 10^-306
+     {{ static_cast<uint64_t>(-1017),0xb3c4f1ba87bc8696LL,0x8f48a4899877186cLL,0x2fd0517d799101bbLL }},// 10^-305
+     {{ static_cast<uint64_t>(-1014),0xe0b62e2929aba83cLL,0x331acdabfe94de87LL,0x3bc465dcd7f5422aLL }},// 10^-304
+     {{ static_cast<uint64_t>(-1010),0x8c71dcd9ba0b4925LL,0x9ff0c08b7f1d0b14LL,0x855abfaa06f9495aLL }},// 10^-303
+     {{ static_cast<uint64_t>(-1007),0xaf8e5410288e1b6fLL,0x07ecf0ae5ee44dd9LL,0xa6b16f9488b79bb1LL }},// 10^-302
+     {{ static_cast<uint64_t>(-1004),0xdb71e91432b1a24aLL,0xc9e82cd9f69d6150LL,0x105dcb79aae5829dLL }},// 10^-301
+     {{ static_cast<uint64_t>(-1000),0x892731ac9faf056eLL,0xbe311c083a225cd2LL,0x0a3a9f2c0acf71a2LL }},// 10^-300
+     {{ static_cast<uint64_t>(-997),0xab70fe17c79ac6caLL,0x6dbd630a48aaf406LL,0x8cc946f70d834e0bLL }},// 10^-299
+     {{ static_cast<uint64_t>(-994),0xd64d3d9db981787dLL,0x092cbbccdad5b108LL,0x2ffb98b4d0e4218dLL }},// 10^-298
+     {{ static_cast<uint64_t>(-990),0x85f0468293f0eb4eLL,0x25bbf56008c58ea5LL,0x1dfd3f71028e94f8LL }},// 10^-297
+     {{ static_cast<uint64_t>(-987),0xa76c582338ed2621LL,0xaf2af2b80af6f24eLL,0x657c8f4d43323a36LL }},// 10^-296
+     {{ static_cast<uint64_t>(-984),0xd1476e2c07286faaLL,0x1af5af660db4aee1LL,0xfedbb32093fec8c4LL }},// 10^-295
+     {{ static_cast<uint64_t>(-980),0x82cca4db847945caLL,0x50d98d9fc890ed4dLL,0x3f494ff45c7f3d7aLL }},// 10^-294
+     {{ static_cast<uint64_t>(-977),0xa37fce126597973cLL,0xe50ff107bab528a0LL,0x8f1ba3f1739f0cd9LL }},// 10^-293
+     {{ static_cast<uint64_t>(-974),0xcc5fc196fefd7d0cLL,0x1e53ed49a96272c8LL,0xb2e28cedd086d010LL }},// 10^-292
+     {{ static_cast<uint64_t>(-971),0xff77b1fcbebcdc4fLL,0x25e8e89c13bb0f7aLL,0xdf9b302944a88414LL }},// 10^-291
+     {{ static_cast<uint64_t>(-967),0x9faacf3df73609b1LL,0x77b191618c54e9acLL,0xcbc0fe19cae9528cLL }},// 10^-290
+     {{ static_cast<uint64_t>(-964),0xc795830d75038c1dLL,0xd59df5b9ef6a2417LL,0xfeb13da03da3a72fLL }},// 10^-289
+     {{ static_cast<uint64_t>(-961),0xf97ae3d0d2446f25LL,0x4b0573286b44ad1dLL,0xfe5d8d084d0c90fbLL }},// 10^-288
+     {{ static_cast<uint64_t>(-957),0x9becce62836ac577LL,0x4ee367f9430aec32LL,0xbefa78253027da9dLL }},// 10^-287
+     {{ static_cast<uint64_t>(-954),0xc2e801fb244576d5LL,0x229c41f793cda73fLL,0x6eb9162e7c31d144LL }},// 10^-286
+     {{ static_cast<uint64_t>(-951),0xf3a20279ed56d48aLL,0x6b43527578c1110fLL,0x4a675bba1b3e4595LL }},// 10^-285
+     {{ static_cast<uint64_t>(-947),0x9845418c345644d6LL,0x830a13896b78aaa9LL,0x8e8099545106eb7dLL }},// 10^-284
+     {{ static_cast<uint64_t>(-944),0xbe5691ef416bd60cLL,0x23cc986bc656d553LL,0xf220bfa96548a65cLL }},// 10^-283
+     {{ static_cast<uint64_t>(-941),0xedec366b11c6cb8fLL,0x2cbfbe86b7ec8aa8LL,0xeea8ef93be9acff4LL }},// 10^-282
+     {{ static_cast<uint64_t>(-937),0x94b3a202eb1c3f39LL,0x7bf7d71432f3d6a9LL,0x952995bc5720c1f8LL }},// 10^-281
+     {{ static_cast<uint64_t>(-934),0xb9e08a83a5e34f07LL,0xdaf5ccd93fb0cc53LL,0xfa73fb2b6ce8f276LL }},// 10^-280
+     {{ static_cast<uint64_t>(-931),0xe858ad248f5c22c9LL,0xd1b3400f8f9cff68LL,0xf910f9f648232f14LL }},// 10^-279
+     {{ static_cast<uint64_t>(-927),0x91376c36d99995beLL,0x23100809b9c21fa1LL,0x9baa9c39ed15fd6cLL }},// 10^-278
+     {{ static_cast<uint64_t>(-924),0xb58547448ffffb2dLL,0xabd40a0c2832a78aLL,0x02954348685b7cc7LL }},// 10^-277
+     {{ static_cast<uint64_t>(-921),0xe2e69915b3fff9f9LL,0x16c90c8f323f516cLL,0x833a941a82725bf9LL }},// 10^-276
+     {{ static_cast<uint64_t>(-917),0x8dd01fad907ffc3bLL,0xae3da7d97f6792e3LL,0xd2049c909187797cLL }},// 10^-275
+     {{ static_cast<uint64_t>(-914),0xb1442798f49ffb4aLL,0x99cd11cfdf41779cLL,0xc685c3b4b5e957dbLL }},// 10^-274
+     {{ static_cast<uint64_t>(-911),0xdd95317f31c7fa1dLL,0x40405643d711d583LL,0xf82734a1e363add2LL }},// 10^-273
+     {{ static_cast<uint64_t>(-907),0x8a7d3eef7f1cfc52LL,0x482835ea666b2572LL,0x7b1880e52e1e4ca3LL }},// 10^-272
+     {{ static_cast<uint64_t>(-904),0xad1c8eab5ee43b66LL,0xda3243650005eecfLL,0x19dea11e79a5dfccLL }},// 10^-271
+     {{ static_cast<uint64_t>(-901),0xd863b256369d4a40LL,0x90bed43e40076a82LL,0xe0564966180f57bfLL }},// 10^-270
+     {{ static_cast<uint64_t>(-897),0x873e4f75e2224e68LL,0x5a7744a6e804a291LL,0xcc35eddfcf0996d7LL }},// 10^-269
+     {{ static_cast<uint64_t>(-894),0xa90de3535aaae202LL,0x711515d0a205cb36LL,0x3f436957c2cbfc8dLL }},// 10^-268
+     {{ static_cast<uint64_t>(-891),0xd3515c2831559a83LL,0x0d5a5b44ca873e03LL,0xcf1443adb37efbb0LL }},// 10^-267
+     {{ static_cast<uint64_t>(-887),0x8412d9991ed58091LL,0xe858790afe9486c2LL,0x616caa4c902f5d4eLL }},// 10^-266
+     {{ static_cast<uint64_t>(-884),0xa5178fff668ae0b6LL,0x626e974dbe39a872LL,0xf9c7d4dfb43b34a2LL }},// 10^-265
+     {{ static_cast<uint64_t>(-881),0xce5d73ff402d98e3LL,0xfb0a3d212dc8128fLL,0xb839ca17a14a01caLL }},// 10^-264
+     {{ static_cast<uint64_t>(-877),0x80fa687f881c7f8eLL,0x7ce66634bc9d0b99LL,0xd3241e4ec4ce411eLL }},// 10^-263
+     {{ static_cast<uint64_t>(-874),0xa139029f6a239f72LL,0x1c1fffc1ebc44e80LL,0x47ed25e27601d166LL }},// 10^-262
+     {{ static_cast<uint64_t>(-871),0xc987434744ac874eLL,0xa327ffb266b56220LL,0x59e86f5b138245bfLL }},// 10^-261
+     {{ static_cast<uint64_t>(-868),0xfbe9141915d7a922LL,0x4bf1ff9f0062baa8LL,0x70628b31d862d72fLL }},// 10^-260
+     {{ static_cast<uint64_t>(-864),0x9d71ac8fada6c9b5LL,0x6f773fc3603db4a9LL,0x463d96ff273dc67dLL }},// 10^-259
+     {{ static_cast<uint64_t>(-861),0xc4ce17b399107c22LL,0xcb550fb4384d21d3LL,0x97ccfcbef10d381dLL }},// 10^-258
+     {{ static_cast<uint64_t>(-858),0xf6019da07f549b2bLL,0x7e2a53a146606a48LL,0x7dc03beead508624LL }},// 10^-257
+     {{ static_cast<uint64_t>(-854),0x99c102844f94e0fbLL,0x2eda7444cbfc426dLL,0x4e9825752c5253d6LL }},// 10^-256
+     {{ static_cast<uint64_t>(-851),0xc0314325637a1939LL,0xfa911155fefb5308LL,0xa23e2ed27766e8ccLL }},// 10^-255
+     {{ static_cast<uint64_t>(-848),0xf03d93eebc589f88LL,0x793555ab7eba27caLL,0xcacdba871540a2ffLL }},// 10^-254
+     {{ static_cast<uint64_t>(-844),0x96267c7535b763b5LL,0x4bc1558b2f3458deLL,0xbec094946d4865dfLL }},// 10^-253
+     {{ static_cast<uint64_t>(-841),0xbbb01b9283253ca2LL,0x9eb1aaedfb016f16LL,0x6e70b9b9889a7f57LL }},// 10^-252
+     {{ static_cast<uint64_t>(-838),0xea9c227723ee8bcbLL,0x465e15a979c1cadcLL,0x0a0ce827eac11f2dLL }},// 10^-251
+     {{ static_cast<uint64_t>(-834),0x92a1958a7675175fLL,0x0bfacd89ec191ec9LL,0x86481118f2b8b37cLL }},// 10^-250
+     {{ static_cast<uint64_t>(-831),0xb749faed14125d36LL,0xcef980ec671f667bLL,0xe7da155f2f66e05bLL }},// 10^-249
+     {{ static_cast<uint64_t>(-828),0xe51c79a85916f484LL,0x82b7e12780e7401aLL,0xe1d09ab6fb409872LL }},// 10^-248
+     {{ static_cast<uint64_t>(-824),0x8f31cc0937ae58d2LL,0xd1b2ecb8b0908810LL,0xcd2260b25d085f47LL }},// 10^-247
+     {{ static_cast<uint64_t>(-821),0xb2fe3f0b8599ef07LL,0x861fa7e6dcb4aa15LL,0x006af8def44a7719LL }},// 10^-246
+     {{ static_cast<uint64_t>(-818),0xdfbdcece67006ac9LL,0x67a791e093e1d49aLL,0x4085b716b15d14e0LL }},// 10^-245
+     {{ static_cast<uint64_t>(-814),0x8bd6a141006042bdLL,0xe0c8bb2c5c6d24e0LL,0x6853926e2eda2d0cLL }},// 10^-244
+     {{ static_cast<uint64_t>(-811),0xaecc49914078536dLL,0x58fae9f773886e18LL,0x82687709ba90b84fLL }},// 10^-243
+     {{ static_cast<uint64_t>(-808),0xda7f5bf590966848LL,0xaf39a475506a899eLL,0xa30294cc2934e662LL }},// 10^-242
+     {{ static_cast<uint64_t>(-804),0x888f99797a5e012dLL,0x6d8406c952429603LL,0x25e19cff99c10ffdLL }},// 10^-241
+     {{ static_cast<uint64_t>(-801),0xaab37fd7d8f58178LL,0xc8e5087ba6d33b83LL,0xef5a043f803153fdLL }},// 10^-240
+     {{ static_cast<uint64_t>(-798),0xd5605fcdcf32e1d6LL,0xfb1e4a9a90880a64LL,0xeb30854f603da8fcLL }},// 10^-239
+     {{ static_cast<uint64_t>(-794),0x855c3be0a17fcd26LL,0x5cf2eea09a55067fLL,0x12fe53519c26899dLL }},// 10^-238
+     {{ static_cast<uint64_t>(-791),0xa6b34ad8c9dfc06fLL,0xf42faa48c0ea481eLL,0xd7bde82603302c05LL }},// 10^-237
+     {{ static_cast<uint64_t>(-788),0xd0601d8efc57b08bLL,0xf13b94daf124da26LL,0x8dad622f83fc3706LL }},// 10^-236
+     {{ static_cast<uint64_t>(-784),0x823c12795db6ce57LL,0x76c53d08d6b70858LL,0x188c5d5db27da264LL }},// 10^-235
+     {{ static_cast<uint64_t>(-781),0xa2cb1717b52481edLL,0x54768c4b0c64ca6eLL,0x1eaf74b51f1d0afdLL }},// 10^-234
+     {{ static_cast<uint64_t>(-778),0xcb7ddcdda26da268LL,0xa9942f5dcf7dfd09LL,0xa65b51e266e44dbcLL }},// 10^-233
+     {{ static_cast<uint64_t>(-775),0xfe5d54150b090b02LL,0xd3f93b35435d7c4cLL,0x0ff2265b009d612bLL }},// 10^-232
+     {{ static_cast<uint64_t>(-771),0x9efa548d26e5a6e1LL,0xc47bc5014a1a6dafLL,0x89f757f8e0625cbbLL }},// 10^-231
+     {{ static_cast<uint64_t>(-768),0xc6b8e9b0709f109aLL,0x359ab6419ca1091bLL,0x6c752df7187af3e9LL }},// 10^-230
+     {{ static_cast<uint64_t>(-765),0xf867241c8cc6d4c0LL,0xc30163d203c94b62LL,0x47927974de99b0e4LL }},// 10^-229
+     {{ static_cast<uint64_t>(-761),0x9b407691d7fc44f8LL,0x79e0de63425dcf1dLL,0x6cbb8be90b200e8eLL }},// 10^-228
+     {{ static_cast<uint64_t>(-758),0xc21094364dfb5636LL,0x985915fc12f542e4LL,0xc7ea6ee34de81232LL }},// 10^-227
+     {{ static_cast<uint64_t>(-755),0xf294b943e17a2bc4LL,0x3e6f5b7b17b2939dLL,0xf9e50a9c216216bfLL }},// 10^-226
+     {{ static_cast<uint64_t>(-751),0x979cf3ca6cec5b5aLL,0xa705992ceecf9c42LL,0xbc2f26a194dd4e37LL }},// 10^-225
+     {{ static_cast<uint64_t>(-748),0xbd8430bd08277231LL,0x50c6ff782a838353LL,0x6b3af049fa14a1c5LL }},// 10^-224
+     {{ static_cast<uint64_t>(-745),0xece53cec4a314ebdLL,0xa4f8bf5635246428LL,0x4609ac5c7899ca36LL }},// 10^-223
+     {{ static_cast<uint64_t>(-741),0x940f4613ae5ed136LL,0x871b7795e136be99LL,0x2bc60bb9cb601e62LL }},// 10^-222
+     {{ static_cast<uint64_t>(-738),0xb913179899f68584LL,0x28e2557b59846e3fLL,0x76b78ea83e3825faLL }},// 10^-221
+     {{ static_cast<uint64_t>(-735),0xe757dd7ec07426e5LL,0x331aeada2fe589cfLL,0x546572524dc62f79LL }},// 10^-220
+     {{ static_cast<uint64_t>(-731),0x9096ea6f3848984fLL,0x3ff0d2c85def7621LL,0x94bf6773709bddabLL }},// 10^-219
+     {{ static_cast<uint64_t>(-728),0xb4bca50b065abe63LL,0x0fed077a756b53a9LL,0xf9ef41504cc2d516LL }},// 10^-218
+     {{ static_cast<uint64_t>(-725),0xe1ebce4dc7f16dfbLL,0xd3e8495912c62894LL,0x786b11a45ff38a5cLL }},// 10^-217
+     {{ static_cast<uint64_t>(-721),0x8d3360f09cf6e4bdLL,0x64712dd7abbbd95cLL,0xcb42eb06bbf83679LL }},// 10^-216
+     {{ static_cast<uint64_t>(-718),0xb080392cc4349decLL,0xbd8d794d96aacfb3LL,0xfe13a5c86af64418LL }},// 10^-215
+     {{ static_cast<uint64_t>(-715),0xdca04777f541c567LL,0xecf0d7a0fc5583a0LL,0xfd988f3a85b3d51eLL }},// 10^-214
+     {{ static_cast<uint64_t>(-711),0x89e42caaf9491b60LL,0xf41686c49db57244LL,0x9e7f598493906532LL }},// 10^-213
+     {{ static_cast<uint64_t>(-708),0xac5d37d5b79b6239LL,0x311c2875c522ced5LL,0xc61f2fe5b8747e7fLL }},// 10^-212
+     {{ static_cast<uint64_t>(-705),0xd77485cb25823ac7LL,0x7d633293366b828bLL,0x37a6fbdf26919e1fLL }},// 10^-211
+     {{ static_cast<uint64_t>(-701),0x86a8d39ef77164bcLL,0xae5dff9c02033197LL,0x02c85d6b781b02d3LL }},// 10^-210
+     {{ static_cast<uint64_t>(-698),0xa8530886b54dbdebLL,0xd9f57f830283fdfcLL,0xc37a74c65621c388LL }},// 10^-209
+     {{ static_cast<uint64_t>(-695),0xd267caa862a12d66LL,0xd072df63c324fd7bLL,0xf45911f7ebaa346aLL }},// 10^-208
+     {{ static_cast<uint64_t>(-691),0x8380dea93da4bc60LL,0x4247cb9e59f71e6dLL,0x78b7ab3af34a60c2LL }},// 10^-207
+     {{ static_cast<uint64_t>(-688),0xa46116538d0deb78LL,0x52d9be85f074e608LL,0xd6e59609b01cf8f3LL }},// 10^-206
+     {{ static_cast<uint64_t>(-685),0xcd795be870516656LL,0x67902e276c921f8bLL,0x0c9efb8c1c243730LL }},// 10^-205
+     {{ static_cast<uint64_t>(-681),0x806bd9714632dff6LL,0x00ba1cd8a3db53b6LL,0xe7e35d379196a27eLL }},// 10^-204
+     {{ static_cast<uint64_t>(-678),0xa086cfcd97bf97f3LL,0x80e8a40eccd228a4LL,0xa1dc348575fc4b1dLL }},// 10^-203
+     {{ static_cast<uint64_t>(-675),0xc8a883c0fdaf7df0LL,0x6122cd128006b2cdLL,0xca5341a6d37b5de5LL }},// 10^-202
+     {{ static_cast<uint64_t>(-672),0xfad2a4b13d1b5d6cLL,0x796b805720085f81LL,0x3ce81210885a355eLL }},// 10^-201
+     {{ static_cast<uint64_t>(-668),0x9cc3a6eec6311a63LL,0xcbe3303674053bb0LL,0xc6110b4a5538615bLL }},// 10^-200
+     {{ static_cast<uint64_t>(-665),0xc3f490aa77bd60fcLL,0xbedbfc4411068a9cLL,0xf7954e1cea8679b1LL }},// 10^-199
+     {{ static_cast<uint64_t>(-662),0xf4f1b4d515acb93bLL,0xee92fb5515482d44LL,0x357aa1a42528181eLL }},// 10^-198
+     {{ static_cast<uint64_t>(-658),0x991711052d8bf3c5LL,0x751bdd152d4d1c4aLL,0xa16ca50697390f12LL }},// 10^-197
+     {{ static_cast<uint64_t>(-655),0xbf5cd54678eef0b6LL,0xd262d45a78a0635dLL,0x49c7ce483d0752d7LL }},// 10^-196
+     {{ static_cast<uint64_t>(-652),0xef340a98172aace4LL,0x86fb897116c87c34LL,0x9c39c1da4c49278dLL }},// 10^-195
+     {{ static_cast<uint64_t>(-648),0x9580869f0e7aac0eLL,0xd45d35e6ae3d4da0LL,0xe1a419286fadb8b8LL }},// 10^-194
+     {{ static_cast<uint64_t>(-645),0xbae0a846d2195712LL,0x8974836059cca109LL,0x1a0d1f728b9926e6LL }},// 10^-193
+     {{ static_cast<uint64_t>(-642),0xe998d258869facd7LL,0x2bd1a438703fc94bLL,0x6090674f2e7f70a0LL }},// 10^-192
+     {{ static_cast<uint64_t>(-638),0x91ff83775423cc06LL,0x7b6306a34627ddcfLL,0x1c5a40917d0fa664LL }},// 10^-191
+     {{ static_cast<uint64_t>(-635),0xb67f6455292cbf08LL,0x1a3bc84c17b1d542LL,0xe370d0b5dc538ffdLL }},// 10^-190
+     {{ static_cast<uint64_t>(-632),0xe41f3d6a7377eecaLL,0x20caba5f1d9e4a93LL,0x9c4d04e3536873fcLL }},// 10^-189
+     {{ static_cast<uint64_t>(-628),0x8e938662882af53eLL,0x547eb47b7282ee9cLL,0x41b0230e1421487dLL }},// 10^-188
+     {{ static_cast<uint64_t>(-625),0xb23867fb2a35b28dLL,0xe99e619a4f23aa43LL,0x521c2bd199299a9dLL }},// 10^-187
+     {{ static_cast<uint64_t>(-622),0xdec681f9f4c31f31LL,0x6405fa00e2ec94d4LL,0x26a336c5ff740144LL }},// 10^-186
+     {{ static_cast<uint64_t>(-618),0x8b3c113c38f9f37eLL,0xde83bc408dd3dd04LL,0x9826023bbfa880caLL }},// 10^-185
+     {{ static_cast<uint64_t>(-615),0xae0b158b4738705eLL,0x9624ab50b148d445LL,0xbe2f82caaf92a0fdLL }},// 10^-184
+     {{ static_cast<uint64_t>(-612),0xd98ddaee19068c76LL,0x3badd624dd9b0957LL,0x2dbb637d5b77493dLL }},// 10^-183
+     {{ static_cast<uint64_t>(-608),0x87f8a8d4cfa417c9LL,0xe54ca5d70a80e5d6LL,0x7c951e2e592a8dc6LL }},// 10^-182
+     {{ static_cast<uint64_t>(-605),0xa9f6d30a038d1dbcLL,0x5e9fcf4ccd211f4cLL,0x1bba65b9ef753137LL }},// 10^-181
+     {{ static_cast<uint64_t>(-602),0xd47487cc8470652bLL,0x7647c3200069671fLL,0x22a8ff286b527d85LL }},// 10^-180
+     {{ static_cast<uint64_t>(-598),0x84c8d4dfd2c63f3bLL,0x29ecd9f40041e073LL,0x75a99f7943138e73LL }},// 10^-179
+     {{ static_cast<uint64_t>(-595),0xa5fb0a17c777cf09LL,0xf468107100525890LL,0x5314075793d87210LL }},// 10^-178
+     {{ static_cast<uint64_t>(-592),0xcf79cc9db955c2ccLL,0x7182148d4066eeb4LL,0x67d9092d78ce8e94LL }},// 10^-177
+     {{ static_cast<uint64_t>(-588),0x81ac1fe293d599bfLL,0xc6f14cd848405530LL,0xc0e7a5bc6b81191cLL }},// 10^-176
+     {{ static_cast<uint64_t>(-585),0xa21727db38cb002fLL,0xb8ada00e5a506a7cLL,0xf1218f2b86615f63LL }},// 10^-175
+     {{ static_cast<uint64_t>(-582),0xca9cf1d206fdc03bLL,0xa6d90811f0e4851cLL,0x2d69f2f667f9b73cLL }},// 10^-174
+     {{ static_cast<uint64_t>(-579),0xfd442e4688bd304aLL,0x908f4a166d1da663LL,0x38c46fb401f8250cLL }},// 10^-173
+     {{ static_cast<uint64_t>(-575),0x9e4a9cec15763e2eLL,0x9a598e4e043287feLL,0x037ac5d0813b1727LL }},// 10^-172
+     {{ static_cast<uint64_t>(-572),0xc5dd44271ad3cdbaLL,0x40eff1e1853f29fdLL,0x84597744a189dcf1LL }},// 10^-171
+     {{ static_cast<uint64_t>(-569),0xf7549530e188c128LL,0xd12bee59e68ef47cLL,0xe56fd515c9ec542dLL }},// 10^-170
+     {{ static_cast<uint64_t>(-565),0x9a94dd3e8cf578b9LL,0x82bb74f8301958ceLL,0x0f65e52d9e33b49cLL }},// 10^-169
+     {{ static_cast<uint64_t>(-562),0xc13a148e3032d6e7LL,0xe36a52363c1faf01LL,0x933f5e7905c0a1c3LL }},// 10^-168
+     {{ static_cast<uint64_t>(-559),0xf18899b1bc3f8ca1LL,0xdc44e6c3cb279ac1LL,0xf80f36174730ca34LL }},// 10^-167
+     {{ static_cast<uint64_t>(-555),0x96f5600f15a7b7e5LL,0x29ab103a5ef8c0b9LL,0x3b0981ce8c7e7e61LL }},// 10^-166
+     {{ static_cast<uint64_t>(-552),0xbcb2b812db11a5deLL,0x7415d448f6b6f0e7LL,0x89cbe2422f9e1df9LL }},// 10^-165
+     {{ static_cast<uint64_t>(-549),0xebdf661791d60f56LL,0x111b495b3464ad21LL,0x6c3edad2bb85a577LL }},// 10^-164
+     {{ static_cast<uint64_t>(-545),0x936b9fcebb25c995LL,0xcab10dd900beec34LL,0xe3a748c3b533876aLL }},// 10^-163
+     {{ static_cast<uint64_t>(-542),0xb84687c269ef3bfbLL,0x3d5d514f40eea742LL,0x1c911af4a2806945LL }},// 10^-162
+     {{ static_cast<uint64_t>(-539),0xe65829b3046b0afaLL,0x0cb4a5a3112a5112LL,0xa3b561b1cb208396LL }},// 10^-161
+     {{ static_cast<uint64_t>(-535),0x8ff71a0fe2c2e6dcLL,0x47f0e785eaba72abLL,0xa6515d0f1ef4523eLL }},// 10^-160
+     {{ static_cast<uint64_t>(-532),0xb3f4e093db73a093LL,0x59ed216765690f56LL,0x8fe5b452e6b166cdLL }},// 10^-159
+     {{ static_cast<uint64_t>(-529),0xe0f218b8d25088b8LL,0x306869c13ec3532cLL,0x33df2167a05dc081LL }},// 10^-158
+     {{ static_cast<uint64_t>(-525),0x8c974f7383725573LL,0x1e414218c73a13fbLL,0xa06b74e0c43a9850LL }},// 10^-157
+     {{ static_cast<uint64_t>(-522),0xafbd2350644eeacfLL,0xe5d1929ef90898faLL,0x88865218f5493e64LL }},// 10^-156
+     {{ static_cast<uint64_t>(-519),0xdbac6c247d62a583LL,0xdf45f746b74abf39LL,0x2aa7e69f329b8dfeLL }},// 10^-155
+     {{ static_cast<uint64_t>(-515),0x894bc396ce5da772LL,0x6b8bba8c328eb783LL,0xbaa8f0237fa138beLL }},// 10^-154
+     {{ static_cast<uint64_t>(-512),0xab9eb47c81f5114fLL,0x066ea92f3f326564LL,0xa9532c2c5f8986eeLL }},// 10^-153
+     {{ static_cast<uint64_t>(-509),0xd686619ba27255a2LL,0xc80a537b0efefebdLL,0xd3a7f737776be8aaLL }},// 10^-152
+     {{ static_cast<uint64_t>(-505),0x8613fd0145877585LL,0xbd06742ce95f5f36LL,0xa448fa82aaa3716aLL }},// 10^-151
+     {{ static_cast<uint64_t>(-502),0xa798fc4196e952e7LL,0x2c48113823b73704LL,0x4d5b3923554c4dc5LL }},// 10^-150
+     {{ static_cast<uint64_t>(-499),0xd17f3b51fca3a7a0LL,0xf75a15862ca504c5LL,0x60b2076c2a9f6136LL }},// 10^-149
+     {{ static_cast<uint64_t>(-495),0x82ef85133de648c4LL,0x9a984d73dbe722fbLL,0x5c6f44a39aa39cc1LL }},// 10^-148
+     {{ static_cast<uint64_t>(-492),0xa3ab66580d5fdaf5LL,0xc13e60d0d2e0ebbaLL,0x338b15cc814c83f2LL }},// 10^-147
+     {{ static_cast<uint64_t>(-489),0xcc963fee10b7d1b3LL,0x318df905079926a8LL,0xc06ddb3fa19fa4efLL }},// 10^-146
+     {{ static_cast<uint64_t>(-486),0xffbbcfe994e5c61fLL,0xfdf17746497f7052LL,0xf089520f8a078e2aLL }},// 10^-145
+     {{ static_cast<uint64_t>(-482),0x9fd561f1fd0f9bd3LL,0xfeb6ea8bedefa633LL,0xd655d349b644b8daLL }},// 10^-144
+     {{ static_cast<uint64_t>(-479),0xc7caba6e7c5382c8LL,0xfe64a52ee96b8fc0LL,0xcbeb481c23d5e711LL }},// 10^-143
+     {{ static_cast<uint64_t>(-476),0xf9bd690a1b68637bLL,0x3dfdce7aa3c673b0LL,0xfee61a232ccb60d5LL }},// 10^-142
+     {{ static_cast<uint64_t>(-472),0x9c1661a651213e2dLL,0x06bea10ca65c084eLL,0x9f4fd055fbff1c85LL }},// 10^-141
+     {{ static_cast<uint64_t>(-469),0xc31bfa0fe5698db8LL,0x486e494fcff30a62LL,0x4723c46b7afee3a7LL }},// 10^-140
+     {{ static_cast<uint64_t>(-466),0xf3e2f893dec3f126LL,0x5a89dba3c3efccfaLL,0xd8ecb58659be9c90LL }},// 10^-139
+     {{ static_cast<uint64_t>(-462),0x986ddb5c6b3a76b7LL,0xf89629465a75e01cLL,0xc793f173f81721daLL }},// 10^-138
+     {{ static_cast<uint64_t>(-459),0xbe89523386091465LL,0xf6bbb397f1135823LL,0xf978edd0f61cea51LL }},// 10^-137
+     {{ static_cast<uint64_t>(-456),0xee2ba6c0678b597fLL,0x746aa07ded582e2cLL,0xf7d7294533a424e5LL }},// 10^-136
+     {{ static_cast<uint64_t>(-452),0x94db483840b717efLL,0xa8c2a44eb4571cdcLL,0x1ae679cb4046970fLL }},// 10^-135
+     {{ static_cast<uint64_t>(-449),0xba121a4650e4ddebLL,0x92f34d62616ce413LL,0x21a0183e10583cd3LL }},// 10^-134
+     {{ static_cast<uint64_t>(-446),0xe896a0d7e51e1566LL,0x77b020baf9c81d17LL,0xea081e4d946e4c07LL }},// 10^-133
+     {{ static_cast<uint64_t>(-442),0x915e2486ef32cd60LL,0x0ace1474dc1d122eLL,0xf24512f07cc4ef84LL }},// 10^-132
+     {{ static_cast<uint64_t>(-439),0xb5b5ada8aaff80b8LL,0x0d819992132456baLL,0xaed657ac9bf62b66LL }},// 10^-131
+     {{ static_cast<uint64_t>(-436),0xe3231912d5bf60e6LL,0x10e1fff697ed6c69LL,0x5a8bed97c2f3b63fLL }},// 10^-130
+     {{ static_cast<uint64_t>(-432),0x8df5efabc5979c8fLL,0xca8d3ffa1ef463c1LL,0xd897747ed9d851e7LL }},// 10^-129
+     {{ static_cast<uint64_t>(-429),0xb1736b96b6fd83b3LL,0xbd308ff8a6b17cb2LL,0x4ebd519e904e6661LL }},// 10^-128
+     {{ static_cast<uint64_t>(-426),0xddd0467c64bce4a0LL,0xac7cb3f6d05ddbdeLL,0xe26ca6063461fffaLL }},// 10^-127
+     {{ static_cast<uint64_t>(-422),0x8aa22c0dbef60ee4LL,0x6bcdf07a423aa96bLL,0x4d83e7c3e0bd3ffcLL }},// 10^-126
+     {{ static_cast<uint64_t>(-419),0xad4ab7112eb3929dLL,0x86c16c98d2c953c6LL,0x20e4e1b4d8ec8ffbLL }},// 10^-125
+     {{ static_cast<uint64_t>(-416),0xd89d64d57a607744LL,0xe871c7bf077ba8b7LL,0xa91e1a220f27b3faLL }},// 10^-124
+     {{ static_cast<uint64_t>(-412),0x87625f056c7c4a8bLL,0x11471cd764ad4972LL,0xc9b2d0554978d07cLL }},// 10^-123
+     {{ static_cast<uint64_t>(-409),0xa93af6c6c79b5d2dLL,0xd598e40d3dd89bcfLL,0x7c1f846a9bd7049bLL }},// 10^-122
+     {{ static_cast<uint64_t>(-406),0xd389b47879823479LL,0x4aff1d108d4ec2c3LL,0x5b27658542ccc5c2LL }},// 10^-121
+     {{ static_cast<uint64_t>(-402),0x843610cb4bf160cbLL,0xcedf722a585139baLL,0x18f89f7349bffb99LL }},// 10^-120
+     {{ static_cast<uint64_t>(-399),0xa54394fe1eedb8feLL,0xc2974eb4ee658828LL,0x9f36c7501c2ffa80LL }},// 10^-119
+     {{ static_cast<uint64_t>(-396),0xce947a3da6a9273eLL,0x733d226229feea32LL,0xc7047924233bf920LL }},// 10^-118
+     {{ static_cast<uint64_t>(-392),0x811ccc668829b887LL,0x0806357d5a3f525fLL,0xbc62cbb696057bb4LL }},// 10^-117
+     {{ static_cast<uint64_t>(-389),0xa163ff802a3426a8LL,0xca07c2dcb0cf26f7LL,0xab7b7ea43b86daa1LL }},// 10^-116
+     {{ static_cast<uint64_t>(-386),0xc9bcff6034c13052LL,0xfc89b393dd02f0b5LL,0x965a5e4d4a689149LL }},// 10^-115
+     {{ static_cast<uint64_t>(-383),0xfc2c3f3841f17c67LL,0xbbac2078d443ace2LL,0xfbf0f5e09d02b59bLL }},// 10^-114
+     {{ static_cast<uint64_t>(-379),0x9d9ba7832936edc0LL,0xd54b944b84aa4c0dLL,0xdd7699ac6221b181LL }},// 10^-113
+     {{ static_cast<uint64_t>(-376),0xc5029163f384a931LL,0x0a9e795e65d4df11LL,0x54d440177aaa1de1LL }},// 10^-112
+     {{ static_cast<uint64_t>(-373),0xf64335bcf065d37dLL,0x4d4617b5ff4a16d5LL,0xaa09501d5954a559LL }},// 10^-111
+     {{ static_cast<uint64_t>(-369),0x99ea0196163fa42eLL,0x504bced1bf8e4e45LL,0x8a45d21257d4e758LL }},// 10^-110
+     {{ static_cast<uint64_t>(-366),0xc06481fb9bcf8d39LL,0xe45ec2862f71e1d6LL,0xecd74696edca212eLL }},// 10^-109
+     {{ static_cast<uint64_t>(-363),0xf07da27a82c37088LL,0x5d767327bb4e5a4cLL,0xa80d183ca93ca979LL }},// 10^-108
+     {{ static_cast<uint64_t>(-359),0x964e858c91ba2655LL,0x3a6a07f8d510f86fLL,0xe9082f25e9c5e9ecLL }},// 10^-107
+     {{ static_cast<uint64_t>(-356),0xbbe226efb628afeaLL,0x890489f70a55368bLL,0xe34a3aef64376467LL }},// 10^-106
+     {{ static_cast<uint64_t>(-353),0xeadab0aba3b2dbe5LL,0x2b45ac74ccea842eLL,0xdc1cc9ab3d453d80LL }},// 10^-105
+     {{ static_cast<uint64_t>(-349),0x92c8ae6b464fc96fLL,0x3b0b8bc90012929dLL,0x4991fe0b064b4670LL }},// 10^-104
+     {{ static_cast<uint64_t>(-346),0xb77ada0617e3bbcbLL,0x09ce6ebb40173744LL,0x9bf67d8dc7de180cLL }},// 10^-103
+     {{ static_cast<uint64_t>(-343),0xe55990879ddcaabdLL,0xcc420a6a101d0515LL,0xc2f41cf139d59e0fLL }},// 10^-102
+     {{ static_cast<uint64_t>(-339),0x8f57fa54c2a9eab6LL,0x9fa946824a12232dLL,0x99d89216c42582c9LL }},// 10^-101
+     {{ static_cast<uint64_t>(-336),0xb32df8e9f3546564LL,0x47939822dc96abf9LL,0x004eb69c752ee37cLL }},// 10^-100
+     {{ static_cast<uint64_t>(-333),0xdff9772470297ebdLL,0x59787e2b93bc56f7LL,0x40626443927a9c5bLL }},// 10^-99
+     {{ static_cast<uint64_t>(-329),0x8bfbea76c619ef36LL,0x57eb4edb3c55b65aLL,0x883d7eaa3b8ca1b9LL }},// 10^-98
+     {{ static_cast<uint64_t>(-326),0xaefae51477a06b03LL,0xede622920b6b23f1LL,0x2a4cde54ca6fca27LL }},// 10^-97
+     {{ static_cast<uint64_t>(-323),0xdab99e59958885c4LL,0xe95fab368e45ecedLL,0x74e015e9fd0bbcb1LL }},// 10^-96
+     {{ static_cast<uint64_t>(-319),0x88b402f7fd75539bLL,0x11dbcb0218ebb414LL,0x690c0db23e2755eeLL }},// 10^-95
+     {{ static_cast<uint64_t>(-316),0xaae103b5fcd2a881LL,0xd652bdc29f26a119LL,0x834f111ecdb12b6aLL }},// 10^-94
+     {{ static_cast<uint64_t>(-313),0xd59944a37c0752a2LL,0x4be76d3346f0495fLL,0xe422d566811d7645LL }},// 10^-93
+     {{ static_cast<uint64_t>(-309),0x857fcae62d8493a5LL,0x6f70a4400c562ddbLL,0xee95c56010b269ebLL }},// 10^-92
+     {{ static_cast<uint64_t>(-306),0xa6dfbd9fb8e5b88eLL,0xcb4ccd500f6bb952LL,0xea3b36b814df0466LL }},// 10^-91
+     {{ static_cast<uint64_t>(-303),0xd097ad07a71f26b2LL,0x7e2000a41346a7a7LL,0xa4ca04661a16c57fLL }},// 10^-90
+     {{ static_cast<uint64_t>(-299),0x825ecc24c873782fLL,0x8ed400668c0c28c8LL,0xc6fe42bfd04e3b6fLL }},// 10^-89
+     {{ static_cast<uint64_t>(-296),0xa2f67f2dfa90563bLL,0x728900802f0f32faLL,0xf8bdd36fc461ca4bLL }},// 10^-88
+     {{ static_cast<uint64_t>(-293),0xcbb41ef979346bcaLL,0x4f2b40a03ad2ffb9LL,0xb6ed484bb57a3cdeLL }},// 10^-87
+     {{ static_cast<uint64_t>(-290),0xfea126b7d78186bcLL,0xe2f610c84987bfa8LL,0x24a89a5ea2d8cc16LL }},// 10^-86
+     {{ static_cast<uint64_t>(-286),0x9f24b832e6b0f436LL,0x0dd9ca7d2df4d7c9LL,0x16e9607b25c77f8dLL }},// 10^-85
+     {{ static_cast<uint64_t>(-283),0xc6ede63fa05d3143LL,0x91503d1c79720dbbLL,0x5ca3b899ef395f71LL }},// 10^-84
+     {{ static_cast<uint64_t>(-280),0xf8a95fcf88747d94LL,0x75a44c6397ce912aLL,0x33cca6c06b07b74dLL }},// 10^-83
+     {{ static_cast<uint64_t>(-276),0x9b69dbe1b548ce7cLL,0xc986afbe3ee11abaLL,0x605fe83842e4d290LL }},// 10^-82
+     {{ static_cast<uint64_t>(-273),0xc24452da229b021bLL,0xfbe85badce996168LL,0xf877e246539e0734LL }},// 10^-81
+     {{ static_cast<uint64_t>(-270),0xf2d56790ab41c2a2LL,0xfae27299423fb9c3LL,0x3695dad7e8858901LL }},// 10^-80
+     {{ static_cast<uint64_t>(-266),0x97c560ba6b0919a5LL,0xdccd879fc967d41aLL,0x021da8c6f15375a1LL }},// 10^-79
+     {{ static_cast<uint64_t>(-263),0xbdb6b8e905cb600fLL,0x5400e987bbc1c920LL,0x82a512f8ada85309LL }},// 10^-78
+     {{ static_cast<uint64_t>(-260),0xed246723473e3813LL,0x290123e9aab23b68LL,0xa34e57b6d91267cbLL }},// 10^-77
+     {{ static_cast<uint64_t>(-256),0x9436c0760c86e30bLL,0xf9a0b6720aaf6521LL,0x6610f6d247ab80dfLL }},// 10^-76
+     {{ static_cast<uint64_t>(-253),0xb94470938fa89bceLL,0xf808e40e8d5b3e69LL,0xbf953486d9966117LL }},// 10^-75
+     {{ static_cast<uint64_t>(-250),0xe7958cb87392c2c2LL,0xb60b1d1230b20e04LL,0x2f7a81a88ffbf95dLL }},// 10^-74
+     {{ static_cast<uint64_t>(-246),0x90bd77f3483bb9b9LL,0xb1c6f22b5e6f48c2LL,0x9dac910959fd7bdaLL }},// 10^-73
+     {{ static_cast<uint64_t>(-243),0xb4ecd5f01a4aa828LL,0x1e38aeb6360b1af3LL,0x4517b54bb07cdad0LL }},// 10^-72
+     {{ static_cast<uint64_t>(-240),0xe2280b6c20dd5232LL,0x25c6da63c38de1b0LL,0x165da29e9c9c1184LL }},// 10^-71
+     {{ static_cast<uint64_t>(-236),0x8d590723948a535fLL,0x579c487e5a38ad0eLL,0x0dfa85a321e18af3LL }},// 10^-70
+     {{ static_cast<uint64_t>(-233),0xb0af48ec79ace837LL,0x2d835a9df0c6d851LL,0x9179270bea59edafLL }},// 10^-69
+     {{ static_cast<uint64_t>(-230),0xdcdb1b2798182244LL,0xf8e431456cf88e65LL,0xf5d770cee4f0691bLL }},// 10^-68
+     {{ static_cast<uint64_t>(-226),0x8a08f0f8bf0f156bLL,0x1b8e9ecb641b58ffLL,0xb9a6a6814f1641b1LL }},// 10^-67
+     {{ static_cast<uint64_t>(-223),0xac8b2d36eed2dac5LL,0xe272467e3d222f3fLL,0xa8105021a2dbd21dLL }},// 10^-66
+     {{ static_cast<uint64_t>(-220),0xd7adf884aa879177LL,0x5b0ed81dcc6abb0fLL,0x9214642a0b92c6a5LL }},// 10^-65
+     {{ static_cast<uint64_t>(-216),0x86ccbb52ea94baeaLL,0x98e947129fc2b4e9LL,0xbb4cbe9a473bbc27LL }},// 10^-64
+     {{ static_cast<uint64_t>(-213),0xa87fea27a539e9a5LL,0x3f2398d747b36224LL,0x2a1fee40d90aab31LL }},// 10^-63
+     {{ static_cast<uint64_t>(-210),0xd29fe4b18e88640eLL,0x8eec7f0d19a03aadLL,0x34a7e9d10f4d55fdLL }},// 10^-62
+     {{ static_cast<uint64_t>(-206),0x83a3eeeef9153e89LL,0x1953cf68300424acLL,0x40e8f222a99055beLL }},// 10^-61
+     {{ static_cast<uint64_t>(-203),0xa48ceaaab75a8e2bLL,0x5fa8c3423c052dd7LL,0x51232eab53f46b2dLL }},// 10^-60
+     {{ static_cast<uint64_t>(-200),0xcdb02555653131b6LL,0x3792f412cb06794dLL,0x256bfa5628f185f9LL }},// 10^-59
+     {{ static_cast<uint64_t>(-196),0x808e17555f3ebf11LL,0xe2bbd88bbee40bd0LL,0x37637c75d996f3bbLL }},// 10^-58
+     {{ static_cast<uint64_t>(-193),0xa0b19d2ab70e6ed6LL,0x5b6aceaeae9d0ec4LL,0x453c5b934ffcb0aaLL }},// 10^-57
+     {{ static_cast<uint64_t>(-190),0xc8de047564d20a8bLL,0xf245825a5a445275LL,0x568b727823fbdcd5LL }},// 10^-56
+     {{ static_cast<uint64_t>(-187),0xfb158592be068d2eLL,0xeed6e2f0f0d56712LL,0xac2e4f162cfad40aLL }},// 10^-55
+     {{ static_cast<uint64_t>(-183),0x9ced737bb6c4183dLL,0x55464dd69685606bLL,0xab9cf16ddc1cc486LL }},// 10^-54
+     {{ static_cast<uint64_t>(-180),0xc428d05aa4751e4cLL,0xaa97e14c3c26b886LL,0x96842dc95323f5a8LL }},// 10^-53
+     {{ static_cast<uint64_t>(-177),0xf53304714d9265dfLL,0xd53dd99f4b3066a8LL,0x3c25393ba7ecf312LL }},// 10^-52
+     {{ static_cast<uint64_t>(-173),0x993fe2c6d07b7fabLL,0xe546a8038efe4029LL,0x259743c548f417ebLL }},// 10^-51
+     {{ static_cast<uint64_t>(-170),0xbf8fdb78849a5f96LL,0xde98520472bdd033LL,0x6efd14b69b311de6LL }},// 10^-50
+     {{ static_cast<uint64_t>(-167),0xef73d256a5c0f77cLL,0x963e66858f6d4440LL,0x4abc59e441fd6560LL }},// 10^-49
+     {{ static_cast<uint64_t>(-163),0x95a8637627989aadLL,0xdde7001379a44aa8LL,0x2eb5b82ea93e5f5cLL }},// 10^-48
+     {{ static_cast<uint64_t>(-160),0xbb127c53b17ec159LL,0x5560c018580d5d52LL,0x3a63263a538df733LL }},// 10^-47
+     {{ static_cast<uint64_t>(-157),0xe9d71b689dde71afLL,0xaab8f01e6e10b4a6LL,0xc8fbefc8e87174ffLL }},// 10^-46
+     {{ static_cast<uint64_t>(-153),0x9226712162ab070dLL,0xcab3961304ca70e8LL,0x3d9d75dd9146e91fLL }},// 10^-45
+     {{ static_cast<uint64_t>(-150),0xb6b00d69bb55c8d1LL,0x3d607b97c5fd0d22LL,0x4d04d354f598a367LL }},// 10^-44
+     {{ static_cast<uint64_t>(-147),0xe45c10c42a2b3b05LL,0x8cb89a7db77c506aLL,0xe046082a32fecc41LL }},// 10^-43
+     {{ static_cast<uint64_t>(-143),0x8eb98a7a9a5b04e3LL,0x77f3608e92adb242LL,0xcc2bc51a5fdf3fa9LL }},// 10^-42
+     {{ static_cast<uint64_t>(-140),0xb267ed1940f1c61cLL,0x55f038b237591ed3LL,0x7f36b660f7d70f93LL }},// 10^-41
+     {{ static_cast<uint64_t>(-137),0xdf01e85f912e37a3LL,0x6b6c46dec52f6688LL,0x5f0463f935ccd378LL }},// 10^-40
+     {{ static_cast<uint64_t>(-133),0x8b61313bbabce2c6LL,0x2323ac4b3b3da015LL,0x3b62be7bc1a0042bLL }},// 10^-39
+     {{ static_cast<uint64_t>(-130),0xae397d8aa96c1b77LL,0xabec975e0a0d081aLL,0x8a3b6e1ab2080536LL }},// 10^-38
+     {{ static_cast<uint64_t>(-127),0xd9c7dced53c72255LL,0x96e7bd358c904a21LL,0x2cca49a15e8a0683LL }},// 10^-37
+     {{ static_cast<uint64_t>(-123),0x881cea14545c7575LL,0x7e50d64177da2e54LL,0xbbfe6e04db164412LL }},// 10^-36
+     {{ static_cast<uint64_t>(-120),0xaa242499697392d2LL,0xdde50bd1d5d0b9e9LL,0xeafe098611dbd516LL }},// 10^-35
+     {{ static_cast<uint64_t>(-117),0xd4ad2dbfc3d07787LL,0x955e4ec64b44e864LL,0x65bd8be79652ca5cLL }},// 10^-34
+     {{ static_cast<uint64_t>(-113),0x84ec3c97da624ab4LL,0xbd5af13bef0b113eLL,0xbf967770bdf3be79LL }},// 10^-33
+     {{ static_cast<uint64_t>(-110),0xa6274bbdd0fadd61LL,0xecb1ad8aeacdd58eLL,0x6f7c154ced70ae18LL }},// 10^-32
+     {{ static_cast<uint64_t>(-107),0xcfb11ead453994baLL,0x67de18eda5814af2LL,0x0b5b1aa028ccd99eLL }},// 10^-31
+     {{ static_cast<uint64_t>(-103),0x81ceb32c4b43fcf4LL,0x80eacf948770ced7LL,0x4718f0a419800802LL }},// 10^-30
+     {{ static_cast<uint64_t>(-100),0xa2425ff75e14fc31LL,0xa1258379a94d028dLL,0x18df2ccd1fe00a03LL }},// 10^-29
+     {{ static_cast<uint64_t>(-97),0xcad2f7f5359a3b3eLL,0x096ee45813a04330LL,0x5f16f80067d80c84LL }},// 10^-28
+     {{ static_cast<uint64_t>(-94),0xfd87b5f28300ca0dLL,0x8bca9d6e188853fcLL,0x76dcb60081ce0fa5LL }},// 10^-27
+     {{ static_cast<uint64_t>(-90),0x9e74d1b791e07e48LL,0x775ea264cf55347dLL,0xca49f1c05120c9c7LL }},// 10^-26
+     {{ static_cast<uint64_t>(-87),0xc612062576589ddaLL,0x95364afe032a819dLL,0x3cdc6e306568fc39LL }},// 10^-25
+     {{ static_cast<uint64_t>(-84),0xf79687aed3eec551LL,0x3a83ddbd83f52204LL,0x8c1389bc7ec33b47LL }},// 10^-24
+     {{ static_cast<uint64_t>(-80),0x9abe14cd44753b52LL,0xc4926a9672793542LL,0xd78c3615cf3a050cLL }},// 10^-23
+     {{ static_cast<uint64_t>(-77),0xc16d9a0095928a27LL,0x75b7053c0f178293LL,0x8d6f439b43088650LL }},// 10^-22
+     {{ static_cast<uint64_t>(-74),0xf1c90080baf72cb1LL,0x5324c68b12dd6338LL,0x70cb148213caa7e4LL }},// 10^-21
+     {{ static_cast<uint64_t>(-70),0x971da05074da7beeLL,0xd3f6fc16ebca5e03LL,0x467eecd14c5ea8eeLL }},// 10^-20
+     {{ static_cast<uint64_t>(-67),0xbce5086492111aeaLL,0x88f4bb1ca6bcf584LL,0x181ea8059f76532aLL }},// 10^-19
+     {{ static_cast<uint64_t>(-64),0xec1e4a7db69561a5LL,0x2b31e9e3d06c32e5LL,0x1e2652070753e7f4LL }},// 10^-18
+     {{ static_cast<uint64_t>(-60),0x9392ee8e921d5d07LL,0x3aff322e62439fcfLL,0x32d7f344649470f9LL }},// 10^-17
+     {{ static_cast<uint64_t>(-57),0xb877aa3236a4b449LL,0x09befeb9fad487c2LL,0xff8df0157db98d37LL }},// 10^-16
+     {{ static_cast<uint64_t>(-54),0xe69594bec44de15bLL,0x4c2ebe687989a9b3LL,0xbf716c1add27f085LL }},// 10^-15
+     {{ static_cast<uint64_t>(-50),0x901d7cf73ab0acd9LL,0x0f9d37014bf60a10LL,0x57a6e390ca38f653LL }},// 10^-14
+     {{ static_cast<uint64_t>(-47),0xb424dc35095cd80fLL,0x538484c19ef38c94LL,0x6d909c74fcc733e8LL }},// 10^-13
+     {{ static_cast<uint64_t>(-44),0xe12e13424bb40e13LL,0x2865a5f206b06fb9LL,0x88f4c3923bf900e2LL }},// 10^-12
+     {{ static_cast<uint64_t>(-40),0x8cbccc096f5088cbLL,0xf93f87b7442e45d3LL,0xf598fa3b657ba08dLL }},// 10^-11
+     {{ static_cast<uint64_t>(-37),0xafebff0bcb24aafeLL,0xf78f69a51539d748LL,0xf2ff38ca3eda88b0LL }},// 10^-10
+     {{ static_cast<uint64_t>(-34),0xdbe6fecebdedd5beLL,0xb573440e5a884d1bLL,0x2fbf06fcce912adcLL }},// 10^-9
+     {{ static_cast<uint64_t>(-30),0x89705f4136b4a597LL,0x31680a88f8953030LL,0xfdd7645e011abac9LL }},// 10^-8
+     {{ static_cast<uint64_t>(-27),0xabcc77118461cefcLL,0xfdc20d2b36ba7c3dLL,0x3d4d3d758161697cLL }},// 10^-7
+     {{ static_cast<uint64_t>(-24),0xd6bf94d5e57a42bcLL,0x3d32907604691b4cLL,0x8ca08cd2e1b9c3dbLL }},// 10^-6
+     {{ static_cast<uint64_t>(-20),0x8637bd05af6c69b5LL,0xa63f9a49c2c1b10fLL,0xd7e45803cd141a69LL }},// 10^-5
+     {{ static_cast<uint64_t>(-17),0xa7c5ac471b478423LL,0x0fcf80dc33721d53LL,0xcddd6e04c0592103LL }},// 10^-4
+     {{ static_cast<uint64_t>(-14),0xd1b71758e219652bLL,0xd3c36113404ea4a8LL,0xc154c985f06f6944LL }},// 10^-3
+     {{ static_cast<uint64_t>(-10),0x83126e978d4fdf3bLL,0x645a1cac083126e9LL,0x78d4fdf3b645a1caLL }},// 10^-2
+     {{ static_cast<uint64_t>(-7),0xa3d70a3d70a3d70aLL,0x3d70a3d70a3d70a3LL,0xd70a3d70a3d70a3dLL }},// 10^-1
+     {{ static_cast<uint64_t>(-4),0xccccccccccccccccLL,0xccccccccccccccccLL,0xccccccccccccccccLL }},// 10^0
+     {{ static_cast<uint64_t>(0),0x8000000000000000LL,0x0000000000000000LL,0x0000000000000000LL }},// 10^1
+     {{ static_cast<uint64_t>(3),0xa000000000000000LL,0x0000000000000000LL,0x0000000000000000LL }},// 10^2
+     {{ static_cast<uint64_t>(6),0xc800000000000000LL,0x0000000000000000LL,0x0000000000000000LL }},// 10^3
+     {{ static_cast<uint64_t>(9),0xfa00000000000000LL,0x0000000000000000LL,0x0000000000000000LL }},// 10^4
+     {{ static_cast<uint64_t>(13),0x9c40000000000000LL,0x0000000000000000LL,0x0000000000000000LL }},// 10^5
+     {{ static_cast<uint64_t>(16),0xc350000000000000LL,0x0000000000000000LL,0x0000000000000000LL }},// 10^6
+     {{ static_cast<uint64_t>(19),0xf424000000000000LL,0x0000000000000000LL,0x0000000000000000LL }},// 10^7
+     {{ static_cast<uint64_t>(23),0x9896800000000000LL,0x0000000000000000LL,0x0000000000000000LL }},// 10^8
+     {{ static_cast<uint64_t>(26),0xbebc200000000000LL,0x0000000000000000LL,0x0000000000000000LL }},// 10^9
+     {{ static_cast<uint64_t>(29),0xee6b280000000000LL,0x0000000000000000LL,0x0000000000000000LL }},// 10^10
+     {{ static_cast<uint64_t>(33),0x9502f90000000000LL,0x0000000000000000LL,0x0000000000000000LL }},// 10^11
+     {{ static_cast<uint64_t>(36),0xba43b74000000000LL,0x0000000000000000LL,0x0000000000000000LL }},// 10^12
+     {{ static_cast<uint64_t>(39),0xe8d4a51000000000LL,0x0000000000000000LL,0x0000000000000000LL }},// 10^13
+     {{ static_cast<uint64_t>(43),0x9184e72a00000000LL,0x0000000000000000LL,0x0000000000000000LL }},// 10^14
+     {{ static_cast<uint64_t>(46),0xb5e620f480000000LL,0x0000000000000000LL,0x0000000000000000LL }},// 10^15
+     {{ static_cast<uint64_t>(49),0xe35fa931a0000000LL,0x0000000000000000LL,0x0000000000000000LL }},// 10^16
+     {{ static_cast<uint64_t>(53),0x8e1bc9bf04000000LL,0x0000000000000000LL,0x0000000000000000LL }},// 10^17
+     {{ static_cast<uint64_t>(56),0xb1a2bc2ec5000000LL,0x0000000000000000LL,0x0000000000000000LL }},// 10^18
+     {{ static_cast<uint64_t>(59),0xde0b6b3a76400000LL,0x0000000000000000LL,0x0000000000000000LL }},// 10^19
+     {{ static_cast<uint64_t>(63),0x8ac7230489e80000LL,0x0000000000000000LL,0x0000000000000000LL }},// 10^20
+     {{ static_cast<uint64_t>(66),0xad78ebc5ac620000LL,0x0000000000000000LL,0x0000000000000000LL }},// 10^21
+     {{ static_cast<uint64_t>(69),0xd8d726b7177a8000LL,0x0000000000000000LL,0x0000000000000000LL }},// 10^22
+     {{ static_cast<uint64_t>(73),0x878678326eac9000LL,0x0000000000000000LL,0x0000000000000000LL }},// 10^23
+     {{ static_cast<uint64_t>(76),0xa968163f0a57b400LL,0x0000000000000000LL,0x0000000000000000LL }},// 10^24
+     {{ static_cast<uint64_t>(79),0xd3c21bcecceda100LL,0x0000000000000000LL,0x0000000000000000LL }},// 10^25
+     {{ static_cast<uint64_t>(83),0x84595161401484a0LL,0x0000000000000000LL,0x0000000000000000LL }},// 10^26
+     {{ static_cast<uint64_t>(86),0xa56fa5b99019a5c8LL,0x0000000000000000LL,0x0000000000000000LL }},// 10^27
+     {{ static_cast<uint64_t>(89),0xcecb8f27f4200f3aLL,0x0000000000000000LL,0x0000000000000000LL }},// 10^28
+     {{ static_cast<uint64_t>(93),0x813f3978f8940984LL,0x4000000000000000LL,0x0000000000000000LL }},// 10^29
+     {{ static_cast<uint64_t>(96),0xa18f07d736b90be5LL,0x5000000000000000LL,0x0000000000000000LL }},// 10^30
+     {{ static_cast<uint64_t>(99),0xc9f2c9cd04674edeLL,0xa400000000000000LL,0x0000000000000000LL }},// 10^31
+     {{ static_cast<uint64_t>(102),0xfc6f7c4045812296LL,0x4d00000000000000LL,0x0000000000000000LL }},// 10^32
+     {{ static_cast<uint64_t>(106),0x9dc5ada82b70b59dLL,0xf020000000000000LL,0x0000000000000000LL }},// 10^33
+     {{ static_cast<uint64_t>(109),0xc5371912364ce305LL,0x6c28000000000000LL,0x0000000000000000LL }},// 10^34
+     {{ static_cast<uint64_t>(112),0xf684df56c3e01bc6LL,0xc732000000000000LL,0x0000000000000000LL }},// 10^35
+     {{ static_cast<uint64_t>(116),0x9a130b963a6c115cLL,0x3c7f400000000000LL,0x0000000000000000LL }},// 10^36
+     {{ static_cast<uint64_t>(119),0xc097ce7bc90715b3LL,0x4b9f100000000000LL,0x0000000000000000LL }},// 10^37
+     {{ static_cast<uint64_t>(122),0xf0bdc21abb48db20LL,0x1e86d40000000000LL,0x0000000000000000LL }},// 10^38
+     {{ static_cast<uint64_t>(126),0x96769950b50d88f4LL,0x1314448000000000LL,0x0000000000000000LL }},// 10^39
+     {{ static_cast<uint64_t>(129),0xbc143fa4e250eb31LL,0x17d955a000000000LL,0x0000000000000000LL }},// 10^40
+     {{ static_cast<uint64_t>(132),0xeb194f8e1ae525fdLL,0x5dcfab0800000000LL,0x0000000000000000LL }},// 10^41
+     {{ static_cast<uint64_t>(136),0x92efd1b8d0cf37beLL,0x5aa1cae500000000LL,0x0000000000000000LL }},// 10^42
+     {{ static_cast<uint64_t>(139),0xb7abc627050305adLL,0xf14a3d9e40000000LL,0x0000000000000000LL }},// 10^43
+     {{ static_cast<uint64_t>(142),0xe596b7b0c643c719LL,0x6d9ccd05d0000000LL,0x0000000000000000LL }},// 10^44
+     {{ static_cast<uint64_t>(146),0x8f7e32ce7bea5c6fLL,0xe4820023a2000000LL,0x0000000000000000LL }},// 10^45
+     {{ static_cast<uint64_t>(149),0xb35dbf821ae4f38bLL,0xdda2802c8a800000LL,0x0000000000000000LL }},// 10^46
+     {{ static_cast<uint64_t>(152),0xe0352f62a19e306eLL,0xd50b2037ad200000LL,0x0000000000000000LL }},// 10^47
+     {{ static_cast<uint64_t>(156),0x8c213d9da502de45LL,0x4526f422cc340000LL,0x0000000000000000LL }},// 10^48
+     {{ static_cast<uint64_t>(159),0xaf298d050e4395d6LL,0x9670b12b7f410000LL,0x0000000000000000LL }},// 10^49
+     {{ static_cast<uint64_t>(162),0xdaf3f04651d47b4cLL,0x3c0cdd765f114000LL,0x0000000000000000LL }},// 10^50
+     {{ static_cast<uint64_t>(166),0x88d8762bf324cd0fLL,0xa5880a69fb6ac800LL,0x0000000000000000LL }},// 10^51
+     {{ static_cast<uint64_t>(169),0xab0e93b6efee0053LL,0x8eea0d047a457a00LL,0x0000000000000000LL }},// 10^52
+     {{ static_cast<uint64_t>(172),0xd5d238a4abe98068LL,0x72a4904598d6d880LL,0x0000000000000000LL }},// 10^53
+     {{ static_cast<uint64_t>(176),0x85a36366eb71f041LL,0x47a6da2b7f864750LL,0x0000000000000000LL }},// 10^54
+     {{ static_cast<uint64_t>(179),0xa70c3c40a64e6c51LL,0x999090b65f67d924LL,0x0000000000000000LL }},// 10^55
+     {{ static_cast<uint64_t>(182),0xd0cf4b50cfe20765LL,0xfff4b4e3f741cf6dLL,0x0000000000000000LL }},// 10^56
+     {{ static_cast<uint64_t>(186),0x82818f1281ed449fLL,0xbff8f10e7a8921a4LL,0x2000000000000000LL }},// 10^57
+     {{ static_cast<uint64_t>(189),0xa321f2d7226895c7LL,0xaff72d52192b6a0dLL,0x2800000000000000LL }},// 10^58
+     {{ static_cast<uint64_t>(192),0xcbea6f8ceb02bb39LL,0x9bf4f8a69f764490LL,0x7200000000000000LL }},// 10^59
+     {{ static_cast<uint64_t>(195),0xfee50b7025c36a08LL,0x02f236d04753d5b4LL,0x8e80000000000000LL }},// 10^60
+     {{ static_cast<uint64_t>(199),0x9f4f2726179a2245LL,0x01d762422c946590LL,0xd910000000000000LL }},// 10^61
+     {{ static_cast<uint64_t>(202),0xc722f0ef9d80aad6LL,0x424d3ad2b7b97ef5LL,0x0f54000000000000LL }},// 10^62
+     {{ static_cast<uint64_t>(205),0xf8ebad2b84e0d58bLL,0xd2e0898765a7deb2LL,0x5329000000000000LL }},// 10^63
+     {{ static_cast<uint64_t>(209),0x9b934c3b330c8577LL,0x63cc55f49f88eb2fLL,0x73f9a00000000000LL }},// 10^64
+     {{ static_cast<uint64_t>(212),0xc2781f49ffcfa6d5LL,0x3cbf6b71c76b25fbLL,0x50f8080000000000LL }},// 10^65
+     {{ static_cast<uint64_t>(215),0xf316271c7fc3908aLL,0x8bef464e3945ef7aLL,0x25360a0000000000LL }},// 10^66
+     {{ static_cast<uint64_t>(219),0x97edd871cfda3a56LL,0x97758bf0e3cbb5acLL,0x5741c64000000000LL }},// 10^67
+     {{ static_cast<uint64_t>(222),0xbde94e8e43d0c8ecLL,0x3d52eeed1cbea317LL,0x6d1237d000000000LL }},// 10^68
+     {{ static_cast<uint64_t>(225),0xed63a231d4c4fb27LL,0x4ca7aaa863ee4bddLL,0x4856c5c400000000LL }},// 10^69
+     {{ static_cast<uint64_t>(229),0x945e455f24fb1cf8LL,0x8fe8caa93e74ef6aLL,0x4d363b9a80000000LL }},// 10^70
+     {{ static_cast<uint64_t>(232),0xb975d6b6ee39e436LL,0xb3e2fd538e122b44LL,0xe083ca8120000000LL }},// 10^71
+     {{ static_cast<uint64_t>(235),0xe7d34c64a9c85d44LL,0x60dbbca87196b616LL,0x18a4bd2168000000LL }},// 10^72
+     {{ static_cast<uint64_t>(239),0x90e40fbeea1d3a4aLL,0xbc8955e946fe31cdLL,0xcf66f634e1000000LL }},// 10^73
+     {{ static_cast<uint64_t>(242),0xb51d13aea4a488ddLL,0x6babab6398bdbe41LL,0x4340b3c219400000LL }},// 10^74
+     {{ static_cast<uint64_t>(245),0xe264589a4dcdab14LL,0xc696963c7eed2dd1LL,0x9410e0b29f900000LL }},// 10^75
+     {{ static_cast<uint64_t>(249),0x8d7eb76070a08aecLL,0xfc1e1de5cf543ca2LL,0xfc8a8c6fa3ba0000LL }},// 10^76
+     {{ static_cast<uint64_t>(252),0xb0de65388cc8ada8LL,0x3b25a55f43294bcbLL,0xbbad2f8b8ca88000LL }},// 10^77
+     {{ static_cast<uint64_t>(255),0xdd15fe86affad912LL,0x49ef0eb713f39ebeLL,0xaa987b6e6fd2a000LL }},// 10^78
+     {{ static_cast<uint64_t>(259),0x8a2dbf142dfcc7abLL,0x6e3569326c784337LL,0x2a9f4d2505e3a400LL }},// 10^79
+     {{ static_cast<uint64_t>(262),0xacb92ed9397bf996LL,0x49c2c37f07965404LL,0xf547206e475c8d00LL }},// 10^80
+     {{ static_cast<uint64_t>(265),0xd7e77a8f87daf7fbLL,0xdc33745ec97be906LL,0x3298e889d933b040LL }},// 10^81
+     {{ static_cast<uint64_t>(269),0x86f0ac99b4e8dafdLL,0x69a028bb3ded71a3LL,0xdf9f915627c04e28LL }},// 10^82
+     {{ static_cast<uint64_t>(272),0xa8acd7c0222311bcLL,0xc40832ea0d68ce0cLL,0xd78775abb1b061b2LL }},// 10^83
+     {{ static_cast<uint64_t>(275),0xd2d80db02aabd62bLL,0xf50a3fa490c30190LL,0x0d6953169e1c7a1eLL }},// 10^84
+     {{ static_cast<uint64_t>(279),0x83c7088e1aab65dbLL,0x792667c6da79e0faLL,0x0861d3ee22d1cc53LL }},// 10^85
+     {{ static_cast<uint64_t>(282),0xa4b8cab1a1563f52LL,0x577001b891185938LL,0x8a7a48e9ab863f67LL }},// 10^86
+     {{ static_cast<uint64_t>(285),0xcde6fd5e09abcf26LL,0xed4c0226b55e6f86LL,0xad18db241667cf41LL }},// 10^87
+     {{ static_cast<uint64_t>(289),0x80b05e5ac60b6178LL,0x544f8158315b05b4LL,0x2c2f88f68e00e189LL }},// 10^88
+     {{ static_cast<uint64_t>(292),0xa0dc75f1778e39d6LL,0x696361ae3db1c721LL,0x373b6b34318119ebLL }},// 10^89
+     {{ static_cast<uint64_t>(295),0xc913936dd571c84cLL,0x03bc3a19cd1e38e9LL,0x850a46013de16066LL }},// 10^90
+     {{ static_cast<uint64_t>(298),0xfb5878494ace3a5fLL,0x04ab48a04065c723LL,0xe64cd7818d59b87fLL }},// 10^91
+     {{ static_cast<uint64_t>(302),0x9d174b2dcec0e47bLL,0x62eb0d64283f9c76LL,0x6ff006b0f858134fLL }},// 10^92
+     {{ static_cast<uint64_t>(305),0xc45d1df942711d9aLL,0x3ba5d0bd324f8394LL,0x0bec085d366e1823LL }},// 10^93
+     {{ static_cast<uint64_t>(308),0xf5746577930d6500LL,0xca8f44ec7ee36479LL,0x0ee70a7484099e2cLL }},// 10^94
+     {{ static_cast<uint64_t>(312),0x9968bf6abbe85f20LL,0x7e998b13cf4e1ecbLL,0xa9506688d28602dcLL }},// 10^95
+     {{ static_cast<uint64_t>(315),0xbfc2ef456ae276e8LL,0x9e3fedd8c321a67eLL,0x93a4802b07278393LL }},// 10^96
+     {{ static_cast<uint64_t>(318),0xefb3ab16c59b14a2LL,0xc5cfe94ef3ea101eLL,0x388da035c8f16477LL }},// 10^97
+     {{ static_cast<uint64_t>(322),0x95d04aee3b80ece5LL,0xbba1f1d158724a12LL,0xe35884219d96decaLL }},// 10^98
+     {{ static_cast<uint64_t>(325),0xbb445da9ca61281fLL,0x2a8a6e45ae8edc97LL,0x9c2ea52a04fc967dLL }},// 10^99
+     {{ static_cast<uint64_t>(328),0xea1575143cf97226LL,0xf52d09d71a3293bdLL,0x833a4e74863bbc1cLL }},// 10^100
+     {{ static_cast<uint64_t>(332),0x924d692ca61be758LL,0x593c2626705f9c56LL,0x72047108d3e55592LL }},// 10^101
+     {{ static_cast<uint64_t>(335),0xb6e0c377cfa2e12eLL,0x6f8b2fb00c77836cLL,0x0e858d4b08deaaf6LL }},// 10^102
+     {{ static_cast<uint64_t>(338),0xe498f455c38b997aLL,0x0b6dfb9c0f956447LL,0x1226f09dcb1655b4LL }},// 10^103
+     {{ static_cast<uint64_t>(342),0x8edf98b59a373fecLL,0x4724bd4189bd5eacLL,0x6b5856629eedf590LL }},// 10^104
+     {{ static_cast<uint64_t>(345),0xb2977ee300c50fe7LL,0x58edec91ec2cb657LL,0x862e6bfb46a972f4LL }},// 10^105
+     {{ static_cast<uint64_t>(348),0xdf3d5e9bc0f653e1LL,0x2f2967b66737e3edLL,0x67ba06fa1853cfb2LL }},// 10^106
+     {{ static_cast<uint64_t>(352),0x8b865b215899f46cLL,0xbd79e0d20082ee74LL,0x60d4445c4f3461cfLL }},// 10^107
+     {{ static_cast<uint64_t>(355),0xae67f1e9aec07187LL,0xecd8590680a3aa11LL,0x7909557363017a43LL }},// 10^108
+     {{ static_cast<uint64_t>(358),0xda01ee641a708de9LL,0xe80e6f4820cc9495LL,0xd74baad03bc1d8d3LL }},// 10^109
+     {{ static_cast<uint64_t>(362),0x884134fe908658b2LL,0x3109058d147fdcddLL,0xa68f4ac225592784LL }},// 10^110
+     {{ static_cast<uint64_t>(365),0xaa51823e34a7eedeLL,0xbd4b46f0599fd415LL,0x10331d72aeaf7165LL }},// 10^111
+     {{ static_cast<uint64_t>(368),0xd4e5e2cdc1d1ea96LL,0x6c9e18ac7007c91aLL,0x543fe4cf5a5b4dbeLL }},// 10^112
+     {{ static_cast<uint64_t>(372),0x850fadc09923329eLL,0x03e2cf6bc604ddb0LL,0x74a7ef0198791097LL }},// 10^113
+     {{ static_cast<uint64_t>(375),0xa6539930bf6bff45LL,0x84db8346b786151cLL,0x91d1eac1fe9754bdLL }},// 10^114
+     {{ static_cast<uint64_t>(378),0xcfe87f7cef46ff16LL,0xe612641865679a63LL,0xb64665727e3d29ecLL }},// 10^115
+     {{ static_cast<uint64_t>(382),0x81f14fae158c5f6eLL,0x4fcb7e8f3f60c07eLL,0x51ebff678ee63a33LL }},// 10^116
+     {{ static_cast<uint64_t>(385),0xa26da3999aef7749LL,0xe3be5e330f38f09dLL,0xe666ff41729fc8c0LL }},// 10^117
+     {{ static_cast<uint64_t>(388),0xcb090c8001ab551cLL,0x5cadf5bfd3072cc5LL,0x6000bf11cf47baf0LL }},// 10^118
+     {{ static_cast<uint64_t>(391),0xfdcb4fa002162a63LL,0x73d9732fc7c8f7f6LL,0xb800eed64319a9adLL }},// 10^119
+     {{ static_cast<uint64_t>(395),0x9e9f11c4014dda7eLL,0x2867e7fddcdd9afaLL,0x33009545e9f00a0cLL }},// 10^120
+     {{ static_cast<uint64_t>(398),0xc646d63501a1511dLL,0xb281e1fd541501b8LL,0xbfc0ba97646c0c8fLL }},// 10^121
+     {{ static_cast<uint64_t>(401),0xf7d88bc24209a565LL,0x1f225a7ca91a4226LL,0xefb0e93d3d870fb3LL }},// 10^122
+     {{ static_cast<uint64_t>(405),0x9ae757596946075fLL,0x3375788de9b06958LL,0x55ce91c6467469cfLL }},// 10^123
+     {{ static_cast<uint64_t>(408),0xc1a12d2fc3978937LL,0x0052d6b1641c83aeLL,0x6b423637d8118443LL }},// 10^124
+     {{ static_cast<uint64_t>(411),0xf209787bb47d6b84LL,0xc0678c5dbd23a49aLL,0x0612c3c5ce15e554LL }},// 10^125
+     {{ static_cast<uint64_t>(415),0x9745eb4d50ce6332LL,0xf840b7ba963646e0LL,0x43cbba5ba0cdaf55LL }},// 10^126
+     {{ static_cast<uint64_t>(418),0xbd176620a501fbffLL,0xb650e5a93bc3d898LL,0x54bea8f289011b2aLL }},// 10^127
+     {{ static_cast<uint64_t>(421),0xec5d3fa8ce427affLL,0xa3e51f138ab4cebeLL,0x69ee532f2b4161f4LL }},// 10^128
+     {{ static_cast<uint64_t>(425),0x93ba47c980e98cdfLL,0xc66f336c36b10137LL,0x0234f3fd7b08dd39LL }},// 10^129
+     {{ static_cast<uint64_t>(428),0xb8a8d9bbe123f017LL,0xb80b0047445d4184LL,0xc2c230fcd9cb1487LL }},// 10^130
+     {{ static_cast<uint64_t>(431),0xe6d3102ad96cec1dLL,0xa60dc059157491e5LL,0xf372bd3c103dd9a9LL }},// 10^131
+     {{ static_cast<uint64_t>(435),0x9043ea1ac7e41392LL,0x87c89837ad68db2fLL,0xb827b6458a26a809LL }},// 10^132
+     {{ static_cast<uint64_t>(438),0xb454e4a179dd1877LL,0x29babe4598c311fbLL,0xa631a3d6ecb0520cLL }},// 10^133
+     {{ static_cast<uint64_t>(441),0xe16a1dc9d8545e94LL,0xf4296dd6fef3d67aLL,0x8fbe0ccca7dc668fLL }},// 10^134
+     {{ static_cast<uint64_t>(445),0x8ce2529e2734bb1dLL,0x1899e4a65f58660cLL,0x99d6c7ffe8e9c019LL }},// 10^135
+     {{ static_cast<uint64_t>(448),0xb01ae745b101e9e4LL,0x5ec05dcff72e7f8fLL,0xc04c79ffe324301fLL }},// 10^136
+     {{ static_cast<uint64_t>(451),0xdc21a1171d42645dLL,0x76707543f4fa1f73LL,0xb05f987fdbed3c27LL }},// 10^137
+     {{ static_cast<uint64_t>(455),0x899504ae72497ebaLL,0x6a06494a791c53a8LL,0x4e3bbf4fe9744598LL }},// 10^138
+     {{ static_cast<uint64_t>(458),0xabfa45da0edbde69LL,0x0487db9d17636892LL,0x61caaf23e3d156ffLL }},// 10^139
+     {{ static_cast<uint64_t>(461),0xd6f8d7509292d603LL,0x45a9d2845d3c42b6LL,0xfa3d5aecdcc5acbeLL }},// 10^140
+     {{ static_cast<uint64_t>(465),0x865b86925b9bc5c2LL,0x0b8a2392ba45a9b2LL,0x5c6658d409fb8bf7LL }},// 10^141
+     {{ static_cast<uint64_t>(468),0xa7f26836f282b732LL,0x8e6cac7768d7141eLL,0xf37fef090c7a6ef5LL }},// 10^142
+     {{ static_cast<uint64_t>(471),0xd1ef0244af2364ffLL,0x3207d795430cd926LL,0xb05feacb4f990ab2LL }},// 10^143
+     {{ static_cast<uint64_t>(475),0x8335616aed761f1fLL,0x7f44e6bd49e807b8LL,0x2e3bf2bf11bfa6afLL }},// 10^144
+     {{ static_cast<uint64_t>(478),0xa402b9c5a8d3a6e7LL,0x5f16206c9c6209a6LL,0x39caef6ed62f905bLL }},// 10^145
+     {{ static_cast<uint64_t>(481),0xcd036837130890a1LL,0x36dba887c37a8c0fLL,0xc83dab4a8bbb7472LL }},// 10^146
+     {{ static_cast<uint64_t>(485),0x802221226be55a64LL,0xc2494954da2c9789LL,0xdd268b0e975528c7LL }},// 10^147
+     {{ static_cast<uint64_t>(488),0xa02aa96b06deb0fdLL,0xf2db9baa10b7bd6cLL,0x54702dd23d2a72f9LL }},// 10^148
+     {{ static_cast<uint64_t>(491),0xc83553c5c8965d3dLL,0x6f92829494e5acc7LL,0x698c3946cc750fb7LL }},// 10^149
+     {{ static_cast<uint64_t>(494),0xfa42a8b73abbf48cLL,0xcb772339ba1f17f9LL,0x43ef47987f9253a5LL }},// 10^150
+     {{ static_cast<uint64_t>(498),0x9c69a97284b578d7LL,0xff2a760414536efbLL,0xca758cbf4fbb7447LL }},// 10^151
+     {{ static_cast<uint64_t>(501),0xc38413cf25e2d70dLL,0xfef5138519684abaLL,0xbd12efef23aa5159LL }},// 10^152
+     {{ static_cast<uint64_t>(504),0xf46518c2ef5b8cd1LL,0x7eb258665fc25d69LL,0x6c57abeaec94e5afLL }},// 10^153
+     {{ static_cast<uint64_t>(508),0x98bf2f79d5993802LL,0xef2f773ffbd97a61LL,0xe3b6cb72d3dd0f8dLL }},// 10^154
+     {{ static_cast<uint64_t>(511),0xbeeefb584aff8603LL,0xaafb550ffacfd8faLL,0x5ca47e4f88d45371LL }},// 10^155
+     {{ static_cast<uint64_t>(514),0xeeaaba2e5dbf6784LL,0x95ba2a53f983cf38LL,0xf3cd9de36b09684dLL }},// 10^156
+     {{ static_cast<uint64_t>(518),0x952ab45cfa97a0b2LL,0xdd945a747bf26183LL,0x986082ae22e5e130LL }},// 10^157
+     {{ static_cast<uint64_t>(521),0xba756174393d88dfLL,0x94f971119aeef9e4LL,0x7e78a359ab9f597cLL }},// 10^158
+     {{ static_cast<uint64_t>(524),0xe912b9d1478ceb17LL,0x7a37cd5601aab85dLL,0x9e16cc3016872fdbLL }},// 10^159
+     {{ static_cast<uint64_t>(528),0x91abb422ccb812eeLL,0xac62e055c10ab33aLL,0x82ce3f9e0e147de9LL }},// 10^160
+     {{ static_cast<uint64_t>(531),0xb616a12b7fe617aaLL,0x577b986b314d6009LL,0x2381cf8591999d63LL }},// 10^161
+     {{ static_cast<uint64_t>(534),0xe39c49765fdf9d94LL,0xed5a7e85fda0b80bLL,0x6c624366f60004bcLL }},// 10^162
+     {{ static_cast<uint64_t>(538),0x8e41ade9fbebc27dLL,0x14588f13be847307LL,0x23bd6a2059c002f5LL }},// 10^163
+     {{ static_cast<uint64_t>(541),0xb1d219647ae6b31cLL,0x596eb2d8ae258fc8LL,0xecacc4a8703003b3LL }},// 10^164
+     {{ static_cast<uint64_t>(544),0xde469fbd99a05fe3LL,0x6fca5f8ed9aef3bbLL,0x27d7f5d28c3c04a0LL }},// 10^165
+     {{ static_cast<uint64_t>(548),0x8aec23d680043beeLL,0x25de7bb9480d5854LL,0xf8e6f9a397a582e4LL }},// 10^166
+     {{ static_cast<uint64_t>(551),0xada72ccc20054ae9LL,0xaf561aa79a10ae6aLL,0x3720b80c7d8ee39dLL }},// 10^167
+     {{ static_cast<uint64_t>(554),0xd910f7ff28069da4LL,0x1b2ba1518094da04LL,0xc4e8e60f9cf29c84LL }},// 10^168
+     {{ static_cast<uint64_t>(558),0x87aa9aff79042286LL,0x90fb44d2f05d0842LL,0xfb118fc9c217a1d2LL }},// 10^169
+     {{ static_cast<uint64_t>(561),0xa99541bf57452b28LL,0x353a1607ac744a53LL,0xb9d5f3bc329d8a47LL }},// 10^170
+     {{ static_cast<uint64_t>(564),0xd3fa922f2d1675f2LL,0x42889b8997915ce8LL,0xa84b70ab3f44ecd9LL }},// 10^171
+     {{ static_cast<uint64_t>(568),0x847c9b5d7c2e09b7LL,0x69956135febada11LL,0x692f266b078b1407LL }},// 10^172
+     {{ static_cast<uint64_t>(571),0xa59bc234db398c25LL,0x43fab9837e699095LL,0xc37af005c96dd909LL }},// 10^173
+     {{ static_cast<uint64_t>(574),0xcf02b2c21207ef2eLL,0x94f967e45e03f4bbLL,0x3459ac073bc94f4cLL }},// 10^174
+     {{ static_cast<uint64_t>(578),0x8161afb94b44f57dLL,0x1d1be0eebac278f5LL,0x00b80b84855dd18fLL }},// 10^175
+     {{ static_cast<uint64_t>(581),0xa1ba1ba79e1632dcLL,0x6462d92a69731732LL,0x40e60e65a6b545f3LL }},// 10^176
+     {{ static_cast<uint64_t>(584),0xca28a291859bbf93LL,0x7d7b8f7503cfdcfeLL,0xd11f91ff10629770LL }},// 10^177
+     {{ static_cast<uint64_t>(587),0xfcb2cb35e702af78LL,0x5cda735244c3d43eLL,0x8567767ed47b3d4cLL }},// 10^178
+     {{ static_cast<uint64_t>(591),0x9defbf01b061adabLL,0x3a0888136afa64a7LL,0x1360aa0f44cd064fLL }},// 10^179
+     {{ static_cast<uint64_t>(594),0xc56baec21c7a1916LL,0x088aaa1845b8fdd0LL,0xd838d493160047e3LL }},// 10^180
+     {{ static_cast<uint64_t>(597),0xf6c69a72a3989f5bLL,0x8aad549e57273d45LL,0x0e4709b7db8059dcLL }},// 10^181
+     {{ static_cast<uint64_t>(601),0x9a3c2087a63f6399LL,0x36ac54e2f678864bLL,0x28ec6612e9303829LL }},// 10^182
+     {{ static_cast<uint64_t>(604),0xc0cb28a98fcf3c7fLL,0x84576a1bb416a7ddLL,0xf3277f97a37c4634LL }},// 10^183
+     {{ static_cast<uint64_t>(607),0xf0fdf2d3f3c30b9fLL,0x656d44a2a11c51d5LL,0x6ff15f7d8c5b57c1LL }},// 10^184
+     {{ static_cast<uint64_t>(611),0x969eb7c47859e743LL,0x9f644ae5a4b1b325LL,0x65f6dbae77b916d8LL }},// 10^185
+     {{ static_cast<uint64_t>(614),0xbc4665b596706114LL,0x873d5d9f0dde1feeLL,0xbf74929a15a75c8fLL }},// 10^186
+     {{ static_cast<uint64_t>(617),0xeb57ff22fc0c7959LL,0xa90cb506d155a7eaLL,0x6f51b7409b1133b2LL }},// 10^187
+     {{ static_cast<uint64_t>(621),0x9316ff75dd87cbd8LL,0x09a7f12442d588f2LL,0x8593128860eac04fLL }},// 10^188
+     {{ static_cast<uint64_t>(624),0xb7dcbf5354e9beceLL,0x0c11ed6d538aeb2fLL,0x26f7d72a79257063LL }},// 10^189
+     {{ static_cast<uint64_t>(627),0xe5d3ef282a242e81LL,0x8f1668c8a86da5faLL,0xf0b5ccf5176ecc7cLL }},// 10^190
+     {{ static_cast<uint64_t>(631),0x8fa475791a569d10LL,0xf96e017d694487bcLL,0xd671a0192ea53fcdLL }},// 10^191
+     {{ static_cast<uint64_t>(634),0xb38d92d760ec4455LL,0x37c981dcc395a9acLL,0x0c0e081f7a4e8fc1LL }},// 10^192
+     {{ static_cast<uint64_t>(637),0xe070f78d3927556aLL,0x85bbe253f47b1417LL,0x0f118a2758e233b1LL }},// 10^193
+     {{ static_cast<uint64_t>(641),0x8c469ab843b89562LL,0x93956d7478ccec8eLL,0x696af658978d604fLL }},// 10^194
+     {{ static_cast<uint64_t>(644),0xaf58416654a6babbLL,0x387ac8d1970027b2LL,0x03c5b3eebd70b862LL }},// 10^195
+     {{ static_cast<uint64_t>(647),0xdb2e51bfe9d0696aLL,0x06997b05fcc0319eLL,0x84b720ea6ccce67bLL }},// 10^196
+     {{ static_cast<uint64_t>(651),0x88fcf317f22241e2LL,0x441fece3bdf81f03LL,0x12f274928400100dLL }},// 10^197
+     {{ static_cast<uint64_t>(654),0xab3c2fddeeaad25aLL,0xd527e81cad7626c3LL,0xd7af11b725001410LL }},// 10^198
+     {{ static_cast<uint64_t>(657),0xd60b3bd56a5586f1LL,0x8a71e223d8d3b074LL,0xcd9ad624ee401914LL }},// 10^199
+     {{ static_cast<uint64_t>(661),0x85c7056562757456LL,0xf6872d5667844e49LL,0x0080c5d714e80facLL }},// 10^200
+     {{ static_cast<uint64_t>(664),0xa738c6bebb12d16cLL,0xb428f8ac016561dbLL,0x40a0f74cda221398LL }},// 10^201
+     {{ static_cast<uint64_t>(667),0xd106f86e69d785c7LL,0xe13336d701beba52LL,0x10c9352010aa987eLL }},// 10^202
+     {{ static_cast<uint64_t>(671),0x82a45b450226b39cLL,0xecc0024661173473LL,0x4a7dc1340a6a9f4eLL }},// 10^203
+     {{ static_cast<uint64_t>(674),0xa34d721642b06084LL,0x27f002d7f95d0190LL,0x1d1d31810d054722LL }},// 10^204
+     {{ static_cast<uint64_t>(677),0xcc20ce9bd35c78a5LL,0x31ec038df7b441f4LL,0x24647de1504698ebLL }},// 10^205
+     {{ static_cast<uint64_t>(680),0xff290242c83396ceLL,0x7e67047175a15271LL,0x2d7d9d59a4583f26LL }},// 10^206
+     {{ static_cast<uint64_t>(684),0x9f79a169bd203e41LL,0x0f0062c6e984d386LL,0xbc6e825806b72777LL }},// 10^207
+     {{ static_cast<uint64_t>(687),0xc75809c42c684dd1LL,0x52c07b78a3e60868LL,0x6b8a22ee0864f155LL }},// 10^208
+     {{ static_cast<uint64_t>(690),0xf92e0c3537826145LL,0xa7709a56ccdf8a82LL,0x866caba98a7e2dabLL }},// 10^209
+     {{ static_cast<uint64_t>(694),0x9bbcc7a142b17ccbLL,0x88a66076400bb691LL,0x9403eb49f68edc8bLL }},// 10^210
+     {{ static_cast<uint64_t>(697),0xc2abf989935ddbfeLL,0x6acff893d00ea435LL,0xf904e61c743293adLL }},// 10^211
+     {{ static_cast<uint64_t>(700),0xf356f7ebf83552feLL,0x0583f6b8c4124d43LL,0x77461fa3913f3899LL }},// 10^212
+     {{ static_cast<uint64_t>(704),0x98165af37b2153deLL,0xc3727a337a8b704aLL,0x2a8bd3c63ac7835fLL }},// 10^213
+     {{ static_cast<uint64_t>(707),0xbe1bf1b059e9a8d6LL,0x744f18c0592e4c5cLL,0xb52ec8b7c9796437LL }},// 10^214
+     {{ static_cast<uint64_t>(710),0xeda2ee1c7064130cLL,0x1162def06f79df73LL,0xe27a7ae5bbd7bd45LL }},// 10^215
+     {{ static_cast<uint64_t>(714),0x9485d4d1c63e8be7LL,0x8addcb5645ac2ba8LL,0x6d8c8ccf9566d64bLL }},// 10^216
+     {{ static_cast<uint64_t>(717),0xb9a74a0637ce2ee1LL,0x6d953e2bd7173692LL,0x88efb0037ac08bdeLL }},// 10^217
+     {{ static_cast<uint64_t>(720),0xe8111c87c5c1ba99LL,0xc8fa8db6ccdd0437LL,0x2b2b9c045970aed5LL }},// 10^218
+     {{ static_cast<uint64_t>(724),0x910ab1d4db9914a0LL,0x1d9c9892400a22a2LL,0x7afb4182b7e66d45LL }},// 10^219
+     {{ static_cast<uint64_t>(727),0xb54d5e4a127f59c8LL,0x2503beb6d00cab4bLL,0x19ba11e365e00897LL }},// 10^220
+     {{ static_cast<uint64_t>(730),0xe2a0b5dc971f303aLL,0x2e44ae64840fd61dLL,0xe028965c3f580abcLL }},// 10^221
+     {{ static_cast<uint64_t>(734),0x8da471a9de737e24LL,0x5ceaecfed289e5d2LL,0xac195df9a79706b6LL }},// 10^222
+     {{ static_cast<uint64_t>(737),0xb10d8e1456105dadLL,0x7425a83e872c5f47LL,0x571fb578117cc863LL }},// 10^223
+     {{ static_cast<uint64_t>(740),0xdd50f1996b947518LL,0xd12f124e28f77719LL,0x2ce7a2d615dbfa7cLL }},// 10^224
+     {{ static_cast<uint64_t>(744),0x8a5296ffe33cc92fLL,0x82bd6b70d99aaa6fLL,0xbc10c5c5cda97c8dLL }},// 10^225
+     {{ static_cast<uint64_t>(747),0xace73cbfdc0bfb7bLL,0x636cc64d1001550bLL,0xab14f7374113dbb1LL }},// 10^226
+     {{ static_cast<uint64_t>(750),0xd8210befd30efa5aLL,0x3c47f7e05401aa4eLL,0x95da35051158d29dLL }},// 10^227
+     {{ static_cast<uint64_t>(754),0x8714a775e3e95c78LL,0x65acfaec34810a71LL,0x1da861232ad783a2LL }},// 10^228
+     {{ static_cast<uint64_t>(757),0xa8d9d1535ce3b396LL,0x7f1839a741a14d0dLL,0x6512796bf58d648bLL }},// 10^229
+     {{ static_cast<uint64_t>(760),0xd31045a8341ca07cLL,0x1ede48111209a050LL,0xbe5717c6f2f0bdadLL }},// 10^230
+     {{ static_cast<uint64_t>(764),0x83ea2b892091e44dLL,0x934aed0aab460432LL,0x76f66edc57d6768cLL }},// 10^231
+     {{ static_cast<uint64_t>(767),0xa4e4b66b68b65d60LL,0xf81da84d5617853fLL,0x14b40a936dcc142fLL }},// 10^232
+     {{ static_cast<uint64_t>(770),0xce1de40642e3f4b9LL,0x36251260ab9d668eLL,0xd9e10d38493f193bLL }},// 10^233
+     {{ static_cast<uint64_t>(774),0x80d2ae83e9ce78f3LL,0xc1d72b7c6b426019LL,0x482ca8432dc76fc5LL }},// 10^234
+     {{ static_cast<uint64_t>(777),0xa1075a24e4421730LL,0xb24cf65b8612f81fLL,0x9a37d253f9394bb6LL }},// 10^235
+     {{ static_cast<uint64_t>(780),0xc94930ae1d529cfcLL,0xdee033f26797b627LL,0x80c5c6e8f7879ea4LL }},// 10^236
+     {{ static_cast<uint64_t>(783),0xfb9b7cd9a4a7443cLL,0x169840ef017da3b1LL,0x60f738a33569864dLL }},// 10^237
+     {{ static_cast<uint64_t>(787),0x9d412e0806e88aa5LL,0x8e1f289560ee864eLL,0xdc9a83660161f3f0LL }},// 10^238
+     {{ static_cast<uint64_t>(790),0xc491798a08a2ad4eLL,0xf1a6f2bab92a27e2LL,0x93c1243f81ba70ecLL }},// 10^239
+     {{ static_cast<uint64_t>(793),0xf5b5d7ec8acb58a2LL,0xae10af696774b1dbLL,0x38b16d4f62290d27LL }},// 10^240
+     {{ static_cast<uint64_t>(797),0x9991a6f3d6bf1765LL,0xacca6da1e0a8ef29LL,0x036ee4519d59a838LL }},// 10^241
+     {{ static_cast<uint64_t>(800),0xbff610b0cc6edd3fLL,0x17fd090a58d32af3LL,0x444a9d6604b01247LL }},// 10^242
+     {{ static_cast<uint64_t>(803),0xeff394dcff8a948eLL,0xddfc4b4cef07f5b0LL,0x155d44bf85dc16d8LL }},// 10^243
+     {{ static_cast<uint64_t>(807),0x95f83d0a1fb69cd9LL,0x4abdaf101564f98eLL,0x0d5a4af7b3a98e47LL }},// 10^244
+     {{ static_cast<uint64_t>(810),0xbb764c4ca7a4440fLL,0x9d6d1ad41abe37f1LL,0x90b0ddb5a093f1d9LL }},// 10^245
+     {{ static_cast<uint64_t>(813),0xea53df5fd18d5513LL,0x84c86189216dc5edLL,0xf4dd152308b8ee4fLL }},// 10^246
+     {{ static_cast<uint64_t>(817),0x92746b9be2f8552cLL,0x32fd3cf5b4e49bb4LL,0xb90a2d35e57394f1LL }},// 10^247
+     {{ static_cast<uint64_t>(820),0xb7118682dbb66a77LL,0x3fbc8c33221dc2a1LL,0xe74cb8835ed07a2eLL }},// 10^248
+     {{ static_cast<uint64_t>(823),0xe4d5e82392a40515LL,0x0fabaf3feaa5334aLL,0x611fe6a4368498b9LL }},// 10^249
+     {{ static_cast<uint64_t>(827),0x8f05b1163ba6832dLL,0x29cb4d87f2a7400eLL,0x7cb3f026a212df74LL }},// 10^250
+     {{ static_cast<uint64_t>(830),0xb2c71d5bca9023f8LL,0x743e20e9ef511012LL,0x1be0ec304a979751LL }},// 10^251
+     {{ static_cast<uint64_t>(833),0xdf78e4b2bd342cf6LL,0x914da9246b255416LL,0xa2d9273c5d3d7d25LL }},// 10^252
+     {{ static_cast<uint64_t>(837),0x8bab8eefb6409c1aLL,0x1ad089b6c2f7548eLL,0x25c7b885ba466e37LL }},// 10^253
+     {{ static_cast<uint64_t>(840),0xae9672aba3d0c320LL,0xa184ac2473b529b1LL,0xaf39a6a728d809c5LL }},// 10^254
+     {{ static_cast<uint64_t>(843),0xda3c0f568cc4f3e8LL,0xc9e5d72d90a2741eLL,0x1b081050f30e0c36LL }},// 10^255
+     {{ static_cast<uint64_t>(847),0x8865899617fb1871LL,0x7e2fa67c7a658892LL,0xd0e50a3297e8c7a2LL }},// 10^256
+     {{ static_cast<uint64_t>(850),0xaa7eebfb9df9de8dLL,0xddbb901b98feeab7LL,0x851e4cbf3de2f98aLL }},// 10^257
+     {{ static_cast<uint64_t>(853),0xd51ea6fa85785631LL,0x552a74227f3ea565LL,0x6665dfef0d5bb7edLL }},// 10^258
+     {{ static_cast<uint64_t>(857),0x8533285c936b35deLL,0xd53a88958f87275fLL,0x5fffabf5685952f4LL }},// 10^259
+     {{ static_cast<uint64_t>(860),0xa67ff273b8460356LL,0x8a892abaf368f137LL,0x37ff96f2c26fa7b1LL }},// 10^260
+     {{ static_cast<uint64_t>(863),0xd01fef10a657842cLL,0x2d2b7569b0432d85LL,0x05ff7caf730b919dLL }},// 10^261
+     {{ static_cast<uint64_t>(867),0x8213f56a67f6b29bLL,0x9c3b29620e29fc73LL,0x23bfadeda7e73b02LL }},// 10^262
+     {{ static_cast<uint64_t>(870),0xa298f2c501f45f42LL,0x8349f3ba91b47b8fLL,0xecaf996911e109c3LL }},// 10^263
+     {{ static_cast<uint64_t>(873),0xcb3f2f7642717713LL,0x241c70a936219a73LL,0xe7db7fc356594c34LL }},// 10^264
+     {{ static_cast<uint64_t>(876),0xfe0efb53d30dd4d7LL,0xed238cd383aa0110LL,0xe1d25fb42bef9f41LL }},// 10^265
+     {{ static_cast<uint64_t>(880),0x9ec95d1463e8a506LL,0xf4363804324a40aaLL,0x8d237bd09b75c388LL }},// 10^266
+     {{ static_cast<uint64_t>(883),0xc67bb4597ce2ce48LL,0xb143c6053edcd0d5LL,0x306c5ac4c253346aLL }},// 10^267
+     {{ static_cast<uint64_t>(886),0xf81aa16fdc1b81daLL,0xdd94b7868e94050aLL,0x7c877175f2e80185LL }},// 10^268
+     {{ static_cast<uint64_t>(890),0x9b10a4e5e9913128LL,0xca7cf2b4191c8326LL,0x8dd4a6e9b7d100f3LL }},// 10^269
+     {{ static_cast<uint64_t>(893),0xc1d4ce1f63f57d72LL,0xfd1c2f611f63a3f0LL,0x3149d0a425c54130LL }},// 10^270
+     {{ static_cast<uint64_t>(896),0xf24a01a73cf2dccfLL,0xbc633b39673c8cecLL,0x3d9c44cd2f36917cLL }},// 10^271
+     {{ static_cast<uint64_t>(900),0x976e41088617ca01LL,0xd5be0503e085d813LL,0xa681ab003d821aedLL }},// 10^272
+     {{ static_cast<uint64_t>(903),0xbd49d14aa79dbc82LL,0x4b2d8644d8a74e18LL,0x902215c04ce2a1a9LL }},// 10^273
+     {{ static_cast<uint64_t>(906),0xec9c459d51852ba2LL,0xddf8e7d60ed1219eLL,0xb42a9b30601b4a13LL }},// 10^274
+     {{ static_cast<uint64_t>(910),0x93e1ab8252f33b45LL,0xcabb90e5c942b503LL,0x309aa0fe3c110e4cLL }},// 10^275
+     {{ static_cast<uint64_t>(913),0xb8da1662e7b00a17LL,0x3d6a751f3b936243LL,0xfcc1493dcb1551dfLL }},// 10^276
+     {{ static_cast<uint64_t>(916),0xe7109bfba19c0c9dLL,0x0cc512670a783ad4LL,0xfbf19b8d3ddaa657LL }},// 10^277
+     {{ static_cast<uint64_t>(920),0x906a617d450187e2LL,0x27fb2b80668b24c5LL,0x1d77013846a8a7f6LL }},// 10^278
+     {{ static_cast<uint64_t>(923),0xb484f9dc9641e9daLL,0xb1f9f660802dedf6LL,0x64d4c1865852d1f4LL }},// 10^279
+     {{ static_cast<uint64_t>(926),0xe1a63853bbd26451LL,0x5e7873f8a0396973LL,0xfe09f1e7ee678671LL }},// 10^280
+     {{ static_cast<uint64_t>(930),0x8d07e33455637eb2LL,0xdb0b487b6423e1e8LL,0x7ec63730f500b406LL }},// 10^281
+     {{ static_cast<uint64_t>(933),0xb049dc016abc5e5fLL,0x91ce1a9a3d2cda62LL,0x9e77c4fd3240e108LL }},// 10^282
+     {{ static_cast<uint64_t>(936),0xdc5c5301c56b75f7LL,0x7641a140cc7810fbLL,0x4615b63c7ed1194aLL }},// 10^283
+     {{ static_cast<uint64_t>(940),0x89b9b3e11b6329baLL,0xa9e904c87fcb0a9dLL,0x0bcd91e5cf42afceLL }},// 10^284
+     {{ static_cast<uint64_t>(943),0xac2820d9623bf429LL,0x546345fa9fbdcd44LL,0x4ec0f65f43135bc2LL }},// 10^285
+     {{ static_cast<uint64_t>(946),0xd732290fbacaf133LL,0xa97c177947ad4095LL,0x627133f713d832b2LL }},// 10^286
+     {{ static_cast<uint64_t>(950),0x867f59a9d4bed6c0LL,0x49ed8eabcccc485dLL,0x5d86c07a6c671fafLL }},// 10^287
+     {{ static_cast<uint64_t>(953),0xa81f301449ee8c70LL,0x5c68f256bfff5a74LL,0xb4e870990780e79bLL }},// 10^288
+     {{ static_cast<uint64_t>(956),0xd226fc195c6a2f8cLL,0x73832eec6fff3111LL,0xe2228cbf49612182LL }},// 10^289
+     {{ static_cast<uint64_t>(960),0x83585d8fd9c25db7LL,0xc831fd53c5ff7eabLL,0x2d5597f78ddcb4f1LL }},// 10^290
+     {{ static_cast<uint64_t>(963),0xa42e74f3d032f525LL,0xba3e7ca8b77f5e55LL,0xf8aafdf57153e22dLL }},// 10^291
+     {{ static_cast<uint64_t>(966),0xcd3a1230c43fb26fLL,0x28ce1bd2e55f35ebLL,0x76d5bd72cda8dab9LL }},// 10^292
+     {{ static_cast<uint64_t>(970),0x80444b5e7aa7cf85LL,0x7980d163cf5b81b3LL,0x2a459667c08988b3LL }},// 10^293
+     {{ static_cast<uint64_t>(973),0xa0555e361951c366LL,0xd7e105bcc332621fLL,0xf4d6fc01b0abeae0LL }},// 10^294
+     {{ static_cast<uint64_t>(976),0xc86ab5c39fa63440LL,0x8dd9472bf3fefaa7LL,0xf20cbb021cd6e599LL }},// 10^295
+     {{ static_cast<uint64_t>(979),0xfa856334878fc150LL,0xb14f98f6f0feb951LL,0xee8fe9c2a40c9effLL }},// 10^296
+     {{ static_cast<uint64_t>(983),0x9c935e00d4b9d8d2LL,0x6ed1bf9a569f33d3LL,0x3519f219a687e35fLL }},// 10^297
+     {{ static_cast<uint64_t>(986),0xc3b8358109e84f07LL,0x0a862f80ec4700c8LL,0x02606ea01029dc37LL }},// 10^298
+     {{ static_cast<uint64_t>(989),0xf4a642e14c6262c8LL,0xcd27bb612758c0faLL,0x02f88a4814345345LL }},// 10^299
+     {{ static_cast<uint64_t>(993),0x98e7e9cccfbd7dbdLL,0x8038d51cb897789cLL,0x41db566d0ca0b40bLL }},// 10^300
+     {{ static_cast<uint64_t>(996),0xbf21e44003acdd2cLL,0xe0470a63e6bd56c3LL,0x52522c084fc8e10eLL }},// 10^301
+     {{ static_cast<uint64_t>(999),0xeeea5d5004981478LL,0x1858ccfce06cac74LL,0x26e6b70a63bb1951LL }},// 10^302
+     {{ static_cast<uint64_t>(1003),0x95527a5202df0ccbLL,0x0f37801e0c43ebc8LL,0x985032667e54efd3LL }},// 10^303
+     {{ static_cast<uint64_t>(1006),0xbaa718e68396cffdLL,0xd30560258f54e6baLL,0xbe643f001dea2bc7LL }},// 10^304
+     {{ static_cast<uint64_t>(1009),0xe950df20247c83fdLL,0x47c6b82ef32a2069LL,0x6dfd4ec02564b6b9LL }},// 10^305
+     {{ static_cast<uint64_t>(1013),0x91d28b7416cdd27eLL,0x4cdc331d57fa5441LL,0xe4be5138175ef234LL }},// 10^306
+     {{ static_cast<uint64_t>(1016),0xb6472e511c81471dLL,0xe0133fe4adf8e952LL,0x5dede5861d36aec1LL }},// 10^307
+     {{ static_cast<uint64_t>(1019),0xe3d8f9e563a198e5LL,0x58180fddd97723a6LL,0xf5695ee7a4845a71LL }},// 10^308
+     {{ static_cast<uint64_t>(1023),0x8e679c2f5e44ff8fLL,0x570f09eaa7ea7648LL,0x5961db50c6d2b886LL }},// 10^309
+     {{ static_cast<uint64_t>(1026),0xb201833b35d63f73LL,0x2cd2cc6551e513daLL,0x6fba5224f88766a8LL }},// 10^310
+     {{ static_cast<uint64_t>(1029),0xde81e40a034bcf4fLL,0xf8077f7ea65e58d1LL,0x0ba8e6ae36a94052LL }},// 10^311
+     {{ static_cast<uint64_t>(1033),0x8b112e86420f6191LL,0xfb04afaf27faf782LL,0xa749902ce229c833LL }},// 10^312
+     {{ static_cast<uint64_t>(1036),0xadd57a27d29339f6LL,0x79c5db9af1f9b563LL,0x511bf4381ab43a40LL }},// 10^313
+     {{ static_cast<uint64_t>(1039),0xd94ad8b1c7380874LL,0x18375281ae7822bcLL,0x2562f146216148d0LL }},// 10^314
+     {{ static_cast<uint64_t>(1043),0x87cec76f1c830548LL,0x8f2293910d0b15b5LL,0x975dd6cbd4dccd82LL }},// 10^315
+     {{ static_cast<uint64_t>(1046),0xa9c2794ae3a3c69aLL,0xb2eb3875504ddb22LL,0xfd354c7eca1400e3LL }},// 10^316
+     {{ static_cast<uint64_t>(1049),0xd433179d9c8cb841LL,0x5fa60692a46151ebLL,0xbc829f9e7c99011bLL }},// 10^317
+     {{ static_cast<uint64_t>(1053),0x849feec281d7f328LL,0xdbc7c41ba6bcd333LL,0x55d1a3c30ddfa0b1LL }},// 10^318
+     {{ static_cast<uint64_t>(1056),0xa5c7ea73224deff3LL,0x12b9b522906c0800LL,0x2b460cb3d15788ddLL }},// 10^319
+     {{ static_cast<uint64_t>(1059),0xcf39e50feae16befLL,0xd768226b34870a00LL,0x36178fe0c5ad6b15LL }},// 10^320
+     {{ static_cast<uint64_t>(1063),0x81842f29f2cce375LL,0xe6a1158300d46640LL,0x21ceb9ec7b8c62edLL }},// 10^321
+     {{ static_cast<uint64_t>(1066),0xa1e53af46f801c53LL,0x60495ae3c1097fd0LL,0x2a4268679a6f7ba8LL }},// 10^322
+     {{ static_cast<uint64_t>(1069),0xca5e89b18b602368LL,0x385bb19cb14bdfc4LL,0x34d30281810b5a92LL }},// 10^323
+     {{ static_cast<uint64_t>(1072),0xfcf62c1dee382c42LL,0x46729e03dd9ed7b5LL,0x4207c321e14e3137LL }},// 10^324
+     {{ static_cast<uint64_t>(1076),0x9e19db92b4e31ba9LL,0x6c07a2c26a8346d1LL,0x4944d9f52cd0dec2LL }},// 10^325
+     {{ static_cast<uint64_t>(1079),0xc5a05277621be293LL,0xc7098b7305241885LL,0x9b96107278051673LL }},// 10^326
+     {{ static_cast<uint64_t>(1082),0xf70867153aa2db38LL,0xb8cbee4fc66d1ea7LL,0x027b948f16065c10LL }},// 10^327
+     {{ static_cast<uint64_t>(1086),0x9a65406d44a5c903LL,0x737f74f1dc043328LL,0x618d3cd96dc3f98aLL }},// 10^328
+     {{ static_cast<uint64_t>(1089),0xc0fe908895cf3b44LL,0x505f522e53053ff2LL,0x79f08c0fc934f7ecLL }},// 10^329
+     {{ static_cast<uint64_t>(1092),0xf13e34aabb430a15LL,0x647726b9e7c68fefLL,0x186caf13bb8235e7LL }},// 10^330
+     {{ static_cast<uint64_t>(1096),0x96c6e0eab509e64dLL,0x5eca783430dc19f5LL,0x6f43ed6c553161b0LL }},// 10^331
+     {{ static_cast<uint64_t>(1099),0xbc789925624c5fe0LL,0xb67d16413d132072LL,0xcb14e8c76a7dba1dLL }},// 10^332
+     {{ static_cast<uint64_t>(1102),0xeb96bf6ebadf77d8LL,0xe41c5bd18c57e88fLL,0x7dda22f9451d28a4LL }},// 10^333
+     {{ static_cast<uint64_t>(1106),0x933e37a534cbaae7LL,0x8e91b962f7b6f159LL,0xaea855dbcb323966LL }},// 10^334
+     {{ static_cast<uint64_t>(1109),0xb80dc58e81fe95a1LL,0x723627bbb5a4adb0LL,0x1a526b52bdfec7c0LL }},// 10^335
+     {{ static_cast<uint64_t>(1112),0xe61136f2227e3b09LL,0xcec3b1aaa30dd91cLL,0x20e706276d7e79b0LL }},// 10^336
+     {{ static_cast<uint64_t>(1116),0x8fcac257558ee4e6LL,0x213a4f0aa5e8a7b1LL,0x949063d8a46f0c0eLL }},// 10^337
+     {{ static_cast<uint64_t>(1119),0xb3bd72ed2af29e1fLL,0xa988e2cd4f62d19dLL,0xf9b47ccecd8acf11LL }},// 10^338
+     {{ static_cast<uint64_t>(1122),0xe0accfa875af45a7LL,0x93eb1b80a33b8605LL,0x78219c0280ed82d6LL }},// 10^339
+     {{ static_cast<uint64_t>(1126),0x8c6c01c9498d8b88LL,0xbc72f130660533c3LL,0x6b150181909471c5LL }},// 10^340
+     {{ static_cast<uint64_t>(1129),0xaf87023b9bf0ee6aLL,0xeb8fad7c7f8680b4LL,0x45da41e1f4b98e37LL }},// 10^341
+     {{ static_cast<uint64_t>(1132),0xdb68c2ca82ed2a05LL,0xa67398db9f6820e1LL,0x5750d25a71e7f1c5LL }},// 10^342
+     {{ static_cast<uint64_t>(1136),0x892179be91d43a43LL,0x88083f8943a1148cLL,0xd69283788730f71bLL }},// 10^343
+     {{ static_cast<uint64_t>(1139),0xab69d82e364948d4LL,0x6a0a4f6b948959b0LL,0x0c372456a8fd34e2LL }},// 10^344
+     {{ static_cast<uint64_t>(1142),0xd6444e39c3db9b09LL,0x848ce34679abb01cLL,0x0f44ed6c533c821aLL }},// 10^345
+     {{ static_cast<uint64_t>(1146),0x85eab0e41a6940e5LL,0xf2d80e0c0c0b4e11LL,0x898b1463b405d150LL }},// 10^346
+     {{ static_cast<uint64_t>(1149),0xa7655d1d2103911fLL,0x6f8e118f0f0e2195LL,0xebedd97ca10745a4LL }},// 10^347
+     {{ static_cast<uint64_t>(1152),0xd13eb46469447567LL,0x4b7195f2d2d1a9fbLL,0x66e94fdbc949170eLL }},// 10^348
+     {{ static_cast<uint64_t>(1156),0x82c730bec1cac960LL,0x8f26fdb7c3c30a3dLL,0x2051d1e95dcdae68LL }},// 10^349
+     {{ static_cast<uint64_t>(1159),0xa378fcee723d7bb8LL,0xb2f0bd25b4b3ccccLL,0x68664663b5411a03LL }},// 10^350
+     {{ static_cast<uint64_t>(1162),0xcc573c2a0eccdaa6LL,0xdfacec6f21e0bfffLL,0x827fd7fca2916083LL }},// 10^351
+     {{ static_cast<uint64_t>(1165),0xff6d0b3492801150LL,0x9798278aea58efffLL,0x631fcdfbcb35b8a4LL }},// 10^352
+     {{ static_cast<uint64_t>(1169),0x9fa42700db900ad2LL,0x5ebf18b6d27795ffLL,0x9df3e0bd5f019366LL }},// 10^353
+     {{ static_cast<uint64_t>(1172),0xc78d30c112740d86LL,0xf66edee487157b7fLL,0x8570d8ecb6c1f840LL }},// 10^354
+     {{ static_cast<uint64_t>(1175),0xf9707cf1571110e8LL,0xb40a969da8dada5fLL,0x66cd0f27e4727650LL }},// 10^355
+     {{ static_cast<uint64_t>(1179),0x9be64e16d66aaa91LL,0x70869e228988c87bLL,0xa0402978eec789f2LL }},// 10^356
+     {{ static_cast<uint64_t>(1182),0xc2dfe19c8c055535LL,0xcca845ab2beafa9aLL,0x885033d72a796c6fLL }},// 10^357
+     {{ static_cast<uint64_t>(1185),0xf397da03af06aa83LL,0x3fd25715f6e5b941LL,0x2a6440ccf517c78aLL }},// 10^358
+     {{ static_cast<uint64_t>(1189),0x983ee8424d642a92LL,0x07e3766dba4f93c8LL,0xba7ea880192edcb6LL }},// 10^359
+     {{ static_cast<uint64_t>(1192),0xbe4ea252e0bd3536LL,0x89dc540928e378baLL,0xe91e52a01f7a93e4LL }},// 10^360
+     {{ static_cast<uint64_t>(1195),0xede24ae798ec8284LL,0x2c53690b731c56e9LL,0xa365e748275938ddLL }},// 10^361
+     {{ static_cast<uint64_t>(1199),0x94ad6ed0bf93d192LL,0x9bb421a727f1b652LL,0x061fb08d1897c38aLL }},// 10^362
+     {{ static_cast<uint64_t>(1202),0xb9d8ca84ef78c5f7LL,0x42a12a10f1ee23e6LL,0x87a79cb05ebdb46dLL }},// 10^363
+     {{ static_cast<uint64_t>(1205),0xe84efd262b56f775LL,0x134974952e69ace0LL,0x299183dc766d2188LL }},// 10^364
+     {{ static_cast<uint64_t>(1209),0x91315e37db165aa9LL,0x2c0de8dd3d020c0cLL,0x19faf269ca0434f5LL }},// 10^365
+     {{ static_cast<uint64_t>(1212),0xb57db5c5d1dbf153LL,0x771163148c428f0fLL,0x2079af043c854232LL }},// 10^366
+     {{ static_cast<uint64_t>(1215),0xe2dd23374652eda8LL,0x54d5bbd9af5332d2LL,0xe8981ac54ba692bfLL }},// 10^367
+     {{ static_cast<uint64_t>(1219),0x8dca36028bf3d489LL,0x350595680d93ffc3LL,0xd15f10bb4f481bb7LL }},// 10^368
+     {{ static_cast<uint64_t>(1222),0xb13cc3832ef0c9abLL,0x8246fac210f8ffb4LL,0xc5b6d4ea231a22a5LL }},// 10^369
+     {{ static_cast<uint64_t>(1225),0xdd8bf463faacfc16LL,0x62d8b97295373fa1LL,0xf7248a24abe0ab4eLL }},// 10^370
+     {{ static_cast<uint64_t>(1229),0x8a7778be7cac1d8dLL,0xfdc773e79d4287c5LL,0x3a76d656eb6c6b11LL }},// 10^371
+     {{ static_cast<uint64_t>(1232),0xad1556ee1bd724f1LL,0x7d3950e1849329b6LL,0x89148beca64785d5LL }},// 10^372
+     {{ static_cast<uint64_t>(1235),0xd85aaca9a2ccee2dLL,0xdc87a519e5b7f424LL,0x2b59aee7cfd9674aLL }},// 10^373
+     {{ static_cast<uint64_t>(1239),0x8738abea05c014dcLL,0xa9d4c7302f92f896LL,0x9b180d50e1e7e08eLL }},// 10^374
+     {{ static_cast<uint64_t>(1242),0xa906d6e487301a13LL,0xd449f8fc3b77b6bcLL,0x41de10a51a61d8b2LL }},// 10^375
+     {{ static_cast<uint64_t>(1245),0xd3488c9da8fc2098LL,0xc95c773b4a55a46bLL,0x525594ce60fa4edfLL }},// 10^376
+     {{ static_cast<uint64_t>(1249),0x840d57e2899d945fLL,0x7dd9ca850e7586c3LL,0x13757d00fc9c714bLL }},// 10^377
+     {{ static_cast<uint64_t>(1252),0xa510addb2c04f977LL,0x5d503d265212e873LL,0xd852dc413bc38d9eLL }},// 10^378
+     {{ static_cast<uint64_t>(1255),0xce54d951f70637d5LL,0x34a44c6fe697a290LL,0xce6793518ab47105LL }},// 10^379
+     {{ static_cast<uint64_t>(1259),0x80f507d33a63e2e5LL,0x40e6afc5f01ec59aLL,0x8100bc12f6b0c6a3LL }},// 10^380
+     {{ static_cast<uint64_t>(1262),0xa13249c808fcdb9eLL,0x91205bb76c267701LL,0x2140eb17b45cf84cLL }},// 10^381
+     {{ static_cast<uint64_t>(1265),0xc97edc3a0b3c1286LL,0x356872a5473014c1LL,0x699125dda174365fLL }},// 10^382
+     {{ static_cast<uint64_t>(1268),0xfbde93488e0b1727LL,0xc2c28f4e98fc19f1LL,0xc3f56f5509d143f7LL }},// 10^383
+     {{ static_cast<uint64_t>(1272),0x9d6b1c0d58c6ee78LL,0xd9b999911f9d9037LL,0x1a7965952622ca7aLL }},// 10^384
+     {{ static_cast<uint64_t>(1275),0xc4c5e310aef8aa17LL,0x1027fff56784f444LL,0xe117befa6fab7d19LL }},// 10^385
+     {{ static_cast<uint64_t>(1278),0xf5f75bd4dab6d49cLL,0xd431fff2c1663156LL,0x195daeb90b965c60LL }},// 10^386
+     {{ static_cast<uint64_t>(1282),0x99ba996508b244e2LL,0x049f3ff7b8dfded5LL,0xcfda8d33a73df9bcLL }},// 10^387
+     {{ static_cast<uint64_t>(1285),0xc0293fbe4aded61aLL,0x85c70ff5a717d68bLL,0x43d13080910d782bLL }},// 10^388
+     {{ static_cast<uint64_t>(1288),0xf0338faddd968ba1LL,0x2738d3f310ddcc2eLL,0x14c57ca0b550d635LL }},// 10^389
+     {{ static_cast<uint64_t>(1292),0x962039ccaa7e1744LL,0xb8838477ea8a9f9cLL,0xccfb6de4715285e1LL }},// 10^390
+     {{ static_cast<uint64_t>(1295),0xbba8483fd51d9d15LL,0xe6a46595e52d4784LL,0x003a495d8da7275aLL }},// 10^391
+     {{ static_cast<uint64_t>(1298),0xea925a4fca65045bLL,0x604d7efb5e789965LL,0x0048dbb4f110f130LL }},// 10^392
+     {{ static_cast<uint64_t>(1302),0x929b7871de7f22b9LL,0x1c306f5d1b0b5fdfLL,0x202d895116aa96beLL }},// 10^393
+     {{ static_cast<uint64_t>(1305),0xb742568e561eeb67LL,0x633c8b3461ce37d6LL,0xe838eba55c553c6dLL }},// 10^394
+     {{ static_cast<uint64_t>(1308),0xe512ec31eba6a641LL,0x3c0bae017a41c5ccLL,0xa247268eb36a8b89LL }},// 10^395
+     {{ static_cast<uint64_t>(1312),0x8f2bd39f334827e8LL,0xc5874cc0ec691b9fLL,0xe56c781930229735LL }},// 10^396
+     {{ static_cast<uint64_t>(1315),0xb2f6c887001a31e2LL,0xf6e91ff127836287LL,0xdec7961f7c2b3d03LL }},// 10^397
+     {{ static_cast<uint64_t>(1318),0xdfb47aa8c020be5bLL,0xb4a367ed71643b29LL,0xd6797ba75b360c44LL }},// 10^398
+     {{ static_cast<uint64_t>(1322),0x8bd0cca9781476f9LL,0x50e620f466dea4faLL,0x260bed489901c7aaLL }},// 10^399
+     {{ static_cast<uint64_t>(1325),0xaec4ffd3d61994b7LL,0xa51fa93180964e38LL,0xaf8ee89abf423995LL }},// 10^400
+     {{ static_cast<uint64_t>(1328),0xda763fc8cb9ff9e5LL,0x8e67937de0bbe1c6LL,0xdb72a2c16f12c7faLL }} }};
+
 
   // Buffers used internally
   // The order of words in the arrays is big-endian: the highest part is in buff[0] (in buff[1] for
@@ -276,16 +1092,22 @@ namespace cloud_datastore {
     
     
 
-  void QuadrupleBuilder::parse(std::vector<uint8_t>& digits,int32_t exp10) {
-    exp10 += static_cast<int32_t>((digits).size()) - 1; // digits is viewed as x.yyy below.
+  // Parses the first length decimal digits of digits, multiplied by 10^exp10. Only length digits
+  // are read, and digits is not modified, so a caller can reuse a larger buffer across calls.
+  void QuadrupleBuilder::parse(std::vector<uint8_t>& digits,int32_t length,int32_t exp10) {
     this->exponent = 0;
     this->mantHi = 0LL;
     this->mantLo = 0LL;
     this->rounding = 0;
 
+    if (parseShort(digits, length, exp10)) {
+      return;
+    }
+    exp10 += length - 1; // digits is viewed as x.yyy below.
+
     // Finds numeric value of the decimal mantissa
     std::array<uint64_t,6>& mantissa = this->buffer6x32C;
-    int32_t exp10Corr = parseMantissa(digits, mantissa);
+    int32_t exp10Corr = parseMantissa(digits, length, mantissa);
 
     if (exp10Corr == 0 && isEmpty(mantissa)) {
       // Mantissa == 0
@@ -304,11 +1126,137 @@ namespace cloud_datastore {
       return;
     }
 
+    if (multiplyByPowerOf10(exp10, mantissa)) {
+      return;
+    }
+
     double exp2 = findBinaryExponent(exp10, mantissa);
     // Finds binary mantissa and possible exponent correction. Fills the fields.
     findBinaryMantissa(exp10, exp2, mantissa);
   }
 
+  // Handles the common case of a mantissa with at most MAX_SHORT_MANTISSA_LENGTH significant
+  // digits, multiplied by a power of ten in POWERS_OF_10. The mantissa then fits in 64 bits, and a
+  // single multiplication by the 192-bit power of ten gives the binary mantissa with an error of at
+  // most 4 lsbs of its 192 bits. This is rounded exactly like the result of the general algorithm,
+  // unless bits 128..159 show it is within 2^32 lsbs of a rounding boundary (or of an exact value),
+  // in which case the error of up to MAX_ERROR of the general algorithm may decide the result.
+  // @param digits the decimal digits
+  // @param length the number of digits to use
+  // @param exp10 the decimal exponent of the last digit
+  // @return true if the fields were set, false if the general algorithm is needed
+  bool QuadrupleBuilder::parseShort(std::vector<uint8_t>& digits,int32_t length,int32_t exp10) {
+    int32_t firstDigit = 0;
+    while (firstDigit < length && digits[firstDigit] == 0) {
+      firstDigit += 1;
+    }
+    if (firstDigit == length) {
+      return true; // Zero
+    }
+    int32_t lastDigit = length;
+    while (digits[lastDigit - 1] == 0) { // Trailing zeroes only change the exponent
+      lastDigit -= 1;
+      exp10 += 1;
+    }
+    if (lastDigit - firstDigit > MAX_SHORT_MANTISSA_LENGTH) {
+      return false;
+    }
+    if (exp10 < MIN_POWER_OF_10) {
+      return false;
+    }
+    if (exp10 > MAX_POWER_OF_10) {
+      return false;
+    }
+
+    uint64_t mant = 0LL;
+    for (int32_t i = (firstDigit); i < (lastDigit); i++) {
+      uint64_t digit = (static_cast<uint64_t>(digits[i])) & 0xFFLL;
+      if (digit > 9LL) {
+        // Not a decimal digit (such as the Java Character.isDigit digits outside ASCII): keep the
+        // result of the general algorithm, whatever it is
+        return false;
+      }
+      mant = mant * 10LL + digit;
+    }
+    // Left-justify the mantissa, and unpack it as the 64 most significant bits of a 192-bit value
+    int32_t shift = __builtin_clzll(mant);
+    mant = (static_cast<uint64_t>(mant << (static_cast<uint64_t>(shift))));
+    std::array<uint64_t,6>& mantissa = this->buffer6x32C;
+    mantissa[0] = ((mant) >> (32LL));
+    mantissa[1] = mant & LOWER_32_BITS;
+    for (int32_t i = (2); i < (6); i++) {
+      mantissa[i] = 0LL;
+    }
+
+    // The value is mant * 2^-shift * power[1..3] * 2^(power[0] - 191), where mant is in [2^63, 2^64)
+    // and power[1..3] in [2^191, 2^192)
+    bool exactPower = exp10 >= 0 && exp10 <= MAX_EXACT_POWER_OF_10;
+    return roundPowerOf10Product(mantissa, exp10, 65 - shift, exactPower);
+  }
+
+  // Handles a mantissa with more than MAX_SHORT_MANTISSA_LENGTH digits multiplied by a power of ten
+  // in POWERS_OF_10, like parseShort: the 192-bit mantissa computed by parseMantissa (with an error
+  // of about one lsb) is multiplied by the 192-bit power of ten, which replaces the approximation of
+  // the binary exponent with logarithms and the multiplications by powers of two of
+  // findBinaryMantissa. The result is rounded exactly like the result of findBinaryMantissa unless it
+  // is within 2^32 lsbs of a rounding boundary.
+  // @param exp10 the decimal exponent, the mantissa being in the x.yyy form
+  // @param mantissa the decimal mantissa divided by ten, as computed by parseMantissa; not modified
+  // @return true if the fields were set, false if findBinaryMantissa is needed
+  bool QuadrupleBuilder::multiplyByPowerOf10(int32_t exp10,std::array<uint64_t,6>& mantissa) {
+    // The mantissa is x.yyy / 10
+    int32_t exp = exp10 + 1;
+    if (exp < MIN_POWER_OF_10) {
+      return false;
+    }
+    if (exp > MAX_POWER_OF_10) {
+      return false;
+    }
+    // The value is mantissa * 2^-192 * power[1..3] * 2^(power[0] - 191). The mantissa is not exact
+    // in general.
+    return roundPowerOf10Product(mantissa, exp, 1, false);
+  }
+
+  // Multiplies the unpacked mantissa by 10^exp10 from POWERS_OF_10, and rounds the product to the
+  // fields with roundProduct, unless bits 128..159 of the normalized product show that the errors of
+  // the product (of a few lsbs) or of the general algorithm (of up to MAX_ERROR lsbs) could decide
+  // the rounding: the product is then within 2^32 lsbs of a rounding boundary, or of an exact value
+  // which is only accepted when it is known to be exact.
+  // @param mantissa the unpacked mantissa, not modified
+  // @param exp10 the decimal exponent, in [MIN_POWER_OF_10, MAX_POWER_OF_10]
+  // @param expCorr the binary exponent of the product, before normalization, minus power[0]
+  // @param exactPower true if the mantissa and 10^exp10 are exact
+  // @return true if the fields were set, false if the general algorithm is needed
+  bool QuadrupleBuilder::roundPowerOf10Product(std::array<uint64_t,6>& mantissa,int32_t exp10,int32_t expCorr,bool exactPower) {
+    std::array<uint64_t,4>& power = POWERS_OF_10[exp10 - MIN_POWER_OF_10];
+    std::array<uint64_t,12>& product = this->buffer12x32;
+    multUnpacked6x32byPacked(mantissa, power, product);
+    expCorr += normalizeMant(product);
+
+    if (product[4] == 0LL) {
+      if (!(exactPower)) {
+        return false;
+      }
+      for (int32_t i = (5); i < (static_cast<int32_t>((product).size())); i++) {
+        if (product[i] != 0LL) {
+          return false;
+        }
+      }
+      // Exact
+    }
+    if (product[4] == 0x7FFFFFFFLL) {
+      return false;
+    }
+    if (product[4] == 0x80000000LL) {
+      return false;
+    }
+    if (product[4] == LOWER_32_BITS) {
+      return false;
+    }
+    roundProduct((static_cast<double>((static_cast<uint64_t>(power[0] + (static_cast<uint64_t>(EXPONENT_BIAS)))))) + (static_cast<double>(expCorr)), product);
+    return true;
+  }
+
   // There are doubles D and Decimal128 numbers M with M != D that have the same Quadruple
   // representation (example: D = 0.5 + 15877 * 2^-53, M = Decimal128.fromDouble(D)). To
   // allow correct comparison results of doubles and Decimal128 using Quadruple, this
@@ -350,39 +1298,49 @@ namespace cloud_datastore {
     }
   }
 
-  int32_t QuadrupleBuilder::parseMantissa(std::vector<uint8_t>& digits,std::array<uint64_t,6>& mantissa) {
+  int32_t QuadrupleBuilder::parseMantissa(std::vector<uint8_t>& digits,int32_t length,std::array<uint64_t,6>& mantissa) {
     for (int32_t i = (0); i < (6); i++) {
       mantissa[i] = 0LL;
     }
 
     // Skip leading zeroes
     int32_t firstDigit = 0;
-    while (firstDigit < static_cast<int32_t>((digits).size()) && digits[firstDigit] == 0) {
+    while (firstDigit < length && digits[firstDigit] == 0) {
       firstDigit += 1;
     }
-    if (firstDigit == static_cast<int32_t>((digits).size())) {
+    if (firstDigit == length) {
       return 0; // All zeroes
     }
     int32_t expCorr = -firstDigit;
 
     // Limit the string length to avoid unnecessary fuss
-    if (static_cast<int32_t>((digits).size()) - firstDigit > MAX_MANTISSA_LENGTH) {
-      bool carry = digits[MAX_MANTISSA_LENGTH] >= 5; // The highest digit to be truncated
+    int32_t lastDigit = length;
+    bool carry = false;
+    if (length - firstDigit > MAX_MANTISSA_LENGTH) {
+      carry = digits[MAX_MANTISSA_LENGTH] >= 5; // The highest digit to be truncated
+      lastDigit = firstDigit + MAX_MANTISSA_LENGTH;
+    }
 
-      std::vector<uint8_t> truncated(MAX_MANTISSA_LENGTH);
-      for (int32_t i = (0); i < (MAX_MANTISSA_LENGTH); i++) {
-        truncated[i] = digits[i + firstDigit];
-      }
-      if (carry) { // Round-up: add carry
-        expCorr += addCarry(truncated); // May add an extra digit in front of it (99..99 -> 100)
+    // Round-up: the carry is added to the digits as they are consumed, rather than to a truncated
+    // copy of them
+    for (int32_t i = (lastDigit) - 1; i >= (firstDigit); i--) { // digits, starting from the last
+      uint64_t digit = (static_cast<uint64_t>(digits[i]));
+      if (carry) {
+        if (digit == 9LL) {
+          digit = 0LL;
+        } else {
+          digit += 1LL;
+          carry = false;
+        }
       }
-      digits = truncated;
-      firstDigit = 0;
+      mantissa[0] |= digit << 32LL;
+      divBuffBy10(mantissa);
     }
-
-    for (int32_t i = (static_cast<int32_t>((digits).size())) - 1; i >= (firstDigit); i--) { // digits, starting from the last
-      mantissa[0] |= (static_cast<uint64_t>(digits[i])) << 32LL;
+    if (carry) {
+      // All the digits were 9 - the carry adds an extra digit in front of them (99..99 -> 100..00)
+      mantissa[0] |= 1LL << 32LL;
       divBuffBy10(mantissa);
+      expCorr += 1;
     }
     return expCorr;
   }
@@ -413,24 +1371,6 @@ namespace cloud_datastore {
     return true;
   }
 
-  // Adds one to a decimal number represented as a sequence of decimal digits. propagates carry as
-  // needed, so that {@code addCarryTo("6789") = "6790", addCarryTo("9999") = "10000"} etc.
-  // @return 1 if an additional higher "1" was added in front of the number as a result of
-  //     rounding-up, 0 otherwise
-  int32_t QuadrupleBuilder::addCarry(std::vector<uint8_t>& digits) {
-    for (int32_t i = (static_cast<int32_t>((digits).size())) - 1; i >= (0); i--) { // starting with the lowest digit
-      uint8_t c = digits[i];
-      if (c == 9) {
-        digits[i] = 0;
-      } else {
-        digits[i] = (static_cast<uint8_t>(digits[i] + 1));
-        return 0;
-      }
-    }
-    digits[0] = 1;
-    return 1;
-  }
-
   // Finds binary exponent, using decimal exponent and mantissa.<br>
   // exp2 = exp10 * log<sub>2</sub>(10) + log<sub>2</sub>(mant)<br>
   // @param exp10 decimal exponent
@@ -470,7 +1410,13 @@ namespace cloud_datastore {
     // compensate possible inaccuracy of logarithms used to compute exp2
     exp2 += normalizeMant(product);
     exp2 += EXPONENT_BIAS; // add bias
+    roundProduct(exp2, product);
+  }
 
+  // Rounds the normalized product to 128 bits and fills the fields.
+  // @param exp2 the biased binary exponent of the product
+  // @param product the unpacked and normalized product, 192 bits of which are used
+  void QuadrupleBuilder::roundProduct(double exp2,std::array<uint64_t,12>& product) {
     // For subnormal values, exp2 <= 0. We just return 0 for them, as they are
     // far from any range we are interested in.
     if (exp2 <= 0) {
@@ -29,7 +29,7 @@ namespace cloud_datastore {
 class QuadrupleBuilder {
 public:
   void parseDecimal(std::vector<uint8_t>& digits, int64_t exp10) {
-    parse(digits, exp10);
+    parse(digits, static_cast<int32_t>(digits.size()), exp10);
   }
 
   void avoidDecimal128CollisionsWithDouble() {
@@ -48,16 +48,19 @@ private:
     std::array<uint64_t, 6> buffer6x32B;
     std::array<uint64_t, 6> buffer6x32C;
     std::array<uint64_t, 12> buffer12x32;
-  void parse(std::vector<uint8_t>& digits,int32_t exp10);
+  void parse(std::vector<uint8_t>& digits,int32_t length,int32_t exp10);
+  bool parseShort(std::vector<uint8_t>& digits,int32_t length,int32_t exp10);
+  bool multiplyByPowerOf10(int32_t exp10,std::array<uint64_t,6>& mantissa);
+  bool roundPowerOf10Product(std::array<uint64_t,6>& mantissa,int32_t exp10,int32_t expCorr,bool exactPower);
   void doAvoidDecimal128CollisionsWithDouble();
   void invertRounding();
-  int32_t parseMantissa(std::vector<uint8_t>& digits,std::array<uint64_t,6>& mantissa);
+  int32_t parseMantissa(std::vector<uint8_t>& digits,int32_t length,std::array<uint64_t,6>& mantissa);
   template<std::size_t N> void divBuffBy10(std::array<uint64_t,N>& buffer);
   template<std::size_t N> bool isEmpty(std::array<uint64_t,N>& buffer);
-  int32_t addCarry(std::vector<uint8_t>& digits);
   double findBinaryExponent(int32_t exp10,std::array<uint64_t,6>& mantissa);
   double log2(double x);
   void findBinaryMantissa(int32_t exp10,double exp2,std::array<uint64_t,6>& mantissa);
+  void roundProduct(double exp2,std::array<uint64_t,12>& product);
   void powerOfTwo(double exp,std::array<uint64_t,4>& power);
   template<std::size_t N> void array_copy(std::array<uint64_t,N>& source,std::array<uint64_t,4>& dest);
   void multPacked3x64_AndAdjustExponent(std::array<uint64_t,4>& factor1,std::array<uint64_t,4>& factor2,std::array<uint64_t,4>& result);
@@ -51,6 +51,60 @@ TEST(QuadrupleBuilderTest, edge) {
   check("1", -1000000000, 0LL, 0LL, 0LL);
 }
 
+TEST(QuadrupleBuilderTest, truncation) {
+    // More than 59 significant digits - truncated, and rounded up on a 60th digit >= 5.
+  check("999999999999999999999999999999999999999999999999999999999999", 0, 0x3e9e4e4c2f34448aLL, 0x3aec4845928cb22LL, 2147483846LL);
+  check("999999999999999999999999999999999999999999999999999999999999", -70, 0xb7cdfd9d7bdbab7dLL, 0x6ae6881cb5109a36LL, 2147483613LL);
+  check("999999999999999999999999999999999999999999999999999999999994", 0, 0x3e9e4e4c2f34448aLL, 0x3aec4845928cb22LL, 2147483846LL);
+  check("1234567890123456789012345678901234567890123456789012345678901234567890", -35, 0x30582ffdf3fe588bLL, 0xd01278f16fbcd6e6LL, 2147483760LL);
+  check("1234567890123456789012345678901234567890123456789012345678905", 12, 0x65c1561327036d10LL, 0xcef502fe8fdd55LL, 2147483886LL);
+    // Leading zeros do not count as significant digits.
+  check("00999999999999999999999999999999999999999999999999999999999999", 0, 0x3e9e4e4c2f34448aLL, 0x3aec4845928cb22LL, 2147483846LL);
+  check("0111111111111111111111111111111111111111111111111111111111172", 0, 0x1b37620ad4a03cecLL, 0x750d2075a49609e5LL, 2147483843LL);
+}
+
+TEST(QuadrupleBuilderTest, shortMantissa) {
+    // At most 19 significant digits and a decimal exponent in POWERS_OF_10 - exact results.
+  check("000", 3, 0x0LL, 0x0LL, 0LL);
+  check("1", 0, 0x0LL, 0x0LL, 2147483647LL);
+  check("9999999999999999999", 0, 0x158e460913cffffeLL, 0x0LL, 2147483710LL);
+  check("12345678901234567890000", -4, 0x12210f47de981150LL, 0x0LL, 2147483707LL);
+    // Inexact results.
+  check("1", -1, 0x9999999999999999LL, 0x999999999999999aLL, 2147483643LL);
+  check("123456789", -2, 0x2d687e3d70a3d70aLL, 0x3d70a3d70a3d70a4LL, 2147483667LL);
+  check("31415926535897932", -16, 0x921fb54442d18306LL, 0xc8336e79acefc545LL, 2147483648LL);
+    // Either side of 10^64, the bound of an earlier, smaller POWERS_OF_10.
+  check("1", 64, 0x84f03e93ff9f4daaLL, 0x797ed6e38ed64bf7LL, 2147483859LL);
+  check("1", -64, 0x50ffd44f4a73d34aLL, 0x7e4731ae8f66c448LL, 2147483434LL);
+  check("1", 65, 0xe62c4e38ff872115LL, 0x17de8c9c728bdef4LL, 2147483862LL);
+  check("1", -65, 0xd9976a5d52975d5LL, 0x31d28e253f8569d3LL, 2147483431LL);
+    // The bound of POWERS_OF_10.
+  check("1", 400, 0xb4ec7f91973ff3cbLL, 0x1ccf26fbc177c38eLL, 2147484975LL);
+  check("1", -400, 0x2bfcfc0f923df5f4LL, 0x726370a1be11ce71LL, 2147482318LL);
+    // Exact, but with an inexact power of ten - left to the general algorithm.
+  check("5", -1, 0x0LL, 0x0LL, 2147483646LL);
+    // Exactly half an lsb - left to the general algorithm.
+  check("1000000000000000001", 30, 0x5e531a0a1c872bc6LL, 0x6b3a9bf78b6bdbd5LL, 2147483806LL);
+    // Outside of the fast path: 20 digits, exponents beyond POWERS_OF_10.
+  check("18446744073709551615", 0, 0xfffffffffffffffeLL, 0x0LL, 2147483710LL);
+  check("1", 401, 0x1113cfbafe87f85eLL, 0xf201785d58eada39LL, 2147484979LL);
+  check("1", -401, 0xdffb2ce5b6c98987LL, 0x1d6be769301c7d81LL, 2147482314LL);
+}
+
+TEST(QuadrupleBuilderTest, powerOf10Table) {
+    // More than 19 significant digits, multiplied by a power of ten in POWERS_OF_10.
+  check("1234567890123456789012345", -425, 0x2848df7d8177a107LL, 0x61b8e5baf91f2e33LL, 2147482315LL);
+  check("1234567890123456789012345", 375, 0xaf879a2f0797da82LL, 0x9ef78750b9f40330LL, 2147484972LL);
+  check("314159265358979323846264338327950288", -35, 0x921fb54442d18469LL, 0x898cc51701b836d8LL, 2147483648LL);
+  check("99999999999999999999999999999999999999999999999999999999999", 0, 0xfdca16e04b86d410LL, 0x5e46da08ea7ab69LL, 2147483842LL);
+    // Within 2^32 lsbs of a power of two or of half an lsb - left to the general algorithm.
+  check("9999999999999999999999999999999999", -34, 0xffffffffffffffffLL, 0xfffffffffffef628LL, 2147483646LL);
+  check("10000000000000000000000000000000000000014693679385278593849", -58, 0x0LL, 0x1LL, 2147483647LL);
+    // Outside of POWERS_OF_10.
+  check("1234567890123456789012345", -426, 0xda0e326268bf680bLL, 0xcf8e3c5e5b6516b8LL, 2147482311LL);
+  check("1234567890123456789012345", 376, 0xdb4c05d64bee891LL, 0xa35ab492743881feLL, 2147484976LL);
+}
+
 TEST(QuadrupleBuilderTest, random1) {
   check("804431787231960292174158641356728981", 3, 0x2e97f69eea35dee3LL, 0xc40eb6485f7e2b04LL, 2147483776LL);
   check("804431787231960292174158641356728981", -3, 0x3d4ada5428435dd0LL, 0x56d475eefdc7d917LL, 2147483756LL);
@@ -0,0 +1,89 @@
+//  Copyright 2025 Google LLC
+//
+//  Licensed under the Apache License, Version 2.0 (the "License");
+//  you may not use this file except in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//      https://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing, software
+//  distributed under the License is distributed on an "AS IS" BASIS,
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//  See the License for the specific language governing permissions and
+//  limitations under the License.
+
+package com.google.cloud.datastore.core.quadruple;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Batch conversion to a {@link QuadrupleColumn}, and sorting of the column. The strings are the
+ * {@link Corpus} repeated up to {@code size}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ColumnBenchmark {
+
+  @Param public Corpus corpus;
+
+  @Param({"1000000"})
+  public int size;
+
+  private String[] strings;
+  private double[] doubles;
+  private long[] longs;
+  private QuadrupleColumn column;
+
+  @Setup
+  public void setUp() {
+    String[] corpusStrings = corpus.strings();
+    strings = new String[size];
+    doubles = new double[size];
+    longs = new long[size];
+    Random random = new Random(6781);
+    for (int i = 0; i < size; i++) {
+      strings[i] = corpusStrings[i & (Corpus.SIZE - 1)];
+      do {
+        doubles[i] = Double.longBitsToDouble(random.nextLong());
+      } while (!Double.isFinite(doubles[i]));
+      longs[i] = random.nextLong() >> random.nextInt(64);
+    }
+    column = QuadrupleColumn.fromStrings(strings);
+  }
+
+  @Benchmark
+  public QuadrupleColumn fromStrings() {
+    return QuadrupleColumn.fromStrings(strings);
+  }
+
+  @Benchmark
+  public QuadrupleColumn fromDoubles() {
+    return QuadrupleColumn.fromDoubles(doubles);
+  }
+
+  @Benchmark
+  public QuadrupleColumn fromLongs() {
+    return QuadrupleColumn.fromLongs(longs);
+  }
+
+  @Benchmark
+  public int[] sortedIndices() {
+    return column.sortedIndices();
+  }
+}
@@ -0,0 +1,226 @@
+//  Copyright 2025 Google LLC
+//
+//  Licensed under the Apache License, Version 2.0 (the "License");
+//  you may not use this file except in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//      https://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing, software
+//  distributed under the License is distributed on an "AS IS" BASIS,
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//  See the License for the specific language governing permissions and
+//  limitations under the License.
+
+package com.google.cloud.datastore.core.quadruple;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The decimal inputs used by the benchmarks. Each corpus is a fixed, deterministic array of {@link
+ * #SIZE} strings accepted by {@link Quadruple#fromString}.
+ */
+public enum Corpus {
+  /** Prices, counters and measurements: at most 15 significant digits, small exponents. */
+  SHORT {
+    @Override
+    String[] strings() {
+      return generate(
+          random -> {
+            String digits = randomDigits(random, 1 + random.nextInt(15));
+            int point = random.nextInt(digits.length() + 1);
+            String sign = random.nextInt(4) == 0 ? "-" : "";
+            if (point == digits.length()) {
+              return sign + digits;
+            }
+            return sign + digits.substring(0, point) + "." + digits.substring(point);
+          });
+    }
+  },
+
+  /** Full 34-digit Decimal128 coefficients over the whole Decimal128 exponent range. */
+  DECIMAL128 {
+    @Override
+    String[] strings() {
+      return generate(
+          random -> {
+            BigInteger coefficient = new BigInteger("1" + randomDigits(random, 33));
+            int scale = random.nextInt(DECIMAL128_MAX_SCALE - DECIMAL128_MIN_SCALE + 1);
+            return new BigDecimal(coefficient, scale + DECIMAL128_MIN_SCALE).toString();
+          });
+    }
+  },
+
+  /** Inputs with more than {@link QuadrupleBuilder#MAX_MANTISSA_LENGTH} significant digits. */
+  LONG_MANTISSA {
+    @Override
+    String[] strings() {
+      return generate(
+          random -> {
+            int length = QuadrupleBuilder.MAX_MANTISSA_LENGTH + 1 + random.nextInt(100);
+            // One in four are all nines, so that the truncation carries into an extra digit.
+            String digits =
+                random.nextInt(4) == 0
+                    ? "9".repeat(length)
+                    : "1" + randomDigits(random, length - 1);
+            return digits + "e" + (random.nextInt(41) - 20 - length);
+          });
+    }
+  },
+
+  /**
+   * Exponents within 100 of {@link QuadrupleBuilder#MIN_EXP10} or {@link
+   * QuadrupleBuilder#MAX_EXP10}.
+   */
+  EXTREME_EXPONENT {
+    @Override
+    String[] strings() {
+      return generate(
+          random -> {
+            String digits = randomDigits(random, 1 + random.nextInt(34));
+            int exponent =
+                random.nextBoolean()
+                    ? QuadrupleBuilder.MIN_EXP10 + random.nextInt(100)
+                    : QuadrupleBuilder.MAX_EXP10 - random.nextInt(100);
+            return "1." + digits + "e" + exponent;
+          });
+    }
+  },
+
+  /** The exemplars from test/testcases.m4 and test/edgecases.m4. */
+  TESTCASES {
+    @Override
+    String[] strings() {
+      List<String> exemplars = new ArrayList<>();
+      readExemplars("testcases.m4", exemplars);
+      readExemplars("edgecases.m4", exemplars);
+      return cycle(exemplars);
+    }
+  },
+
+  /**
+   * Decimal128 values that round to the same Quadruple as some double, so that {@link
+   * Quadruple#fromStringNoDoubleCollisions} has to adjust the result.
+   */
+  COLLISIONS {
+    @Override
+    String[] strings() {
+      List<String> collisions = new ArrayList<>();
+      for (long bits : COLLIDING_DOUBLES) {
+        String decimal =
+            new BigDecimal(Double.longBitsToDouble(bits), MathContext.DECIMAL128).toString();
+        collisions.add(decimal);
+        collisions.add("-" + decimal);
+      }
+      return cycle(collisions);
+    }
+  };
+
+  /** The number of inputs in every corpus - a power of two so that they can be cycled cheaply. */
+  public static final int SIZE = 1024;
+
+  private static final int DECIMAL128_MIN_SCALE = -6111;
+  private static final int DECIMAL128_MAX_SCALE = 6176;
+
+  // Doubles D such that Quadruple.fromString(M) == Quadruple.fromDouble(D) for M =
+  // Decimal128.fromDouble(D), found by a random search.
+  private static final long[] COLLIDING_DOUBLES = {
+    0x3fe0_0000_0000_3e05L, // 0.5 + 0b0011_1110_0000_0101 * 2^-53, from QuadrupleTest
+    0x3fe0_0000_0002_8152L, // 0.5 + 0b0010_1000_0001_0101_0010 * 2^-53, from QuadrupleTest
+    0x3bf6_bd07_3626_0282L,
+    0x3b7a_3abe_81af_0062L,
+    0x3d1d_5a58_52a1_3485L,
+    0x3f48_d959_0e78_70d7L,
+    0x3f48_5ab4_f5ba_937aL,
+    0x3cb0_8006_04e9_f4f5L,
+    0x3be1_c544_51e7_d639L,
+    0x3f04_a567_d714_924bL,
+    0x3d27_48f8_8292_7123L,
+    0x3bc4_33c6_f769_ae82L,
+    0x3f2d_a509_21c9_0e23L,
+    0x3bfd_034b_65b1_543aL,
+    0x3f15_76c1_f3fe_2eadL,
+    0x3d0b_562e_12f8_7383L,
+    0x3bd9_b861_3189_db82L,
+    0x3e7a_2266_2549_26f3L,
+    0x3c61_6962_c558_4ff8L,
+    0x3ad2_8a94_93fe_3f53L,
+    0x3c20_1360_60c2_4fa3L,
+    0x39e6_d411_e25b_f2cbL,
+    0x3a50_85a6_bd1b_4456L,
+    0x3ed1_f135_ec1a_3782L,
+    0x3dc7_cc6b_3816_8675L,
+    0x3da2_5db6_fcd3_e884L,
+  };
+
+  // Matches quadruple_test("digits", exp10, ...) in the test exemplars.
+  private static final Pattern EXEMPLAR =
+      Pattern.compile("quadruple_test\\(\"([0-9]*)\",\\s*(-?[0-9_]+)");
+
+  /** Returns the inputs of this corpus. */
+  abstract String[] strings();
+
+  /** Returns {@link #SIZE} inputs returned by {@code next}, seeded by this corpus. */
+  String[] generate(Function<Random, String> next) {
+    Random random = new Random(ordinal());
+    String[] strings = new String[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      strings[i] = next.apply(random);
+    }
+    return strings;
+  }
+
+  private static String randomDigits(Random random, int length) {
+    StringBuilder digits = new StringBuilder(length);
+    for (int i = 0; i < length; i++) {
+      digits.append((char) ('0' + random.nextInt(10)));
+    }
+    return digits.toString();
+  }
+
+  private static String[] cycle(List<String> inputs) {
+    String[] strings = new String[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      strings[i] = inputs.get(i % inputs.size());
+    }
+    return strings;
+  }
+
+  private static void readExemplars(String resource, List<String> exemplars) {
+    try (InputStream in = Corpus.class.getResourceAsStream("/" + resource)) {
+      if (in == null) {
+        throw new IllegalStateException("Missing benchmark resource " + resource);
+      }
+      BufferedReader reader =
+          new BufferedReader(new InputStreamReader(in, StandardCharsets.US_ASCII));
+      String line;
+      while ((line = reader.readLine()) != null) {
+        Matcher matcher = EXEMPLAR.matcher(line);
+        if (!matcher.find() || matcher.group(1).isEmpty()) {
+          continue;
+        }
+        String exponent = matcher.group(2).replace("_", "");
+        // Quadruple.fromString rejects exponents with more than 9 digits.
+        if (exponent.replace("-", "").length() <= 9) {
+          exemplars.add(matcher.group(1) + "e" + exponent);
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
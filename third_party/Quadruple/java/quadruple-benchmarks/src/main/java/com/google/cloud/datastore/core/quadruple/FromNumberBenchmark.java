@@ -0,0 +1,105 @@
+//  Copyright 2025 Google LLC
+//
+//  Licensed under the Apache License, Version 2.0 (the "License");
+//  you may not use this file except in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//      https://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing, software
+//  distributed under the License is distributed on an "AS IS" BASIS,
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//  See the License for the specific language governing permissions and
+//  limitations under the License.
+
+package com.google.cloud.datastore.core.quadruple;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@code double} and {@code long} to {@link Quadruple} conversion, and comparison of a {@link
+ * Quadruple} with a {@code double} or a {@code long}, with and without conversion.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FromNumberBenchmark {
+
+  private final double[] doubles = new double[Corpus.SIZE];
+  private final long[] longs = new long[Corpus.SIZE];
+  private final Quadruple[] quadruples = new Quadruple[Corpus.SIZE];
+  private int index;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(5442);
+    for (int i = 0; i < Corpus.SIZE; i++) {
+      // Any finite double.
+      do {
+        doubles[i] = Double.longBitsToDouble(random.nextLong());
+      } while (!Double.isFinite(doubles[i]));
+      // Longs of any bit length.
+      longs[i] = random.nextLong() >> random.nextInt(64);
+    }
+    for (int i = 0; i < Corpus.SIZE; i++) {
+      // Values close to the doubles and longs they are compared with, so that most comparisons
+      // reach the mantissas.
+      quadruples[i] =
+          random.nextBoolean()
+              ? Quadruple.fromDouble(doubles[(i + 1) & (Corpus.SIZE - 1)])
+              : Quadruple.fromLong(longs[(i + 1) & (Corpus.SIZE - 1)] + random.nextInt(3) - 1);
+    }
+  }
+
+  @Benchmark
+  public Quadruple fromDouble() {
+    return Quadruple.fromDouble(doubles[next()]);
+  }
+
+  @Benchmark
+  public Quadruple fromLong() {
+    return Quadruple.fromLong(longs[next()]);
+  }
+
+  @Benchmark
+  public int compareToFromDouble() {
+    int i = next();
+    return quadruples[i].compareTo(Quadruple.fromDouble(doubles[(i + 1) & (Corpus.SIZE - 1)]));
+  }
+
+  @Benchmark
+  public int compareWithDouble() {
+    int i = next();
+    return Quadruple.compare(quadruples[i], doubles[(i + 1) & (Corpus.SIZE - 1)]);
+  }
+
+  @Benchmark
+  public int compareToFromLong() {
+    int i = next();
+    return quadruples[i].compareTo(Quadruple.fromLong(longs[(i + 1) & (Corpus.SIZE - 1)]));
+  }
+
+  @Benchmark
+  public int compareWithLong() {
+    int i = next();
+    return Quadruple.compare(quadruples[i], longs[(i + 1) & (Corpus.SIZE - 1)]);
+  }
+
+  private int next() {
+    return index++ & (Corpus.SIZE - 1);
+  }
+}
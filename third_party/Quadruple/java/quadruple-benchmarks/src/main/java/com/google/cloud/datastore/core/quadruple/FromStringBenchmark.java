@@ -0,0 +1,172 @@
+//  Copyright 2025 Google LLC
+//
+//  Licensed under the Apache License, Version 2.0 (the "License");
+//  you may not use this file except in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//      https://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing, software
+//  distributed under the License is distributed on an "AS IS" BASIS,
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//  See the License for the specific language governing permissions and
+//  limitations under the License.
+
+package com.google.cloud.datastore.core.quadruple;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Decimal to {@link Quadruple} conversion, and comparison of the conversion results (as objects
+ * and as keys), for each {@link Corpus}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FromStringBenchmark {
+
+  private static final int DECIMAL128_EXPONENT_BIAS = 6176;
+  private static final int DECIMAL128_EXPONENT_LIMIT = 3 << 12;
+
+  @Param public Corpus corpus;
+
+  private String[] strings;
+  private Quadruple[] quadruples;
+  private int index;
+
+  // All strings, concatenated as ASCII, and the offset of each (plus the end of the last one)
+  private byte[] ascii;
+  private int[] offsets;
+  // The keys of all quadruples, concatenated
+  private byte[] keys;
+  private BigDecimal[] bigDecimals;
+  // The BID encoding of the strings rounded to Decimal128 (zero when out of range)
+  private long[] decimal128High;
+  private long[] decimal128Low;
+  private final QuadrupleParser parser = new QuadrupleParser();
+  private final LastValue sink = new LastValue();
+
+  @Setup
+  public void setUp() {
+    strings = corpus.strings();
+    quadruples = new Quadruple[strings.length];
+    for (int i = 0; i < strings.length; i++) {
+      quadruples[i] = Quadruple.fromString(strings[i]);
+    }
+    StringBuilder concatenated = new StringBuilder();
+    offsets = new int[strings.length + 1];
+    for (int i = 0; i < strings.length; i++) {
+      offsets[i] = concatenated.length();
+      concatenated.append(strings[i]);
+    }
+    offsets[strings.length] = concatenated.length();
+    ascii = concatenated.toString().getBytes(StandardCharsets.US_ASCII);
+    keys = new byte[strings.length * Quadruple.KEY_LENGTH];
+    for (int i = 0; i < strings.length; i++) {
+      quadruples[i].toKey(keys, i * Quadruple.KEY_LENGTH);
+    }
+    bigDecimals = new BigDecimal[strings.length];
+    decimal128High = new long[strings.length];
+    decimal128Low = new long[strings.length];
+    for (int i = 0; i < strings.length; i++) {
+      bigDecimals[i] = new BigDecimal(strings[i]);
+      BigDecimal rounded = bigDecimals[i].round(MathContext.DECIMAL128);
+      int exponent = DECIMAL128_EXPONENT_BIAS - rounded.scale();
+      if (exponent >= 0 && exponent < DECIMAL128_EXPONENT_LIMIT) {
+        BigInteger coefficient = rounded.unscaledValue().abs();
+        decimal128High[i] =
+            (rounded.signum() < 0 ? 1L << 63 : 0)
+                | (long) exponent << 49
+                | coefficient.shiftRight(64).longValue();
+        decimal128Low[i] = coefficient.longValue();
+      }
+    }
+  }
+
+  @Benchmark
+  public Quadruple fromString() {
+    return Quadruple.fromString(strings[next()]);
+  }
+
+  @Benchmark
+  public Quadruple fromStringNoDoubleCollisions() {
+    return Quadruple.fromStringNoDoubleCollisions(strings[next()]);
+  }
+
+  @Benchmark
+  public Quadruple fromAscii() {
+    int i = next();
+    return Quadruple.fromAscii(ascii, offsets[i], offsets[i + 1] - offsets[i]);
+  }
+
+  @Benchmark
+  public long parseAsciiToSink() {
+    int i = next();
+    parser.parseAscii(ascii, offsets[i], offsets[i + 1] - offsets[i], false, sink);
+    return sink.mantHi ^ sink.mantLo ^ sink.biasedExponent;
+  }
+
+  @Benchmark
+  public Quadruple fromBigDecimal() {
+    return Quadruple.fromBigDecimal(bigDecimals[next()]);
+  }
+
+  @Benchmark
+  public Quadruple fromDecimal128() {
+    int i = next();
+    return Quadruple.fromDecimal128(decimal128High[i], decimal128Low[i]);
+  }
+
+  @Benchmark
+  public int compareTo() {
+    int i = next();
+    return quadruples[i].compareTo(quadruples[(i + 1) & (Corpus.SIZE - 1)]);
+  }
+
+  @Benchmark
+  public int compareKeys() {
+    int i = next();
+    return Quadruple.compareKeys(
+        keys,
+        i * Quadruple.KEY_LENGTH,
+        keys,
+        ((i + 1) & (Corpus.SIZE - 1)) * Quadruple.KEY_LENGTH);
+  }
+
+  private int next() {
+    return index++ & (Corpus.SIZE - 1);
+  }
+
+  private static final class LastValue implements QuadrupleSink {
+    boolean negative;
+    int biasedExponent;
+    long mantHi;
+    long mantLo;
+
+    @Override
+    public void accept(boolean negative, int biasedExponent, long mantHi, long mantLo) {
+      this.negative = negative;
+      this.biasedExponent = biasedExponent;
+      this.mantHi = mantHi;
+      this.mantLo = mantLo;
+    }
+  }
+}
@@ -0,0 +1,102 @@
+//  Copyright 2025 Google LLC
+//
+//  Licensed under the Apache License, Version 2.0 (the "License");
+//  you may not use this file except in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//      https://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing, software
+//  distributed under the License is distributed on an "AS IS" BASIS,
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//  See the License for the specific language governing permissions and
+//  limitations under the License.
+
+package com.google.cloud.datastore.core.quadruple;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Conversion of a newline-delimited file of {@code size} numbers (the {@link Corpus} repeated):
+ * line by line with {@link Quadruple#fromString}, and with {@link QuadrupleScanner}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ScannerBenchmark {
+
+  @Param public Corpus corpus;
+
+  @Param({"1000000"})
+  public int size;
+
+  private Path file;
+
+  @Setup
+  public void setUp() throws IOException {
+    String[] strings = corpus.strings();
+    StringBuilder numbers = new StringBuilder();
+    for (int i = 0; i < size; i++) {
+      numbers.append(strings[i & (Corpus.SIZE - 1)]).append('\n');
+    }
+    file = Files.createTempFile("quadruple", ".txt");
+    Files.writeString(file, numbers, StandardCharsets.US_ASCII);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    Files.delete(file);
+  }
+
+  @Benchmark
+  public void readLines(Blackhole blackhole) throws IOException {
+    try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.US_ASCII)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        blackhole.consume(Quadruple.fromString(line));
+      }
+    }
+  }
+
+  @Benchmark
+  public long scanStream(Blackhole blackhole) throws IOException {
+    try (FileChannel channel = FileChannel.open(file)) {
+      // Not a FileChannel, so that the file is read rather than mapped
+      return QuadrupleScanner.parse(
+          Channels.newChannel(Channels.newInputStream(channel)),
+          false,
+          (negative, exponent, mantHi, mantLo) -> blackhole.consume(mantLo));
+    }
+  }
+
+  @Benchmark
+  public long scanMapped(Blackhole blackhole) throws IOException {
+    try (FileChannel channel = FileChannel.open(file)) {
+      return QuadrupleScanner.parse(
+          channel, false, (negative, exponent, mantHi, mantLo) -> blackhole.consume(mantLo));
+    }
+  }
+}
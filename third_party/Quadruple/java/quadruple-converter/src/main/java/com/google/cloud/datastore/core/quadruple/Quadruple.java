@@ -16,9 +16,17 @@ package com.google.cloud.datastore.core.quadruple;
 
 import static com.google.cloud.datastore.core.quadruple.QuadrupleBuilder.EXPONENT_OF_INFINITY;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Objects;
+
 /**
- * A 128-bit binary floating point number which supports comparisons and creation from long, double
- * and string.
+ * A 128-bit binary floating point number which supports comparisons and creation from long, double,
+ * string, Decimal128 and BigDecimal.
  *
  * @param negative the sign of the number.
  * @param biasedExponent the unsigned and biased (by 0x7FFF_FFFF) binary exponent.
@@ -35,6 +43,9 @@ public final class Quadruple implements Comparable<Quadruple> {
   public static final Quadruple POSITIVE_INFINITY =
       new Quadruple(false, (int) EXPONENT_OF_INFINITY, 0, 0);
 
+  /** The length in bytes of the keys written by {@link #toKey(byte[], int)}. */
+  public static final int KEY_LENGTH = 21;
+
   private static final Quadruple MIN_LONG = new Quadruple(true, bias(63), 0, 0);
   private static final Quadruple POSITIVE_ONE = new Quadruple(false, bias(0), 0, 0);
   private static final Quadruple NEGATIVE_ONE = new Quadruple(true, bias(0), 0, 0);
@@ -91,7 +102,7 @@ public final class Quadruple implements Comparable<Quadruple> {
 
   /** Return true if this {@link Quadruple} is a NaN. */
   public boolean isNaN() {
-    return biasedExponent == (int) EXPONENT_OF_INFINITY && !(mantHi == 0 && mantLo == 0);
+    return isNaN(biasedExponent, mantHi, mantLo);
   }
 
   // equals (and hashCode) follow Double.equals: all NaNs are equal and -0 != 0
@@ -130,42 +141,120 @@ public final class Quadruple implements Comparable<Quadruple> {
   // Compare two quadruples, with -0 < 0, and all NaNs equal and larger than all numbers.
   @Override
   public int compareTo(Quadruple other) {
-    if (isNaN()) {
-      return other.isNaN() ? 0 : 1;
+    return compare(
+        negative,
+        biasedExponent,
+        mantHi,
+        mantLo,
+        other.negative,
+        other.biasedExponent,
+        other.mantHi,
+        other.mantLo);
+  }
+
+  /**
+   * Compares {@code quadruple} with {@code value} like {@code
+   * quadruple.compareTo(Quadruple.fromDouble(value))}, without creating a {@link Quadruple}.
+   */
+  public static int compare(Quadruple quadruple, double value) {
+    return compare(
+        quadruple.negative, quadruple.biasedExponent, quadruple.mantHi, quadruple.mantLo, value);
+  }
+
+  /**
+   * Compares {@code quadruple} with {@code value} like {@code
+   * quadruple.compareTo(Quadruple.fromLong(value))}, without creating a {@link Quadruple}.
+   */
+  public static int compare(Quadruple quadruple, long value) {
+    return compare(
+        quadruple.negative, quadruple.biasedExponent, quadruple.mantHi, quadruple.mantLo, value);
+  }
+
+  /**
+   * Compares the quadruple given by its raw representation (see {@link #Quadruple(boolean, int,
+   * long, long)}) with {@code value}, like {@link #compare(Quadruple, double)}.
+   */
+  public static int compare(
+      boolean negative, int biasedExponent, long mantHi, long mantLo, double value) {
+    long bits = Double.doubleToRawLongBits(value);
+    return compare(
+        negative,
+        biasedExponent,
+        mantHi,
+        mantLo,
+        bits < 0,
+        doubleBiasedExponent(bits),
+        doubleMantHi(bits),
+        0);
+  }
+
+  /**
+   * Compares the quadruple given by its raw representation (see {@link #Quadruple(boolean, int,
+   * long, long)}) with {@code value}, like {@link #compare(Quadruple, long)}.
+   */
+  public static int compare(
+      boolean negative, int biasedExponent, long mantHi, long mantLo, long value) {
+    return compare(
+        negative,
+        biasedExponent,
+        mantHi,
+        mantLo,
+        value < 0,
+        longBiasedExponent(value),
+        longMantHi(value),
+        0);
+  }
+
+  /**
+   * Compares two quadruples given by their raw representations (see {@link #Quadruple(boolean,
+   * int, long, long)}), like {@link #compareTo}: -0 is less than 0, and all NaNs are equal and
+   * greater than all numbers.
+   */
+  public static int compare(
+      boolean negative1,
+      int biasedExponent1,
+      long mantHi1,
+      long mantLo1,
+      boolean negative2,
+      int biasedExponent2,
+      long mantHi2,
+      long mantLo2) {
+    if (isNaN(biasedExponent1, mantHi1, mantLo1)) {
+      return isNaN(biasedExponent2, mantHi2, mantLo2) ? 0 : 1;
     }
-    if (other.isNaN()) {
+    if (isNaN(biasedExponent2, mantHi2, mantLo2)) {
       return -1;
     }
     int lessThan;
     int greaterThan;
-    if (negative) {
-      if (!other.negative) {
+    if (negative1) {
+      if (!negative2) {
         return -1;
       }
       lessThan = 1;
       greaterThan = -1;
     } else {
-      if (other.negative) {
+      if (negative2) {
         return 1;
       }
       lessThan = -1;
       greaterThan = 1;
     }
-    int expCompare = Integer.compareUnsigned(biasedExponent, other.biasedExponent);
+    int expCompare = Integer.compareUnsigned(biasedExponent1, biasedExponent2);
     if (expCompare < 0) {
       return lessThan;
     }
     if (expCompare > 0) {
       return greaterThan;
     }
-    int mantHiCompare = Long.compareUnsigned(mantHi, other.mantHi);
+    int mantHiCompare = Long.compareUnsigned(mantHi1, mantHi2);
     if (mantHiCompare < 0) {
       return lessThan;
     }
     if (mantHiCompare > 0) {
       return greaterThan;
     }
-    int mantLoCompare = Long.compareUnsigned(mantLo, other.mantLo);
+    int mantLoCompare = Long.compareUnsigned(mantLo1, mantLo2);
     if (mantLoCompare < 0) {
       return lessThan;
     }
@@ -175,6 +264,180 @@ public final class Quadruple implements Comparable<Quadruple> {
     return 0;
   }
 
+  private static boolean isNaN(int biasedExponent, long mantHi, long mantLo) {
+    return biasedExponent == (int) EXPONENT_OF_INFINITY && !(mantHi == 0 && mantLo == 0);
+  }
+
+  /**
+   * Writes the {@link #KEY_LENGTH}-byte key of this {@link Quadruple} to {@code bytes} at {@code
+   * offset}. The unsigned lexicographic order of keys is the order of {@link #compareTo}, and keys
+   * are equal if and only if the quadruples are {@link #equals}: -0 sorts before 0, and all NaNs
+   * have the same key, which sorts after everything else.
+   *
+   * <p>The first byte is 0 for negative numbers, 1 for positive numbers and 2 for NaN. It is
+   * followed by the big-endian biased exponent, mantHi and mantLo, all bits inverted for negative
+   * numbers, or by zeros for NaN.
+   */
+  public void toKey(byte[] bytes, int offset) {
+    Objects.checkFromIndexSize(offset, KEY_LENGTH, bytes.length);
+    toKey(negative, biasedExponent, mantHi, mantLo, bytes, offset);
+  }
+
+  // Writes the key of a quadruple given by its fields, like toKey(byte[], int).
+  static void toKey(
+      boolean negative, int biasedExponent, long mantHi, long mantLo, byte[] bytes, int offset) {
+    if (isNaN(biasedExponent, mantHi, mantLo)) {
+      bytes[offset] = KEY_NAN;
+      Arrays.fill(bytes, offset + 1, offset + KEY_LENGTH, (byte) 0);
+      return;
+    }
+    long flip = negative ? -1 : 0;
+    bytes[offset] = negative ? KEY_NEGATIVE : KEY_POSITIVE;
+    ARRAY_INT.set(bytes, offset + 1, biasedExponent ^ (int) flip);
+    ARRAY_LONG.set(bytes, offset + 5, mantHi ^ flip);
+    ARRAY_LONG.set(bytes, offset + 13, mantLo ^ flip);
+  }
+
+  /**
+   * Writes the key of this {@link Quadruple} (see {@link #toKey(byte[], int)}) to {@code buffer} at
+   * the absolute index {@code offset}. The position, limit and byte order of {@code buffer} are
+   * neither used nor changed.
+   */
+  public void toKey(ByteBuffer buffer, int offset) {
+    Objects.checkFromIndexSize(offset, KEY_LENGTH, buffer.limit());
+    if (isNaN()) {
+      buffer.put(offset, KEY_NAN);
+      BUFFER_INT.set(buffer, offset + 1, 0);
+      BUFFER_LONG.set(buffer, offset + 5, 0L);
+      BUFFER_LONG.set(buffer, offset + 13, 0L);
+      return;
+    }
+    long flip = negative ? -1 : 0;
+    buffer.put(offset, negative ? KEY_NEGATIVE : KEY_POSITIVE);
+    BUFFER_INT.set(buffer, offset + 1, biasedExponent ^ (int) flip);
+    BUFFER_LONG.set(buffer, offset + 5, mantHi ^ flip);
+    BUFFER_LONG.set(buffer, offset + 13, mantLo ^ flip);
+  }
+
+  /**
+   * Reads a key written by {@link #toKey(byte[], int)}. NaN keys decode to {@link #NaN}.
+   *
+   * @throws IllegalArgumentException if the bytes are not a valid key.
+   */
+  public static Quadruple fromKey(byte[] bytes, int offset) {
+    Objects.checkFromIndexSize(offset, KEY_LENGTH, bytes.length);
+    return fromKey(
+        bytes[offset],
+        (int) ARRAY_INT.get(bytes, offset + 1),
+        (long) ARRAY_LONG.get(bytes, offset + 5),
+        (long) ARRAY_LONG.get(bytes, offset + 13));
+  }
+
+  /**
+   * Reads a key written by {@link #toKey(ByteBuffer, int)} at the absolute index {@code offset} of
+   * {@code buffer}, without changing its position. NaN keys decode to {@link #NaN}.
+   *
+   * @throws IllegalArgumentException if the bytes are not a valid key.
+   */
+  public static Quadruple fromKey(ByteBuffer buffer, int offset) {
+    Objects.checkFromIndexSize(offset, KEY_LENGTH, buffer.limit());
+    return fromKey(
+        buffer.get(offset),
+        (int) BUFFER_INT.get(buffer, offset + 1),
+        (long) BUFFER_LONG.get(buffer, offset + 5),
+        (long) BUFFER_LONG.get(buffer, offset + 13));
+  }
+
+  private static Quadruple fromKey(byte sign, int exponent, long hi, long lo) {
+    switch (sign) {
+      case KEY_NEGATIVE:
+        return new Quadruple(true, ~exponent, ~hi, ~lo);
+      case KEY_POSITIVE:
+        return new Quadruple(false, exponent, hi, lo);
+      case KEY_NAN:
+        if (exponent == 0 && hi == 0 && lo == 0) {
+          return NaN;
+        }
+        break;
+      default:
+        break;
+    }
+    throw new IllegalArgumentException("Invalid key");
+  }
+
+  /**
+   * Compares the keys at {@code offset1} in {@code bytes1} and {@code offset2} in {@code bytes2}
+   * (see {@link #toKey(byte[], int)}). The result has the sign of {@link #compareTo} on the decoded
+   * quadruples.
+   */
+  public static int compareKeys(byte[] bytes1, int offset1, byte[] bytes2, int offset2) {
+    Objects.checkFromIndexSize(offset1, KEY_LENGTH, bytes1.length);
+    Objects.checkFromIndexSize(offset2, KEY_LENGTH, bytes2.length);
+    int compare = Byte.compare(bytes1[offset1], bytes2[offset2]);
+    if (compare != 0) {
+      return compare;
+    }
+    compare =
+        Integer.compareUnsigned(
+            (int) ARRAY_INT.get(bytes1, offset1 + 1), (int) ARRAY_INT.get(bytes2, offset2 + 1));
+    if (compare != 0) {
+      return compare;
+    }
+    compare =
+        Long.compareUnsigned(
+            (long) ARRAY_LONG.get(bytes1, offset1 + 5), (long) ARRAY_LONG.get(bytes2, offset2 + 5));
+    if (compare != 0) {
+      return compare;
+    }
+    return Long.compareUnsigned(
+        (long) ARRAY_LONG.get(bytes1, offset1 + 13), (long) ARRAY_LONG.get(bytes2, offset2 + 13));
+  }
+
+  /**
+   * Compares the keys at the absolute indices {@code offset1} in {@code buffer1} and {@code
+   * offset2} in {@code buffer2} (see {@link #toKey(ByteBuffer, int)}). The result has the sign of
+   * {@link #compareTo} on the decoded quadruples.
+   */
+  public static int compareKeys(ByteBuffer buffer1, int offset1, ByteBuffer buffer2, int offset2) {
+    Objects.checkFromIndexSize(offset1, KEY_LENGTH, buffer1.limit());
+    Objects.checkFromIndexSize(offset2, KEY_LENGTH, buffer2.limit());
+    int compare = Byte.compare(buffer1.get(offset1), buffer2.get(offset2));
+    if (compare != 0) {
+      return compare;
+    }
+    compare =
+        Integer.compareUnsigned(
+            (int) BUFFER_INT.get(buffer1, offset1 + 1), (int) BUFFER_INT.get(buffer2, offset2 + 1));
+    if (compare != 0) {
+      return compare;
+    }
+    compare =
+        Long.compareUnsigned(
+            (long) BUFFER_LONG.get(buffer1, offset1 + 5),
+            (long) BUFFER_LONG.get(buffer2, offset2 + 5));
+    if (compare != 0) {
+      return compare;
+    }
+    return Long.compareUnsigned(
+        (long) BUFFER_LONG.get(buffer1, offset1 + 13),
+        (long) BUFFER_LONG.get(buffer2, offset2 + 13));
+  }
+
+  // The first byte of keys; they are small enough to be compared as signed bytes.
+  private static final byte KEY_NEGATIVE = 0;
+  private static final byte KEY_POSITIVE = 1;
+  private static final byte KEY_NAN = 2;
+
+  // Big-endian views of keys, independent of the byte order of buffers
+  private static final VarHandle ARRAY_INT =
+      MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+  private static final VarHandle ARRAY_LONG =
+      MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+  private static final VarHandle BUFFER_INT =
+      MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+  private static final VarHandle BUFFER_LONG =
+      MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
   public static Quadruple fromLong(long value) {
     if (value == Long.MIN_VALUE) {
       return MIN_LONG;
@@ -189,14 +452,46 @@ public final class Quadruple implements Comparable<Quadruple> {
       return NEGATIVE_ONE;
     }
 
-    boolean negative = value < 0;
-    if (negative) {
-      value = -value;
+    return new Quadruple(value < 0, longBiasedExponent(value), longMantHi(value), 0);
+  }
+
+  // The biased exponent and mantHi of fromLong(value) (mantLo is 0), for conversions that do not
+  // allocate a Quadruple
+  static int longBiasedExponent(long value) {
+    // Math.abs(Long.MIN_VALUE) is 2^63 as an unsigned long.
+    return value == 0 ? 0 : bias(63 - Long.numberOfLeadingZeros(Math.abs(value)));
+  }
+
+  static long longMantHi(long value) {
+    // Left-justify with the leading 1 dropped - in two shifts, as the leading 1 may be bit 0.
+    long magnitude = Math.abs(value);
+    return magnitude << Long.numberOfLeadingZeros(magnitude) << 1;
+  }
+
+  // The biased exponent and mantHi of fromDouble(value) (mantLo is 0) for the raw bits of value,
+  // for conversions and comparisons that do not allocate a Quadruple. NaNs get a non-zero mantHi,
+  // which may not be that of NaN.
+  static int doubleBiasedExponent(long bits) {
+    int exponent = (int) (bits >>> 52) & 0x7ff;
+    if (exponent == 0x7ff) {
+      return (int) EXPONENT_OF_INFINITY;
+    }
+    if (exponent == 0) {
+      // subnormal or zero
+      long mantHi = bits << 12;
+      return mantHi == 0 ? 0 : bias(-Long.numberOfLeadingZeros(mantHi) - 1023);
+    }
+    return bias(exponent - 1023);
+  }
+
+  static long doubleMantHi(long bits) {
+    long mantHi = bits << 12;
+    if ((bits & 0x7ff0_0000_0000_0000L) == 0) {
+      // subnormal or zero - left-justify with the leading 1 dropped, as in fromDouble
+      int leadingZeros = Long.numberOfLeadingZeros(mantHi);
+      return leadingZeros < 63 ? mantHi << (leadingZeros + 1) : 0;
     }
-    // Left-justify with the leading 1 dropped - value=0 or 1 is handled separately above, so
-    // leadingZeros+1 <= 63.
-    int leadingZeros = Long.numberOfLeadingZeros(value);
-    return new Quadruple(negative, bias(63 - leadingZeros), value << (leadingZeros + 1), 0);
+    return mantHi;
   }
 
   public static Quadruple fromDouble(double value) {
@@ -238,7 +533,32 @@ public final class Quadruple implements Comparable<Quadruple> {
    * </ul>
    */
   public static Quadruple fromString(String s) {
-    return fromString(s, false);
+    return QuadrupleParser.forCurrentThread().parse(s, 0, s.length(), false);
+  }
+
+  /**
+   * Converts {@code s.subSequence(start, end)} to a {@link Quadruple}, without copying it. See
+   * {@link #fromString(String)} for the supported format.
+   */
+  public static Quadruple fromString(CharSequence s, int start, int end) {
+    return QuadrupleParser.forCurrentThread().parse(s, start, end, false);
+  }
+
+  /**
+   * Converts the {@code length} ASCII characters of {@code bytes} starting at {@code offset} to a
+   * {@link Quadruple}. See {@link #fromString(String)} for the supported format.
+   */
+  public static Quadruple fromAscii(byte[] bytes, int offset, int length) {
+    return QuadrupleParser.forCurrentThread().parseAscii(bytes, offset, length, false);
+  }
+
+  /**
+   * Converts the {@code length} ASCII characters of {@code buffer} starting at the absolute index
+   * {@code offset} to a {@link Quadruple}, leaving the position of {@code buffer} unchanged. See
+   * {@link #fromString(String)} for the supported format.
+   */
+  public static Quadruple fromAscii(ByteBuffer buffer, int offset, int length) {
+    return QuadrupleParser.forCurrentThread().parseAscii(buffer, offset, length, false);
   }
 
   /**
@@ -252,78 +572,68 @@ public final class Quadruple implements Comparable<Quadruple> {
    *  correct order of comparisons with D when such collisions occur.
    */
   public static Quadruple fromStringNoDoubleCollisions(String s) {
-    return fromString(s, true);
+    return QuadrupleParser.forCurrentThread().parse(s, 0, s.length(), true);
   }
 
-  private static Quadruple fromString(String s, boolean avoidDoubleCollisions) {
-    if (s.equals("NaN")) {
-      return NaN;
-    }
-    if (s.equals("-Infinity")) {
-      return NEGATIVE_INFINITY;
-    }
-    if (s.equals("Infinity") || s.equals("+Infinity")) {
-      return POSITIVE_INFINITY;
-    }
-    char[] chars = s.toCharArray();
-    byte[] digits = new byte[chars.length];
-    int len = chars.length;
-    int i = 0;
-    int j = 0;
-    int exponent = 0;
-    boolean negative = false;
-    if (i < len) {
-      if (chars[i] == '-') {
-        negative = true;
-        i++;
-      } else if (chars[i] == '+') {
-        i++;
-      }
-    }
-    while (i < len && Character.isDigit(chars[i])) {
-      digits[j++] = (byte) (chars[i++] - '0');
-    }
-    if (i < len && chars[i] == '.') {
-      int decimal = ++i;
-      while (i < len && Character.isDigit(chars[i])) {
-        digits[j++] = (byte) (chars[i++] - '0');
-      }
-      exponent = decimal - i;
-    }
-    if (i < len && (chars[i] == 'e' || chars[i] == 'E')) {
-      int exponentValue = 0;
-      i++;
-      int exponentSign = 1;
-      if (i < len) {
-        if (chars[i] == '-') {
-          exponentSign = -1;
-          i++;
-        } else if (chars[i] == '+') {
-          i++;
-        }
-      }
-      int firstExponent = i;
-      while (i < len && Character.isDigit(chars[i])) {
-        exponentValue = exponentValue * 10 + chars[i++] - '0';
-        if (i - firstExponent > 9) {
-          throw new NumberFormatException("Exponent too large " + s);
-        }
-      }
-      if (i == firstExponent) {
-        throw new NumberFormatException("Invalid number " + s);
-      }
-      exponent += exponentValue * exponentSign;
-    }
-    if (j == 0 || i != len) {
-      throw new NumberFormatException("Invalid number " + s);
-    }
-    byte[] digitsCopy = new byte[j];
-    System.arraycopy(digits, 0, digitsCopy, 0, j);
-    QuadrupleBuilder parsed = QuadrupleBuilder.parseDecimal(digitsCopy, exponent);
-    if (avoidDoubleCollisions) {
-      parsed.avoidDecimal128CollisionsWithDouble();
-    }
-    return new Quadruple(negative, parsed.exponent, parsed.mantHi, parsed.mantLo);
+  /**
+   * Converts {@code s.subSequence(start, end)} to a {@link Quadruple} like {@link
+   * #fromStringNoDoubleCollisions(String)}.
+   */
+  public static Quadruple fromStringNoDoubleCollisions(CharSequence s, int start, int end) {
+    return QuadrupleParser.forCurrentThread().parse(s, start, end, true);
+  }
+
+  /**
+   * Converts {@code length} ASCII characters of {@code bytes} to a {@link Quadruple} like {@link
+   * #fromStringNoDoubleCollisions(String)}.
+   */
+  public static Quadruple fromAsciiNoDoubleCollisions(byte[] bytes, int offset, int length) {
+    return QuadrupleParser.forCurrentThread().parseAscii(bytes, offset, length, true);
+  }
+
+  /**
+   * Converts {@code length} ASCII characters of {@code buffer} to a {@link Quadruple} like {@link
+   * #fromStringNoDoubleCollisions(String)}.
+   */
+  public static Quadruple fromAsciiNoDoubleCollisions(ByteBuffer buffer, int offset, int length) {
+    return QuadrupleParser.forCurrentThread().parseAscii(buffer, offset, length, true);
+  }
+
+  /**
+   * Converts the IEEE 754 Decimal128 number with the binary integer decimal (BID) encoding {@code
+   * high} (sign, combination field and high bits of the coefficient) and {@code low} (low 64 bits
+   * of the coefficient) to a {@link Quadruple}, like {@link #fromString} of its string
+   * representation but without formatting it.
+   */
+  public static Quadruple fromDecimal128(long high, long low) {
+    return QuadrupleParser.forCurrentThread().fromDecimal128(high, low, false);
+  }
+
+  /**
+   * Converts a Decimal128 number like {@link #fromDecimal128} and {@link
+   * #fromStringNoDoubleCollisions(String)}.
+   */
+  public static Quadruple fromDecimal128NoDoubleCollisions(long high, long low) {
+    return QuadrupleParser.forCurrentThread().fromDecimal128(high, low, true);
+  }
+
+  /**
+   * Converts {@code value} to a {@link Quadruple}, with the result of {@code
+   * fromString(value.toString())} but without formatting it.
+   *
+   * @throws NumberFormatException if {@code value.toString()} has an exponent of more than 9
+   *     digits.
+   */
+  public static Quadruple fromBigDecimal(BigDecimal value) {
+    return QuadrupleParser.forCurrentThread().fromBigDecimal(value, false);
+  }
+
+  /**
+   * Converts {@code value} like {@link #fromBigDecimal} and {@link
+   * #fromStringNoDoubleCollisions(String)}.
+   */
+  public static Quadruple fromBigDecimalNoDoubleCollisions(BigDecimal value) {
+    return QuadrupleParser.forCurrentThread().fromBigDecimal(value, true);
   }
 
   private static final int bias(int exponent) {
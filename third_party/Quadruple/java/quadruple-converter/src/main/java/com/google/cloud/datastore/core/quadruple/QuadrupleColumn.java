@@ -0,0 +1,394 @@
+//  Copyright 2025 Google LLC
+//
+//  Licensed under the Apache License, Version 2.0 (the "License");
+//  you may not use this file except in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//      https://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing, software
+//  distributed under the License is distributed on an "AS IS" BASIS,
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//  See the License for the specific language governing permissions and
+//  limitations under the License.
+
+package com.google.cloud.datastore.core.quadruple;
+
+import java.util.Objects;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A fixed-size column of quadruples, stored as one array per field (and a bitset for the signs)
+ * instead of one {@link Quadruple} object per value.
+ *
+ * <p>The batch conversions ({@link #fromStrings}, {@link #fromDoubles}, ...) give the same values
+ * as the corresponding {@link Quadruple} methods. Large batches are split into tasks run in the
+ * current fork/join pool (the common pool when not called from a fork/join task), each worker
+ * thread reusing its own {@link QuadrupleParser}.
+ *
+ * <p>A column is not thread-safe.
+ */
+public final class QuadrupleColumn {
+
+  // The number of values converted (or sorted) sequentially by one task. It is a multiple of 64,
+  // so that tasks never write to the same word of the sign bitset.
+  private static final int TASK_SIZE = 1 << 12;
+
+  private final int size;
+  private final long[] negative;
+  private final int[] biasedExponent;
+  private final long[] mantHi;
+  private final long[] mantLo;
+
+  /** Creates a column of {@code size} positive zeros. */
+  public QuadrupleColumn(int size) {
+    this.size = size;
+    this.negative = new long[(size + 63) >>> 6];
+    this.biasedExponent = new int[size];
+    this.mantHi = new long[size];
+    this.mantLo = new long[size];
+  }
+
+  /**
+   * Converts decimal numbers like {@link Quadruple#fromString}.
+   *
+   * @throws NumberFormatException if a string is not a valid number: the exception is the one
+   *     thrown for the first invalid string.
+   */
+  public static QuadrupleColumn fromStrings(String[] values) {
+    return fromStrings(values, false);
+  }
+
+  /**
+   * Converts decimal numbers like {@link Quadruple#fromStringNoDoubleCollisions}.
+   *
+   * @throws NumberFormatException if a string is not a valid number: the exception is the one
+   *     thrown for the first invalid string.
+   */
+  public static QuadrupleColumn fromStringsNoDoubleCollisions(String[] values) {
+    return fromStrings(values, true);
+  }
+
+  /** Converts doubles like {@link Quadruple#fromDouble}. */
+  public static QuadrupleColumn fromDoubles(double[] values) {
+    QuadrupleColumn column = new QuadrupleColumn(values.length);
+    column.convert(
+        (from, to) -> {
+          for (int i = from; i < to; i++) {
+            double value = values[i];
+            if (Double.isNaN(value)) {
+              column.set(i, Quadruple.NaN);
+            } else {
+              long bits = Double.doubleToRawLongBits(value);
+              column.set(
+                  i,
+                  bits < 0,
+                  Quadruple.doubleBiasedExponent(bits),
+                  Quadruple.doubleMantHi(bits),
+                  0);
+            }
+          }
+        });
+    return column;
+  }
+
+  /** Converts longs like {@link Quadruple#fromLong}. */
+  public static QuadrupleColumn fromLongs(long[] values) {
+    QuadrupleColumn column = new QuadrupleColumn(values.length);
+    column.convert(
+        (from, to) -> {
+          for (int i = from; i < to; i++) {
+            long value = values[i];
+            column.set(
+                i,
+                value < 0,
+                Quadruple.longBiasedExponent(value),
+                Quadruple.longMantHi(value),
+                0);
+          }
+        });
+    return column;
+  }
+
+  private static QuadrupleColumn fromStrings(String[] values, boolean avoidDoubleCollisions) {
+    QuadrupleColumn column = new QuadrupleColumn(values.length);
+    column.convert(
+        (from, to) -> {
+          QuadrupleParser parser = QuadrupleParser.forCurrentThread();
+          Writer writer = column.new Writer();
+          for (int i = from; i < to; i++) {
+            writer.index = i;
+            parser.parse(values[i], 0, values[i].length(), avoidDoubleCollisions, writer);
+          }
+        });
+    return column;
+  }
+
+  /** Returns the number of values of this column. */
+  public int size() {
+    return size;
+  }
+
+  /** Returns the sign of the value at {@code index}. */
+  public boolean negative(int index) {
+    Objects.checkIndex(index, size);
+    return (negative[index >>> 6] & 1L << index) != 0;
+  }
+
+  /** Returns the unsigned-32-bit biased exponent of the value at {@code index}. */
+  public int biasedExponent(int index) {
+    Objects.checkIndex(index, size);
+    return biasedExponent[index];
+  }
+
+  /** Returns the high-order unsigned-64-bits of the mantissa of the value at {@code index}. */
+  public long mantHi(int index) {
+    Objects.checkIndex(index, size);
+    return mantHi[index];
+  }
+
+  /** Returns the low-order unsigned-64-bits of the mantissa of the value at {@code index}. */
+  public long mantLo(int index) {
+    Objects.checkIndex(index, size);
+    return mantLo[index];
+  }
+
+  /**
+   * Returns the signs of this column (not a copy): the sign of the value at index i is bit {@code i
+   * % 64} of word {@code i / 64}. The bits past {@link #size()} are zero.
+   */
+  public long[] negativeBits() {
+    return negative;
+  }
+
+  /** Returns the biased exponents of this column (not a copy). */
+  public int[] biasedExponents() {
+    return biasedExponent;
+  }
+
+  /** Returns the high-order 64 bits of the mantissas of this column (not a copy). */
+  public long[] mantHis() {
+    return mantHi;
+  }
+
+  /** Returns the low-order 64 bits of the mantissas of this column (not a copy). */
+  public long[] mantLos() {
+    return mantLo;
+  }
+
+  /** Returns the value at {@code index} as a new {@link Quadruple}. */
+  public Quadruple get(int index) {
+    Objects.checkIndex(index, size);
+    return new Quadruple(negative(index), biasedExponent[index], mantHi[index], mantLo[index]);
+  }
+
+  /** Sets the value at {@code index}. */
+  public void set(int index, Quadruple value) {
+    set(index, value.negative(), value.biasedExponent(), value.mantHi(), value.mantLo());
+  }
+
+  /** Sets the value at {@code index} from its raw representation, as in {@link Quadruple}. */
+  public void set(int index, boolean negative, int biasedExponent, long mantHi, long mantLo) {
+    Objects.checkIndex(index, size);
+    if (negative) {
+      this.negative[index >>> 6] |= 1L << index;
+    } else {
+      this.negative[index >>> 6] &= ~(1L << index);
+    }
+    this.biasedExponent[index] = biasedExponent;
+    this.mantHi[index] = mantHi;
+    this.mantLo[index] = mantLo;
+  }
+
+  /**
+   * Compares the values at {@code index1} and {@code index2} like {@link Quadruple#compareTo}.
+   */
+  public int compare(int index1, int index2) {
+    return Quadruple.compare(
+        negative(index1),
+        biasedExponent[index1],
+        mantHi[index1],
+        mantLo[index1],
+        negative(index2),
+        biasedExponent[index2],
+        mantHi[index2],
+        mantLo[index2]);
+  }
+
+  /**
+   * Returns the indices of this column in increasing order of their values (see {@link
+   * Quadruple#compareTo}), equal values being in increasing order of their index.
+   */
+  public int[] sortedIndices() {
+    int[] indices = new int[size];
+    for (int i = 0; i < size; i++) {
+      indices[i] = i;
+    }
+    new SortTask(indices, new int[size], 0, size).invoke();
+    return indices;
+  }
+
+  /** Sorts this column in increasing order (see {@link Quadruple#compareTo}). */
+  public void sort() {
+    int[] indices = sortedIndices();
+    long[] sortedNegative = new long[negative.length];
+    int[] sortedExponent = new int[size];
+    long[] sortedMantHi = new long[size];
+    long[] sortedMantLo = new long[size];
+    for (int i = 0; i < size; i++) {
+      int index = indices[i];
+      if (negative(index)) {
+        sortedNegative[i >>> 6] |= 1L << i;
+      }
+      sortedExponent[i] = biasedExponent[index];
+      sortedMantHi[i] = mantHi[index];
+      sortedMantLo[i] = mantLo[index];
+    }
+    System.arraycopy(sortedNegative, 0, negative, 0, negative.length);
+    System.arraycopy(sortedExponent, 0, biasedExponent, 0, size);
+    System.arraycopy(sortedMantHi, 0, mantHi, 0, size);
+    System.arraycopy(sortedMantLo, 0, mantLo, 0, size);
+  }
+
+  // Runs converter on the whole column, in parallel if it is large enough, and rethrows the
+  // exception of the first failing range (if any).
+  private void convert(RangeConverter converter) {
+    Failure failure = new Failure();
+    new ConvertTask(converter, failure, 0, size).invoke();
+    if (failure.exception != null) {
+      throw failure.exception;
+    }
+  }
+
+  // Sets the values of a range [from, to) of the column; ranges start at multiples of 64.
+  @FunctionalInterface
+  private interface RangeConverter {
+    void convert(int from, int to);
+  }
+
+  // The exception thrown for the lowest range, which is the exception of a sequential conversion
+  // since each range stops at its first exception.
+  private static final class Failure {
+    private int from = Integer.MAX_VALUE;
+    private RuntimeException exception;
+
+    synchronized void record(int from, RuntimeException exception) {
+      if (from < this.from) {
+        this.from = from;
+        this.exception = exception;
+      }
+    }
+  }
+
+  private static final class ConvertTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final RangeConverter converter;
+    private final Failure failure;
+    private final int from;
+    private final int to;
+
+    ConvertTask(RangeConverter converter, Failure failure, int from, int to) {
+      this.converter = converter;
+      this.failure = failure;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= TASK_SIZE) {
+        try {
+          converter.convert(from, to);
+        } catch (RuntimeException e) {
+          failure.record(from, e);
+        }
+        return;
+      }
+      // from is a multiple of 64, and so is middle > from since to - from > TASK_SIZE >= 128.
+      int middle = (from + (to - from) / 2) & ~63;
+      invokeAll(
+          new ConvertTask(converter, failure, from, middle),
+          new ConvertTask(converter, failure, middle, to));
+    }
+  }
+
+  // A stable merge sort of indices[from, to), using buffer[from, to) for merging
+  private final class SortTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final int[] indices;
+    private final int[] buffer;
+    private final int from;
+    private final int to;
+
+    SortTask(int[] indices, int[] buffer, int from, int to) {
+      this.indices = indices;
+      this.buffer = buffer;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= TASK_SIZE) {
+        mergeSort(indices, buffer, from, to);
+        return;
+      }
+      int middle = (from + to) >>> 1;
+      invokeAll(
+          new SortTask(indices, buffer, from, middle), new SortTask(indices, buffer, middle, to));
+      merge(indices, buffer, from, middle, to);
+    }
+  }
+
+  private void mergeSort(int[] indices, int[] buffer, int from, int to) {
+    if (to - from <= 16) {
+      // Insertion sort, stable since equal values are not moved past each other
+      for (int i = from + 1; i < to; i++) {
+        int index = indices[i];
+        int j = i;
+        while (j > from && compare(indices[j - 1], index) > 0) {
+          indices[j] = indices[j - 1];
+          j--;
+        }
+        indices[j] = index;
+      }
+      return;
+    }
+    int middle = (from + to) >>> 1;
+    mergeSort(indices, buffer, from, middle);
+    mergeSort(indices, buffer, middle, to);
+    merge(indices, buffer, from, middle, to);
+  }
+
+  // Merges the sorted indices[from, middle) and indices[middle, to), preferring the first on ties.
+  private void merge(int[] indices, int[] buffer, int from, int middle, int to) {
+    if (compare(indices[middle - 1], indices[middle]) <= 0) {
+      return;
+    }
+    System.arraycopy(indices, from, buffer, from, to - from);
+    int i = from;
+    int j = middle;
+    int k = from;
+    while (i < middle && j < to) {
+      indices[k++] = compare(buffer[j], buffer[i]) < 0 ? buffer[j++] : buffer[i++];
+    }
+    while (i < middle) {
+      indices[k++] = buffer[i++];
+    }
+    while (j < to) {
+      indices[k++] = buffer[j++];
+    }
+  }
+
+  // Writes the results of a parser to the column, at index.
+  private final class Writer implements QuadrupleSink {
+    int index;
+
+    @Override
+    public void accept(boolean negative, int biasedExponent, long mantHi, long mantLo) {
+      set(index, negative, biasedExponent, mantHi, mantLo);
+    }
+  }
+}
@@ -0,0 +1,35 @@
+//  Copyright 2025 Google LLC
+//
+//  Licensed under the Apache License, Version 2.0 (the "License");
+//  you may not use this file except in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//      https://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing, software
+//  distributed under the License is distributed on an "AS IS" BASIS,
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//  See the License for the specific language governing permissions and
+//  limitations under the License.
+
+package com.google.cloud.datastore.core.quadruple;
+
+/**
+ * Thrown by {@link QuadrupleScanner} for an invalid number: the message is that of {@link
+ * Quadruple#fromString} for the same characters, followed by the byte offset of the number.
+ */
+public final class QuadrupleFormatException extends NumberFormatException {
+  private static final long serialVersionUID = 1L;
+
+  private final long offset;
+
+  QuadrupleFormatException(String message, long offset) {
+    super(message + " at offset " + offset);
+    this.offset = offset;
+  }
+
+  /** Returns the offset of the first byte of the invalid number in the scanned input. */
+  public long offset() {
+    return offset;
+  }
+}
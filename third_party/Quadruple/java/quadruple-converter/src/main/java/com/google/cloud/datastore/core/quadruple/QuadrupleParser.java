@@ -0,0 +1,513 @@
+//  Copyright 2025 Google LLC
+//
+//  Licensed under the Apache License, Version 2.0 (the "License");
+//  you may not use this file except in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//      https://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing, software
+//  distributed under the License is distributed on an "AS IS" BASIS,
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//  See the License for the specific language governing permissions and
+//  limitations under the License.
+
+package com.google.cloud.datastore.core.quadruple;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * A reusable parser of decimal numbers, accepting the format documented in {@link
+ * Quadruple#fromString}, Decimal128 encodings and {@link BigDecimal}. Once its buffers have grown
+ * to the longest input seen, a parser allocates nothing but the resulting {@link Quadruple}, and
+ * nothing at all when the result is delivered to a {@link QuadrupleSink}. Buffers larger than
+ * {@value #MAX_RETAINED_BUFFER} bytes are dropped after use, so that a parser kept by a thread
+ * does not hold on to the memory of an occasional very long input.
+ *
+ * <p>A parser is not thread-safe: use one per thread, for example {@link #forCurrentThread()}.
+ * Results are identical to those of {@link Quadruple#fromString} and {@link
+ * Quadruple#fromStringNoDoubleCollisions}, including the {@link NumberFormatException} messages.
+ */
+public final class QuadrupleParser {
+
+  private static final ThreadLocal<QuadrupleParser> PER_THREAD =
+      ThreadLocal.withInitial(QuadrupleParser::new);
+
+  private static final int INITIAL_DIGITS = 64;
+  private static final int INITIAL_LIMBS = 4;
+  private static final int INITIAL_CHUNKS = 5;
+  // The largest buffer, in bytes, kept from one conversion to the next
+  private static final int MAX_RETAINED_BUFFER = 4096;
+
+  // Decimal128 (IEEE 754-2008, binary integer decimal encoding): the exponent bias, the largest
+  // canonical coefficient 10^34 - 1, and the field masks of the high word
+  private static final int DECIMAL128_EXPONENT_BIAS = 6176;
+  private static final long DECIMAL128_MAX_COEFFICIENT_HIGH = 0x1_ED09_BEAD_87C0L;
+  private static final long DECIMAL128_MAX_COEFFICIENT_LOW = 0x378D_8E63_FFFF_FFFFL;
+  private static final long DECIMAL128_COEFFICIENT_HIGH_MASK = (1L << 49) - 1;
+  private static final int DECIMAL128_EXPONENT_MASK = 0x3FFF;
+
+  // The largest power of 10 that fits in an int, and its number of digits
+  private static final int CHUNK = 1_000_000_000;
+  private static final int CHUNK_DIGITS = 9;
+
+  // The largest exponent of 9 digits: the parser rejects longer exponents
+  private static final long MAX_EXPONENT = 999_999_999;
+
+  private final QuadrupleBuilder builder = new QuadrupleBuilder();
+  private final AsciiSequence ascii = new AsciiSequence();
+  private byte[] digits = new byte[INITIAL_DIGITS];
+  // The 32-bit limbs of a binary coefficient, most significant first, and its base 10^9 digits,
+  // least significant first
+  private int[] limbs = new int[INITIAL_LIMBS];
+  private int[] chunks = new int[INITIAL_CHUNKS];
+  // The sign of the last finite number parsed by parseToBuilder
+  private boolean negative;
+
+  /** Returns the parser of the calling thread. */
+  public static QuadrupleParser forCurrentThread() {
+    return PER_THREAD.get();
+  }
+
+  /**
+   * Parses {@code s.subSequence(start, end)}.
+   *
+   * @param avoidDoubleCollisions as in {@link Quadruple#fromStringNoDoubleCollisions}.
+   * @throws NumberFormatException if the characters are not a valid number.
+   */
+  public Quadruple parse(CharSequence s, int start, int end, boolean avoidDoubleCollisions) {
+    Objects.checkFromToIndex(start, end, s.length());
+    Quadruple special = parseToBuilder(s, start, end, avoidDoubleCollisions);
+    if (special != null) {
+      return special;
+    }
+    return new Quadruple(negative, builder.exponent, builder.mantHi, builder.mantLo);
+  }
+
+  /**
+   * Parses {@code s.subSequence(start, end)} and passes the result to {@code sink}.
+   *
+   * @param avoidDoubleCollisions as in {@link Quadruple#fromStringNoDoubleCollisions}.
+   * @throws NumberFormatException if the characters are not a valid number.
+   */
+  public void parse(
+      CharSequence s, int start, int end, boolean avoidDoubleCollisions, QuadrupleSink sink) {
+    Objects.checkFromToIndex(start, end, s.length());
+    Quadruple special = parseToBuilder(s, start, end, avoidDoubleCollisions);
+    accept(special, sink);
+  }
+
+  /**
+   * Parses the {@code length} ASCII characters of {@code bytes} starting at {@code offset}.
+   *
+   * @param avoidDoubleCollisions as in {@link Quadruple#fromStringNoDoubleCollisions}.
+   * @throws NumberFormatException if the bytes are not a valid number.
+   */
+  public Quadruple parseAscii(
+      byte[] bytes, int offset, int length, boolean avoidDoubleCollisions) {
+    Objects.checkFromIndexSize(offset, length, bytes.length);
+    ascii.reset(bytes, null, offset, length);
+    try {
+      return parse(ascii, 0, length, avoidDoubleCollisions);
+    } finally {
+      ascii.clear();
+    }
+  }
+
+  /**
+   * Parses the {@code length} ASCII characters of {@code bytes} starting at {@code offset} and
+   * passes the result to {@code sink}.
+   *
+   * @param avoidDoubleCollisions as in {@link Quadruple#fromStringNoDoubleCollisions}.
+   * @throws NumberFormatException if the bytes are not a valid number.
+   */
+  public void parseAscii(
+      byte[] bytes, int offset, int length, boolean avoidDoubleCollisions, QuadrupleSink sink) {
+    Objects.checkFromIndexSize(offset, length, bytes.length);
+    ascii.reset(bytes, null, offset, length);
+    try {
+      parse(ascii, 0, length, avoidDoubleCollisions, sink);
+    } finally {
+      ascii.clear();
+    }
+  }
+
+  /**
+   * Parses the {@code length} ASCII characters of {@code buffer} starting at the absolute index
+   * {@code offset}. The position and limit of {@code buffer} are not changed.
+   *
+   * @param avoidDoubleCollisions as in {@link Quadruple#fromStringNoDoubleCollisions}.
+   * @throws NumberFormatException if the bytes are not a valid number.
+   */
+  public Quadruple parseAscii(
+      ByteBuffer buffer, int offset, int length, boolean avoidDoubleCollisions) {
+    Objects.checkFromIndexSize(offset, length, buffer.limit());
+    ascii.reset(null, buffer, offset, length);
+    try {
+      return parse(ascii, 0, length, avoidDoubleCollisions);
+    } finally {
+      ascii.clear();
+    }
+  }
+
+  /**
+   * Parses the {@code length} ASCII characters of {@code buffer} starting at the absolute index
+   * {@code offset} and passes the result to {@code sink}. The position and limit of {@code buffer}
+   * are not changed.
+   *
+   * @param avoidDoubleCollisions as in {@link Quadruple#fromStringNoDoubleCollisions}.
+   * @throws NumberFormatException if the bytes are not a valid number.
+   */
+  public void parseAscii(
+      ByteBuffer buffer,
+      int offset,
+      int length,
+      boolean avoidDoubleCollisions,
+      QuadrupleSink sink) {
+    Objects.checkFromIndexSize(offset, length, buffer.limit());
+    ascii.reset(null, buffer, offset, length);
+    try {
+      parse(ascii, 0, length, avoidDoubleCollisions, sink);
+    } finally {
+      ascii.clear();
+    }
+  }
+
+  /**
+   * Converts the IEEE 754 Decimal128 number with the binary integer decimal (BID) encoding {@code
+   * high}, {@code low}. The result is that of parsing its string representation: all NaNs convert
+   * to {@link Quadruple#NaN}, and non-canonical coefficients (above 10^34 - 1) to zero.
+   *
+   * @param avoidDoubleCollisions as in {@link Quadruple#fromStringNoDoubleCollisions}.
+   */
+  public Quadruple fromDecimal128(long high, long low, boolean avoidDoubleCollisions) {
+    boolean negative = high < 0;
+    int exponent;
+    long coefficientHigh;
+    long coefficientLow;
+    if ((high >>> 61 & 3) == 3) {
+      // The coefficient would be 2^113 or more: either a special value or a non-canonical zero
+      if ((high >>> 58 & 0x1F) == 0x1F) {
+        return special(Quadruple.NaN);
+      }
+      if ((high >>> 58 & 0x1F) == 0x1E) {
+        return special(negative ? Quadruple.NEGATIVE_INFINITY : Quadruple.POSITIVE_INFINITY);
+      }
+      exponent = (int) (high >>> 47) & DECIMAL128_EXPONENT_MASK;
+      coefficientHigh = 0;
+      coefficientLow = 0;
+    } else {
+      exponent = (int) (high >>> 49) & DECIMAL128_EXPONENT_MASK;
+      coefficientHigh = high & DECIMAL128_COEFFICIENT_HIGH_MASK;
+      coefficientLow = low;
+      if (coefficientHigh > DECIMAL128_MAX_COEFFICIENT_HIGH
+          || (coefficientHigh == DECIMAL128_MAX_COEFFICIENT_HIGH
+              && Long.compareUnsigned(coefficientLow, DECIMAL128_MAX_COEFFICIENT_LOW) > 0)) {
+        coefficientHigh = 0;
+        coefficientLow = 0;
+      }
+    }
+    int[] limbs = this.limbs;
+    limbs[0] = (int) (coefficientHigh >>> 32);
+    limbs[1] = (int) coefficientHigh;
+    limbs[2] = (int) (coefficientLow >>> 32);
+    limbs[3] = (int) coefficientLow;
+    int length = toDigits(4);
+    return build(negative, length, exponent - DECIMAL128_EXPONENT_BIAS, avoidDoubleCollisions);
+  }
+
+  /**
+   * Converts {@code value}, with the same result as parsing {@code value.toString()}.
+   *
+   * @param avoidDoubleCollisions as in {@link Quadruple#fromStringNoDoubleCollisions}.
+   * @throws NumberFormatException if the exponent of the string representation of {@code value}
+   *     would have more than 9 digits.
+   */
+  public Quadruple fromBigDecimal(BigDecimal value, boolean avoidDoubleCollisions) {
+    try {
+      BigInteger unscaled = value.unscaledValue();
+      int count;
+      if (unscaled.bitLength() < 64) {
+        long magnitude = Math.abs(unscaled.longValue());
+        limbs[0] = (int) (magnitude >>> 32);
+        limbs[1] = (int) magnitude;
+        count = 2;
+      } else {
+        byte[] magnitude = unscaled.abs().toByteArray();
+        count = (magnitude.length + 3) / 4;
+        if (limbs.length < count) {
+          limbs = new int[Math.max(count, 2 * limbs.length)];
+        }
+        // Big-endian bytes to big-endian limbs, the first limb taking the extra bytes
+        int limb = 0;
+        for (int i = 0; i < magnitude.length; i++) {
+          limb = limb << 8 | (magnitude[i] & 0xFF);
+          if ((magnitude.length - 1 - i) % 4 == 0) {
+            limbs[count - 1 - (magnitude.length - 1 - i) / 4] = limb;
+            limb = 0;
+          }
+        }
+      }
+      int length = toDigits(count);
+      // The exponent of value.toString(), when it has one
+      long adjustedExponent = length - 1 - (long) value.scale();
+      boolean exponentNotation = value.scale() < 0 || adjustedExponent < -6;
+      if (exponentNotation && Math.abs(adjustedExponent) > MAX_EXPONENT) {
+        throw new NumberFormatException("Exponent too large " + value);
+      }
+      return build(value.signum() < 0, length, -value.scale(), avoidDoubleCollisions);
+    } finally {
+      releaseLargeBuffers();
+    }
+  }
+
+  // Writes the decimal digits of limbs[0..count) to digits, without leading zeros (but "0" for
+  // zero), overwriting the limbs, and returns their number.
+  private int toDigits(int count) {
+    int[] limbs = this.limbs;
+    // 2^32 < 10^9 * 2^3, so each base 10^9 digit takes at least 29 bits.
+    int maxChunks = count * 32 / 29 + 1;
+    if (chunks.length < maxChunks) {
+      chunks = new int[Math.max(maxChunks, 2 * chunks.length)];
+    }
+    int[] chunks = this.chunks;
+    int chunkCount = 0;
+    int first = 0;
+    while (first < count && limbs[first] == 0) {
+      first++;
+    }
+    // Schoolbook division by 10^9, dropping the leading zero limbs
+    while (first < count) {
+      long remainder = 0;
+      for (int i = first; i < count; i++) {
+        long dividend = remainder << 32 | (limbs[i] & 0xFFFF_FFFFL);
+        limbs[i] = (int) (dividend / CHUNK);
+        remainder = dividend % CHUNK;
+      }
+      chunks[chunkCount++] = (int) remainder;
+      while (first < count && limbs[first] == 0) {
+        first++;
+      }
+    }
+    if (chunkCount == 0) {
+      digits[0] = 0;
+      return 1;
+    }
+    int maxLength = chunkCount * CHUNK_DIGITS;
+    if (digits.length < maxLength) {
+      digits = new byte[Math.max(maxLength, 2 * digits.length)];
+    }
+    byte[] digits = this.digits;
+    int length = 0;
+    int top = chunks[chunkCount - 1];
+    for (int power = CHUNK / 10; power > 0; power /= 10) {
+      if (top >= power || length > 0) {
+        digits[length++] = (byte) (top / power % 10);
+      }
+    }
+    for (int i = chunkCount - 2; i >= 0; i--) {
+      int chunk = chunks[i];
+      for (int j = length + CHUNK_DIGITS - 1; j >= length; j--) {
+        digits[j] = (byte) (chunk % 10);
+        chunk /= 10;
+      }
+      length += CHUNK_DIGITS;
+    }
+    return length;
+  }
+
+  private Quadruple build(boolean negative, int length, int exp10, boolean avoidDoubleCollisions) {
+    convert(length, exp10, avoidDoubleCollisions);
+    return new Quadruple(negative, builder.exponent, builder.mantHi, builder.mantLo);
+  }
+
+  // Converts the first length digits times 10^exp10 with builder, counting the conversion if
+  // QuadrupleStats are enabled.
+  private void convert(int length, int exp10, boolean avoidDoubleCollisions) {
+    if (!QuadrupleStats.isEnabled()) {
+      builder.parseDecimal(digits, length, exp10);
+      if (avoidDoubleCollisions) {
+        builder.avoidDecimal128CollisionsWithDouble();
+      }
+      return;
+    }
+    Object event = QuadrupleStats.begin();
+    builder.parseDecimal(digits, length, exp10);
+    boolean invertedRounding = false;
+    if (avoidDoubleCollisions) {
+      long mantLo = builder.mantLo;
+      builder.avoidDecimal128CollisionsWithDouble();
+      invertedRounding = builder.mantLo != mantLo;
+    }
+    QuadrupleStats.record(event, digits, length, exp10, builder, invertedRounding);
+  }
+
+  // Drops the buffers grown beyond MAX_RETAINED_BUFFER bytes by a long input.
+  private void releaseLargeBuffers() {
+    if (digits.length > MAX_RETAINED_BUFFER) {
+      digits = new byte[INITIAL_DIGITS];
+    }
+    if (limbs.length > MAX_RETAINED_BUFFER / Integer.BYTES) {
+      limbs = new int[INITIAL_LIMBS];
+    }
+    if (chunks.length > MAX_RETAINED_BUFFER / Integer.BYTES) {
+      chunks = new int[INITIAL_CHUNKS];
+    }
+  }
+
+  // Returns special, counting its conversion if QuadrupleStats are enabled.
+  private static Quadruple special(Quadruple special) {
+    if (QuadrupleStats.isEnabled()) {
+      QuadrupleStats.recordSpecialValue();
+    }
+    return special;
+  }
+
+  private void accept(Quadruple special, QuadrupleSink sink) {
+    if (special != null) {
+      sink.accept(
+          special.negative(), special.biasedExponent(), special.mantHi(), special.mantLo());
+    } else {
+      sink.accept(negative, builder.exponent, builder.mantHi, builder.mantLo);
+    }
+  }
+
+  // Returns the constant for NaN and the infinities; otherwise leaves the result in negative and
+  // builder, and returns null.
+  private Quadruple parseToBuilder(
+      CharSequence s, int start, int end, boolean avoidDoubleCollisions) {
+    if (regionEquals(s, start, end, "NaN")) {
+      return special(Quadruple.NaN);
+    }
+    if (regionEquals(s, start, end, "-Infinity")) {
+      return special(Quadruple.NEGATIVE_INFINITY);
+    }
+    if (regionEquals(s, start, end, "Infinity") || regionEquals(s, start, end, "+Infinity")) {
+      return special(Quadruple.POSITIVE_INFINITY);
+    }
+    if (digits.length < end - start) {
+      digits = new byte[Math.max(end - start, 2 * digits.length)];
+    }
+    try {
+      byte[] digits = this.digits;
+      int i = start;
+      int j = 0;
+      int exponent = 0;
+      boolean negative = false;
+      if (i < end) {
+        if (s.charAt(i) == '-') {
+          negative = true;
+          i++;
+        } else if (s.charAt(i) == '+') {
+          i++;
+        }
+      }
+      while (i < end && Character.isDigit(s.charAt(i))) {
+        digits[j++] = (byte) (s.charAt(i++) - '0');
+      }
+      if (i < end && s.charAt(i) == '.') {
+        int decimal = ++i;
+        while (i < end && Character.isDigit(s.charAt(i))) {
+          digits[j++] = (byte) (s.charAt(i++) - '0');
+        }
+        exponent = decimal - i;
+      }
+      if (i < end && (s.charAt(i) == 'e' || s.charAt(i) == 'E')) {
+        int exponentValue = 0;
+        i++;
+        int exponentSign = 1;
+        if (i < end) {
+          if (s.charAt(i) == '-') {
+            exponentSign = -1;
+            i++;
+          } else if (s.charAt(i) == '+') {
+            i++;
+          }
+        }
+        int firstExponent = i;
+        while (i < end && Character.isDigit(s.charAt(i))) {
+          exponentValue = exponentValue * 10 + s.charAt(i++) - '0';
+          if (i - firstExponent > 9) {
+            throw new NumberFormatException("Exponent too large " + s.subSequence(start, end));
+          }
+        }
+        if (i == firstExponent) {
+          throw new NumberFormatException("Invalid number " + s.subSequence(start, end));
+        }
+        exponent += exponentValue * exponentSign;
+      }
+      if (j == 0 || i != end) {
+        throw new NumberFormatException("Invalid number " + s.subSequence(start, end));
+      }
+      convert(j, exponent, avoidDoubleCollisions);
+      this.negative = negative;
+      return null;
+    } finally {
+      releaseLargeBuffers();
+    }
+  }
+
+  private static boolean regionEquals(CharSequence s, int start, int end, String expected) {
+    if (end - start != expected.length()) {
+      return false;
+    }
+    for (int i = 0; i < expected.length(); i++) {
+      if (s.charAt(start + i) != expected.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // A reusable view of ASCII bytes (from either an array or a buffer) as characters. Bytes above
+  // 0x7F map to the ISO-8859-1 characters, none of which is accepted by the parser.
+  private static final class AsciiSequence implements CharSequence {
+    private byte[] array;
+    private ByteBuffer buffer;
+    private int offset;
+    private int length;
+
+    void reset(byte[] array, ByteBuffer buffer, int offset, int length) {
+      this.array = array;
+      this.buffer = buffer;
+      this.offset = offset;
+      this.length = length;
+    }
+
+    // Drops the references to the caller's bytes
+    void clear() {
+      reset(null, null, 0, 0);
+    }
+
+    @Override
+    public int length() {
+      return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+      return (char)
+          ((array != null ? array[offset + index] : buffer.get(offset + index)) & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+      Objects.checkFromToIndex(start, end, length);
+      if (array != null) {
+        return new String(array, offset + start, end - start, StandardCharsets.ISO_8859_1);
+      }
+      byte[] bytes = new byte[end - start];
+      buffer.get(offset + start, bytes);
+      return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+
+    @Override
+    public String toString() {
+      return subSequence(0, length).toString();
+    }
+  }
+}
@@ -0,0 +1,389 @@
+//  Copyright 2025 Google LLC
+//
+//  Licensed under the Apache License, Version 2.0 (the "License");
+//  you may not use this file except in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//      https://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing, software
+//  distributed under the License is distributed on an "AS IS" BASIS,
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//  See the License for the specific language governing permissions and
+//  limitations under the License.
+
+package com.google.cloud.datastore.core.quadruple;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Converts delimited decimal numbers read from a channel, without creating a string per number.
+ *
+ * <p>The input is ASCII: numbers in the format of {@link Quadruple#fromString}, separated by
+ * {@code ','}, {@code '\n'}, {@code '\r'} or {@code "\r\n"}. A line terminator at the end of the
+ * input ends the last number. An invalid number throws a {@link QuadrupleFormatException} giving
+ * its offset, after all the numbers before it have been delivered. Empty numbers (as in {@code
+ * "1,,2"}, a blank line or a trailing {@code ','}) are invalid, as in {@link Quadruple#fromString},
+ * and so are numbers longer than {@link #MAX_NUMBER_LENGTH} bytes.
+ *
+ * <p>Numbers are delivered in input order on the calling thread, either to a {@link
+ * QuadrupleSink} or as {@link Quadruple#KEY_LENGTH}-byte keys (see {@link Quadruple#toKey(byte[],
+ * int)}) written to a channel. A {@link FileChannel} is memory-mapped and scanned in parallel, in
+ * chunks that end at delimiters, by tasks run in the current fork/join pool (the common pool when
+ * not called from a fork/join task).
+ */
+public final class QuadrupleScanner {
+
+  /** The maximum length of a number, in bytes: longer ones throw "Number too long". */
+  public static final int MAX_NUMBER_LENGTH = 1 << 20;
+
+  // The initial size of the buffer of a channel that is not memory-mapped
+  private static final int BUFFER_SIZE = 1 << 16;
+  // The number of bytes of a file mapped at a time, and the number of bytes scanned sequentially
+  // by one task. A window is shortened, and a chunk extended, to end after a delimiter. A window
+  // is larger than a number and its delimiters, so a window without any has a number too long.
+  private static final int WINDOW_SIZE = 1 << 22;
+  private static final int CHUNK_SIZE = 1 << 16;
+
+  private QuadrupleScanner() {}
+
+  /**
+   * Converts the numbers read from {@code in} until its end, like {@link Quadruple#fromString},
+   * and passes them to {@code sink}. Offsets are counted from the first byte read.
+   *
+   * @param avoidDoubleCollisions as in {@link Quadruple#fromStringNoDoubleCollisions}.
+   * @return the number of numbers.
+   * @throws QuadrupleFormatException if a number is invalid.
+   */
+  public static long parse(
+      ReadableByteChannel in, boolean avoidDoubleCollisions, QuadrupleSink sink)
+      throws IOException {
+    return scan(in, avoidDoubleCollisions, chunk -> chunk.forEach(sink));
+  }
+
+  /**
+   * Converts the numbers of the whole of {@code file}, like {@link Quadruple#fromString}, and
+   * passes them to {@code sink}. The position of {@code file} is neither used nor changed.
+   *
+   * @param avoidDoubleCollisions as in {@link Quadruple#fromStringNoDoubleCollisions}.
+   * @return the number of numbers.
+   * @throws QuadrupleFormatException if a number is invalid.
+   */
+  public static long parse(FileChannel file, boolean avoidDoubleCollisions, QuadrupleSink sink)
+      throws IOException {
+    return scan(file, avoidDoubleCollisions, chunk -> chunk.forEach(sink));
+  }
+
+  /**
+   * Converts the numbers read from {@code in} until its end, like {@link Quadruple#fromString},
+   * and writes their keys to {@code out}. Offsets are counted from the first byte read.
+   *
+   * @param avoidDoubleCollisions as in {@link Quadruple#fromStringNoDoubleCollisions}.
+   * @return the number of keys written.
+   * @throws QuadrupleFormatException if a number is invalid.
+   */
+  public static long writeKeys(
+      ReadableByteChannel in, boolean avoidDoubleCollisions, WritableByteChannel out)
+      throws IOException {
+    return scan(in, avoidDoubleCollisions, new KeyWriter(out));
+  }
+
+  /**
+   * Converts the numbers of the whole of {@code file}, like {@link Quadruple#fromString}, and
+   * writes their keys to {@code out}. The position of {@code file} is neither used nor changed.
+   *
+   * @param avoidDoubleCollisions as in {@link Quadruple#fromStringNoDoubleCollisions}.
+   * @return the number of keys written.
+   * @throws QuadrupleFormatException if a number is invalid.
+   */
+  public static long writeKeys(
+      FileChannel file, boolean avoidDoubleCollisions, WritableByteChannel out)
+      throws IOException {
+    return scan(file, avoidDoubleCollisions, new KeyWriter(out));
+  }
+
+  private static long scan(ReadableByteChannel in, boolean avoidDoubleCollisions, Output output)
+      throws IOException {
+    Chunk chunk = new Chunk();
+    ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    // The offset of buffer[0] in the input
+    long offset = 0;
+    long count = 0;
+    // The last delimiter before buffer[0], if any
+    byte delimiter = 0;
+    // The bytes of buffer already scanned without finding a boundary
+    int scanned = 0;
+    while (in.read(buffer) >= 0) {
+      // Keep the last number, which may be incomplete, for the next read. The last byte scanned
+      // may be a '\r', which is a boundary unless the next byte is a '\n'.
+      int end = afterLastDelimiter(buffer, Math.max(scanned - 1, 0), buffer.position());
+      if (end == 0) {
+        scanned = buffer.position();
+        if (!buffer.hasRemaining()) {
+          // Room for the longest number and a "\r\n" after it
+          if (buffer.capacity() > MAX_NUMBER_LENGTH) {
+            throw new QuadrupleFormatException("Number too long", offset);
+          }
+          int capacity = Math.min(2 * buffer.capacity(), MAX_NUMBER_LENGTH + 2);
+          buffer = ByteBuffer.allocate(capacity).put(buffer.flip());
+        }
+        continue;
+      }
+      chunk.reset(buffer, 0, end, offset, false);
+      chunk.parse(avoidDoubleCollisions);
+      count += deliver(chunk, output);
+      delimiter = buffer.get(end - 1);
+      buffer.limit(buffer.position()).position(end);
+      buffer.compact();
+      offset += end;
+      scanned = 0;
+    }
+    if (buffer.position() > 0) {
+      chunk.reset(buffer, 0, buffer.position(), offset, true);
+      chunk.parse(avoidDoubleCollisions);
+      count += deliver(chunk, output);
+    } else if (delimiter == ',') {
+      throw new QuadrupleFormatException("Empty number", offset);
+    }
+    return count;
+  }
+
+  private static long scan(FileChannel file, boolean avoidDoubleCollisions, Output output)
+      throws IOException {
+    long size = file.size();
+    List<Chunk> chunks = new ArrayList<>();
+    long position = 0;
+    long count = 0;
+    while (position < size) {
+      int length = (int) Math.min(WINDOW_SIZE, size - position);
+      ByteBuffer window = file.map(FileChannel.MapMode.READ_ONLY, position, length);
+      int end = length;
+      if (position + length < size) {
+        end = afterLastDelimiter(window, 0, length);
+        if (end == 0) {
+          throw new QuadrupleFormatException("Number too long", position);
+        }
+      }
+      int chunkCount = 0;
+      for (int from = 0; from < end; chunkCount++) {
+        int to = end - from <= CHUNK_SIZE ? end : from + CHUNK_SIZE;
+        while (to < end && !isBoundary(window, to, end)) {
+          to++;
+        }
+        if (chunkCount == chunks.size()) {
+          chunks.add(new Chunk());
+        }
+        chunks.get(chunkCount).reset(window, from, to, position, position + to == size);
+        from = to;
+      }
+      new ParseTask(chunks, avoidDoubleCollisions, 0, chunkCount).invoke();
+      for (int i = 0; i < chunkCount; i++) {
+        count += deliver(chunks.get(i), output);
+      }
+      position += end;
+    }
+    return count;
+  }
+
+  // Returns the last boundary of bytes[0, end) (see isBoundary) after from, or 0 if there is none.
+  private static int afterLastDelimiter(ByteBuffer bytes, int from, int end) {
+    for (int index = end; index > from; index--) {
+      if (isBoundary(bytes, index, end)) {
+        return index;
+      }
+    }
+    return 0;
+  }
+
+  // Returns whether bytes[0, end) can be split at index, after a delimiter: not between the '\r'
+  // and '\n' of a "\r\n", nor after a '\r' at end, which may be followed by a '\n'.
+  private static boolean isBoundary(ByteBuffer bytes, int index, int end) {
+    byte b = bytes.get(index - 1);
+    if (b == '\r') {
+      return index < end && bytes.get(index) != '\n';
+    }
+    return isDelimiter(b);
+  }
+
+  private static boolean isDelimiter(byte b) {
+    return b == ',' || b == '\n' || b == '\r';
+  }
+
+  // Passes the numbers of chunk to output, and throws the exception of its invalid number if any.
+  private static int deliver(Chunk chunk, Output output) throws IOException {
+    output.accept(chunk);
+    if (chunk.failure != null) {
+      throw chunk.failure;
+    }
+    return chunk.count;
+  }
+
+  // Receives the numbers of the chunks in input order, on the calling thread.
+  @FunctionalInterface
+  private interface Output {
+    void accept(Chunk chunk) throws IOException;
+  }
+
+  private static final class KeyWriter implements Output {
+    private final WritableByteChannel out;
+    private byte[] keys = new byte[0];
+
+    KeyWriter(WritableByteChannel out) {
+      this.out = out;
+    }
+
+    @Override
+    public void accept(Chunk chunk) throws IOException {
+      int length = chunk.count * Quadruple.KEY_LENGTH;
+      if (keys.length < length) {
+        keys = new byte[Math.max(length, 2 * keys.length)];
+      }
+      for (int i = 0; i < chunk.count; i++) {
+        Quadruple.toKey(
+            chunk.negative[i],
+            chunk.biasedExponent[i],
+            chunk.mantHi[i],
+            chunk.mantLo[i],
+            keys,
+            i * Quadruple.KEY_LENGTH);
+      }
+      ByteBuffer buffer = ByteBuffer.wrap(keys, 0, length);
+      while (buffer.hasRemaining()) {
+        out.write(buffer);
+      }
+    }
+  }
+
+  // The numbers of bytes[from, to), up to the first invalid one. offset is the offset of bytes[0]
+  // in the input, and last whether the chunk ends the input (otherwise it ends after a delimiter).
+  private static final class Chunk implements QuadrupleSink {
+    private ByteBuffer bytes;
+    private int from;
+    private int to;
+    private long offset;
+    private boolean last;
+
+    private int count;
+    private boolean[] negative = new boolean[16];
+    private int[] biasedExponent = new int[16];
+    private long[] mantHi = new long[16];
+    private long[] mantLo = new long[16];
+    private QuadrupleFormatException failure;
+
+    void reset(ByteBuffer bytes, int from, int to, long offset, boolean last) {
+      this.bytes = bytes;
+      this.from = from;
+      this.to = to;
+      this.offset = offset;
+      this.last = last;
+      count = 0;
+      failure = null;
+    }
+
+    void parse(boolean avoidDoubleCollisions) {
+      QuadrupleParser parser = QuadrupleParser.forCurrentThread();
+      ByteBuffer bytes = this.bytes;
+      int start = from;
+      try {
+        for (int i = from; i < to; i++) {
+          byte b = bytes.get(i);
+          if (!isDelimiter(b)) {
+            continue;
+          }
+          // The '\n' of a "\r\n" ends no number; chunks never start between the two.
+          boolean crlf = b == '\n' && i > from && bytes.get(i - 1) == '\r';
+          if (!crlf && !parse(parser, start, i, avoidDoubleCollisions)) {
+            return;
+          }
+          start = i + 1;
+        }
+        // The end of the input ends a last number, but a ',' must be followed by one.
+        if (start < to || (last && start > from && bytes.get(start - 1) == ',')) {
+          parse(parser, start, to, avoidDoubleCollisions);
+        }
+      } finally {
+        // Drops the reference to the bytes, which may be a mapping of the file
+        this.bytes = null;
+      }
+    }
+
+    // Parses the number bytes[start, end), and returns false if it is invalid.
+    private boolean parse(
+        QuadrupleParser parser, int start, int end, boolean avoidDoubleCollisions) {
+      if (end - start > MAX_NUMBER_LENGTH) {
+        failure = new QuadrupleFormatException("Number too long", offset + start);
+        return false;
+      }
+      if (end == start) {
+        failure = new QuadrupleFormatException("Empty number", offset + start);
+        return false;
+      }
+      try {
+        parser.parseAscii(bytes, start, end - start, avoidDoubleCollisions, this);
+        return true;
+      } catch (NumberFormatException e) {
+        failure = new QuadrupleFormatException(e.getMessage(), offset + start);
+        return false;
+      }
+    }
+
+    void forEach(QuadrupleSink sink) {
+      for (int i = 0; i < count; i++) {
+        sink.accept(negative[i], biasedExponent[i], mantHi[i], mantLo[i]);
+      }
+    }
+
+    @Override
+    public void accept(boolean negative, int biasedExponent, long mantHi, long mantLo) {
+      if (count == this.negative.length) {
+        int length = 2 * count;
+        this.negative = Arrays.copyOf(this.negative, length);
+        this.biasedExponent = Arrays.copyOf(this.biasedExponent, length);
+        this.mantHi = Arrays.copyOf(this.mantHi, length);
+        this.mantLo = Arrays.copyOf(this.mantLo, length);
+      }
+      this.negative[count] = negative;
+      this.biasedExponent[count] = biasedExponent;
+      this.mantHi[count] = mantHi;
+      this.mantLo[count] = mantLo;
+      count++;
+    }
+  }
+
+  // Parses chunks[from, to), one chunk per task.
+  private static final class ParseTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final List<Chunk> chunks;
+    private final boolean avoidDoubleCollisions;
+    private final int from;
+    private final int to;
+
+    ParseTask(List<Chunk> chunks, boolean avoidDoubleCollisions, int from, int to) {
+      this.chunks = chunks;
+      this.avoidDoubleCollisions = avoidDoubleCollisions;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from == 1) {
+        chunks.get(from).parse(avoidDoubleCollisions);
+        return;
+      }
+      int middle = (from + to) >>> 1;
+      invokeAll(
+          new ParseTask(chunks, avoidDoubleCollisions, from, middle),
+          new ParseTask(chunks, avoidDoubleCollisions, middle, to));
+    }
+  }
+}
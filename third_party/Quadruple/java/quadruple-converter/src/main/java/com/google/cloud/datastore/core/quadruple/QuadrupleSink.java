@@ -0,0 +1,34 @@
+//  Copyright 2025 Google LLC
+//
+//  Licensed under the Apache License, Version 2.0 (the "License");
+//  you may not use this file except in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//      https://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing, software
+//  distributed under the License is distributed on an "AS IS" BASIS,
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//  See the License for the specific language governing permissions and
+//  limitations under the License.
+
+package com.google.cloud.datastore.core.quadruple;
+
+/**
+ * Receives the raw representation of a parsed {@link Quadruple} - the same values that {@link
+ * Quadruple#Quadruple(boolean, int, long, long)} takes - without a {@link Quadruple} being
+ * allocated.
+ */
+@FunctionalInterface
+public interface QuadrupleSink {
+
+  /**
+   * Accepts a parsed number.
+   *
+   * @param negative the sign of the number.
+   * @param biasedExponent the unsigned and biased (by 0x7FFF_FFFF) binary exponent.
+   * @param mantHi the unsigned high 64 bits of the mantissa (leading 1 omitted).
+   * @param mantLo the unsigned low 64 bits of the mantissa.
+   */
+  void accept(boolean negative, int biasedExponent, long mantHi, long mantLo);
+}
@@ -0,0 +1,443 @@
+//  Copyright 2025 Google LLC
+//
+//  Licensed under the Apache License, Version 2.0 (the "License");
+//  you may not use this file except in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//      https://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing, software
+//  distributed under the License is distributed on an "AS IS" BASIS,
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//  See the License for the specific language governing permissions and
+//  limitations under the License.
+
+package com.google.cloud.datastore.core.quadruple;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Optional statistics on the conversions of decimal numbers (see {@link QuadrupleParser}): the
+ * paths they take in {@link QuadrupleBuilder}, and histograms of their lengths and exponents.
+ * Disabled by default, when a conversion only checks {@link #isEnabled()}.
+ *
+ * <p>When enabled, the statistics are also recorded with JDK Flight Recorder: a {@code
+ * com.google.cloud.datastore.quadruple.Statistics} event every second (and a {@code
+ * ...Histogram} event per non-empty bucket), and a {@code ...Conversion} event for each conversion
+ * taking longer than 100 microseconds by default.
+ */
+public final class QuadrupleStats {
+
+  /** The number of buckets of {@link Snapshot#digitLengths()}. */
+  public static final int DIGIT_LENGTH_BUCKETS = 32;
+
+  /** The number of buckets of {@link Snapshot#exponents()}. */
+  public static final int EXPONENT_BUCKETS = 65;
+
+  private static volatile boolean enabled;
+  private static boolean registered;
+  // Set by register(), before enabled is first set
+  private static EventType conversionEventType;
+
+  private static final LongAdder conversions = new LongAdder();
+  private static final LongAdder specialValues = new LongAdder();
+  private static final LongAdder zeroMantissas = new LongAdder();
+  private static final LongAdder truncations = new LongAdder();
+  private static final LongAdder truncationsWithCarry = new LongAdder();
+  private static final LongAdder underflows = new LongAdder();
+  private static final LongAdder overflows = new LongAdder();
+  private static final LongAdder invertedRoundings = new LongAdder();
+  private static final LongAdder[] digitLengths = adders(DIGIT_LENGTH_BUCKETS);
+  private static final LongAdder[] exponents = adders(EXPONENT_BUCKETS);
+
+  private QuadrupleStats() {}
+
+  /** Returns whether conversions are counted. */
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  /** Starts or stops counting conversions. The counts are kept while disabled. */
+  public static void setEnabled(boolean enabled) {
+    if (enabled) {
+      register();
+    }
+    QuadrupleStats.enabled = enabled;
+  }
+
+  /** Sets all the counts to zero. Conversions running concurrently may or may not be counted. */
+  public static void reset() {
+    for (LongAdder adder :
+        new LongAdder[] {
+          conversions,
+          specialValues,
+          zeroMantissas,
+          truncations,
+          truncationsWithCarry,
+          underflows,
+          overflows,
+          invertedRoundings
+        }) {
+      adder.reset();
+    }
+    for (LongAdder adder : digitLengths) {
+      adder.reset();
+    }
+    for (LongAdder adder : exponents) {
+      adder.reset();
+    }
+  }
+
+  /**
+   * Returns the counts since the last {@link #reset()}. Conversions running concurrently may be
+   * partially counted.
+   */
+  public static Snapshot snapshot() {
+    return new Snapshot();
+  }
+
+  /** The counts of the conversions at some point. */
+  public static final class Snapshot {
+    private final long conversions = QuadrupleStats.conversions.sum();
+    private final long specialValues = QuadrupleStats.specialValues.sum();
+    private final long zeroMantissas = QuadrupleStats.zeroMantissas.sum();
+    private final long truncations = QuadrupleStats.truncations.sum();
+    private final long truncationsWithCarry = QuadrupleStats.truncationsWithCarry.sum();
+    private final long underflows = QuadrupleStats.underflows.sum();
+    private final long overflows = QuadrupleStats.overflows.sum();
+    private final long invertedRoundings = QuadrupleStats.invertedRoundings.sum();
+    private final long[] digitLengths = sums(QuadrupleStats.digitLengths);
+    private final long[] exponents = sums(QuadrupleStats.exponents);
+
+    private Snapshot() {}
+
+    /** Returns the number of conversions, including those of special values. */
+    public long conversions() {
+      return conversions;
+    }
+
+    /** Returns the number of conversions of NaN and infinities. */
+    public long specialValues() {
+      return specialValues;
+    }
+
+    /** Returns the number of conversions of a mantissa of zeros only. */
+    public long zeroMantissas() {
+      return zeroMantissas;
+    }
+
+    /**
+     * Returns the number of conversions of more than {@link QuadrupleBuilder#MAX_MANTISSA_LENGTH}
+     * significant digits, which are truncated.
+     */
+    public long truncations() {
+      return truncations;
+    }
+
+    /** Returns the number of {@link #truncations()} whose truncated digits round up the rest. */
+    public long truncationsWithCarry() {
+      return truncationsWithCarry;
+    }
+
+    /**
+     * Returns the number of conversions of a non-zero mantissa that give zero: exponents below
+     * {@link QuadrupleBuilder#MIN_EXP10}, and the smallest ones above it.
+     */
+    public long underflows() {
+      return underflows;
+    }
+
+    /**
+     * Returns the number of conversions of a finite number that give an infinity: exponents above
+     * {@link QuadrupleBuilder#MAX_EXP10}, and the largest ones below it.
+     */
+    public long overflows() {
+      return overflows;
+    }
+
+    /**
+     * Returns the number of conversions avoiding collisions with double (see {@link
+     * Quadruple#fromStringNoDoubleCollisions}) that changed the result.
+     */
+    public long invertedRoundings() {
+      return invertedRoundings;
+    }
+
+    /**
+     * Returns the histogram of the number of digits of the converted mantissas (including leading
+     * zeros): bucket {@code k} counts the lengths in [2^(k-1), 2^k).
+     */
+    public long[] digitLengths() {
+      return digitLengths.clone();
+    }
+
+    /**
+     * Returns the histogram of the decimal exponents of the converted non-zero mantissas, written
+     * with one digit before the point: bucket {@code 32 + k} counts the exponents in [2^(k-1),
+     * 2^k), and bucket {@code 32 - k} their opposites (bucket 32 counts the exponent 0, and buckets
+     * 0 and 64 also count larger magnitudes).
+     */
+    public long[] exponents() {
+      return exponents.clone();
+    }
+
+    @Override
+    public String toString() {
+      return "conversions="
+          + conversions
+          + ", specialValues="
+          + specialValues
+          + ", zeroMantissas="
+          + zeroMantissas
+          + ", truncations="
+          + truncations
+          + ", truncationsWithCarry="
+          + truncationsWithCarry
+          + ", underflows="
+          + underflows
+          + ", overflows="
+          + overflows
+          + ", invertedRoundings="
+          + invertedRoundings
+          + ", digitLengths="
+          + Arrays.toString(digitLengths)
+          + ", exponents="
+          + Arrays.toString(exponents);
+    }
+  }
+
+  // Counts the conversion of NaN or an infinity.
+  static void recordSpecialValue() {
+    conversions.increment();
+    specialValues.increment();
+  }
+
+  // Returns an opaque started event for the conversion of a number by builder, or null when no
+  // recording enables it, so that counting conversions allocates nothing. Only called when
+  // enabled, after register().
+  static Object begin() {
+    if (!conversionEventType.isEnabled()) {
+      return null;
+    }
+    ConversionEvent event = new ConversionEvent();
+    event.begin();
+    return event;
+  }
+
+  // Counts the conversion of the first length digits of digits times 10^exp10 to the current
+  // result of builder, and commits event (returned by begin()) if it took long enough.
+  static void record(
+      Object event,
+      byte[] digits,
+      int length,
+      int exp10,
+      QuadrupleBuilder builder,
+      boolean invertedRounding) {
+    conversions.increment();
+    int firstDigit = 0;
+    while (firstDigit < length && digits[firstDigit] == 0) {
+      firstDigit++;
+    }
+    boolean zeroMantissa = firstDigit == length;
+    // As in QuadrupleBuilder.parseMantissa
+    boolean truncated = length - firstDigit > QuadrupleBuilder.MAX_MANTISSA_LENGTH;
+    boolean carry = truncated && digits[QuadrupleBuilder.MAX_MANTISSA_LENGTH] >= 5;
+    boolean zeroResult = builder.exponent == 0 && builder.mantHi == 0 && builder.mantLo == 0;
+    boolean underflow = !zeroMantissa && zeroResult;
+    boolean overflow = builder.exponent == (int) QuadrupleBuilder.EXPONENT_OF_INFINITY;
+    // The exponent of the number written as x.yyy, with a wider range than exp10
+    long exponent = (long) exp10 + length - 1 - firstDigit;
+    if (zeroMantissa) {
+      zeroMantissas.increment();
+    }
+    if (truncated) {
+      truncations.increment();
+      if (carry) {
+        truncationsWithCarry.increment();
+      }
+    }
+    if (underflow) {
+      underflows.increment();
+    }
+    if (overflow) {
+      overflows.increment();
+    }
+    if (invertedRounding) {
+      invertedRoundings.increment();
+    }
+    digitLengths[32 - Integer.numberOfLeadingZeros(length)].increment();
+    if (!zeroMantissa) {
+      exponents[exponentBucket(exponent)].increment();
+    }
+    if (event != null) {
+      commit((ConversionEvent) event, length, exponent, truncated, underflow, overflow);
+    }
+  }
+
+  private static void commit(
+      ConversionEvent event,
+      int digits,
+      long exponent,
+      boolean truncated,
+      boolean underflow,
+      boolean overflow) {
+    event.end();
+    if (event.shouldCommit()) {
+      event.digits = digits;
+      event.exponent = exponent;
+      event.truncated = truncated;
+      event.underflow = underflow;
+      event.overflow = overflow;
+      event.commit();
+    }
+  }
+
+  private static int exponentBucket(long exponent) {
+    long magnitude = Math.min(Math.abs(exponent), 0xFFFF_FFFFL);
+    int k = 64 - Long.numberOfLeadingZeros(magnitude);
+    return exponent < 0 ? 32 - k : 32 + k;
+  }
+
+  private static LongAdder[] adders(int count) {
+    LongAdder[] adders = new LongAdder[count];
+    for (int i = 0; i < count; i++) {
+      adders[i] = new LongAdder();
+    }
+    return adders;
+  }
+
+  private static long[] sums(LongAdder[] adders) {
+    long[] sums = new long[adders.length];
+    for (int i = 0; i < adders.length; i++) {
+      sums[i] = adders[i].sum();
+    }
+    return sums;
+  }
+
+  // Registers the events the first time statistics are enabled, so that Flight Recorder is not
+  // initialized otherwise.
+  private static synchronized void register() {
+    if (registered) {
+      return;
+    }
+    conversionEventType = EventType.getEventType(ConversionEvent.class);
+    FlightRecorder.addPeriodicEvent(StatisticsEvent.class, QuadrupleStats::emit);
+    registered = true;
+  }
+
+  private static void emit() {
+    if (!enabled) {
+      return;
+    }
+    Snapshot snapshot = snapshot();
+    StatisticsEvent statistics = new StatisticsEvent();
+    statistics.conversions = snapshot.conversions;
+    statistics.specialValues = snapshot.specialValues;
+    statistics.zeroMantissas = snapshot.zeroMantissas;
+    statistics.truncations = snapshot.truncations;
+    statistics.truncationsWithCarry = snapshot.truncationsWithCarry;
+    statistics.underflows = snapshot.underflows;
+    statistics.overflows = snapshot.overflows;
+    statistics.invertedRoundings = snapshot.invertedRoundings;
+    statistics.commit();
+    emitHistogram("digitLengths", snapshot.digitLengths, 0);
+    emitHistogram("exponents", snapshot.exponents, 32);
+  }
+
+  private static void emitHistogram(String name, long[] counts, int zeroBucket) {
+    for (int i = 0; i < counts.length; i++) {
+      if (counts[i] == 0) {
+        continue;
+      }
+      HistogramEvent histogram = new HistogramEvent();
+      histogram.histogram = name;
+      histogram.bucket = i - zeroBucket;
+      histogram.count = counts[i];
+      histogram.commit();
+    }
+  }
+
+  @Name("com.google.cloud.datastore.quadruple.Conversion")
+  @Label("Quadruple Conversion")
+  @Category("Quadruple")
+  @Description("A slow conversion of a decimal number")
+  @Threshold("100 us")
+  @StackTrace(false)
+  static final class ConversionEvent extends Event {
+    @Label("Digits")
+    int digits;
+
+    @Label("Exponent")
+    @Description("The decimal exponent, with one digit before the point")
+    long exponent;
+
+    @Label("Truncated")
+    boolean truncated;
+
+    @Label("Underflow")
+    boolean underflow;
+
+    @Label("Overflow")
+    boolean overflow;
+  }
+
+  @Name("com.google.cloud.datastore.quadruple.Statistics")
+  @Label("Quadruple Statistics")
+  @Category("Quadruple")
+  @Description("The counts of QuadrupleStats since the last reset")
+  @Period("1 s")
+  @StackTrace(false)
+  static final class StatisticsEvent extends Event {
+    @Label("Conversions")
+    long conversions;
+
+    @Label("Special Values")
+    long specialValues;
+
+    @Label("Zero Mantissas")
+    long zeroMantissas;
+
+    @Label("Truncations")
+    long truncations;
+
+    @Label("Truncations With Carry")
+    long truncationsWithCarry;
+
+    @Label("Underflows")
+    long underflows;
+
+    @Label("Overflows")
+    long overflows;
+
+    @Label("Inverted Roundings")
+    long invertedRoundings;
+  }
+
+  @Name("com.google.cloud.datastore.quadruple.Histogram")
+  @Label("Quadruple Histogram")
+  @Category("Quadruple")
+  @Description("A non-empty bucket of a histogram of QuadrupleStats, emitted with the statistics")
+  @StackTrace(false)
+  static final class HistogramEvent extends Event {
+    @Label("Histogram")
+    String histogram;
+
+    @Label("Bucket")
+    @Description("k for the values of magnitude in [2^(k-1), 2^k), -k for negative ones")
+    int bucket;
+
+    @Label("Count")
+    long count;
+  }
+}
@@ -36,6 +36,63 @@ public class QuadrupleBuilderTest {
     check("1", -1_000_000_000, 0L, 0L, 0L);
   }
 
+  @Test
+  public void truncation() {
+    // More than 59 significant digits - truncated, and rounded up on a 60th digit >= 5.
+    check("999999999999999999999999999999999999999999999999999999999999", 0, 0x3e9e4e4c2f34448aL, 0x3aec4845928cb22L, 2147483846L);
+    check("999999999999999999999999999999999999999999999999999999999999", -70, 0xb7cdfd9d7bdbab7dL, 0x6ae6881cb5109a36L, 2147483613L);
+    check("999999999999999999999999999999999999999999999999999999999994", 0, 0x3e9e4e4c2f34448aL, 0x3aec4845928cb22L, 2147483846L);
+    check("1234567890123456789012345678901234567890123456789012345678901234567890", -35, 0x30582ffdf3fe588bL, 0xd01278f16fbcd6e6L, 2147483760L);
+    check("1234567890123456789012345678901234567890123456789012345678905", 12, 0x65c1561327036d10L, 0xcef502fe8fdd55L, 2147483886L);
+    // Leading zeros do not count as significant digits.
+    check("00999999999999999999999999999999999999999999999999999999999999", 0, 0x3e9e4e4c2f34448aL, 0x3aec4845928cb22L, 2147483846L);
+    check("0111111111111111111111111111111111111111111111111111111111172", 0, 0x1b37620ad4a03cecL, 0x750d2075a49609e5L, 2147483843L);
+  }
+
+  @Test
+  public void shortMantissa() {
+    // At most 19 significant digits and a decimal exponent in POWERS_OF_10 - exact results.
+    check("000", 3, 0x0L, 0x0L, 0L);
+    check("1", 0, 0x0L, 0x0L, 2147483647L);
+    check("9999999999999999999", 0, 0x158e460913cffffeL, 0x0L, 2147483710L);
+    check("12345678901234567890000", -4, 0x12210f47de981150L, 0x0L, 2147483707L);
+    // Inexact results.
+    check("1", -1, 0x9999999999999999L, 0x999999999999999aL, 2147483643L);
+    check("123456789", -2, 0x2d687e3d70a3d70aL, 0x3d70a3d70a3d70a4L, 2147483667L);
+    check("31415926535897932", -16, 0x921fb54442d18306L, 0xc8336e79acefc545L, 2147483648L);
+    // Either side of 10^64, the bound of an earlier, smaller POWERS_OF_10.
+    check("1", 64, 0x84f03e93ff9f4daaL, 0x797ed6e38ed64bf7L, 2147483859L);
+    check("1", -64, 0x50ffd44f4a73d34aL, 0x7e4731ae8f66c448L, 2147483434L);
+    check("1", 65, 0xe62c4e38ff872115L, 0x17de8c9c728bdef4L, 2147483862L);
+    check("1", -65, 0xd9976a5d52975d5L, 0x31d28e253f8569d3L, 2147483431L);
+    // The bound of POWERS_OF_10.
+    check("1", 400, 0xb4ec7f91973ff3cbL, 0x1ccf26fbc177c38eL, 2147484975L);
+    check("1", -400, 0x2bfcfc0f923df5f4L, 0x726370a1be11ce71L, 2147482318L);
+    // Exact, but with an inexact power of ten - left to the general algorithm.
+    check("5", -1, 0x0L, 0x0L, 2147483646L);
+    // Exactly half an lsb - left to the general algorithm.
+    check("1000000000000000001", 30, 0x5e531a0a1c872bc6L, 0x6b3a9bf78b6bdbd5L, 2147483806L);
+    // Outside of the fast path: 20 digits, exponents beyond POWERS_OF_10.
+    check("18446744073709551615", 0, 0xfffffffffffffffeL, 0x0L, 2147483710L);
+    check("1", 401, 0x1113cfbafe87f85eL, 0xf201785d58eada39L, 2147484979L);
+    check("1", -401, 0xdffb2ce5b6c98987L, 0x1d6be769301c7d81L, 2147482314L);
+  }
+
+  @Test
+  public void powerOf10Table() {
+    // More than 19 significant digits, multiplied by a power of ten in POWERS_OF_10.
+    check("1234567890123456789012345", -425, 0x2848df7d8177a107L, 0x61b8e5baf91f2e33L, 2147482315L);
+    check("1234567890123456789012345", 375, 0xaf879a2f0797da82L, 0x9ef78750b9f40330L, 2147484972L);
+    check("314159265358979323846264338327950288", -35, 0x921fb54442d18469L, 0x898cc51701b836d8L, 2147483648L);
+    check("99999999999999999999999999999999999999999999999999999999999", 0, 0xfdca16e04b86d410L, 0x5e46da08ea7ab69L, 2147483842L);
+    // Within 2^32 lsbs of a power of two or of half an lsb - left to the general algorithm.
+    check("9999999999999999999999999999999999", -34, 0xffffffffffffffffL, 0xfffffffffffef628L, 2147483646L);
+    check("10000000000000000000000000000000000000014693679385278593849", -58, 0x0L, 0x1L, 2147483647L);
+    // Outside of POWERS_OF_10.
+    check("1234567890123456789012345", -426, 0xda0e326268bf680bL, 0xcf8e3c5e5b6516b8L, 2147482311L);
+    check("1234567890123456789012345", 376, 0xdb4c05d64bee891L, 0xa35ab492743881feL, 2147484976L);
+  }
+
   @Test
   public void random1() {
     check("804431787231960292174158641356728981", 3, 0x2e97f69eea35dee3L, 0xc40eb6485f7e2b04L, 2147483776L);
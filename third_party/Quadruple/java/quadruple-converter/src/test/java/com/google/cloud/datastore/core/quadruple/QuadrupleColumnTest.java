@@ -0,0 +1,173 @@
+//  Copyright 2025 Google LLC
+//
+//  Licensed under the Apache License, Version 2.0 (the "License");
+//  you may not use this file except in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//      https://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing, software
+//  distributed under the License is distributed on an "AS IS" BASIS,
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//  See the License for the specific language governing permissions and
+//  limitations under the License.
+
+package com.google.cloud.datastore.core.quadruple;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class QuadrupleColumnTest {
+  // Large enough to be split into several tasks, and not a multiple of 64
+  private static final int SIZE = 50_001;
+
+  @Test
+  public void fromStrings() {
+    Random random = new Random(3361);
+    String[] values = new String[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      switch (random.nextInt(8)) {
+        case 0:
+          values[i] = Double.toString(random.nextDouble() - 0.5);
+          break;
+        case 1:
+          values[i] = BigDecimal.valueOf(random.nextLong(), random.nextInt(40)).toString();
+          break;
+        case 2:
+          values[i] = random.nextBoolean() ? "NaN" : "-Infinity";
+          break;
+        default:
+          values[i] = random.nextInt(2000) - 1000 + "e" + (random.nextInt(200) - 100);
+          break;
+      }
+    }
+    QuadrupleColumn column = QuadrupleColumn.fromStrings(values);
+    QuadrupleColumn noCollisions = QuadrupleColumn.fromStringsNoDoubleCollisions(values);
+    assertEquals(SIZE, column.size());
+    for (int i = 0; i < SIZE; i++) {
+      assertSameFields(Quadruple.fromString(values[i]), column, i);
+      assertSameFields(Quadruple.fromStringNoDoubleCollisions(values[i]), noCollisions, i);
+    }
+  }
+
+  @Test
+  public void fromStrings_invalid() {
+    String[] values = new String[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      values[i] = Integer.toString(i);
+    }
+    values[SIZE - 7] = "1e";
+    values[30_000] = "x";
+    NumberFormatException e =
+        assertThrows(NumberFormatException.class, () -> QuadrupleColumn.fromStrings(values));
+    assertEquals("Invalid number x", e.getMessage());
+  }
+
+  @Test
+  public void fromDoublesAndLongs() {
+    Random random = new Random(5117);
+    double[] doubles = new double[SIZE];
+    long[] longs = new long[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      doubles[i] = Double.longBitsToDouble(random.nextLong());
+      longs[i] = random.nextLong() >> random.nextInt(64);
+    }
+    double[] special = {
+      Double.NaN,
+      Double.longBitsToDouble(0xfff8_0000_0000_0001L), // A negative NaN
+      Double.POSITIVE_INFINITY,
+      Double.NEGATIVE_INFINITY,
+      0.0,
+      -0.0,
+      Double.MIN_VALUE,
+      -Double.MIN_VALUE,
+      Double.longBitsToDouble(0x000f_ffff_ffff_ffffL), // The largest subnormal
+      -Double.MIN_NORMAL,
+      Double.MAX_VALUE,
+    };
+    System.arraycopy(special, 0, doubles, 0, special.length);
+    longs[0] = Long.MIN_VALUE;
+    longs[1] = -1;
+    QuadrupleColumn fromDoubles = QuadrupleColumn.fromDoubles(doubles);
+    QuadrupleColumn fromLongs = QuadrupleColumn.fromLongs(longs);
+    for (int i = 0; i < SIZE; i++) {
+      assertSameFields(Quadruple.fromDouble(doubles[i]), fromDoubles, i);
+      assertSameFields(Quadruple.fromLong(longs[i]), fromLongs, i);
+    }
+  }
+
+  @Test
+  public void setAndGet() {
+    QuadrupleColumn column = new QuadrupleColumn(130);
+    assertEquals(Quadruple.POSITIVE_ZERO, column.get(129));
+    column.set(129, Quadruple.NEGATIVE_INFINITY);
+    column.set(64, true, 5, 6, 7);
+    assertEquals(Quadruple.NEGATIVE_INFINITY, column.get(129));
+    assertEquals(new Quadruple(true, 5, 6, 7), column.get(64));
+    assertEquals(1L, column.negativeBits()[1]);
+    assertEquals(2L, column.negativeBits()[2]);
+    column.set(64, Quadruple.NaN);
+    assertFalse(column.negative(64));
+    assertTrue(column.get(64).isNaN());
+    assertThrows(IndexOutOfBoundsException.class, () -> column.negative(130));
+    assertThrows(IndexOutOfBoundsException.class, () -> column.biasedExponent(-1));
+    assertThrows(IndexOutOfBoundsException.class, () -> column.mantHi(130));
+    assertThrows(IndexOutOfBoundsException.class, () -> column.mantLo(130));
+    assertThrows(IndexOutOfBoundsException.class, () -> column.get(130));
+    assertThrows(IndexOutOfBoundsException.class, () -> column.set(130, Quadruple.NaN));
+  }
+
+  @Test
+  public void sort() {
+    Random random = new Random(9902);
+    long[] values = new long[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      // Many duplicates, to check that the sort is stable
+      values[i] = random.nextInt(1000) - 500;
+    }
+    QuadrupleColumn column = QuadrupleColumn.fromLongs(values);
+    column.set(17, Quadruple.NaN);
+    column.set(18, Quadruple.NEGATIVE_ZERO);
+    column.set(19, new Quadruple(true, (int) QuadrupleBuilder.EXPONENT_OF_INFINITY, 0, 1));
+
+    List<Integer> expected = new ArrayList<>();
+    for (int i = 0; i < SIZE; i++) {
+      expected.add(i);
+    }
+    expected.sort(Comparator.comparing(column::get));
+    int[] indices = column.sortedIndices();
+    for (int i = 0; i < SIZE; i++) {
+      assertEquals(expected.get(i), indices[i]);
+      assertEquals(
+          Integer.signum(column.get(i).compareTo(column.get(SIZE - 1 - i))),
+          Integer.signum(column.compare(i, SIZE - 1 - i)));
+    }
+
+    List<Quadruple> before = new ArrayList<>();
+    for (int i = 0; i < SIZE; i++) {
+      before.add(column.get(i));
+    }
+    column.sort();
+    for (int i = 0; i < SIZE; i++) {
+      assertSameFields(before.get(indices[i]), column, i);
+    }
+    assertEquals(0, column.negativeBits()[column.negativeBits().length - 1] >>> (SIZE % 64));
+  }
+
+  private static void assertSameFields(Quadruple expected, QuadrupleColumn column, int index) {
+    String message = expected + " at " + index;
+    assertEquals(expected.negative(), column.negative(index), message);
+    assertEquals(expected.biasedExponent(), column.biasedExponent(index), message);
+    assertEquals(expected.mantHi(), column.mantHi(index), message);
+    assertEquals(expected.mantLo(), column.mantLo(index), message);
+  }
+}
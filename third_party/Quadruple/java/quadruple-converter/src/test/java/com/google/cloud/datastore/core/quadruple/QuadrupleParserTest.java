@@ -0,0 +1,442 @@
+//  Copyright 2025 Google LLC
+//
+//  Licensed under the Apache License, Version 2.0 (the "License");
+//  you may not use this file except in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//      https://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing, software
+//  distributed under the License is distributed on an "AS IS" BASIS,
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//  See the License for the specific language governing permissions and
+//  limitations under the License.
+
+package com.google.cloud.datastore.core.quadruple;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class QuadrupleParserTest {
+  private static final String PREFIX = "x,1";
+  private static final String SUFFIX = "e,9";
+  private static final String PI =
+      "3.14159265358979323846264338327950288419716939937510582097494459230781640628";
+  private static final String E =
+      "2.71828182845904523536028747135266249775724709369995957496696762772407663035";
+  // The decimal of a double colliding with it (see QuadrupleTest)
+  private static final String COLLISION = "0.5000000000017627010961973610392306";
+
+  @Test
+  public void allInputsAgree() {
+    Random random = new Random(8117);
+    for (int i = 0; i < 10_000; i++) {
+      String s = randomNumber(random);
+      checkAllInputs(s, false);
+      checkAllInputs(s, true);
+    }
+  }
+
+  @Test
+  public void exemplars() {
+    // Results of the builder before parseMantissa applied the carry of a truncation in place:
+    // long mantissas, leading zeros, and truncated digits rounding up or not
+    checkExemplar("0", false, false, 0x0000_0000, 0x0000_0000_0000_0000L, 0x0000_0000_0000_0000L);
+    checkExemplar(
+        "-0.000e5", false, true, 0x0000_0000, 0x0000_0000_0000_0000L, 0x0000_0000_0000_0000L);
+    checkExemplar("1", false, false, 0x7fff_ffff, 0x0000_0000_0000_0000L, 0x0000_0000_0000_0000L);
+    checkExemplar("-9", false, true, 0x8000_0002, 0x2000_0000_0000_0000L, 0x0000_0000_0000_0000L);
+    checkExemplar("0.1", false, false, 0x7fff_fffb, 0x9999_9999_9999_9999L, 0x9999_9999_9999_999aL);
+    checkExemplar(
+        "123.456e-7", false, false, 0x7fff_ffee, 0x9e3f_e580_f549_47e6L, 0x8150_62f4_0a0b_4340L);
+    checkExemplar(
+        "12345678901234567890",
+        false,
+        false,
+        0x8000_003e,
+        0x56a9_5319_d63e_15a4L,
+        0x0000_0000_0000_0000L);
+    checkExemplar(
+        "9".repeat(59), false, false, 0x8000_00c2, 0xfdca_16e0_4b86_d410L, 0x05e4_6da0_8ea7_ab69L);
+    checkExemplar(
+        "9".repeat(60), false, false, 0x8000_00c6, 0x3e9e_4e4c_2f34_448aL, 0x03ae_c484_5928_cb22L);
+    checkExemplar(
+        "9".repeat(59) + "5",
+        false,
+        false,
+        0x8000_00c6,
+        0x3e9e_4e4c_2f34_448aL,
+        0x03ae_c484_5928_cb22L);
+    checkExemplar(
+        "9".repeat(59) + "4",
+        false,
+        false,
+        0x8000_00c6,
+        0x3e9e_4e4c_2f34_448aL,
+        0x03ae_c484_5928_cb22L);
+    checkExemplar(
+        "9".repeat(100) + "e-100",
+        false,
+        false,
+        0x7fff_ffff,
+        0x0000_0000_0000_0000L,
+        0x0000_0000_0000_0000L);
+    checkExemplar(
+        "1" + "0".repeat(58) + "5",
+        false,
+        false,
+        0x8000_00c2,
+        0xfdca_16e0_4b86_d410L,
+        0x05e4_6da0_8ea7_ab69L);
+    checkExemplar(
+        "1".repeat(59) + "49999",
+        false,
+        false,
+        0x8000_00d0,
+        0x59b9_1b2e_388d_9a5eL,
+        0xa4e2_861f_9b69_2714L);
+    checkExemplar(
+        "-0.000" + "9".repeat(60),
+        false,
+        true,
+        0x7fff_fff5,
+        0x0624_dd2f_1a9f_be76L,
+        0xc8b4_3958_1062_4dd3L);
+    checkExemplar(
+        "0.000" + "1".repeat(59) + "7",
+        false,
+        false,
+        0x7fff_fff1,
+        0xd208_a5a9_12e3_19b6L,
+        0xba23_f42a_c7cb_3505L);
+    checkExemplar(
+        "123456789".repeat(7) + "e-40",
+        false,
+        false,
+        0x8000_0048,
+        0x4ea1_5b2c_48b9_8acdL,
+        0xacd6_e699_88c5_5258L);
+    checkExemplar(PI, false, false, 0x8000_0000, 0x921f_b544_42d1_8469L, 0x898c_c517_01b8_39a2L);
+    checkExemplar(
+        "-" + E + "e-300",
+        false,
+        true,
+        0x7fff_fc1b,
+        0xd206_a6a2_a07c_28f6L,
+        0xbe49_4d4f_f8cb_0f25L);
+    checkExemplar(
+        "1.18973149535723176508575932662800702e4932",
+        false,
+        false,
+        0x8000_3ffe,
+        0xffff_ffff_ffff_ffffL,
+        0xffff_ffff_ffff_0880L);
+    checkExemplar(
+        "6.4751751194380251109244389582276466e-4966",
+        false,
+        false,
+        0x7fff_bf91,
+        0x0000_0000_0000_0000L,
+        0x0000_0000_0000_09c0L);
+    checkExemplar(
+        "1e-400", false, false, 0x7fff_face, 0x2bfc_fc0f_923d_f5f4L, 0x7263_70a1_be11_ce71L);
+    checkExemplar(
+        "1e400", false, false, 0x8000_052f, 0xb4ec_7f91_973f_f3cbL, 0x1ccf_26fb_c177_c38eL);
+    checkExemplar(
+        COLLISION, false, false, 0x7fff_fffe, 0x0000_0000_03e0_5000L, 0x0000_0000_0000_0000L);
+    checkExemplar(
+        COLLISION, true, false, 0x7fff_fffe, 0x0000_0000_03e0_5000L, 0x0000_0000_0000_0001L);
+    checkExemplar(
+        "-" + COLLISION, true, true, 0x7fff_fffe, 0x0000_0000_03e0_5000L, 0x0000_0000_0000_0001L);
+  }
+
+  @Test
+  public void longInputThenShortInput() {
+    // The digit buffer grown by the long input is dropped, and a small one is allocated again
+    QuadrupleParser parser = new QuadrupleParser();
+    String digits = "1" + "0".repeat(100_000);
+    String one = digits + "e-100000";
+    assertEquals(Quadruple.fromLong(1), parser.parse(one, 0, one.length(), false));
+    assertEquals(Quadruple.fromLong(42), parser.parse("42", 0, 2, false));
+    String invalid = digits + "x";
+    assertThrows(
+        NumberFormatException.class, () -> parser.parse(invalid, 0, invalid.length(), false));
+    assertEquals(Quadruple.fromLong(-7), parser.parse("-7", 0, 2, false));
+    assertEquals(
+        Quadruple.fromString(digits), parser.fromBigDecimal(new BigDecimal(digits), false));
+    assertEquals(Quadruple.fromLong(3), parser.fromBigDecimal(BigDecimal.valueOf(3), false));
+  }
+
+  @Test
+  public void specialValues() {
+    QuadrupleParser parser = new QuadrupleParser();
+    assertSame(Quadruple.NaN, parser.parse(PREFIX + "NaN", 3, 6, false));
+    assertSame(Quadruple.POSITIVE_INFINITY, parser.parse("Infinity", 0, 8, false));
+    assertSame(Quadruple.POSITIVE_INFINITY, parser.parse("+Infinity", 0, 9, true));
+    assertSame(Quadruple.NEGATIVE_INFINITY, parser.parse("-Infinity-", 0, 9, false));
+    checkAllInputs("NaN", false);
+    checkAllInputs("-Infinity", true);
+  }
+
+  @Test
+  public void invalid() {
+    checkInvalid("", "Invalid number ");
+    checkInvalid("-NaN", "Invalid number -NaN");
+    checkInvalid("+", "Invalid number +");
+    checkInvalid("1a", "Invalid number 1a");
+    checkInvalid("123.45e", "Invalid number 123.45e");
+    checkInvalid("123.45e+12z", "Invalid number 123.45e+12z");
+    checkInvalid("123.45e1234567890", "Exponent too large 123.45e1234567890");
+    // Bytes are ASCII: 0xB2 is not a digit, even though it is superscript two in ISO-8859-1.
+    checkInvalid("1\u00b2", "Invalid number 1\u00b2");
+  }
+
+  @Test
+  public void outOfBounds() {
+    QuadrupleParser parser = new QuadrupleParser();
+    assertThrows(IndexOutOfBoundsException.class, () -> parser.parse("123", 2, 4, false));
+    assertThrows(IndexOutOfBoundsException.class, () -> parser.parse("123", 2, 1, false));
+    assertThrows(
+        IndexOutOfBoundsException.class, () -> parser.parseAscii(new byte[3], -1, 2, false));
+    assertThrows(
+        IndexOutOfBoundsException.class,
+        () -> parser.parseAscii(ByteBuffer.allocate(8).limit(3), 1, 3, false));
+  }
+
+  @Test
+  public void bufferPositionUnchanged() {
+    ByteBuffer buffer = ByteBuffer.wrap("12.5e3".getBytes(StandardCharsets.US_ASCII));
+    buffer.position(2);
+    assertEquals(Quadruple.fromString("12.5e3"), Quadruple.fromAscii(buffer, 0, 6));
+    assertEquals(2, buffer.position());
+  }
+
+  @Test
+  public void sink() {
+    QuadrupleParser parser = new QuadrupleParser();
+    Quadruple[] result = new Quadruple[1];
+    QuadrupleSink sink =
+        (negative, biasedExponent, mantHi, mantLo) ->
+            result[0] = new Quadruple(negative, biasedExponent, mantHi, mantLo);
+    parser.parse("-0", 0, 2, false, sink);
+    assertEquals(Quadruple.NEGATIVE_ZERO, result[0]);
+    parser.parse("NaN", 0, 3, false, sink);
+    assertEquals(Quadruple.NaN, result[0]);
+    parser.parseAscii(new byte[] {'4', '2'}, 0, 2, false, sink);
+    assertEquals(Quadruple.fromLong(42), result[0]);
+  }
+
+  @Test
+  public void decimal128() {
+    Random random = new Random(1228);
+    BigInteger maxCoefficient = BigInteger.TEN.pow(34).subtract(BigInteger.ONE);
+    for (int i = 0; i < 10_000; i++) {
+      BigInteger coefficient =
+          i < 100
+              ? maxCoefficient.shiftRight(random.nextInt(3))
+              : new BigInteger(1 + random.nextInt(113), random).min(maxCoefficient);
+      // Mostly exponents whose results are neither zero nor infinite
+      int exponent =
+          random.nextInt(10) == 0 ? random.nextInt(3 * 4096) : 6176 + random.nextInt(600) - 300;
+      checkDecimal128(random.nextBoolean(), coefficient, exponent);
+    }
+    checkDecimal128(false, BigInteger.ZERO, 6176);
+    checkDecimal128(true, BigInteger.ZERO, 0);
+    checkDecimal128(true, BigInteger.ONE, 0);
+    checkDecimal128(false, maxCoefficient, 3 * 4096 - 1);
+  }
+
+  @Test
+  public void decimal128Special() {
+    long sign = 1L << 63;
+    long infinity = 0x78L << 56;
+    long nan = 0x7CL << 56;
+    long signalingNan = 0x7EL << 56;
+    assertSame(Quadruple.POSITIVE_INFINITY, Quadruple.fromDecimal128(infinity, 0));
+    assertSame(Quadruple.NEGATIVE_INFINITY, Quadruple.fromDecimal128(sign | infinity, 5));
+    assertSame(Quadruple.NaN, Quadruple.fromDecimal128(nan, 0));
+    assertSame(Quadruple.NaN, Quadruple.fromDecimal128(sign | nan, 0));
+    assertSame(Quadruple.NaN, Quadruple.fromDecimal128NoDoubleCollisions(signalingNan | 1, 7));
+    // Non-canonical coefficients: 10^34 with the short form, and any with the long form
+    BigInteger tenPow34 = BigInteger.TEN.pow(34);
+    long high = tenPow34.shiftRight(64).longValue() | 6176L << 49;
+    assertEquals(Quadruple.POSITIVE_ZERO, Quadruple.fromDecimal128(high, tenPow34.longValue()));
+    assertEquals(
+        Quadruple.NEGATIVE_ZERO, Quadruple.fromDecimal128(sign | 0x6000_0000_0000_0000L | 1, 1));
+  }
+
+  @Test
+  public void bigDecimal() {
+    Random random = new Random(5271);
+    for (int i = 0; i < 10_000; i++) {
+      BigInteger unscaled = new BigInteger(random.nextInt(random.nextBoolean() ? 64 : 400), random);
+      if (random.nextBoolean()) {
+        unscaled = unscaled.negate();
+      }
+      int scale = random.nextBoolean() ? random.nextInt(40) : random.nextInt(20_000) - 10_000;
+      checkBigDecimal(new BigDecimal(unscaled, scale));
+    }
+    checkBigDecimal(BigDecimal.ZERO);
+    checkBigDecimal(new BigDecimal(BigInteger.ZERO, 17));
+    checkBigDecimal(BigDecimal.valueOf(Long.MIN_VALUE));
+    checkBigDecimal(BigDecimal.valueOf(Long.MAX_VALUE, 3));
+    checkBigDecimal(new BigDecimal("1E+999999999"));
+    checkBigDecimal(new BigDecimal("12.5E-999999999"));
+    checkBigDecimal(new BigDecimal(BigInteger.ONE, 2_000_000_000));
+    checkBigDecimal(new BigDecimal(BigInteger.ZERO, -1_000_000_000));
+    checkBigDecimal(new BigDecimal(BigInteger.TEN, Integer.MIN_VALUE));
+  }
+
+  private static void checkDecimal128(boolean negative, BigInteger coefficient, int exponent) {
+    long high =
+        (negative ? 1L << 63 : 0) | (long) exponent << 49 | coefficient.shiftRight(64).longValue();
+    long low = coefficient.longValue();
+    String s = (negative ? "-" : "") + new BigDecimal(coefficient, 6176 - exponent);
+    assertEquals(Quadruple.fromString(s), Quadruple.fromDecimal128(high, low), s);
+    assertEquals(
+        Quadruple.fromStringNoDoubleCollisions(s),
+        Quadruple.fromDecimal128NoDoubleCollisions(high, low),
+        s);
+  }
+
+  private static void checkBigDecimal(BigDecimal value) {
+    String s = value.toString();
+    Quadruple expected;
+    try {
+      expected = Quadruple.fromString(s);
+    } catch (NumberFormatException e) {
+      assertEquals(
+          e.getMessage(),
+          assertThrows(NumberFormatException.class, () -> Quadruple.fromBigDecimal(value))
+              .getMessage());
+      return;
+    }
+    assertEquals(expected, Quadruple.fromBigDecimal(value), s);
+    assertEquals(
+        Quadruple.fromStringNoDoubleCollisions(s),
+        Quadruple.fromBigDecimalNoDoubleCollisions(value),
+        s);
+  }
+
+  // Checks that s parses to the given fields from every kind of input.
+  private static void checkExemplar(
+      String s,
+      boolean avoidDoubleCollisions,
+      boolean negative,
+      int biasedExponent,
+      long mantHi,
+      long mantLo) {
+    Quadruple expected = new Quadruple(negative, biasedExponent, mantHi, mantLo);
+    assertEquals(
+        expected, new QuadrupleParser().parse(s, 0, s.length(), avoidDoubleCollisions), s);
+    checkAllInputs(s, avoidDoubleCollisions);
+  }
+
+  // Parses s from every kind of input, with a reused and a new parser, and checks that they agree.
+  private static void checkAllInputs(String s, boolean avoidDoubleCollisions) {
+    Quadruple expected = new QuadrupleParser().parse(s, 0, s.length(), avoidDoubleCollisions);
+    assertEquals(
+        expected,
+        avoidDoubleCollisions
+            ? Quadruple.fromStringNoDoubleCollisions(s)
+            : Quadruple.fromString(s),
+        s);
+
+    String padded = PREFIX + s + SUFFIX;
+    int start = PREFIX.length();
+    int end = start + s.length();
+    assertEquals(
+        expected,
+        avoidDoubleCollisions
+            ? Quadruple.fromStringNoDoubleCollisions(new StringBuilder(padded), start, end)
+            : Quadruple.fromString(new StringBuilder(padded), start, end),
+        s);
+
+    byte[] bytes = padded.getBytes(StandardCharsets.US_ASCII);
+    assertEquals(
+        expected,
+        avoidDoubleCollisions
+            ? Quadruple.fromAsciiNoDoubleCollisions(bytes, start, s.length())
+            : Quadruple.fromAscii(bytes, start, s.length()),
+        s);
+
+    ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes);
+    assertEquals(
+        expected,
+        avoidDoubleCollisions
+            ? Quadruple.fromAsciiNoDoubleCollisions(direct, start, s.length())
+            : Quadruple.fromAscii(direct, start, s.length()),
+        s);
+
+    Quadruple[] sunk = new Quadruple[1];
+    QuadrupleParser.forCurrentThread()
+        .parseAscii(
+            ByteBuffer.wrap(bytes),
+            start,
+            s.length(),
+            avoidDoubleCollisions,
+            (negative, biasedExponent, mantHi, mantLo) ->
+                sunk[0] = new Quadruple(negative, biasedExponent, mantHi, mantLo));
+    assertEquals(expected, sunk[0], s);
+  }
+
+  private static void checkInvalid(String s, String message) {
+    String padded = PREFIX + s + SUFFIX;
+    int start = PREFIX.length();
+    int end = start + s.length();
+    byte[] bytes = padded.getBytes(StandardCharsets.ISO_8859_1);
+    assertEquals(
+        message,
+        assertThrows(NumberFormatException.class, () -> Quadruple.fromString(s)).getMessage());
+    assertEquals(
+        message,
+        assertThrows(NumberFormatException.class, () -> Quadruple.fromString(padded, start, end))
+            .getMessage());
+    assertEquals(
+        message,
+        assertThrows(
+                NumberFormatException.class, () -> Quadruple.fromAscii(bytes, start, s.length()))
+            .getMessage());
+    assertEquals(
+        message,
+        assertThrows(
+                NumberFormatException.class,
+                () -> Quadruple.fromAscii(ByteBuffer.wrap(bytes), start, s.length()))
+            .getMessage());
+  }
+
+  private static String randomNumber(Random random) {
+    StringBuilder s = new StringBuilder();
+    switch (random.nextInt(3)) {
+      case 0:
+        s.append('-');
+        break;
+      case 1:
+        s.append('+');
+        break;
+      default:
+        break;
+    }
+    // Up to 100 digits (so that the digit buffer has to grow), with leading zeros now and then.
+    int length = 1 + random.nextInt(random.nextBoolean() ? 20 : 100);
+    int point = random.nextInt(length + 1);
+    for (int i = 0; i < length; i++) {
+      if (i == point) {
+        s.append('.');
+      }
+      s.append((char) ('0' + (i < 3 && random.nextInt(4) == 0 ? 0 : random.nextInt(10))));
+    }
+    if (random.nextBoolean()) {
+      s.append(random.nextBoolean() ? 'e' : 'E').append(random.nextInt(20_000) - 10_000);
+    }
+    return s.toString();
+  }
+}
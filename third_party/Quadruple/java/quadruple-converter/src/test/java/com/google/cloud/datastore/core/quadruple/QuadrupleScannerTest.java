@@ -0,0 +1,329 @@
+//  Copyright 2025 Google LLC
+//
+//  Licensed under the Apache License, Version 2.0 (the "License");
+//  you may not use this file except in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//      https://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing, software
+//  distributed under the License is distributed on an "AS IS" BASIS,
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//  See the License for the specific language governing permissions and
+//  limitations under the License.
+
+package com.google.cloud.datastore.core.quadruple;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.channels.Channels;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class QuadrupleScannerTest {
+  private static final String[] DELIMITERS = {",", "\n", "\r\n", "\r"};
+
+  @TempDir Path directory;
+
+  @Test
+  public void parse() throws IOException {
+    // Larger than a mapped window, so that the file is scanned in several windows and chunks
+    List<String> numbers = randomNumbers(600_000);
+    byte[] input = join(numbers, new Random(2297));
+    for (boolean avoidDoubleCollisions : new boolean[] {false, true}) {
+      List<Quadruple> expected = new ArrayList<>();
+      for (String number : numbers) {
+        expected.add(
+            avoidDoubleCollisions
+                ? Quadruple.fromStringNoDoubleCollisions(number)
+                : Quadruple.fromString(number));
+      }
+      assertEquals(expected, parseStream(input, avoidDoubleCollisions));
+      assertEquals(expected, parseFile(input, avoidDoubleCollisions));
+    }
+  }
+
+  @Test
+  public void writeKeys() throws IOException {
+    List<String> numbers = randomNumbers(10_000);
+    byte[] input = join(numbers, new Random(8053));
+    byte[] expected = new byte[numbers.size() * Quadruple.KEY_LENGTH];
+    for (int i = 0; i < numbers.size(); i++) {
+      Quadruple.fromStringNoDoubleCollisions(numbers.get(i))
+          .toKey(expected, i * Quadruple.KEY_LENGTH);
+    }
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    long count =
+        QuadrupleScanner.writeKeys(
+            Channels.newChannel(new ByteArrayInputStream(input)), true, Channels.newChannel(out));
+    assertEquals(numbers.size(), count);
+    assertArrayEquals(expected, out.toByteArray());
+
+    out.reset();
+    try (FileChannel file = FileChannel.open(write(input))) {
+      count = QuadrupleScanner.writeKeys(file, true, Channels.newChannel(out));
+    }
+    assertEquals(numbers.size(), count);
+    assertArrayEquals(expected, out.toByteArray());
+  }
+
+  @Test
+  public void delimiters() throws IOException {
+    List<Quadruple> expected =
+        List.of(
+            Quadruple.fromLong(1),
+            Quadruple.fromLong(-2500),
+            Quadruple.NaN,
+            Quadruple.NEGATIVE_INFINITY);
+    for (String end : new String[] {"", "\n", "\r", "\r\n"}) {
+      byte[] input = ascii("1\r\n-2.5e3\rNaN,-Infinity" + end);
+      assertEquals(expected, parseStream(input, false));
+      assertEquals(expected, parseFile(input, false));
+      List<Quadruple> values = new ArrayList<>();
+      // A "\r\n" split across reads
+      QuadrupleScanner.parse(new ByteByByteChannel(input), false, sinkTo(values));
+      assertEquals(expected, values);
+    }
+    assertEquals(List.of(), parseStream(ascii(""), false));
+    assertEquals(List.of(), parseFile(ascii(""), false));
+  }
+
+  @Test
+  public void emptyNumbers() throws IOException {
+    String[] inputs = {"1,,2", ",1", "1,", "1\n\n2", "1\r\n\r\n2", "1\n\r2", "\n", "1,\n2"};
+    long[] offsets = {2, 0, 2, 2, 3, 2, 0, 2};
+    for (int i = 0; i < inputs.length; i++) {
+      byte[] input = ascii(inputs[i]);
+      int expectedCount = offsets[i] == 0 ? 0 : 1;
+      for (int mode = 0; mode < 3; mode++) {
+        List<Quadruple> values = new ArrayList<>();
+        int m = mode;
+        QuadrupleFormatException e =
+            assertThrows(QuadrupleFormatException.class, () -> parse(input, m, values));
+        assertEquals(offsets[i], e.offset(), inputs[i]);
+        assertEquals("Empty number at offset " + offsets[i], e.getMessage());
+        assertEquals(expectedCount, values.size(), inputs[i]);
+      }
+    }
+  }
+
+  @Test
+  public void trailingComma() throws IOException {
+    byte[] input = ascii("1,");
+    List<Quadruple> values = new ArrayList<>();
+    QuadrupleFormatException e =
+        assertThrows(
+            QuadrupleFormatException.class,
+            () ->
+                QuadrupleScanner.parse(
+                    Channels.newChannel(new ByteArrayInputStream(input)), false, sinkTo(values)));
+    assertEquals("Empty number at offset 2", e.getMessage());
+    assertEquals(2, e.offset());
+    assertEquals(List.of(Quadruple.fromLong(1)), values);
+
+    values.clear();
+    try (FileChannel file = FileChannel.open(write(input))) {
+      e =
+          assertThrows(
+              QuadrupleFormatException.class,
+              () -> QuadrupleScanner.parse(file, false, sinkTo(values)));
+    }
+    assertEquals("Empty number at offset 2", e.getMessage());
+    assertEquals(2, e.offset());
+    assertEquals(List.of(Quadruple.fromLong(1)), values);
+  }
+
+  @Test
+  public void tooLong() throws IOException {
+    int max = QuadrupleScanner.MAX_NUMBER_LENGTH;
+    byte[] longest = ascii("1," + "2".repeat(max) + "\r\n3");
+    assertEquals(3, parseStream(longest, false).size());
+    assertEquals(3, parseFile(longest, false).size());
+    // Followed by a delimiter, at the end of the input, and without any delimiter in a window
+    for (String input :
+        new String[] {
+          "1," + "2".repeat(max + 1) + ",3", "1," + "2".repeat(max + 1), "1," + "2".repeat(5 << 20)
+        }) {
+      for (int mode = 0; mode < 3; mode++) {
+        List<Quadruple> values = new ArrayList<>();
+        int m = mode;
+        QuadrupleFormatException e =
+            assertThrows(QuadrupleFormatException.class, () -> parse(ascii(input), m, values));
+        assertEquals("Number too long at offset 2", e.getMessage());
+        assertEquals(List.of(Quadruple.fromLong(1)), values);
+      }
+    }
+  }
+
+  @Test
+  public void longNumbers() throws IOException {
+    // Longer than the buffer of a channel
+    String digits = "1" + "0".repeat(100_000);
+    byte[] input = ascii("7\n" + digits + "e-100000\n8");
+    List<Quadruple> expected =
+        List.of(Quadruple.fromLong(7), Quadruple.fromLong(1), Quadruple.fromLong(8));
+    assertEquals(expected, parseStream(input, false));
+    assertEquals(expected, parseFile(input, false));
+  }
+
+  @Test
+  public void invalid() throws IOException {
+    List<String> numbers = randomNumbers(300_000);
+    numbers.set(250_000, "1e");
+    numbers.set(200_000, "1 ");
+    byte[] input = ascii(String.join("\n", numbers));
+    long offset = String.join("\n", numbers.subList(0, 200_000)).length() + 1;
+    for (boolean mapped : new boolean[] {false, true}) {
+      List<Quadruple> values = new ArrayList<>();
+      QuadrupleFormatException e =
+          assertThrows(QuadrupleFormatException.class, () -> parse(input, mapped ? 1 : 0, values));
+      assertEquals(offset, e.offset());
+      assertEquals("Invalid number 1  at offset " + offset, e.getMessage());
+      assertEquals(200_000, values.size());
+    }
+
+    QuadrupleFormatException e =
+        assertThrows(
+            QuadrupleFormatException.class, () -> parseStream(ascii("1,2,3e1234567890"), false));
+    assertEquals("Exponent too large 3e1234567890 at offset 4", e.getMessage());
+    assertEquals(4, e.offset());
+  }
+
+  private static List<String> randomNumbers(int count) {
+    Random random = new Random(count);
+    List<String> numbers = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      switch (random.nextInt(8)) {
+        case 0:
+          numbers.add(Double.toString(random.nextDouble() - 0.5));
+          break;
+        case 1:
+          numbers.add(BigDecimal.valueOf(random.nextLong(), random.nextInt(40)).toString());
+          break;
+        case 2:
+          numbers.add(random.nextBoolean() ? "NaN" : "-Infinity");
+          break;
+        default:
+          numbers.add(random.nextInt(2000) - 1000 + "e" + (random.nextInt(200) - 100));
+          break;
+      }
+    }
+    return numbers;
+  }
+
+  private static byte[] join(List<String> numbers, Random random) {
+    StringBuilder input = new StringBuilder();
+    for (String number : numbers) {
+      if (input.length() > 0) {
+        input.append(DELIMITERS[random.nextInt(DELIMITERS.length)]);
+      }
+      input.append(number);
+    }
+    return ascii(input.append('\n').toString());
+  }
+
+  private List<Quadruple> parseStream(byte[] input, boolean avoidDoubleCollisions)
+      throws IOException {
+    List<Quadruple> values = new ArrayList<>();
+    long count =
+        QuadrupleScanner.parse(
+            Channels.newChannel(new ByteArrayInputStream(input)),
+            avoidDoubleCollisions,
+            (negative, exponent, mantHi, mantLo) ->
+                values.add(new Quadruple(negative, exponent, mantHi, mantLo)));
+    assertEquals(values.size(), count);
+    return values;
+  }
+
+  private List<Quadruple> parseFile(byte[] input, boolean avoidDoubleCollisions)
+      throws IOException {
+    List<Quadruple> values = new ArrayList<>();
+    try (FileChannel file = FileChannel.open(write(input))) {
+      long count =
+          QuadrupleScanner.parse(
+              file,
+              avoidDoubleCollisions,
+              (negative, exponent, mantHi, mantLo) ->
+                  values.add(new Quadruple(negative, exponent, mantHi, mantLo)));
+      assertEquals(values.size(), count);
+    }
+    return values;
+  }
+
+  // Parses input from a stream (mode 0), a file (mode 1) or one byte at a time (mode 2).
+  private void parse(byte[] input, int mode, List<Quadruple> values) throws IOException {
+    QuadrupleSink sink = sinkTo(values);
+    switch (mode) {
+      case 0:
+        QuadrupleScanner.parse(Channels.newChannel(new ByteArrayInputStream(input)), false, sink);
+        break;
+      case 1:
+        try (FileChannel file = FileChannel.open(write(input))) {
+          QuadrupleScanner.parse(file, false, sink);
+        }
+        break;
+      default:
+        QuadrupleScanner.parse(new ByteByByteChannel(input), false, sink);
+        break;
+    }
+  }
+
+  private static QuadrupleSink sinkTo(List<Quadruple> values) {
+    return (negative, exponent, mantHi, mantLo) ->
+        values.add(new Quadruple(negative, exponent, mantHi, mantLo));
+  }
+
+  private Path write(byte[] input) throws IOException {
+    return Files.write(Files.createTempFile(directory, "numbers", ".txt"), input);
+  }
+
+  private static byte[] ascii(String s) {
+    return s.getBytes(StandardCharsets.US_ASCII);
+  }
+
+  // A channel reading one byte at a time, so that delimiters are split across reads.
+  private static final class ByteByByteChannel implements ReadableByteChannel {
+    private final byte[] input;
+    private int position;
+
+    ByteByByteChannel(byte[] input) {
+      this.input = input;
+    }
+
+    @Override
+    public int read(ByteBuffer buffer) {
+      if (position == input.length) {
+        return -1;
+      }
+      if (!buffer.hasRemaining()) {
+        return 0;
+      }
+      buffer.put(input[position++]);
+      return 1;
+    }
+
+    @Override
+    public boolean isOpen() {
+      return true;
+    }
+
+    @Override
+    public void close() {}
+  }
+}
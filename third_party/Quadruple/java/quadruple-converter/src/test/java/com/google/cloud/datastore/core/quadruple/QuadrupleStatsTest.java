@@ -0,0 +1,155 @@
+//  Copyright 2025 Google LLC
+//
+//  Licensed under the Apache License, Version 2.0 (the "License");
+//  you may not use this file except in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//      https://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing, software
+//  distributed under the License is distributed on an "AS IS" BASIS,
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//  See the License for the specific language governing permissions and
+//  limitations under the License.
+
+package com.google.cloud.datastore.core.quadruple;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.nio.file.Path;
+import java.time.Duration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class QuadrupleStatsTest {
+
+  @TempDir Path directory;
+
+  @BeforeEach
+  public void setUp() {
+    QuadrupleStats.reset();
+    QuadrupleStats.setEnabled(true);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    QuadrupleStats.setEnabled(false);
+    QuadrupleStats.reset();
+  }
+
+  @Test
+  public void paths() {
+    Quadruple.fromString("NaN");
+    Quadruple.fromString("-Infinity");
+    Quadruple.fromDecimal128(0x7C00_0000_0000_0000L, 0);
+    Quadruple.fromString("-0.000e5");
+    Quadruple.fromString("1".repeat(59) + "5");
+    Quadruple.fromString("1".repeat(59) + "4");
+    Quadruple.fromString("1e-700000000");
+    Quadruple.fromString("1e700000000");
+    // A collision with a double (see QuadrupleTest), whose rounding is inverted
+    double roundsUp = 0.5 + Math.scalb((double) 0b0011_1110_0000_0101, -53);
+    String roundedUp = new BigDecimal(roundsUp, MathContext.DECIMAL128).toString();
+    Quadruple.fromStringNoDoubleCollisions(roundedUp);
+    Quadruple.fromStringNoDoubleCollisions("0.5");
+
+    QuadrupleStats.Snapshot snapshot = QuadrupleStats.snapshot();
+    assertEquals(10, snapshot.conversions());
+    assertEquals(3, snapshot.specialValues());
+    assertEquals(1, snapshot.zeroMantissas());
+    assertEquals(2, snapshot.truncations());
+    assertEquals(1, snapshot.truncationsWithCarry());
+    assertEquals(1, snapshot.underflows());
+    assertEquals(1, snapshot.overflows());
+    assertEquals(1, snapshot.invertedRoundings());
+  }
+
+  @Test
+  public void histograms() {
+    Quadruple.fromString("12345");
+    Quadruple.fromString("0.00123");
+    Quadruple.fromString("-7e-9");
+    Quadruple.fromBigDecimal(new BigDecimal("1e300"));
+
+    QuadrupleStats.Snapshot snapshot = QuadrupleStats.snapshot();
+    long[] digitLengths = new long[QuadrupleStats.DIGIT_LENGTH_BUCKETS];
+    digitLengths[1] = 2; // 7 and 1
+    digitLengths[3] = 1 + 1; // 12345, and 000123
+    assertArrayEquals(digitLengths, snapshot.digitLengths(), snapshot.toString());
+    long[] exponents = new long[QuadrupleStats.EXPONENT_BUCKETS];
+    exponents[32 + 3] = 1; // 1.2345e4
+    exponents[32 - 2] = 1; // 1.23e-3
+    exponents[32 - 4] = 1; // 7e-9
+    exponents[32 + 9] = 1; // 1e300
+    assertArrayEquals(exponents, snapshot.exponents(), snapshot.toString());
+  }
+
+  @Test
+  public void disabled() {
+    QuadrupleStats.setEnabled(false);
+    assertFalse(QuadrupleStats.isEnabled());
+    Quadruple.fromString("NaN");
+    Quadruple.fromString("1");
+    assertEquals(0, QuadrupleStats.snapshot().conversions());
+    QuadrupleStats.setEnabled(true);
+    Quadruple.fromString("1");
+    assertEquals(1, QuadrupleStats.snapshot().conversions());
+    QuadrupleStats.reset();
+    assertEquals(0, QuadrupleStats.snapshot().conversions());
+  }
+
+  @Test
+  public void flightRecorder() throws IOException {
+    Path file = directory.resolve("quadruple.jfr");
+    try (Recording recording = new Recording()) {
+      recording
+          .enable("com.google.cloud.datastore.quadruple.Conversion")
+          .withThreshold(Duration.ZERO);
+      // Emitted when the recording stops
+      recording
+          .enable("com.google.cloud.datastore.quadruple.Statistics")
+          .with("period", "endChunk");
+      recording.enable("com.google.cloud.datastore.quadruple.Histogram");
+      recording.start();
+      Quadruple.fromString("1".repeat(100) + "e7");
+      recording.stop();
+      recording.dump(file);
+    }
+    boolean conversion = false;
+    boolean statistics = false;
+    boolean histogram = false;
+    for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+      switch (event.getEventType().getName()) {
+        case "com.google.cloud.datastore.quadruple.Conversion":
+          assertEquals(100, event.getInt("digits"));
+          assertEquals(106, event.getLong("exponent"));
+          assertTrue(event.getBoolean("truncated"));
+          conversion = true;
+          break;
+        case "com.google.cloud.datastore.quadruple.Statistics":
+          assertEquals(1, event.getLong("truncations"));
+          statistics = true;
+          break;
+        case "com.google.cloud.datastore.quadruple.Histogram":
+          histogram = true;
+          break;
+        default:
+          break;
+      }
+    }
+    assertTrue(conversion);
+    assertTrue(statistics);
+    assertTrue(histogram);
+  }
+}
@@ -14,6 +14,7 @@
 
 package com.google.cloud.datastore.core.quadruple;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
@@ -22,7 +23,10 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.math.BigDecimal;
 import java.math.MathContext;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
 import org.junit.jupiter.api.Test;
@@ -283,6 +287,184 @@ public class QuadrupleTest {
     }
   }
 
+  @Test
+  public void compareWithDoubleAndLong() {
+    Random random = new Random(7129);
+    List<Double> doubles =
+        new ArrayList<>(
+            List.of(
+                0.0,
+                -0.0,
+                Double.MIN_VALUE,
+                -Double.MIN_VALUE,
+                Double.MIN_NORMAL,
+                Double.MAX_VALUE,
+                Double.POSITIVE_INFINITY,
+                Double.NEGATIVE_INFINITY,
+                Double.NaN,
+                // NaNs with other payloads and signs
+                Double.longBitsToDouble(0x7ff0_0000_0000_0001L),
+                Double.longBitsToDouble(0xfff8_0000_0000_0000L),
+                Math.pow(2.0, 63),
+                -Math.pow(2.0, 63),
+                1.0,
+                -1.0));
+    List<Long> longs =
+        new ArrayList<>(List.of(0L, 1L, -1L, Long.MIN_VALUE, Long.MAX_VALUE, 1L << 53));
+    for (int i = 0; i < 200; i++) {
+      doubles.add(Double.longBitsToDouble(random.nextLong()));
+      longs.add(nextRandomLong(random));
+    }
+    List<Quadruple> quadruples =
+        new ArrayList<>(
+            List.of(
+                Quadruple.POSITIVE_ZERO,
+                Quadruple.NEGATIVE_ZERO,
+                Quadruple.POSITIVE_INFINITY,
+                Quadruple.NEGATIVE_INFINITY,
+                Quadruple.NaN,
+                new Quadruple(true, (int) QuadrupleBuilder.EXPONENT_OF_INFINITY, 0, 1)));
+    for (double d : doubles) {
+      Quadruple q = Quadruple.fromDouble(d);
+      quadruples.add(q);
+      // The next and previous Quadruples
+      quadruples.add(new Quadruple(q.negative(), q.biasedExponent(), q.mantHi(), 1));
+      quadruples.add(new Quadruple(q.negative(), q.biasedExponent() - 1, -1, -1));
+    }
+    for (long l : longs) {
+      Quadruple q = Quadruple.fromLong(l);
+      quadruples.add(q);
+      quadruples.add(new Quadruple(q.negative(), q.biasedExponent(), q.mantHi(), 1));
+    }
+
+    for (Quadruple q : quadruples) {
+      for (double d : doubles) {
+        int expected = Integer.signum(q.compareTo(Quadruple.fromDouble(d)));
+        String message = q + " " + d;
+        assertEquals(expected, Integer.signum(Quadruple.compare(q, d)), message);
+        assertEquals(
+            expected,
+            Integer.signum(
+                Quadruple.compare(q.negative(), q.biasedExponent(), q.mantHi(), q.mantLo(), d)),
+            message);
+      }
+      for (long l : longs) {
+        int expected = Integer.signum(q.compareTo(Quadruple.fromLong(l)));
+        String message = q + " " + l;
+        assertEquals(expected, Integer.signum(Quadruple.compare(q, l)), message);
+        assertEquals(
+            expected,
+            Integer.signum(
+                Quadruple.compare(q.negative(), q.biasedExponent(), q.mantHi(), q.mantLo(), l)),
+            message);
+      }
+    }
+  }
+
+  @Test
+  public void keys() {
+    Random random = new Random(7310);
+    Quadruple[] quadruples = new Quadruple[200];
+    quadruples[0] = Quadruple.NEGATIVE_INFINITY;
+    quadruples[1] = Quadruple.NEGATIVE_ZERO;
+    quadruples[2] = Quadruple.POSITIVE_ZERO;
+    quadruples[3] = Quadruple.POSITIVE_INFINITY;
+    quadruples[4] = Quadruple.NaN;
+    quadruples[5] = OTHER_NAN;
+    for (int i = 6; i < quadruples.length; i++) {
+      // Few distinct field values, so that keys often share a prefix.
+      quadruples[i] =
+          new Quadruple(
+              random.nextBoolean(),
+              QUADRUPLE_BIAS + random.nextInt(3) - 1,
+              random.nextInt(3) - 1L,
+              random.nextInt(3) - 1L);
+    }
+    int length = Quadruple.KEY_LENGTH;
+    byte[] keys = new byte[3 + quadruples.length * length];
+    // The byte order of the buffer does not matter.
+    ByteBuffer buffer =
+        ByteBuffer.allocateDirect(5 + quadruples.length * length).order(ByteOrder.LITTLE_ENDIAN);
+    for (int i = 0; i < quadruples.length; i++) {
+      quadruples[i].toKey(keys, 3 + i * length);
+      quadruples[i].toKey(buffer, 5 + i * length);
+    }
+    assertEquals(0, buffer.position());
+    for (int i = 0; i < quadruples.length; i++) {
+      Quadruple q = quadruples[i];
+      assertEquals(q, Quadruple.fromKey(keys, 3 + i * length));
+      assertEquals(q, Quadruple.fromKey(buffer, 5 + i * length));
+      for (int j = 0; j < quadruples.length; j++) {
+        String testCase = q + " <-> " + quadruples[j];
+        int expected = Integer.signum(q.compareTo(quadruples[j]));
+        assertEquals(
+            expected,
+            Integer.signum(Quadruple.compareKeys(keys, 3 + i * length, keys, 3 + j * length)),
+            testCase);
+        assertEquals(
+            expected,
+            Integer.signum(Quadruple.compareKeys(buffer, 5 + i * length, buffer, 5 + j * length)),
+            testCase);
+      }
+    }
+    byte[] fromBuffer = new byte[keys.length - 3];
+    buffer.get(5, fromBuffer);
+    assertArrayEquals(Arrays.copyOfRange(keys, 3, keys.length), fromBuffer);
+  }
+
+  @Test
+  public void keysSortAsUnsignedBytes() {
+    List<Quadruple> quadruples = new ArrayList<>();
+    quadruples.add(Quadruple.NEGATIVE_INFINITY);
+    quadruples.add(Quadruple.NEGATIVE_ZERO);
+    quadruples.add(Quadruple.POSITIVE_ZERO);
+    quadruples.add(Quadruple.POSITIVE_INFINITY);
+    quadruples.add(Quadruple.NaN);
+    quadruples.add(OTHER_NAN);
+    for (boolean negative : new boolean[] {false, true}) {
+      // Subnormals (the biased exponent 0), and the smallest and largest finite exponents
+      for (int exponent : new int[] {0, 1, QUADRUPLE_BIAS, (int) 0xFFFF_FFFEL}) {
+        // Equal exponents with different mantissas, and equal mantissas with different exponents
+        for (long mantHi : new long[] {0, 1, 1L << 63, -1}) {
+          for (long mantLo : new long[] {0, 1, -1}) {
+            if (exponent != 0 || mantHi != 0 || mantLo != 0) {
+              quadruples.add(new Quadruple(negative, exponent, mantHi, mantLo));
+            }
+          }
+        }
+      }
+      quadruples.add(Quadruple.fromDouble(negative ? -Double.MIN_VALUE : Double.MIN_VALUE));
+      quadruples.add(Quadruple.fromDouble(negative ? -Double.MIN_NORMAL : Double.MIN_NORMAL));
+    }
+    byte[][] keys = new byte[quadruples.size()][Quadruple.KEY_LENGTH];
+    for (int i = 0; i < keys.length; i++) {
+      quadruples.get(i).toKey(keys[i], 0);
+    }
+    for (int i = 0; i < keys.length; i++) {
+      Quadruple q = quadruples.get(i);
+      for (int j = 0; j < keys.length; j++) {
+        assertEquals(
+            Integer.signum(q.compareTo(quadruples.get(j))),
+            Integer.signum(Arrays.compareUnsigned(keys[i], keys[j])),
+            q + " <-> " + quadruples.get(j));
+      }
+    }
+  }
+
+  @Test
+  public void invalidKeys() {
+    byte[] key = new byte[Quadruple.KEY_LENGTH];
+    Quadruple.NaN.toKey(key, 0);
+    key[20] = 1;
+    assertThrows(IllegalArgumentException.class, () -> Quadruple.fromKey(key, 0));
+    key[0] = 3;
+    assertThrows(IllegalArgumentException.class, () -> Quadruple.fromKey(key, 0));
+    assertThrows(
+        IndexOutOfBoundsException.class,
+        () -> Quadruple.fromKey(ByteBuffer.wrap(key).limit(Quadruple.KEY_LENGTH - 1), 0));
+    assertThrows(IndexOutOfBoundsException.class, () -> Quadruple.POSITIVE_ZERO.toKey(key, 1));
+  }
+
   @Test
   public void fromString_invalid() {
     invalidString("");
@@ -43,6 +43,60 @@ class TestQuadupleBuilder(unittest.TestCase):
     self.check("1", -1_000_000_000, 0, 0, 0);
 
 
+  def test_truncation(self):
+    # More than 59 significant digits - truncated, and rounded up on a 60th digit >= 5.
+    self.check("999999999999999999999999999999999999999999999999999999999999", 0, 0x3e9e4e4c2f34448a, 0x3aec4845928cb22, 2147483846);
+    self.check("999999999999999999999999999999999999999999999999999999999999", -70, 0xb7cdfd9d7bdbab7d, 0x6ae6881cb5109a36, 2147483613);
+    self.check("999999999999999999999999999999999999999999999999999999999994", 0, 0x3e9e4e4c2f34448a, 0x3aec4845928cb22, 2147483846);
+    self.check("1234567890123456789012345678901234567890123456789012345678901234567890", -35, 0x30582ffdf3fe588b, 0xd01278f16fbcd6e6, 2147483760);
+    self.check("1234567890123456789012345678901234567890123456789012345678905", 12, 0x65c1561327036d10, 0xcef502fe8fdd55, 2147483886);
+    # Leading zeros do not count as significant digits.
+    self.check("00999999999999999999999999999999999999999999999999999999999999", 0, 0x3e9e4e4c2f34448a, 0x3aec4845928cb22, 2147483846);
+    self.check("0111111111111111111111111111111111111111111111111111111111172", 0, 0x1b37620ad4a03cec, 0x750d2075a49609e5, 2147483843);
+
+
+  def test_shortMantissa(self):
+    # At most 19 significant digits and a decimal exponent in POWERS_OF_10 - exact results.
+    self.check("000", 3, 0x0, 0x0, 0);
+    self.check("1", 0, 0x0, 0x0, 2147483647);
+    self.check("9999999999999999999", 0, 0x158e460913cffffe, 0x0, 2147483710);
+    self.check("12345678901234567890000", -4, 0x12210f47de981150, 0x0, 2147483707);
+    # Inexact results.
+    self.check("1", -1, 0x9999999999999999, 0x999999999999999a, 2147483643);
+    self.check("123456789", -2, 0x2d687e3d70a3d70a, 0x3d70a3d70a3d70a4, 2147483667);
+    self.check("31415926535897932", -16, 0x921fb54442d18306, 0xc8336e79acefc545, 2147483648);
+    # Either side of 10^64, the bound of an earlier, smaller POWERS_OF_10.
+    self.check("1", 64, 0x84f03e93ff9f4daa, 0x797ed6e38ed64bf7, 2147483859);
+    self.check("1", -64, 0x50ffd44f4a73d34a, 0x7e4731ae8f66c448, 2147483434);
+    self.check("1", 65, 0xe62c4e38ff872115, 0x17de8c9c728bdef4, 2147483862);
+    self.check("1", -65, 0xd9976a5d52975d5, 0x31d28e253f8569d3, 2147483431);
+    # The bound of POWERS_OF_10.
+    self.check("1", 400, 0xb4ec7f91973ff3cb, 0x1ccf26fbc177c38e, 2147484975);
+    self.check("1", -400, 0x2bfcfc0f923df5f4, 0x726370a1be11ce71, 2147482318);
+    # Exact, but with an inexact power of ten - left to the general algorithm.
+    self.check("5", -1, 0x0, 0x0, 2147483646);
+    # Exactly half an lsb - left to the general algorithm.
+    self.check("1000000000000000001", 30, 0x5e531a0a1c872bc6, 0x6b3a9bf78b6bdbd5, 2147483806);
+    # Outside of the fast path: 20 digits, exponents beyond POWERS_OF_10.
+    self.check("18446744073709551615", 0, 0xfffffffffffffffe, 0x0, 2147483710);
+    self.check("1", 401, 0x1113cfbafe87f85e, 0xf201785d58eada39, 2147484979);
+    self.check("1", -401, 0xdffb2ce5b6c98987, 0x1d6be769301c7d81, 2147482314);
+
+
+  def test_powerOf10Table(self):
+    # More than 19 significant digits, multiplied by a power of ten in POWERS_OF_10.
+    self.check("1234567890123456789012345", -425, 0x2848df7d8177a107, 0x61b8e5baf91f2e33, 2147482315);
+    self.check("1234567890123456789012345", 375, 0xaf879a2f0797da82, 0x9ef78750b9f40330, 2147484972);
+    self.check("314159265358979323846264338327950288", -35, 0x921fb54442d18469, 0x898cc51701b836d8, 2147483648);
+    self.check("99999999999999999999999999999999999999999999999999999999999", 0, 0xfdca16e04b86d410, 0x5e46da08ea7ab69, 2147483842);
+    # Within 2^32 lsbs of a power of two or of half an lsb - left to the general algorithm.
+    self.check("9999999999999999999999999999999999", -34, 0xffffffffffffffff, 0xfffffffffffef628, 2147483646);
+    self.check("10000000000000000000000000000000000000014693679385278593849", -58, 0x0, 0x1, 2147483647);
+    # Outside of POWERS_OF_10.
+    self.check("1234567890123456789012345", -426, 0xda0e326268bf680b, 0xcf8e3c5e5b6516b8, 2147482311);
+    self.check("1234567890123456789012345", 376, 0xdb4c05d64bee891, 0xa35ab492743881fe, 2147484976);
+
+
   def test_random1(self):
     self.check("804431787231960292174158641356728981", 3, 0x2e97f69eea35dee3, 0xc40eb6485f7e2b04, 2147483776);
     self.check("804431787231960292174158641356728981", -3, 0x3d4ada5428435dd0, 0x56d475eefdc7d917, 2147483756);
@@ -23,7 +23,7 @@ export class QuadrupleBuilder {
 
   static parseDecimal(digits: number[], exp10: number): QuadrupleBuilder {
     let  q = new QuadrupleBuilder();
-    q.parse(digits, exp10);
+    q.parse(digits, digits.length, exp10);
     return q;
   }
 
@@ -41,6 +41,16 @@ export class QuadrupleBuilder {
   // 2^192 = 6.277e57, so the 58-th digit after point may affect the result
   static MAX_MANTISSA_LENGTH = 59;
 
+  // 10^19 < 2^64, so a decimal mantissa of up to 19 significant digits fits in 64 bits
+  static MAX_SHORT_MANTISSA_LENGTH = 19;
+
+  // The range of decimal exponents in POWERS_OF_10
+  static MIN_POWER_OF_10 = -400;
+  static MAX_POWER_OF_10 = 400;
+
+  // 5^82 < 2^192, so the entries of POWERS_OF_10 for 0 <= e <= 82 are exact
+  static MAX_EXACT_POWER_OF_10 = 82;
+
   // Max value of the decimal exponent, corresponds to EXPONENT_OF_MAX_VALUE
   static MAX_EXP10 = 646456993;
 
@@ -272,6 +282,812 @@ export class QuadrupleBuilder {
     // 0.56766155260037313438164181629489689531186932477276639365773003794e-646456993
     [ -646456993n,0x9152_447b_9d7c_da9an,0x3b4d_3f61_10d7_7aadn,0xfa81_bad1_c394_adb4n ] ];
 
+  // An array of powers of ten, from 10^MIN_POWER_OF_10 to 10^MAX_POWER_OF_10. Each value consists
+  // of 4 longs: binary exponent and 3 x 64 bits of mantissa, including the leading 1 and truncated,
+  // so that 10^e ~= mantissa * 2^(exponent - 191). Used by parseShort and multiplyByPowerOf10.
+  static POWERS_OF_10: bigint[][] = [ // 10^-400
+    [ -1329n,0x95fe_7e07_c91e_fafan,0x3931_b850_df08_e738n,0x65f2_4b69_63ae_1e57n ],// 10^-399
+    [ -1326n,0xbb7e_1d89_bb66_b9b8n,0xc77e_2665_16cb_2106n,0x7f6e_de43_bc99_a5edn ],// 10^-398
+    [ -1323n,0xea5d_a4ec_2a40_6826n,0xf95d_affe_5c7d_e948n,0x1f4a_95d4_abc0_0f68n ],// 10^-397
+    [ -1319n,0x927a_8713_9a68_4118n,0x5bda_8dfe_f9ce_b1cdn,0x138e_9da4_eb58_09a1n ],// 10^-396
+    [ -1316n,0xb719_28d8_8102_515en,0x72d1_317e_b842_5e40n,0x5872_450e_262e_0c09n ],// 10^-395
+    [ -1313n,0xe4df_730e_a142_e5b6n,0x0f85_7dde_6652_f5d0n,0x6e8e_d651_afb9_8f0cn ],// 10^-394
+    [ -1309n,0x8f0b_a7e9_24c9_cf91n,0xc9b3_6eaa_fff3_d9a2n,0x4519_45f3_0dd3_f967n ],// 10^-393
+    [ -1306n,0xb2ce_91e3_6dfc_4376n,0x3c20_4a55_bff0_d00an,0xd65f_976f_d148_f7c1n ],// 10^-392
+    [ -1303n,0xdf82_365c_497b_5453n,0xcb28_5ceb_2fed_040dn,0x8bf7_7d4b_c59b_35b1n ],// 10^-391
+    [ -1299n,0x8bb1_61f9_aded_14b4n,0x5ef9_3a12_fdf4_2288n,0x777a_ae4f_5b81_018fn ],// 10^-390
+    [ -1296n,0xae9d_ba78_1968_59e1n,0x76b7_8897_bd71_2b2an,0x9559_59e3_3261_41f2n ],// 10^-389
+    [ -1293n,0xda45_2916_1fc2_7059n,0xd465_6abd_accd_75f5n,0x3aaf_b05b_fef9_926fn ],// 10^-388
+    [ -1289n,0x886b_39ad_d3d9_8638n,0x24bf_62b6_8c00_69b9n,0x44ad_ce39_7f5b_fb85n ],// 10^-387
+    [ -1286n,0xaa86_0819_48cf_e7c6n,0x2def_3b64_2f00_8427n,0x95d9_41c7_df32_fa67n ],// 10^-386
+    [ -1283n,0xd527_8a1f_9b03_e1b7n,0xb96b_0a3d_3ac0_a531n,0x7b4f_9239_d6ff_b901n ],// 10^-385
+    [ -1279n,0x8538_b653_c0e2_6d12n,0xd3e2_e666_44b8_673en,0xed11_bb64_265f_d3a0n ],// 10^-384
+    [ -1276n,0xa686_e3e8_b11b_0857n,0x88db_9fff_d5e6_810en,0xa856_2a3d_2ff7_c888n ],// 10^-383
+    [ -1273n,0xd028_9ce2_dd61_ca6dn,0x6b12_87ff_cb60_2152n,0x526b_b4cc_7bf5_baabn ],// 10^-382
+    [ -1269n,0x8219_620d_ca5d_1e84n,0x62eb_94ff_df1c_14d3n,0x7383_50ff_cd79_94aan ],// 10^-381
+    [ -1266n,0xa29f_ba91_3cf4_6625n,0x7ba6_7a3f_d6e3_1a08n,0x5064_253f_c0d7_f9d5n ],// 10^-380
+    [ -1263n,0xcb47_a935_8c31_7faen,0xda90_18cf_cc9b_e08an,0x647d_2e8f_b10d_f84bn ],// 10^-379
+    [ -1260n,0xfe19_9382_ef3d_df9an,0x9134_1f03_bfc2_d8acn,0xfd9c_7a33_9d51_765dn ],// 10^-378
+    [ -1256n,0x9ecf_fc31_d586_abc0n,0x9ac0_9362_57d9_c76cn,0x1e81_cc60_4252_e9fan ],// 10^-377
+    [ -1253n,0xc683_fb3e_4ae8_56b0n,0xc170_b83a_edd0_3947n,0x2622_3f78_52e7_a479n ],// 10^-376
+    [ -1250n,0xf824_fa0d_dda2_6c5cn,0xf1cc_e649_a944_4798n,0xefaa_cf56_67a1_8d97n ],// 10^-375
+    [ -1246n,0x9b17_1c48_aa85_83ban,0x1720_0fee_09ca_acbfn,0x95ca_c196_00c4_f87en ],// 10^-374
+    [ -1243n,0xc1dc_e35a_d526_e4a8n,0x9ce8_13e9_8c3d_57efn,0x7b3d_71fb_80f6_369en ],// 10^-373
+    [ -1240n,0xf254_1c31_8a70_9dd2n,0xc422_18e3_ef4c_adebn,0x5a0c_ce7a_6133_c446n ],// 10^-372
+    [ -1236n,0x9774_919e_f686_62a3n,0xba95_4f8e_758f_ecb3n,0x1848_010c_7cc0_5aabn ],// 10^-371
+    [ -1233n,0xbd51_b606_b427_fb4cn,0xa93a_a372_12f3_e7dfn,0xde5a_014f_9bf0_7156n ],// 10^-370
+    [ -1230n,0xeca6_2388_6131_fa1fn,0xd389_4c4e_97b0_e1d7n,0xd5f0_81a3_82ec_8dacn ],// 10^-369
+    [ -1226n,0x93e7_d635_3cbf_3c53n,0xe435_cfb1_1ece_8d26n,0xe5b6_5106_31d3_d88bn ],// 10^-368
+    [ -1223n,0xb8e1_cbc2_8bef_0b68n,0xdd43_439d_6682_3070n,0x9f23_e547_be48_ceaen ],// 10^-367
+    [ -1220n,0xe71a_3eb3_2eea_ce43n,0x1494_1484_c022_bc8cn,0xc6ec_de99_addb_025an ],// 10^-366
+    [ -1216n,0x9070_672f_fd52_c0e9n,0xecdc_8cd2_f815_b5d7n,0xfc54_0b20_0ca8_e178n ],// 10^-365
+    [ -1213n,0xb48c_80fb_fca7_7124n,0x6813_b007_b61b_234dn,0xfb69_0de8_0fd3_19d6n ],// 10^-364
+    [ -1210n,0xe1af_a13a_fbd1_4d6dn,0x8218_9c09_a3a1_ec21n,0x7a43_5162_13c7_e04cn ],// 10^-363
+    [ -1206n,0x8d0d_c4c4_dd62_d064n,0x714f_6186_0645_3394n,0xec6a_12dd_4c5c_ec2fn ],// 10^-362
+    [ -1203n,0xb051_35f6_14bb_847dn,0x8da3_39e7_87d6_807an,0x2784_9794_9f74_273bn ],// 10^-361
+    [ -1200n,0xdc65_8373_99ea_659cn,0xf10c_0861_69cc_2098n,0xb165_bd79_c751_310an ],// 10^-360
+    [ -1196n,0x89bf_7228_4032_7f82n,0x16a7_853c_e21f_945fn,0x6edf_966c_1c92_bea6n ],// 10^-359
+    [ -1193n,0xac2f_4eb2_503f_1f62n,0x9c51_668c_1aa7_7977n,0x4a97_7c07_23b7_6e50n ],// 10^-358
+    [ -1190n,0xd73b_225e_e44e_e73bn,0x4365_c02f_2151_57d5n,0x1d3d_5b08_eca5_49e4n ],// 10^-357
+    [ -1186n,0x8684_f57b_4eb1_5085n,0x0a1f_981d_74d2_d6e5n,0x3246_58e5_93e7_4e2en ],// 10^-356
+    [ -1183n,0xa826_32da_225d_a4a6n,0x4ca7_7e24_d207_8c9en,0x7ed7_ef1e_f8e1_21ban ],// 10^-355
+    [ -1180n,0xd22f_bf90_aaf5_0dcfn,0xdfd1_5dae_0689_6fc6n,0x1e8d_eae6_b719_6a28n ],// 10^-354
+    [ -1176n,0x835d_d7ba_6ad9_28a1n,0xebe2_da8c_c415_e5dbn,0xd318_b2d0_326f_e259n ],// 10^-353
+    [ -1173n,0xa435_4da9_058f_72can,0x66db_912f_f51b_5f52n,0xc7de_df84_3f0b_daefn ],// 10^-352
+    [ -1170n,0xcd42_a113_46f3_4f7dn,0x0092_757b_f262_3727n,0x79d6_9765_4ece_d1abn ],// 10^-351
+    [ -1166n,0x8049_a4ac_0c58_11aen,0x205b_896d_777d_6278n,0xac26_1e9f_5141_430bn ],// 10^-350
+    [ -1163n,0xa05c_0dd7_0f6e_1619n,0xa872_6bc8_d55c_bb16n,0xd72f_a647_2591_93cen ],// 10^-349
+    [ -1160n,0xc873_114c_d349_9ba0n,0x128f_06bb_0ab3_e9dcn,0x8cfb_8fd8_eef5_f8c1n ],// 10^-348
+    [ -1157n,0xfa8f_d5a0_081c_0288n,0x1732_c869_cd60_e453n,0xb03a_73cf_2ab3_76f2n ],// 10^-347
+    [ -1153n,0x9c99_e584_0511_8195n,0x0e7f_bd42_205c_8eb4n,0x4e24_8861_7ab0_2a57n ],// 10^-346
+    [ -1150n,0xc3c0_5ee5_0655_e1fan,0x521f_ac92_a873_b261n,0x61ad_aa79_d95c_34edn ],// 10^-345
+    [ -1147n,0xf4b0_769e_47eb_5a78n,0xe6a7_97b7_5290_9ef9n,0xba19_1518_4fb3_4228n ],// 10^-344
+    [ -1143n,0x98ee_4a22_ecf3_188bn,0x9028_bed2_939a_635cn,0x144f_ad2f_31d0_0959n ],// 10^-343
+    [ -1140n,0xbf29_dcab_a82f_deaen,0x7432_ee87_3880_fc33n,0x1963_987a_fe44_0bafn ],// 10^-342
+    [ -1137n,0xeef4_53d6_923b_d65an,0x113f_aa29_06a1_3b3fn,0xdfbc_7e99_bdd5_0e9bn ],// 10^-341
+    [ -1133n,0x9558_b466_1b65_65f8n,0x4ac7_ca59_a424_c507n,0xebd5_cf20_16a5_2921n ],// 10^-340
+    [ -1130n,0xbaae_e17f_a23e_bf76n,0x5d79_bcf0_0d2d_f649n,0xe6cb_42e8_1c4e_7369n ],// 10^-339
+    [ -1127n,0xe95a_99df_8ace_6f53n,0xf4d8_2c2c_1079_73dcn,0x607e_13a2_2362_1044n ],// 10^-338
+    [ -1123n,0x91d8_a02b_b6c1_0594n,0x7907_1b9b_8a4b_e869n,0xbc4e_cc45_561d_4a2an ],// 10^-337
+    [ -1120n,0xb64e_c836_a471_46f9n,0x9748_e282_6cde_e284n,0x2b62_7f56_aba4_9cb5n ],// 10^-336
+    [ -1117n,0xe3e2_7a44_4d8d_98b7n,0xfd1b_1b23_0816_9b25n,0x363b_1f2c_568d_c3e2n ],// 10^-335
+    [ -1113n,0x8e6d_8c6a_b078_7f72n,0xfe30_f0f5_e50e_20f7n,0x41e4_f37b_b618_9a6dn ],// 10^-334
+    [ -1110n,0xb208_ef85_5c96_9f4fn,0xbdbd_2d33_5e51_a935n,0x125e_305a_a39e_c108n ],// 10^-333
+    [ -1107n,0xde8b_2b66_b3bc_4723n,0xad2c_7880_35e6_1382n,0x56f5_bc71_4c86_714bn ],// 10^-332
+    [ -1103n,0x8b16_fb20_3055_ac76n,0x4c3b_cb50_21af_cc31n,0x7659_95c6_cfd4_06cen ],// 10^-331
+    [ -1100n,0xaddc_b9e8_3c6b_1793n,0xdf4a_be24_2a1b_bf3dn,0xd3ef_fb38_83c9_0882n ],// 10^-330
+    [ -1097n,0xd953_e862_4b85_dd78n,0xd71d_6dad_34a2_af0dn,0x48eb_fa06_a4bb_4aa3n ],// 10^-329
+    [ -1093n,0x87d4_713d_6f33_aa6bn,0x8672_648c_40e5_ad68n,0x4d93_7c44_26f5_0ea6n ],// 10^-328
+    [ -1090n,0xa9c9_8d8c_cb00_9506n,0x680e_fdaf_511f_18c2n,0x60f8_5b55_30b2_524fn ],// 10^-327
+    [ -1087n,0xd43b_f0ef_fdc0_ba48n,0x0212_bd1b_2566_def2n,0xf936_722a_7cde_e6e3n ],// 10^-326
+    [ -1083n,0x84a5_7695_fe98_746dn,0x014b_b630_f760_4b57n,0xdbc2_075a_8e0b_504en ],// 10^-325
+    [ -1080n,0xa5ce_d43b_7e3e_9188n,0x419e_a3bd_3538_5e2dn,0xd2b2_8931_318e_2461n ],// 10^-324
+    [ -1077n,0xcf42_894a_5dce_35ean,0x5206_4cac_8286_75b9n,0x475f_2b7d_7df1_ad7an ],// 10^-323
+    [ -1073n,0x8189_95ce_7aa0_e1b2n,0x7343_efeb_d194_0993n,0xcc9b_7b2e_6eb7_0c6cn ],// 10^-322
+    [ -1070n,0xa1eb_fb42_1949_1a1fn,0x1014_ebe6_c5f9_0bf8n,0xbfc2_59fa_0a64_cf87n ],// 10^-321
+    [ -1067n,0xca66_fa12_9f9b_60a6n,0xd41a_26e0_7777_4ef6n,0xefb2_f078_8cfe_0369n ],// 10^-320
+    [ -1064n,0xfd00_b897_4782_38d0n,0x8920_b098_9555_22b4n,0xab9f_ac96_b03d_8443n ],// 10^-319
+    [ -1060n,0x9e20_735e_8cb1_6382n,0x55b4_6e5f_5d55_35b0n,0xeb43_cbde_2e26_72aan ],// 10^-318
+    [ -1057n,0xc5a8_9036_2fdd_bc62n,0xeb21_89f7_34aa_831dn,0x2614_bed5_b9b0_0f54n ],// 10^-317
+    [ -1054n,0xf712_b443_bbd5_2b7bn,0xa5e9_ec75_01d5_23e4n,0x6f99_ee8b_281c_132an ],// 10^-316
+    [ -1050n,0x9a6b_b0aa_5565_3b2dn,0x47b2_33c9_2125_366en,0xc5c0_3516_f911_8bfan ],// 10^-315
+    [ -1047n,0xc106_9cd4_eabe_89f8n,0x999e_c0bb_696e_840an,0x7730_425c_b755_eef8n ],// 10^-314
+    [ -1044n,0xf148_440a_256e_2c76n,0xc006_70ea_43ca_250dn,0x14fc_52f3_e52b_6ab7n ],// 10^-313
+    [ -1040n,0x96cd_2a86_5764_dbcan,0x3804_0692_6a5e_5728n,0x2d1d_b3d8_6f3b_22b2n ],// 10^-312
+    [ -1037n,0xbc80_7527_ed3e_12bcn,0xc605_0837_04f5_ecf2n,0x3865_20ce_8b09_eb5fn ],// 10^-311
+    [ -1034n,0xeba0_9271_e88d_976bn,0xf786_4a44_c633_682en,0xc67e_6902_2dcc_6636n ],// 10^-310
+    [ -1030n,0x9344_5b87_3158_7ea3n,0x7ab3_ee6a_fbe0_211dn,0x3c0f_01a1_5c9f_bfe2n ],// 10^-309
+    [ -1027n,0xb815_7268_fdae_9e4cn,0x5960_ea05_bad8_2964n,0x8b12_c209_b3c7_afdan ],// 10^-308
+    [ -1024n,0xe61a_cf03_3d1a_45dfn,0x6fb9_2487_298e_33bdn,0xadd7_728c_20b9_9bd1n ],// 10^-307
+    [ -1020n,0x8fd0_c162_0630_6babn,0xa5d3_b6d4_79f8_e056n,0x8ca6_a797_9474_0162n ],// 10^-306
+    [ -1017n,0xb3c4_f1ba_87bc_8696n,0x8f48_a489_9877_186cn,0x2fd0_517d_7991_01bbn ],// 10^-305
+    [ -1014n,0xe0b6_2e29_29ab_a83cn,0x331a_cdab_fe94_de87n,0x3bc4_65dc_d7f5_422an ],// 10^-304
+    [ -1010n,0x8c71_dcd9_ba0b_4925n,0x9ff0_c08b_7f1d_0b14n,0x855a_bfaa_06f9_495an ],// 10^-303
+    [ -1007n,0xaf8e_5410_288e_1b6fn,0x07ec_f0ae_5ee4_4dd9n,0xa6b1_6f94_88b7_9bb1n ],// 10^-302
+    [ -1004n,0xdb71_e914_32b1_a24an,0xc9e8_2cd9_f69d_6150n,0x105d_cb79_aae5_829dn ],// 10^-301
+    [ -1000n,0x8927_31ac_9faf_056en,0xbe31_1c08_3a22_5cd2n,0x0a3a_9f2c_0acf_71a2n ],// 10^-300
+    [ -997n,0xab70_fe17_c79a_c6can,0x6dbd_630a_48aa_f406n,0x8cc9_46f7_0d83_4e0bn ],// 10^-299
+    [ -994n,0xd64d_3d9d_b981_787dn,0x092c_bbcc_dad5_b108n,0x2ffb_98b4_d0e4_218dn ],// 10^-298
+    [ -990n,0x85f0_4682_93f0_eb4en,0x25bb_f560_08c5_8ea5n,0x1dfd_3f71_028e_94f8n ],// 10^-297
+    [ -987n,0xa76c_5823_38ed_2621n,0xaf2a_f2b8_0af6_f24en,0x657c_8f4d_4332_3a36n ],// 10^-296
+    [ -984n,0xd147_6e2c_0728_6faan,0x1af5_af66_0db4_aee1n,0xfedb_b320_93fe_c8c4n ],// 10^-295
+    [ -980n,0x82cc_a4db_8479_45can,0x50d9_8d9f_c890_ed4dn,0x3f49_4ff4_5c7f_3d7an ],// 10^-294
+    [ -977n,0xa37f_ce12_6597_973cn,0xe50f_f107_bab5_28a0n,0x8f1b_a3f1_739f_0cd9n ],// 10^-293
+    [ -974n,0xcc5f_c196_fefd_7d0cn,0x1e53_ed49_a962_72c8n,0xb2e2_8ced_d086_d010n ],// 10^-292
+    [ -971n,0xff77_b1fc_bebc_dc4fn,0x25e8_e89c_13bb_0f7an,0xdf9b_3029_44a8_8414n ],// 10^-291
+    [ -967n,0x9faa_cf3d_f736_09b1n,0x77b1_9161_8c54_e9acn,0xcbc0_fe19_cae9_528cn ],// 10^-290
+    [ -964n,0xc795_830d_7503_8c1dn,0xd59d_f5b9_ef6a_2417n,0xfeb1_3da0_3da3_a72fn ],// 10^-289
+    [ -961n,0xf97a_e3d0_d244_6f25n,0x4b05_7328_6b44_ad1dn,0xfe5d_8d08_4d0c_90fbn ],// 10^-288
+    [ -957n,0x9bec_ce62_836a_c577n,0x4ee3_67f9_430a_ec32n,0xbefa_7825_3027_da9dn ],// 10^-287
+    [ -954n,0xc2e8_01fb_2445_76d5n,0x229c_41f7_93cd_a73fn,0x6eb9_162e_7c31_d144n ],// 10^-286
+    [ -951n,0xf3a2_0279_ed56_d48an,0x6b43_5275_78c1_110fn,0x4a67_5bba_1b3e_4595n ],// 10^-285
+    [ -947n,0x9845_418c_3456_44d6n,0x830a_1389_6b78_aaa9n,0x8e80_9954_5106_eb7dn ],// 10^-284
+    [ -944n,0xbe56_91ef_416b_d60cn,0x23cc_986b_c656_d553n,0xf220_bfa9_6548_a65cn ],// 10^-283
+    [ -941n,0xedec_366b_11c6_cb8fn,0x2cbf_be86_b7ec_8aa8n,0xeea8_ef93_be9a_cff4n ],// 10^-282
+    [ -937n,0x94b3_a202_eb1c_3f39n,0x7bf7_d714_32f3_d6a9n,0x9529_95bc_5720_c1f8n ],// 10^-281
+    [ -934n,0xb9e0_8a83_a5e3_4f07n,0xdaf5_ccd9_3fb0_cc53n,0xfa73_fb2b_6ce8_f276n ],// 10^-280
+    [ -931n,0xe858_ad24_8f5c_22c9n,0xd1b3_400f_8f9c_ff68n,0xf910_f9f6_4823_2f14n ],// 10^-279
+    [ -927n,0x9137_6c36_d999_95ben,0x2310_0809_b9c2_1fa1n,0x9baa_9c39_ed15_fd6cn ],// 10^-278
+    [ -924n,0xb585_4744_8fff_fb2dn,0xabd4_0a0c_2832_a78an,0x0295_4348_685b_7cc7n ],// 10^-277
+    [ -921n,0xe2e6_9915_b3ff_f9f9n,0x16c9_0c8f_323f_516cn,0x833a_941a_8272_5bf9n ],// 10^-276
+    [ -917n,0x8dd0_1fad_907f_fc3bn,0xae3d_a7d9_7f67_92e3n,0xd204_9c90_9187_797cn ],// 10^-275
+    [ -914n,0xb144_2798_f49f_fb4an,0x99cd_11cf_df41_779cn,0xc685_c3b4_b5e9_57dbn ],// 10^-274
+    [ -911n,0xdd95_317f_31c7_fa1dn,0x4040_5643_d711_d583n,0xf827_34a1_e363_add2n ],// 10^-273
+    [ -907n,0x8a7d_3eef_7f1c_fc52n,0x4828_35ea_666b_2572n,0x7b18_80e5_2e1e_4ca3n ],// 10^-272
+    [ -904n,0xad1c_8eab_5ee4_3b66n,0xda32_4365_0005_eecfn,0x19de_a11e_79a5_dfccn ],// 10^-271
+    [ -901n,0xd863_b256_369d_4a40n,0x90be_d43e_4007_6a82n,0xe056_4966_180f_57bfn ],// 10^-270
+    [ -897n,0x873e_4f75_e222_4e68n,0x5a77_44a6_e804_a291n,0xcc35_eddf_cf09_96d7n ],// 10^-269
+    [ -894n,0xa90d_e353_5aaa_e202n,0x7115_15d0_a205_cb36n,0x3f43_6957_c2cb_fc8dn ],// 10^-268
+    [ -891n,0xd351_5c28_3155_9a83n,0x0d5a_5b44_ca87_3e03n,0xcf14_43ad_b37e_fbb0n ],// 10^-267
+    [ -887n,0x8412_d999_1ed5_8091n,0xe858_790a_fe94_86c2n,0x616c_aa4c_902f_5d4en ],// 10^-266
+    [ -884n,0xa517_8fff_668a_e0b6n,0x626e_974d_be39_a872n,0xf9c7_d4df_b43b_34a2n ],// 10^-265
+    [ -881n,0xce5d_73ff_402d_98e3n,0xfb0a_3d21_2dc8_128fn,0xb839_ca17_a14a_01can ],// 10^-264
+    [ -877n,0x80fa_687f_881c_7f8en,0x7ce6_6634_bc9d_0b99n,0xd324_1e4e_c4ce_411en ],// 10^-263
+    [ -874n,0xa139_029f_6a23_9f72n,0x1c1f_ffc1_ebc4_4e80n,0x47ed_25e2_7601_d166n ],// 10^-262
+    [ -871n,0xc987_4347_44ac_874en,0xa327_ffb2_66b5_6220n,0x59e8_6f5b_1382_45bfn ],// 10^-261
+    [ -868n,0xfbe9_1419_15d7_a922n,0x4bf1_ff9f_0062_baa8n,0x7062_8b31_d862_d72fn ],// 10^-260
+    [ -864n,0x9d71_ac8f_ada6_c9b5n,0x6f77_3fc3_603d_b4a9n,0x463d_96ff_273d_c67dn ],// 10^-259
+    [ -861n,0xc4ce_17b3_9910_7c22n,0xcb55_0fb4_384d_21d3n,0x97cc_fcbe_f10d_381dn ],// 10^-258
+    [ -858n,0xf601_9da0_7f54_9b2bn,0x7e2a_53a1_4660_6a48n,0x7dc0_3bee_ad50_8624n ],// 10^-257
+    [ -854n,0x99c1_0284_4f94_e0fbn,0x2eda_7444_cbfc_426dn,0x4e98_2575_2c52_53d6n ],// 10^-256
+    [ -851n,0xc031_4325_637a_1939n,0xfa91_1155_fefb_5308n,0xa23e_2ed2_7766_e8ccn ],// 10^-255
+    [ -848n,0xf03d_93ee_bc58_9f88n,0x7935_55ab_7eba_27can,0xcacd_ba87_1540_a2ffn ],// 10^-254
+    [ -844n,0x9626_7c75_35b7_63b5n,0x4bc1_558b_2f34_58den,0xbec0_9494_6d48_65dfn ],// 10^-253
+    [ -841n,0xbbb0_1b92_8325_3ca2n,0x9eb1_aaed_fb01_6f16n,0x6e70_b9b9_889a_7f57n ],// 10^-252
+    [ -838n,0xea9c_2277_23ee_8bcbn,0x465e_15a9_79c1_cadcn,0x0a0c_e827_eac1_1f2dn ],// 10^-251
+    [ -834n,0x92a1_958a_7675_175fn,0x0bfa_cd89_ec19_1ec9n,0x8648_1118_f2b8_b37cn ],// 10^-250
+    [ -831n,0xb749_faed_1412_5d36n,0xcef9_80ec_671f_667bn,0xe7da_155f_2f66_e05bn ],// 10^-249
+    [ -828n,0xe51c_79a8_5916_f484n,0x82b7_e127_80e7_401an,0xe1d0_9ab6_fb40_9872n ],// 10^-248
+    [ -824n,0x8f31_cc09_37ae_58d2n,0xd1b2_ecb8_b090_8810n,0xcd22_60b2_5d08_5f47n ],// 10^-247
+    [ -821n,0xb2fe_3f0b_8599_ef07n,0x861f_a7e6_dcb4_aa15n,0x006a_f8de_f44a_7719n ],// 10^-246
+    [ -818n,0xdfbd_cece_6700_6ac9n,0x67a7_91e0_93e1_d49an,0x4085_b716_b15d_14e0n ],// 10^-245
+    [ -814n,0x8bd6_a141_0060_42bdn,0xe0c8_bb2c_5c6d_24e0n,0x6853_926e_2eda_2d0cn ],// 10^-244
+    [ -811n,0xaecc_4991_4078_536dn,0x58fa_e9f7_7388_6e18n,0x8268_7709_ba90_b84fn ],// 10^-243
+    [ -808n,0xda7f_5bf5_9096_6848n,0xaf39_a475_506a_899en,0xa302_94cc_2934_e662n ],// 10^-242
+    [ -804n,0x888f_9979_7a5e_012dn,0x6d84_06c9_5242_9603n,0x25e1_9cff_99c1_0ffdn ],// 10^-241
+    [ -801n,0xaab3_7fd7_d8f5_8178n,0xc8e5_087b_a6d3_3b83n,0xef5a_043f_8031_53fdn ],// 10^-240
+    [ -798n,0xd560_5fcd_cf32_e1d6n,0xfb1e_4a9a_9088_0a64n,0xeb30_854f_603d_a8fcn ],// 10^-239
+    [ -794n,0x855c_3be0_a17f_cd26n,0x5cf2_eea0_9a55_067fn,0x12fe_5351_9c26_899dn ],// 10^-238
+    [ -791n,0xa6b3_4ad8_c9df_c06fn,0xf42f_aa48_c0ea_481en,0xd7bd_e826_0330_2c05n ],// 10^-237
+    [ -788n,0xd060_1d8e_fc57_b08bn,0xf13b_94da_f124_da26n,0x8dad_622f_83fc_3706n ],// 10^-236
+    [ -784n,0x823c_1279_5db6_ce57n,0x76c5_3d08_d6b7_0858n,0x188c_5d5d_b27d_a264n ],// 10^-235
+    [ -781n,0xa2cb_1717_b524_81edn,0x5476_8c4b_0c64_ca6en,0x1eaf_74b5_1f1d_0afdn ],// 10^-234
+    [ -778n,0xcb7d_dcdd_a26d_a268n,0xa994_2f5d_cf7d_fd09n,0xa65b_51e2_66e4_4dbcn ],// 10^-233
+    [ -775n,0xfe5d_5415_0b09_0b02n,0xd3f9_3b35_435d_7c4cn,0x0ff2_265b_009d_612bn ],// 10^-232
+    [ -771n,0x9efa_548d_26e5_a6e1n,0xc47b_c501_4a1a_6dafn,0x89f7_57f8_e062_5cbbn ],// 10^-231
+    [ -768n,0xc6b8_e9b0_709f_109an,0x359a_b641_9ca1_091bn,0x6c75_2df7_187a_f3e9n ],// 10^-230
+    [ -765n,0xf867_241c_8cc6_d4c0n,0xc301_63d2_03c9_4b62n,0x4792_7974_de99_b0e4n ],// 10^-229
+    [ -761n,0x9b40_7691_d7fc_44f8n,0x79e0_de63_425d_cf1dn,0x6cbb_8be9_0b20_0e8en ],// 10^-228
+    [ -758n,0xc210_9436_4dfb_5636n,0x9859_15fc_12f5_42e4n,0xc7ea_6ee3_4de8_1232n ],// 10^-227
+    [ -755n,0xf294_b943_e17a_2bc4n,0x3e6f_5b7b_17b2_939dn,0xf9e5_0a9c_2162_16bfn ],// 10^-226
+    [ -751n,0x979c_f3ca_6cec_5b5an,0xa705_992c_eecf_9c42n,0xbc2f_26a1_94dd_4e37n ],// 10^-225
+    [ -748n,0xbd84_30bd_0827_7231n,0x50c6_ff78_2a83_8353n,0x6b3a_f049_fa14_a1c5n ],// 10^-224
+    [ -745n,0xece5_3cec_4a31_4ebdn,0xa4f8_bf56_3524_6428n,0x4609_ac5c_7899_ca36n ],// 10^-223
+    [ -741n,0x940f_4613_ae5e_d136n,0x871b_7795_e136_be99n,0x2bc6_0bb9_cb60_1e62n ],// 10^-222
+    [ -738n,0xb913_1798_99f6_8584n,0x28e2_557b_5984_6e3fn,0x76b7_8ea8_3e38_25fan ],// 10^-221
+    [ -735n,0xe757_dd7e_c074_26e5n,0x331a_eada_2fe5_89cfn,0x5465_7252_4dc6_2f79n ],// 10^-220
+    [ -731n,0x9096_ea6f_3848_984fn,0x3ff0_d2c8_5def_7621n,0x94bf_6773_709b_ddabn ],// 10^-219
+    [ -728n,0xb4bc_a50b_065a_be63n,0x0fed_077a_756b_53a9n,0xf9ef_4150_4cc2_d516n ],// 10^-218
+    [ -725n,0xe1eb_ce4d_c7f1_6dfbn,0xd3e8_4959_12c6_2894n,0x786b_11a4_5ff3_8a5cn ],// 10^-217
+    [ -721n,0x8d33_60f0_9cf6_e4bdn,0x6471_2dd7_abbb_d95cn,0xcb42_eb06_bbf8_3679n ],// 10^-216
+    [ -718n,0xb080_392c_c434_9decn,0xbd8d_794d_96aa_cfb3n,0xfe13_a5c8_6af6_4418n ],// 10^-215
+    [ -715n,0xdca0_4777_f541_c567n,0xecf0_d7a0_fc55_83a0n,0xfd98_8f3a_85b3_d51en ],// 10^-214
+    [ -711n,0x89e4_2caa_f949_1b60n,0xf416_86c4_9db5_7244n,0x9e7f_5984_9390_6532n ],// 10^-213
+    [ -708n,0xac5d_37d5_b79b_6239n,0x311c_2875_c522_ced5n,0xc61f_2fe5_b874_7e7fn ],// 10^-212
+    [ -705n,0xd774_85cb_2582_3ac7n,0x7d63_3293_366b_828bn,0x37a6_fbdf_2691_9e1fn ],// 10^-211
+    [ -701n,0x86a8_d39e_f771_64bcn,0xae5d_ff9c_0203_3197n,0x02c8_5d6b_781b_02d3n ],// 10^-210
+    [ -698n,0xa853_0886_b54d_bdebn,0xd9f5_7f83_0283_fdfcn,0xc37a_74c6_5621_c388n ],// 10^-209
+    [ -695n,0xd267_caa8_62a1_2d66n,0xd072_df63_c324_fd7bn,0xf459_11f7_ebaa_346an ],// 10^-208
+    [ -691n,0x8380_dea9_3da4_bc60n,0x4247_cb9e_59f7_1e6dn,0x78b7_ab3a_f34a_60c2n ],// 10^-207
+    [ -688n,0xa461_1653_8d0d_eb78n,0x52d9_be85_f074_e608n,0xd6e5_9609_b01c_f8f3n ],// 10^-206
+    [ -685n,0xcd79_5be8_7051_6656n,0x6790_2e27_6c92_1f8bn,0x0c9e_fb8c_1c24_3730n ],// 10^-205
+    [ -681n,0x806b_d971_4632_dff6n,0x00ba_1cd8_a3db_53b6n,0xe7e3_5d37_9196_a27en ],// 10^-204
+    [ -678n,0xa086_cfcd_97bf_97f3n,0x80e8_a40e_ccd2_28a4n,0xa1dc_3485_75fc_4b1dn ],// 10^-203
+    [ -675n,0xc8a8_83c0_fdaf_7df0n,0x6122_cd12_8006_b2cdn,0xca53_41a6_d37b_5de5n ],// 10^-202
+    [ -672n,0xfad2_a4b1_3d1b_5d6cn,0x796b_8057_2008_5f81n,0x3ce8_1210_885a_355en ],// 10^-201
+    [ -668n,0x9cc3_a6ee_c631_1a63n,0xcbe3_3036_7405_3bb0n,0xc611_0b4a_5538_615bn ],// 10^-200
+    [ -665n,0xc3f4_90aa_77bd_60fcn,0xbedb_fc44_1106_8a9cn,0xf795_4e1c_ea86_79b1n ],// 10^-199
+    [ -662n,0xf4f1_b4d5_15ac_b93bn,0xee92_fb55_1548_2d44n,0x357a_a1a4_2528_181en ],// 10^-198
+    [ -658n,0x9917_1105_2d8b_f3c5n,0x751b_dd15_2d4d_1c4an,0xa16c_a506_9739_0f12n ],// 10^-197
+    [ -655n,0xbf5c_d546_78ee_f0b6n,0xd262_d45a_78a0_635dn,0x49c7_ce48_3d07_52d7n ],// 10^-196
+    [ -652n,0xef34_0a98_172a_ace4n,0x86fb_8971_16c8_7c34n,0x9c39_c1da_4c49_278dn ],// 10^-195
+    [ -648n,0x9580_869f_0e7a_ac0en,0xd45d_35e6_ae3d_4da0n,0xe1a4_1928_6fad_b8b8n ],// 10^-194
+    [ -645n,0xbae0_a846_d219_5712n,0x8974_8360_59cc_a109n,0x1a0d_1f72_8b99_26e6n ],// 10^-193
+    [ -642n,0xe998_d258_869f_acd7n,0x2bd1_a438_703f_c94bn,0x6090_674f_2e7f_70a0n ],// 10^-192
+    [ -638n,0x91ff_8377_5423_cc06n,0x7b63_06a3_4627_ddcfn,0x1c5a_4091_7d0f_a664n ],// 10^-191
+    [ -635n,0xb67f_6455_292c_bf08n,0x1a3b_c84c_17b1_d542n,0xe370_d0b5_dc53_8ffdn ],// 10^-190
+    [ -632n,0xe41f_3d6a_7377_eecan,0x20ca_ba5f_1d9e_4a93n,0x9c4d_04e3_5368_73fcn ],// 10^-189
+    [ -628n,0x8e93_8662_882a_f53en,0x547e_b47b_7282_ee9cn,0x41b0_230e_1421_487dn ],// 10^-188
+    [ -625n,0xb238_67fb_2a35_b28dn,0xe99e_619a_4f23_aa43n,0x521c_2bd1_9929_9a9dn ],// 10^-187
+    [ -622n,0xdec6_81f9_f4c3_1f31n,0x6405_fa00_e2ec_94d4n,0x26a3_36c5_ff74_0144n ],// 10^-186
+    [ -618n,0x8b3c_113c_38f9_f37en,0xde83_bc40_8dd3_dd04n,0x9826_023b_bfa8_80can ],// 10^-185
+    [ -615n,0xae0b_158b_4738_705en,0x9624_ab50_b148_d445n,0xbe2f_82ca_af92_a0fdn ],// 10^-184
+    [ -612n,0xd98d_daee_1906_8c76n,0x3bad_d624_dd9b_0957n,0x2dbb_637d_5b77_493dn ],// 10^-183
+    [ -608n,0x87f8_a8d4_cfa4_17c9n,0xe54c_a5d7_0a80_e5d6n,0x7c95_1e2e_592a_8dc6n ],// 10^-182
+    [ -605n,0xa9f6_d30a_038d_1dbcn,0x5e9f_cf4c_cd21_1f4cn,0x1bba_65b9_ef75_3137n ],// 10^-181
+    [ -602n,0xd474_87cc_8470_652bn,0x7647_c320_0069_671fn,0x22a8_ff28_6b52_7d85n ],// 10^-180
+    [ -598n,0x84c8_d4df_d2c6_3f3bn,0x29ec_d9f4_0041_e073n,0x75a9_9f79_4313_8e73n ],// 10^-179
+    [ -595n,0xa5fb_0a17_c777_cf09n,0xf468_1071_0052_5890n,0x5314_0757_93d8_7210n ],// 10^-178
+    [ -592n,0xcf79_cc9d_b955_c2ccn,0x7182_148d_4066_eeb4n,0x67d9_092d_78ce_8e94n ],// 10^-177
+    [ -588n,0x81ac_1fe2_93d5_99bfn,0xc6f1_4cd8_4840_5530n,0xc0e7_a5bc_6b81_191cn ],// 10^-176
+    [ -585n,0xa217_27db_38cb_002fn,0xb8ad_a00e_5a50_6a7cn,0xf121_8f2b_8661_5f63n ],// 10^-175
+    [ -582n,0xca9c_f1d2_06fd_c03bn,0xa6d9_0811_f0e4_851cn,0x2d69_f2f6_67f9_b73cn ],// 10^-174
+    [ -579n,0xfd44_2e46_88bd_304an,0x908f_4a16_6d1d_a663n,0x38c4_6fb4_01f8_250cn ],// 10^-173
+    [ -575n,0x9e4a_9cec_1576_3e2en,0x9a59_8e4e_0432_87fen,0x037a_c5d0_813b_1727n ],// 10^-172
+    [ -572n,0xc5dd_4427_1ad3_cdban,0x40ef_f1e1_853f_29fdn,0x8459_7744_a189_dcf1n ],// 10^-171
+    [ -569n,0xf754_9530_e188_c128n,0xd12b_ee59_e68e_f47cn,0xe56f_d515_c9ec_542dn ],// 10^-170
+    [ -565n,0x9a94_dd3e_8cf5_78b9n,0x82bb_74f8_3019_58cen,0x0f65_e52d_9e33_b49cn ],// 10^-169
+    [ -562n,0xc13a_148e_3032_d6e7n,0xe36a_5236_3c1f_af01n,0x933f_5e79_05c0_a1c3n ],// 10^-168
+    [ -559n,0xf188_99b1_bc3f_8ca1n,0xdc44_e6c3_cb27_9ac1n,0xf80f_3617_4730_ca34n ],// 10^-167
+    [ -555n,0x96f5_600f_15a7_b7e5n,0x29ab_103a_5ef8_c0b9n,0x3b09_81ce_8c7e_7e61n ],// 10^-166
+    [ -552n,0xbcb2_b812_db11_a5den,0x7415_d448_f6b6_f0e7n,0x89cb_e242_2f9e_1df9n ],// 10^-165
+    [ -549n,0xebdf_6617_91d6_0f56n,0x111b_495b_3464_ad21n,0x6c3e_dad2_bb85_a577n ],// 10^-164
+    [ -545n,0x936b_9fce_bb25_c995n,0xcab1_0dd9_00be_ec34n,0xe3a7_48c3_b533_876an ],// 10^-163
+    [ -542n,0xb846_87c2_69ef_3bfbn,0x3d5d_514f_40ee_a742n,0x1c91_1af4_a280_6945n ],// 10^-162
+    [ -539n,0xe658_29b3_046b_0afan,0x0cb4_a5a3_112a_5112n,0xa3b5_61b1_cb20_8396n ],// 10^-161
+    [ -535n,0x8ff7_1a0f_e2c2_e6dcn,0x47f0_e785_eaba_72abn,0xa651_5d0f_1ef4_523en ],// 10^-160
+    [ -532n,0xb3f4_e093_db73_a093n,0x59ed_2167_6569_0f56n,0x8fe5_b452_e6b1_66cdn ],// 10^-159
+    [ -529n,0xe0f2_18b8_d250_88b8n,0x3068_69c1_3ec3_532cn,0x33df_2167_a05d_c081n ],// 10^-158
+    [ -525n,0x8c97_4f73_8372_5573n,0x1e41_4218_c73a_13fbn,0xa06b_74e0_c43a_9850n ],// 10^-157
+    [ -522n,0xafbd_2350_644e_eacfn,0xe5d1_929e_f908_98fan,0x8886_5218_f549_3e64n ],// 10^-156
+    [ -519n,0xdbac_6c24_7d62_a583n,0xdf45_f746_b74a_bf39n,0x2aa7_e69f_329b_8dfen ],// 10^-155
+    [ -515n,0x894b_c396_ce5d_a772n,0x6b8b_ba8c_328e_b783n,0xbaa8_f023_7fa1_38ben ],// 10^-154
+    [ -512n,0xab9e_b47c_81f5_114fn,0x066e_a92f_3f32_6564n,0xa953_2c2c_5f89_86een ],// 10^-153
+    [ -509n,0xd686_619b_a272_55a2n,0xc80a_537b_0efe_febdn,0xd3a7_f737_776b_e8aan ],// 10^-152
+    [ -505n,0x8613_fd01_4587_7585n,0xbd06_742c_e95f_5f36n,0xa448_fa82_aaa3_716an ],// 10^-151
+    [ -502n,0xa798_fc41_96e9_52e7n,0x2c48_1138_23b7_3704n,0x4d5b_3923_554c_4dc5n ],// 10^-150
+    [ -499n,0xd17f_3b51_fca3_a7a0n,0xf75a_1586_2ca5_04c5n,0x60b2_076c_2a9f_6136n ],// 10^-149
+    [ -495n,0x82ef_8513_3de6_48c4n,0x9a98_4d73_dbe7_22fbn,0x5c6f_44a3_9aa3_9cc1n ],// 10^-148
+    [ -492n,0xa3ab_6658_0d5f_daf5n,0xc13e_60d0_d2e0_ebban,0x338b_15cc_814c_83f2n ],// 10^-147
+    [ -489n,0xcc96_3fee_10b7_d1b3n,0x318d_f905_0799_26a8n,0xc06d_db3f_a19f_a4efn ],// 10^-146
+    [ -486n,0xffbb_cfe9_94e5_c61fn,0xfdf1_7746_497f_7052n,0xf089_520f_8a07_8e2an ],// 10^-145
+    [ -482n,0x9fd5_61f1_fd0f_9bd3n,0xfeb6_ea8b_edef_a633n,0xd655_d349_b644_b8dan ],// 10^-144
+    [ -479n,0xc7ca_ba6e_7c53_82c8n,0xfe64_a52e_e96b_8fc0n,0xcbeb_481c_23d5_e711n ],// 10^-143
+    [ -476n,0xf9bd_690a_1b68_637bn,0x3dfd_ce7a_a3c6_73b0n,0xfee6_1a23_2ccb_60d5n ],// 10^-142
+    [ -472n,0x9c16_61a6_5121_3e2dn,0x06be_a10c_a65c_084en,0x9f4f_d055_fbff_1c85n ],// 10^-141
+    [ -469n,0xc31b_fa0f_e569_8db8n,0x486e_494f_cff3_0a62n,0x4723_c46b_7afe_e3a7n ],// 10^-140
+    [ -466n,0xf3e2_f893_dec3_f126n,0x5a89_dba3_c3ef_ccfan,0xd8ec_b586_59be_9c90n ],// 10^-139
+    [ -462n,0x986d_db5c_6b3a_76b7n,0xf896_2946_5a75_e01cn,0xc793_f173_f817_21dan ],// 10^-138
+    [ -459n,0xbe89_5233_8609_1465n,0xf6bb_b397_f113_5823n,0xf978_edd0_f61c_ea51n ],// 10^-137
+    [ -456n,0xee2b_a6c0_678b_597fn,0x746a_a07d_ed58_2e2cn,0xf7d7_2945_33a4_24e5n ],// 10^-136
+    [ -452n,0x94db_4838_40b7_17efn,0xa8c2_a44e_b457_1cdcn,0x1ae6_79cb_4046_970fn ],// 10^-135
+    [ -449n,0xba12_1a46_50e4_ddebn,0x92f3_4d62_616c_e413n,0x21a0_183e_1058_3cd3n ],// 10^-134
+    [ -446n,0xe896_a0d7_e51e_1566n,0x77b0_20ba_f9c8_1d17n,0xea08_1e4d_946e_4c07n ],// 10^-133
+    [ -442n,0x915e_2486_ef32_cd60n,0x0ace_1474_dc1d_122en,0xf245_12f0_7cc4_ef84n ],// 10^-132
+    [ -439n,0xb5b5_ada8_aaff_80b8n,0x0d81_9992_1324_56ban,0xaed6_57ac_9bf6_2b66n ],// 10^-131
+    [ -436n,0xe323_1912_d5bf_60e6n,0x10e1_fff6_97ed_6c69n,0x5a8b_ed97_c2f3_b63fn ],// 10^-130
+    [ -432n,0x8df5_efab_c597_9c8fn,0xca8d_3ffa_1ef4_63c1n,0xd897_747e_d9d8_51e7n ],// 10^-129
+    [ -429n,0xb173_6b96_b6fd_83b3n,0xbd30_8ff8_a6b1_7cb2n,0x4ebd_519e_904e_6661n ],// 10^-128
+    [ -426n,0xddd0_467c_64bc_e4a0n,0xac7c_b3f6_d05d_dbden,0xe26c_a606_3461_fffan ],// 10^-127
+    [ -422n,0x8aa2_2c0d_bef6_0ee4n,0x6bcd_f07a_423a_a96bn,0x4d83_e7c3_e0bd_3ffcn ],// 10^-126
+    [ -419n,0xad4a_b711_2eb3_929dn,0x86c1_6c98_d2c9_53c6n,0x20e4_e1b4_d8ec_8ffbn ],// 10^-125
+    [ -416n,0xd89d_64d5_7a60_7744n,0xe871_c7bf_077b_a8b7n,0xa91e_1a22_0f27_b3fan ],// 10^-124
+    [ -412n,0x8762_5f05_6c7c_4a8bn,0x1147_1cd7_64ad_4972n,0xc9b2_d055_4978_d07cn ],// 10^-123
+    [ -409n,0xa93a_f6c6_c79b_5d2dn,0xd598_e40d_3dd8_9bcfn,0x7c1f_846a_9bd7_049bn ],// 10^-122
+    [ -406n,0xd389_b478_7982_3479n,0x4aff_1d10_8d4e_c2c3n,0x5b27_6585_42cc_c5c2n ],// 10^-121
+    [ -402n,0x8436_10cb_4bf1_60cbn,0xcedf_722a_5851_39ban,0x18f8_9f73_49bf_fb99n ],// 10^-120
+    [ -399n,0xa543_94fe_1eed_b8fen,0xc297_4eb4_ee65_8828n,0x9f36_c750_1c2f_fa80n ],// 10^-119
+    [ -396n,0xce94_7a3d_a6a9_273en,0x733d_2262_29fe_ea32n,0xc704_7924_233b_f920n ],// 10^-118
+    [ -392n,0x811c_cc66_8829_b887n,0x0806_357d_5a3f_525fn,0xbc62_cbb6_9605_7bb4n ],// 10^-117
+    [ -389n,0xa163_ff80_2a34_26a8n,0xca07_c2dc_b0cf_26f7n,0xab7b_7ea4_3b86_daa1n ],// 10^-116
+    [ -386n,0xc9bc_ff60_34c1_3052n,0xfc89_b393_dd02_f0b5n,0x965a_5e4d_4a68_9149n ],// 10^-115
+    [ -383n,0xfc2c_3f38_41f1_7c67n,0xbbac_2078_d443_ace2n,0xfbf0_f5e0_9d02_b59bn ],// 10^-114
+    [ -379n,0x9d9b_a783_2936_edc0n,0xd54b_944b_84aa_4c0dn,0xdd76_99ac_6221_b181n ],// 10^-113
+    [ -376n,0xc502_9163_f384_a931n,0x0a9e_795e_65d4_df11n,0x54d4_4017_7aaa_1de1n ],// 10^-112
+    [ -373n,0xf643_35bc_f065_d37dn,0x4d46_17b5_ff4a_16d5n,0xaa09_501d_5954_a559n ],// 10^-111
+    [ -369n,0x99ea_0196_163f_a42en,0x504b_ced1_bf8e_4e45n,0x8a45_d212_57d4_e758n ],// 10^-110
+    [ -366n,0xc064_81fb_9bcf_8d39n,0xe45e_c286_2f71_e1d6n,0xecd7_4696_edca_212en ],// 10^-109
+    [ -363n,0xf07d_a27a_82c3_7088n,0x5d76_7327_bb4e_5a4cn,0xa80d_183c_a93c_a979n ],// 10^-108
+    [ -359n,0x964e_858c_91ba_2655n,0x3a6a_07f8_d510_f86fn,0xe908_2f25_e9c5_e9ecn ],// 10^-107
+    [ -356n,0xbbe2_26ef_b628_afean,0x8904_89f7_0a55_368bn,0xe34a_3aef_6437_6467n ],// 10^-106
+    [ -353n,0xeada_b0ab_a3b2_dbe5n,0x2b45_ac74_ccea_842en,0xdc1c_c9ab_3d45_3d80n ],// 10^-105
+    [ -349n,0x92c8_ae6b_464f_c96fn,0x3b0b_8bc9_0012_929dn,0x4991_fe0b_064b_4670n ],// 10^-104
+    [ -346n,0xb77a_da06_17e3_bbcbn,0x09ce_6ebb_4017_3744n,0x9bf6_7d8d_c7de_180cn ],// 10^-103
+    [ -343n,0xe559_9087_9ddc_aabdn,0xcc42_0a6a_101d_0515n,0xc2f4_1cf1_39d5_9e0fn ],// 10^-102
+    [ -339n,0x8f57_fa54_c2a9_eab6n,0x9fa9_4682_4a12_232dn,0x99d8_9216_c425_82c9n ],// 10^-101
+    [ -336n,0xb32d_f8e9_f354_6564n,0x4793_9822_dc96_abf9n,0x004e_b69c_752e_e37cn ],// 10^-100
+    [ -333n,0xdff9_7724_7029_7ebdn,0x5978_7e2b_93bc_56f7n,0x4062_6443_927a_9c5bn ],// 10^-99
+    [ -329n,0x8bfb_ea76_c619_ef36n,0x57eb_4edb_3c55_b65an,0x883d_7eaa_3b8c_a1b9n ],// 10^-98
+    [ -326n,0xaefa_e514_77a0_6b03n,0xede6_2292_0b6b_23f1n,0x2a4c_de54_ca6f_ca27n ],// 10^-97
+    [ -323n,0xdab9_9e59_9588_85c4n,0xe95f_ab36_8e45_ecedn,0x74e0_15e9_fd0b_bcb1n ],// 10^-96
+    [ -319n,0x88b4_02f7_fd75_539bn,0x11db_cb02_18eb_b414n,0x690c_0db2_3e27_55een ],// 10^-95
+    [ -316n,0xaae1_03b5_fcd2_a881n,0xd652_bdc2_9f26_a119n,0x834f_111e_cdb1_2b6an ],// 10^-94
+    [ -313n,0xd599_44a3_7c07_52a2n,0x4be7_6d33_46f0_495fn,0xe422_d566_811d_7645n ],// 10^-93
+    [ -309n,0x857f_cae6_2d84_93a5n,0x6f70_a440_0c56_2ddbn,0xee95_c560_10b2_69ebn ],// 10^-92
+    [ -306n,0xa6df_bd9f_b8e5_b88en,0xcb4c_cd50_0f6b_b952n,0xea3b_36b8_14df_0466n ],// 10^-91
+    [ -303n,0xd097_ad07_a71f_26b2n,0x7e20_00a4_1346_a7a7n,0xa4ca_0466_1a16_c57fn ],// 10^-90
+    [ -299n,0x825e_cc24_c873_782fn,0x8ed4_0066_8c0c_28c8n,0xc6fe_42bf_d04e_3b6fn ],// 10^-89
+    [ -296n,0xa2f6_7f2d_fa90_563bn,0x7289_0080_2f0f_32fan,0xf8bd_d36f_c461_ca4bn ],// 10^-88
+    [ -293n,0xcbb4_1ef9_7934_6bcan,0x4f2b_40a0_3ad2_ffb9n,0xb6ed_484b_b57a_3cden ],// 10^-87
+    [ -290n,0xfea1_26b7_d781_86bcn,0xe2f6_10c8_4987_bfa8n,0x24a8_9a5e_a2d8_cc16n ],// 10^-86
+    [ -286n,0x9f24_b832_e6b0_f436n,0x0dd9_ca7d_2df4_d7c9n,0x16e9_607b_25c7_7f8dn ],// 10^-85
+    [ -283n,0xc6ed_e63f_a05d_3143n,0x9150_3d1c_7972_0dbbn,0x5ca3_b899_ef39_5f71n ],// 10^-84
+    [ -280n,0xf8a9_5fcf_8874_7d94n,0x75a4_4c63_97ce_912an,0x33cc_a6c0_6b07_b74dn ],// 10^-83
+    [ -276n,0x9b69_dbe1_b548_ce7cn,0xc986_afbe_3ee1_1aban,0x605f_e838_42e4_d290n ],// 10^-82
+    [ -273n,0xc244_52da_229b_021bn,0xfbe8_5bad_ce99_6168n,0xf877_e246_539e_0734n ],// 10^-81
+    [ -270n,0xf2d5_6790_ab41_c2a2n,0xfae2_7299_423f_b9c3n,0x3695_dad7_e885_8901n ],// 10^-80
+    [ -266n,0x97c5_60ba_6b09_19a5n,0xdccd_879f_c967_d41an,0x021d_a8c6_f153_75a1n ],// 10^-79
+    [ -263n,0xbdb6_b8e9_05cb_600fn,0x5400_e987_bbc1_c920n,0x82a5_12f8_ada8_5309n ],// 10^-78
+    [ -260n,0xed24_6723_473e_3813n,0x2901_23e9_aab2_3b68n,0xa34e_57b6_d912_67cbn ],// 10^-77
+    [ -256n,0x9436_c076_0c86_e30bn,0xf9a0_b672_0aaf_6521n,0x6610_f6d2_47ab_80dfn ],// 10^-76
+    [ -253n,0xb944_7093_8fa8_9bcen,0xf808_e40e_8d5b_3e69n,0xbf95_3486_d996_6117n ],// 10^-75
+    [ -250n,0xe795_8cb8_7392_c2c2n,0xb60b_1d12_30b2_0e04n,0x2f7a_81a8_8ffb_f95dn ],// 10^-74
+    [ -246n,0x90bd_77f3_483b_b9b9n,0xb1c6_f22b_5e6f_48c2n,0x9dac_9109_59fd_7bdan ],// 10^-73
+    [ -243n,0xb4ec_d5f0_1a4a_a828n,0x1e38_aeb6_360b_1af3n,0x4517_b54b_b07c_dad0n ],// 10^-72
+    [ -240n,0xe228_0b6c_20dd_5232n,0x25c6_da63_c38d_e1b0n,0x165d_a29e_9c9c_1184n ],// 10^-71
+    [ -236n,0x8d59_0723_948a_535fn,0x579c_487e_5a38_ad0en,0x0dfa_85a3_21e1_8af3n ],// 10^-70
+    [ -233n,0xb0af_48ec_79ac_e837n,0x2d83_5a9d_f0c6_d851n,0x9179_270b_ea59_edafn ],// 10^-69
+    [ -230n,0xdcdb_1b27_9818_2244n,0xf8e4_3145_6cf8_8e65n,0xf5d7_70ce_e4f0_691bn ],// 10^-68
+    [ -226n,0x8a08_f0f8_bf0f_156bn,0x1b8e_9ecb_641b_58ffn,0xb9a6_a681_4f16_41b1n ],// 10^-67
+    [ -223n,0xac8b_2d36_eed2_dac5n,0xe272_467e_3d22_2f3fn,0xa810_5021_a2db_d21dn ],// 10^-66
+    [ -220n,0xd7ad_f884_aa87_9177n,0x5b0e_d81d_cc6a_bb0fn,0x9214_642a_0b92_c6a5n ],// 10^-65
+    [ -216n,0x86cc_bb52_ea94_baean,0x98e9_4712_9fc2_b4e9n,0xbb4c_be9a_473b_bc27n ],// 10^-64
+    [ -213n,0xa87f_ea27_a539_e9a5n,0x3f23_98d7_47b3_6224n,0x2a1f_ee40_d90a_ab31n ],// 10^-63
+    [ -210n,0xd29f_e4b1_8e88_640en,0x8eec_7f0d_19a0_3aadn,0x34a7_e9d1_0f4d_55fdn ],// 10^-62
+    [ -206n,0x83a3_eeee_f915_3e89n,0x1953_cf68_3004_24acn,0x40e8_f222_a990_55ben ],// 10^-61
+    [ -203n,0xa48c_eaaa_b75a_8e2bn,0x5fa8_c342_3c05_2dd7n,0x5123_2eab_53f4_6b2dn ],// 10^-60
+    [ -200n,0xcdb0_2555_6531_31b6n,0x3792_f412_cb06_794dn,0x256b_fa56_28f1_85f9n ],// 10^-59
+    [ -196n,0x808e_1755_5f3e_bf11n,0xe2bb_d88b_bee4_0bd0n,0x3763_7c75_d996_f3bbn ],// 10^-58
+    [ -193n,0xa0b1_9d2a_b70e_6ed6n,0x5b6a_ceae_ae9d_0ec4n,0x453c_5b93_4ffc_b0aan ],// 10^-57
+    [ -190n,0xc8de_0475_64d2_0a8bn,0xf245_825a_5a44_5275n,0x568b_7278_23fb_dcd5n ],// 10^-56
+    [ -187n,0xfb15_8592_be06_8d2en,0xeed6_e2f0_f0d5_6712n,0xac2e_4f16_2cfa_d40an ],// 10^-55
+    [ -183n,0x9ced_737b_b6c4_183dn,0x5546_4dd6_9685_606bn,0xab9c_f16d_dc1c_c486n ],// 10^-54
+    [ -180n,0xc428_d05a_a475_1e4cn,0xaa97_e14c_3c26_b886n,0x9684_2dc9_5323_f5a8n ],// 10^-53
+    [ -177n,0xf533_0471_4d92_65dfn,0xd53d_d99f_4b30_66a8n,0x3c25_393b_a7ec_f312n ],// 10^-52
+    [ -173n,0x993f_e2c6_d07b_7fabn,0xe546_a803_8efe_4029n,0x2597_43c5_48f4_17ebn ],// 10^-51
+    [ -170n,0xbf8f_db78_849a_5f96n,0xde98_5204_72bd_d033n,0x6efd_14b6_9b31_1de6n ],// 10^-50
+    [ -167n,0xef73_d256_a5c0_f77cn,0x963e_6685_8f6d_4440n,0x4abc_59e4_41fd_6560n ],// 10^-49
+    [ -163n,0x95a8_6376_2798_9aadn,0xdde7_0013_79a4_4aa8n,0x2eb5_b82e_a93e_5f5cn ],// 10^-48
+    [ -160n,0xbb12_7c53_b17e_c159n,0x5560_c018_580d_5d52n,0x3a63_263a_538d_f733n ],// 10^-47
+    [ -157n,0xe9d7_1b68_9dde_71afn,0xaab8_f01e_6e10_b4a6n,0xc8fb_efc8_e871_74ffn ],// 10^-46
+    [ -153n,0x9226_7121_62ab_070dn,0xcab3_9613_04ca_70e8n,0x3d9d_75dd_9146_e91fn ],// 10^-45
+    [ -150n,0xb6b0_0d69_bb55_c8d1n,0x3d60_7b97_c5fd_0d22n,0x4d04_d354_f598_a367n ],// 10^-44
+    [ -147n,0xe45c_10c4_2a2b_3b05n,0x8cb8_9a7d_b77c_506an,0xe046_082a_32fe_cc41n ],// 10^-43
+    [ -143n,0x8eb9_8a7a_9a5b_04e3n,0x77f3_608e_92ad_b242n,0xcc2b_c51a_5fdf_3fa9n ],// 10^-42
+    [ -140n,0xb267_ed19_40f1_c61cn,0x55f0_38b2_3759_1ed3n,0x7f36_b660_f7d7_0f93n ],// 10^-41
+    [ -137n,0xdf01_e85f_912e_37a3n,0x6b6c_46de_c52f_6688n,0x5f04_63f9_35cc_d378n ],// 10^-40
+    [ -133n,0x8b61_313b_babc_e2c6n,0x2323_ac4b_3b3d_a015n,0x3b62_be7b_c1a0_042bn ],// 10^-39
+    [ -130n,0xae39_7d8a_a96c_1b77n,0xabec_975e_0a0d_081an,0x8a3b_6e1a_b208_0536n ],// 10^-38
+    [ -127n,0xd9c7_dced_53c7_2255n,0x96e7_bd35_8c90_4a21n,0x2cca_49a1_5e8a_0683n ],// 10^-37
+    [ -123n,0x881c_ea14_545c_7575n,0x7e50_d641_77da_2e54n,0xbbfe_6e04_db16_4412n ],// 10^-36
+    [ -120n,0xaa24_2499_6973_92d2n,0xdde5_0bd1_d5d0_b9e9n,0xeafe_0986_11db_d516n ],// 10^-35
+    [ -117n,0xd4ad_2dbf_c3d0_7787n,0x955e_4ec6_4b44_e864n,0x65bd_8be7_9652_ca5cn ],// 10^-34
+    [ -113n,0x84ec_3c97_da62_4ab4n,0xbd5a_f13b_ef0b_113en,0xbf96_7770_bdf3_be79n ],// 10^-33
+    [ -110n,0xa627_4bbd_d0fa_dd61n,0xecb1_ad8a_eacd_d58en,0x6f7c_154c_ed70_ae18n ],// 10^-32
+    [ -107n,0xcfb1_1ead_4539_94ban,0x67de_18ed_a581_4af2n,0x0b5b_1aa0_28cc_d99en ],// 10^-31
+    [ -103n,0x81ce_b32c_4b43_fcf4n,0x80ea_cf94_8770_ced7n,0x4718_f0a4_1980_0802n ],// 10^-30
+    [ -100n,0xa242_5ff7_5e14_fc31n,0xa125_8379_a94d_028dn,0x18df_2ccd_1fe0_0a03n ],// 10^-29
+    [ -97n,0xcad2_f7f5_359a_3b3en,0x096e_e458_13a0_4330n,0x5f16_f800_67d8_0c84n ],// 10^-28
+    [ -94n,0xfd87_b5f2_8300_ca0dn,0x8bca_9d6e_1888_53fcn,0x76dc_b600_81ce_0fa5n ],// 10^-27
+    [ -90n,0x9e74_d1b7_91e0_7e48n,0x775e_a264_cf55_347dn,0xca49_f1c0_5120_c9c7n ],// 10^-26
+    [ -87n,0xc612_0625_7658_9ddan,0x9536_4afe_032a_819dn,0x3cdc_6e30_6568_fc39n ],// 10^-25
+    [ -84n,0xf796_87ae_d3ee_c551n,0x3a83_ddbd_83f5_2204n,0x8c13_89bc_7ec3_3b47n ],// 10^-24
+    [ -80n,0x9abe_14cd_4475_3b52n,0xc492_6a96_7279_3542n,0xd78c_3615_cf3a_050cn ],// 10^-23
+    [ -77n,0xc16d_9a00_9592_8a27n,0x75b7_053c_0f17_8293n,0x8d6f_439b_4308_8650n ],// 10^-22
+    [ -74n,0xf1c9_0080_baf7_2cb1n,0x5324_c68b_12dd_6338n,0x70cb_1482_13ca_a7e4n ],// 10^-21
+    [ -70n,0x971d_a050_74da_7been,0xd3f6_fc16_ebca_5e03n,0x467e_ecd1_4c5e_a8een ],// 10^-20
+    [ -67n,0xbce5_0864_9211_1aean,0x88f4_bb1c_a6bc_f584n,0x181e_a805_9f76_532an ],// 10^-19
+    [ -64n,0xec1e_4a7d_b695_61a5n,0x2b31_e9e3_d06c_32e5n,0x1e26_5207_0753_e7f4n ],// 10^-18
+    [ -60n,0x9392_ee8e_921d_5d07n,0x3aff_322e_6243_9fcfn,0x32d7_f344_6494_70f9n ],// 10^-17
+    [ -57n,0xb877_aa32_36a4_b449n,0x09be_feb9_fad4_87c2n,0xff8d_f015_7db9_8d37n ],// 10^-16
+    [ -54n,0xe695_94be_c44d_e15bn,0x4c2e_be68_7989_a9b3n,0xbf71_6c1a_dd27_f085n ],// 10^-15
+    [ -50n,0x901d_7cf7_3ab0_acd9n,0x0f9d_3701_4bf6_0a10n,0x57a6_e390_ca38_f653n ],// 10^-14
+    [ -47n,0xb424_dc35_095c_d80fn,0x5384_84c1_9ef3_8c94n,0x6d90_9c74_fcc7_33e8n ],// 10^-13
+    [ -44n,0xe12e_1342_4bb4_0e13n,0x2865_a5f2_06b0_6fb9n,0x88f4_c392_3bf9_00e2n ],// 10^-12
+    [ -40n,0x8cbc_cc09_6f50_88cbn,0xf93f_87b7_442e_45d3n,0xf598_fa3b_657b_a08dn ],// 10^-11
+    [ -37n,0xafeb_ff0b_cb24_aafen,0xf78f_69a5_1539_d748n,0xf2ff_38ca_3eda_88b0n ],// 10^-10
+    [ -34n,0xdbe6_fece_bded_d5ben,0xb573_440e_5a88_4d1bn,0x2fbf_06fc_ce91_2adcn ],// 10^-9
+    [ -30n,0x8970_5f41_36b4_a597n,0x3168_0a88_f895_3030n,0xfdd7_645e_011a_bac9n ],// 10^-8
+    [ -27n,0xabcc_7711_8461_cefcn,0xfdc2_0d2b_36ba_7c3dn,0x3d4d_3d75_8161_697cn ],// 10^-7
+    [ -24n,0xd6bf_94d5_e57a_42bcn,0x3d32_9076_0469_1b4cn,0x8ca0_8cd2_e1b9_c3dbn ],// 10^-6
+    [ -20n,0x8637_bd05_af6c_69b5n,0xa63f_9a49_c2c1_b10fn,0xd7e4_5803_cd14_1a69n ],// 10^-5
+    [ -17n,0xa7c5_ac47_1b47_8423n,0x0fcf_80dc_3372_1d53n,0xcddd_6e04_c059_2103n ],// 10^-4
+    [ -14n,0xd1b7_1758_e219_652bn,0xd3c3_6113_404e_a4a8n,0xc154_c985_f06f_6944n ],// 10^-3
+    [ -10n,0x8312_6e97_8d4f_df3bn,0x645a_1cac_0831_26e9n,0x78d4_fdf3_b645_a1can ],// 10^-2
+    [ -7n,0xa3d7_0a3d_70a3_d70an,0x3d70_a3d7_0a3d_70a3n,0xd70a_3d70_a3d7_0a3dn ],// 10^-1
+    [ -4n,0xcccc_cccc_cccc_ccccn,0xcccc_cccc_cccc_ccccn,0xcccc_cccc_cccc_ccccn ],// 10^0
+    [ 0n,0x8000_0000_0000_0000n,0x0000_0000_0000_0000n,0x0000_0000_0000_0000n ],// 10^1
+    [ 3n,0xa000_0000_0000_0000n,0x0000_0000_0000_0000n,0x0000_0000_0000_0000n ],// 10^2
+    [ 6n,0xc800_0000_0000_0000n,0x0000_0000_0000_0000n,0x0000_0000_0000_0000n ],// 10^3
+    [ 9n,0xfa00_0000_0000_0000n,0x0000_0000_0000_0000n,0x0000_0000_0000_0000n ],// 10^4
+    [ 13n,0x9c40_0000_0000_0000n,0x0000_0000_0000_0000n,0x0000_0000_0000_0000n ],// 10^5
+    [ 16n,0xc350_0000_0000_0000n,0x0000_0000_0000_0000n,0x0000_0000_0000_0000n ],// 10^6
+    [ 19n,0xf424_0000_0000_0000n,0x0000_0000_0000_0000n,0x0000_0000_0000_0000n ],// 10^7
+    [ 23n,0x9896_8000_0000_0000n,0x0000_0000_0000_0000n,0x0000_0000_0000_0000n ],// 10^8
+    [ 26n,0xbebc_2000_0000_0000n,0x0000_0000_0000_0000n,0x0000_0000_0000_0000n ],// 10^9
+    [ 29n,0xee6b_2800_0000_0000n,0x0000_0000_0000_0000n,0x0000_0000_0000_0000n ],// 10^10
+    [ 33n,0x9502_f900_0000_0000n,0x0000_0000_0000_0000n,0x0000_0000_0000_0000n ],// 10^11
+    [ 36n,0xba43_b740_0000_0000n,0x0000_0000_0000_0000n,0x0000_0000_0000_0000n ],// 10^12
+    [ 39n,0xe8d4_a510_0000_0000n,0x0000_0000_0000_0000n,0x0000_0000_0000_0000n ],// 10^13
+    [ 43n,0x9184_e72a_0000_0000n,0x0000_0000_0000_0000n,0x0000_0000_0000_0000n ],// 10^14
+    [ 46n,0xb5e6_20f4_8000_0000n,0x0000_0000_0000_0000n,0x0000_0000_0000_0000n ],// 10^15
+    [ 49n,0xe35f_a931_a000_0000n,0x0000_0000_0000_0000n,0x0000_0000_0000_0000n ],// 10^16
+    [ 53n,0x8e1b_c9bf_0400_0000n,0x0000_0000_0000_0000n,0x0000_0000_0000_0000n ],// 10^17
+    [ 56n,0xb1a2_bc2e_c500_0000n,0x0000_0000_0000_0000n,0x0000_0000_0000_0000n ],// 10^18
+    [ 59n,0xde0b_6b3a_7640_0000n,0x0000_0000_0000_0000n,0x0000_0000_0000_0000n ],// 10^19
+    [ 63n,0x8ac7_2304_89e8_0000n,0x0000_0000_0000_0000n,0x0000_0000_0000_0000n ],// 10^20
+    [ 66n,0xad78_ebc5_ac62_0000n,0x0000_0000_0000_0000n,0x0000_0000_0000_0000n ],// 10^21
+    [ 69n,0xd8d7_26b7_177a_8000n,0x0000_0000_0000_0000n,0x0000_0000_0000_0000n ],// 10^22
+    [ 73n,0x8786_7832_6eac_9000n,0x0000_0000_0000_0000n,0x0000_0000_0000_0000n ],// 10^23
+    [ 76n,0xa968_163f_0a57_b400n,0x0000_0000_0000_0000n,0x0000_0000_0000_0000n ],// 10^24
+    [ 79n,0xd3c2_1bce_cced_a100n,0x0000_0000_0000_0000n,0x0000_0000_0000_0000n ],// 10^25
+    [ 83n,0x8459_5161_4014_84a0n,0x0000_0000_0000_0000n,0x0000_0000_0000_0000n ],// 10^26
+    [ 86n,0xa56f_a5b9_9019_a5c8n,0x0000_0000_0000_0000n,0x0000_0000_0000_0000n ],// 10^27
+    [ 89n,0xcecb_8f27_f420_0f3an,0x0000_0000_0000_0000n,0x0000_0000_0000_0000n ],// 10^28
+    [ 93n,0x813f_3978_f894_0984n,0x4000_0000_0000_0000n,0x0000_0000_0000_0000n ],// 10^29
+    [ 96n,0xa18f_07d7_36b9_0be5n,0x5000_0000_0000_0000n,0x0000_0000_0000_0000n ],// 10^30
+    [ 99n,0xc9f2_c9cd_0467_4eden,0xa400_0000_0000_0000n,0x0000_0000_0000_0000n ],// 10^31
+    [ 102n,0xfc6f_7c40_4581_2296n,0x4d00_0000_0000_0000n,0x0000_0000_0000_0000n ],// 10^32
+    [ 106n,0x9dc5_ada8_2b70_b59dn,0xf020_0000_0000_0000n,0x0000_0000_0000_0000n ],// 10^33
+    [ 109n,0xc537_1912_364c_e305n,0x6c28_0000_0000_0000n,0x0000_0000_0000_0000n ],// 10^34
+    [ 112n,0xf684_df56_c3e0_1bc6n,0xc732_0000_0000_0000n,0x0000_0000_0000_0000n ],// 10^35
+    [ 116n,0x9a13_0b96_3a6c_115cn,0x3c7f_4000_0000_0000n,0x0000_0000_0000_0000n ],// 10^36
+    [ 119n,0xc097_ce7b_c907_15b3n,0x4b9f_1000_0000_0000n,0x0000_0000_0000_0000n ],// 10^37
+    [ 122n,0xf0bd_c21a_bb48_db20n,0x1e86_d400_0000_0000n,0x0000_0000_0000_0000n ],// 10^38
+    [ 126n,0x9676_9950_b50d_88f4n,0x1314_4480_0000_0000n,0x0000_0000_0000_0000n ],// 10^39
+    [ 129n,0xbc14_3fa4_e250_eb31n,0x17d9_55a0_0000_0000n,0x0000_0000_0000_0000n ],// 10^40
+    [ 132n,0xeb19_4f8e_1ae5_25fdn,0x5dcf_ab08_0000_0000n,0x0000_0000_0000_0000n ],// 10^41
+    [ 136n,0x92ef_d1b8_d0cf_37ben,0x5aa1_cae5_0000_0000n,0x0000_0000_0000_0000n ],// 10^42
+    [ 139n,0xb7ab_c627_0503_05adn,0xf14a_3d9e_4000_0000n,0x0000_0000_0000_0000n ],// 10^43
+    [ 142n,0xe596_b7b0_c643_c719n,0x6d9c_cd05_d000_0000n,0x0000_0000_0000_0000n ],// 10^44
+    [ 146n,0x8f7e_32ce_7bea_5c6fn,0xe482_0023_a200_0000n,0x0000_0000_0000_0000n ],// 10^45
+    [ 149n,0xb35d_bf82_1ae4_f38bn,0xdda2_802c_8a80_0000n,0x0000_0000_0000_0000n ],// 10^46
+    [ 152n,0xe035_2f62_a19e_306en,0xd50b_2037_ad20_0000n,0x0000_0000_0000_0000n ],// 10^47
+    [ 156n,0x8c21_3d9d_a502_de45n,0x4526_f422_cc34_0000n,0x0000_0000_0000_0000n ],// 10^48
+    [ 159n,0xaf29_8d05_0e43_95d6n,0x9670_b12b_7f41_0000n,0x0000_0000_0000_0000n ],// 10^49
+    [ 162n,0xdaf3_f046_51d4_7b4cn,0x3c0c_dd76_5f11_4000n,0x0000_0000_0000_0000n ],// 10^50
+    [ 166n,0x88d8_762b_f324_cd0fn,0xa588_0a69_fb6a_c800n,0x0000_0000_0000_0000n ],// 10^51
+    [ 169n,0xab0e_93b6_efee_0053n,0x8eea_0d04_7a45_7a00n,0x0000_0000_0000_0000n ],// 10^52
+    [ 172n,0xd5d2_38a4_abe9_8068n,0x72a4_9045_98d6_d880n,0x0000_0000_0000_0000n ],// 10^53
+    [ 176n,0x85a3_6366_eb71_f041n,0x47a6_da2b_7f86_4750n,0x0000_0000_0000_0000n ],// 10^54
+    [ 179n,0xa70c_3c40_a64e_6c51n,0x9990_90b6_5f67_d924n,0x0000_0000_0000_0000n ],// 10^55
+    [ 182n,0xd0cf_4b50_cfe2_0765n,0xfff4_b4e3_f741_cf6dn,0x0000_0000_0000_0000n ],// 10^56
+    [ 186n,0x8281_8f12_81ed_449fn,0xbff8_f10e_7a89_21a4n,0x2000_0000_0000_0000n ],// 10^57
+    [ 189n,0xa321_f2d7_2268_95c7n,0xaff7_2d52_192b_6a0dn,0x2800_0000_0000_0000n ],// 10^58
+    [ 192n,0xcbea_6f8c_eb02_bb39n,0x9bf4_f8a6_9f76_4490n,0x7200_0000_0000_0000n ],// 10^59
+    [ 195n,0xfee5_0b70_25c3_6a08n,0x02f2_36d0_4753_d5b4n,0x8e80_0000_0000_0000n ],// 10^60
+    [ 199n,0x9f4f_2726_179a_2245n,0x01d7_6242_2c94_6590n,0xd910_0000_0000_0000n ],// 10^61
+    [ 202n,0xc722_f0ef_9d80_aad6n,0x424d_3ad2_b7b9_7ef5n,0x0f54_0000_0000_0000n ],// 10^62
+    [ 205n,0xf8eb_ad2b_84e0_d58bn,0xd2e0_8987_65a7_deb2n,0x5329_0000_0000_0000n ],// 10^63
+    [ 209n,0x9b93_4c3b_330c_8577n,0x63cc_55f4_9f88_eb2fn,0x73f9_a000_0000_0000n ],// 10^64
+    [ 212n,0xc278_1f49_ffcf_a6d5n,0x3cbf_6b71_c76b_25fbn,0x50f8_0800_0000_0000n ],// 10^65
+    [ 215n,0xf316_271c_7fc3_908an,0x8bef_464e_3945_ef7an,0x2536_0a00_0000_0000n ],// 10^66
+    [ 219n,0x97ed_d871_cfda_3a56n,0x9775_8bf0_e3cb_b5acn,0x5741_c640_0000_0000n ],// 10^67
+    [ 222n,0xbde9_4e8e_43d0_c8ecn,0x3d52_eeed_1cbe_a317n,0x6d12_37d0_0000_0000n ],// 10^68
+    [ 225n,0xed63_a231_d4c4_fb27n,0x4ca7_aaa8_63ee_4bddn,0x4856_c5c4_0000_0000n ],// 10^69
+    [ 229n,0x945e_455f_24fb_1cf8n,0x8fe8_caa9_3e74_ef6an,0x4d36_3b9a_8000_0000n ],// 10^70
+    [ 232n,0xb975_d6b6_ee39_e436n,0xb3e2_fd53_8e12_2b44n,0xe083_ca81_2000_0000n ],// 10^71
+    [ 235n,0xe7d3_4c64_a9c8_5d44n,0x60db_bca8_7196_b616n,0x18a4_bd21_6800_0000n ],// 10^72
+    [ 239n,0x90e4_0fbe_ea1d_3a4an,0xbc89_55e9_46fe_31cdn,0xcf66_f634_e100_0000n ],// 10^73
+    [ 242n,0xb51d_13ae_a4a4_88ddn,0x6bab_ab63_98bd_be41n,0x4340_b3c2_1940_0000n ],// 10^74
+    [ 245n,0xe264_589a_4dcd_ab14n,0xc696_963c_7eed_2dd1n,0x9410_e0b2_9f90_0000n ],// 10^75
+    [ 249n,0x8d7e_b760_70a0_8aecn,0xfc1e_1de5_cf54_3ca2n,0xfc8a_8c6f_a3ba_0000n ],// 10^76
+    [ 252n,0xb0de_6538_8cc8_ada8n,0x3b25_a55f_4329_4bcbn,0xbbad_2f8b_8ca8_8000n ],// 10^77
+    [ 255n,0xdd15_fe86_affa_d912n,0x49ef_0eb7_13f3_9eben,0xaa98_7b6e_6fd2_a000n ],// 10^78
+    [ 259n,0x8a2d_bf14_2dfc_c7abn,0x6e35_6932_6c78_4337n,0x2a9f_4d25_05e3_a400n ],// 10^79
+    [ 262n,0xacb9_2ed9_397b_f996n,0x49c2_c37f_0796_5404n,0xf547_206e_475c_8d00n ],// 10^80
+    [ 265n,0xd7e7_7a8f_87da_f7fbn,0xdc33_745e_c97b_e906n,0x3298_e889_d933_b040n ],// 10^81
+    [ 269n,0x86f0_ac99_b4e8_dafdn,0x69a0_28bb_3ded_71a3n,0xdf9f_9156_27c0_4e28n ],// 10^82
+    [ 272n,0xa8ac_d7c0_2223_11bcn,0xc408_32ea_0d68_ce0cn,0xd787_75ab_b1b0_61b2n ],// 10^83
+    [ 275n,0xd2d8_0db0_2aab_d62bn,0xf50a_3fa4_90c3_0190n,0x0d69_5316_9e1c_7a1en ],// 10^84
+    [ 279n,0x83c7_088e_1aab_65dbn,0x7926_67c6_da79_e0fan,0x0861_d3ee_22d1_cc53n ],// 10^85
+    [ 282n,0xa4b8_cab1_a156_3f52n,0x5770_01b8_9118_5938n,0x8a7a_48e9_ab86_3f67n ],// 10^86
+    [ 285n,0xcde6_fd5e_09ab_cf26n,0xed4c_0226_b55e_6f86n,0xad18_db24_1667_cf41n ],// 10^87
+    [ 289n,0x80b0_5e5a_c60b_6178n,0x544f_8158_315b_05b4n,0x2c2f_88f6_8e00_e189n ],// 10^88
+    [ 292n,0xa0dc_75f1_778e_39d6n,0x6963_61ae_3db1_c721n,0x373b_6b34_3181_19ebn ],// 10^89
+    [ 295n,0xc913_936d_d571_c84cn,0x03bc_3a19_cd1e_38e9n,0x850a_4601_3de1_6066n ],// 10^90
+    [ 298n,0xfb58_7849_4ace_3a5fn,0x04ab_48a0_4065_c723n,0xe64c_d781_8d59_b87fn ],// 10^91
+    [ 302n,0x9d17_4b2d_cec0_e47bn,0x62eb_0d64_283f_9c76n,0x6ff0_06b0_f858_134fn ],// 10^92
+    [ 305n,0xc45d_1df9_4271_1d9an,0x3ba5_d0bd_324f_8394n,0x0bec_085d_366e_1823n ],// 10^93
+    [ 308n,0xf574_6577_930d_6500n,0xca8f_44ec_7ee3_6479n,0x0ee7_0a74_8409_9e2cn ],// 10^94
+    [ 312n,0x9968_bf6a_bbe8_5f20n,0x7e99_8b13_cf4e_1ecbn,0xa950_6688_d286_02dcn ],// 10^95
+    [ 315n,0xbfc2_ef45_6ae2_76e8n,0x9e3f_edd8_c321_a67en,0x93a4_802b_0727_8393n ],// 10^96
+    [ 318n,0xefb3_ab16_c59b_14a2n,0xc5cf_e94e_f3ea_101en,0x388d_a035_c8f1_6477n ],// 10^97
+    [ 322n,0x95d0_4aee_3b80_ece5n,0xbba1_f1d1_5872_4a12n,0xe358_8421_9d96_decan ],// 10^98
+    [ 325n,0xbb44_5da9_ca61_281fn,0x2a8a_6e45_ae8e_dc97n,0x9c2e_a52a_04fc_967dn ],// 10^99
+    [ 328n,0xea15_7514_3cf9_7226n,0xf52d_09d7_1a32_93bdn,0x833a_4e74_863b_bc1cn ],// 10^100
+    [ 332n,0x924d_692c_a61b_e758n,0x593c_2626_705f_9c56n,0x7204_7108_d3e5_5592n ],// 10^101
+    [ 335n,0xb6e0_c377_cfa2_e12en,0x6f8b_2fb0_0c77_836cn,0x0e85_8d4b_08de_aaf6n ],// 10^102
+    [ 338n,0xe498_f455_c38b_997an,0x0b6d_fb9c_0f95_6447n,0x1226_f09d_cb16_55b4n ],// 10^103
+    [ 342n,0x8edf_98b5_9a37_3fecn,0x4724_bd41_89bd_5eacn,0x6b58_5662_9eed_f590n ],// 10^104
+    [ 345n,0xb297_7ee3_00c5_0fe7n,0x58ed_ec91_ec2c_b657n,0x862e_6bfb_46a9_72f4n ],// 10^105
+    [ 348n,0xdf3d_5e9b_c0f6_53e1n,0x2f29_67b6_6737_e3edn,0x67ba_06fa_1853_cfb2n ],// 10^106
+    [ 352n,0x8b86_5b21_5899_f46cn,0xbd79_e0d2_0082_ee74n,0x60d4_445c_4f34_61cfn ],// 10^107
+    [ 355n,0xae67_f1e9_aec0_7187n,0xecd8_5906_80a3_aa11n,0x7909_5573_6301_7a43n ],// 10^108
+    [ 358n,0xda01_ee64_1a70_8de9n,0xe80e_6f48_20cc_9495n,0xd74b_aad0_3bc1_d8d3n ],// 10^109
+    [ 362n,0x8841_34fe_9086_58b2n,0x3109_058d_147f_dcddn,0xa68f_4ac2_2559_2784n ],// 10^110
+    [ 365n,0xaa51_823e_34a7_eeden,0xbd4b_46f0_599f_d415n,0x1033_1d72_aeaf_7165n ],// 10^111
+    [ 368n,0xd4e5_e2cd_c1d1_ea96n,0x6c9e_18ac_7007_c91an,0x543f_e4cf_5a5b_4dben ],// 10^112
+    [ 372n,0x850f_adc0_9923_329en,0x03e2_cf6b_c604_ddb0n,0x74a7_ef01_9879_1097n ],// 10^113
+    [ 375n,0xa653_9930_bf6b_ff45n,0x84db_8346_b786_151cn,0x91d1_eac1_fe97_54bdn ],// 10^114
+    [ 378n,0xcfe8_7f7c_ef46_ff16n,0xe612_6418_6567_9a63n,0xb646_6572_7e3d_29ecn ],// 10^115
+    [ 382n,0x81f1_4fae_158c_5f6en,0x4fcb_7e8f_3f60_c07en,0x51eb_ff67_8ee6_3a33n ],// 10^116
+    [ 385n,0xa26d_a399_9aef_7749n,0xe3be_5e33_0f38_f09dn,0xe666_ff41_729f_c8c0n ],// 10^117
+    [ 388n,0xcb09_0c80_01ab_551cn,0x5cad_f5bf_d307_2cc5n,0x6000_bf11_cf47_baf0n ],// 10^118
+    [ 391n,0xfdcb_4fa0_0216_2a63n,0x73d9_732f_c7c8_f7f6n,0xb800_eed6_4319_a9adn ],// 10^119
+    [ 395n,0x9e9f_11c4_014d_da7en,0x2867_e7fd_dcdd_9afan,0x3300_9545_e9f0_0a0cn ],// 10^120
+    [ 398n,0xc646_d635_01a1_511dn,0xb281_e1fd_5415_01b8n,0xbfc0_ba97_646c_0c8fn ],// 10^121
+    [ 401n,0xf7d8_8bc2_4209_a565n,0x1f22_5a7c_a91a_4226n,0xefb0_e93d_3d87_0fb3n ],// 10^122
+    [ 405n,0x9ae7_5759_6946_075fn,0x3375_788d_e9b0_6958n,0x55ce_91c6_4674_69cfn ],// 10^123
+    [ 408n,0xc1a1_2d2f_c397_8937n,0x0052_d6b1_641c_83aen,0x6b42_3637_d811_8443n ],// 10^124
+    [ 411n,0xf209_787b_b47d_6b84n,0xc067_8c5d_bd23_a49an,0x0612_c3c5_ce15_e554n ],// 10^125
+    [ 415n,0x9745_eb4d_50ce_6332n,0xf840_b7ba_9636_46e0n,0x43cb_ba5b_a0cd_af55n ],// 10^126
+    [ 418n,0xbd17_6620_a501_fbffn,0xb650_e5a9_3bc3_d898n,0x54be_a8f2_8901_1b2an ],// 10^127
+    [ 421n,0xec5d_3fa8_ce42_7affn,0xa3e5_1f13_8ab4_ceben,0x69ee_532f_2b41_61f4n ],// 10^128
+    [ 425n,0x93ba_47c9_80e9_8cdfn,0xc66f_336c_36b1_0137n,0x0234_f3fd_7b08_dd39n ],// 10^129
+    [ 428n,0xb8a8_d9bb_e123_f017n,0xb80b_0047_445d_4184n,0xc2c2_30fc_d9cb_1487n ],// 10^130
+    [ 431n,0xe6d3_102a_d96c_ec1dn,0xa60d_c059_1574_91e5n,0xf372_bd3c_103d_d9a9n ],// 10^131
+    [ 435n,0x9043_ea1a_c7e4_1392n,0x87c8_9837_ad68_db2fn,0xb827_b645_8a26_a809n ],// 10^132
+    [ 438n,0xb454_e4a1_79dd_1877n,0x29ba_be45_98c3_11fbn,0xa631_a3d6_ecb0_520cn ],// 10^133
+    [ 441n,0xe16a_1dc9_d854_5e94n,0xf429_6dd6_fef3_d67an,0x8fbe_0ccc_a7dc_668fn ],// 10^134
+    [ 445n,0x8ce2_529e_2734_bb1dn,0x1899_e4a6_5f58_660cn,0x99d6_c7ff_e8e9_c019n ],// 10^135
+    [ 448n,0xb01a_e745_b101_e9e4n,0x5ec0_5dcf_f72e_7f8fn,0xc04c_79ff_e324_301fn ],// 10^136
+    [ 451n,0xdc21_a117_1d42_645dn,0x7670_7543_f4fa_1f73n,0xb05f_987f_dbed_3c27n ],// 10^137
+    [ 455n,0x8995_04ae_7249_7eban,0x6a06_494a_791c_53a8n,0x4e3b_bf4f_e974_4598n ],// 10^138
+    [ 458n,0xabfa_45da_0edb_de69n,0x0487_db9d_1763_6892n,0x61ca_af23_e3d1_56ffn ],// 10^139
+    [ 461n,0xd6f8_d750_9292_d603n,0x45a9_d284_5d3c_42b6n,0xfa3d_5aec_dcc5_acben ],// 10^140
+    [ 465n,0x865b_8692_5b9b_c5c2n,0x0b8a_2392_ba45_a9b2n,0x5c66_58d4_09fb_8bf7n ],// 10^141
+    [ 468n,0xa7f2_6836_f282_b732n,0x8e6c_ac77_68d7_141en,0xf37f_ef09_0c7a_6ef5n ],// 10^142
+    [ 471n,0xd1ef_0244_af23_64ffn,0x3207_d795_430c_d926n,0xb05f_eacb_4f99_0ab2n ],// 10^143
+    [ 475n,0x8335_616a_ed76_1f1fn,0x7f44_e6bd_49e8_07b8n,0x2e3b_f2bf_11bf_a6afn ],// 10^144
+    [ 478n,0xa402_b9c5_a8d3_a6e7n,0x5f16_206c_9c62_09a6n,0x39ca_ef6e_d62f_905bn ],// 10^145
+    [ 481n,0xcd03_6837_1308_90a1n,0x36db_a887_c37a_8c0fn,0xc83d_ab4a_8bbb_7472n ],// 10^146
+    [ 485n,0x8022_2122_6be5_5a64n,0xc249_4954_da2c_9789n,0xdd26_8b0e_9755_28c7n ],// 10^147
+    [ 488n,0xa02a_a96b_06de_b0fdn,0xf2db_9baa_10b7_bd6cn,0x5470_2dd2_3d2a_72f9n ],// 10^148
+    [ 491n,0xc835_53c5_c896_5d3dn,0x6f92_8294_94e5_acc7n,0x698c_3946_cc75_0fb7n ],// 10^149
+    [ 494n,0xfa42_a8b7_3abb_f48cn,0xcb77_2339_ba1f_17f9n,0x43ef_4798_7f92_53a5n ],// 10^150
+    [ 498n,0x9c69_a972_84b5_78d7n,0xff2a_7604_1453_6efbn,0xca75_8cbf_4fbb_7447n ],// 10^151
+    [ 501n,0xc384_13cf_25e2_d70dn,0xfef5_1385_1968_4aban,0xbd12_efef_23aa_5159n ],// 10^152
+    [ 504n,0xf465_18c2_ef5b_8cd1n,0x7eb2_5866_5fc2_5d69n,0x6c57_abea_ec94_e5afn ],// 10^153
+    [ 508n,0x98bf_2f79_d599_3802n,0xef2f_773f_fbd9_7a61n,0xe3b6_cb72_d3dd_0f8dn ],// 10^154
+    [ 511n,0xbeee_fb58_4aff_8603n,0xaafb_550f_facf_d8fan,0x5ca4_7e4f_88d4_5371n ],// 10^155
+    [ 514n,0xeeaa_ba2e_5dbf_6784n,0x95ba_2a53_f983_cf38n,0xf3cd_9de3_6b09_684dn ],// 10^156
+    [ 518n,0x952a_b45c_fa97_a0b2n,0xdd94_5a74_7bf2_6183n,0x9860_82ae_22e5_e130n ],// 10^157
+    [ 521n,0xba75_6174_393d_88dfn,0x94f9_7111_9aee_f9e4n,0x7e78_a359_ab9f_597cn ],// 10^158
+    [ 524n,0xe912_b9d1_478c_eb17n,0x7a37_cd56_01aa_b85dn,0x9e16_cc30_1687_2fdbn ],// 10^159
+    [ 528n,0x91ab_b422_ccb8_12een,0xac62_e055_c10a_b33an,0x82ce_3f9e_0e14_7de9n ],// 10^160
+    [ 531n,0xb616_a12b_7fe6_17aan,0x577b_986b_314d_6009n,0x2381_cf85_9199_9d63n ],// 10^161
+    [ 534n,0xe39c_4976_5fdf_9d94n,0xed5a_7e85_fda0_b80bn,0x6c62_4366_f600_04bcn ],// 10^162
+    [ 538n,0x8e41_ade9_fbeb_c27dn,0x1458_8f13_be84_7307n,0x23bd_6a20_59c0_02f5n ],// 10^163
+    [ 541n,0xb1d2_1964_7ae6_b31cn,0x596e_b2d8_ae25_8fc8n,0xecac_c4a8_7030_03b3n ],// 10^164
+    [ 544n,0xde46_9fbd_99a0_5fe3n,0x6fca_5f8e_d9ae_f3bbn,0x27d7_f5d2_8c3c_04a0n ],// 10^165
+    [ 548n,0x8aec_23d6_8004_3been,0x25de_7bb9_480d_5854n,0xf8e6_f9a3_97a5_82e4n ],// 10^166
+    [ 551n,0xada7_2ccc_2005_4ae9n,0xaf56_1aa7_9a10_ae6an,0x3720_b80c_7d8e_e39dn ],// 10^167
+    [ 554n,0xd910_f7ff_2806_9da4n,0x1b2b_a151_8094_da04n,0xc4e8_e60f_9cf2_9c84n ],// 10^168
+    [ 558n,0x87aa_9aff_7904_2286n,0x90fb_44d2_f05d_0842n,0xfb11_8fc9_c217_a1d2n ],// 10^169
+    [ 561n,0xa995_41bf_5745_2b28n,0x353a_1607_ac74_4a53n,0xb9d5_f3bc_329d_8a47n ],// 10^170
+    [ 564n,0xd3fa_922f_2d16_75f2n,0x4288_9b89_9791_5ce8n,0xa84b_70ab_3f44_ecd9n ],// 10^171
+    [ 568n,0x847c_9b5d_7c2e_09b7n,0x6995_6135_feba_da11n,0x692f_266b_078b_1407n ],// 10^172
+    [ 571n,0xa59b_c234_db39_8c25n,0x43fa_b983_7e69_9095n,0xc37a_f005_c96d_d909n ],// 10^173
+    [ 574n,0xcf02_b2c2_1207_ef2en,0x94f9_67e4_5e03_f4bbn,0x3459_ac07_3bc9_4f4cn ],// 10^174
+    [ 578n,0x8161_afb9_4b44_f57dn,0x1d1b_e0ee_bac2_78f5n,0x00b8_0b84_855d_d18fn ],// 10^175
+    [ 581n,0xa1ba_1ba7_9e16_32dcn,0x6462_d92a_6973_1732n,0x40e6_0e65_a6b5_45f3n ],// 10^176
+    [ 584n,0xca28_a291_859b_bf93n,0x7d7b_8f75_03cf_dcfen,0xd11f_91ff_1062_9770n ],// 10^177
+    [ 587n,0xfcb2_cb35_e702_af78n,0x5cda_7352_44c3_d43en,0x8567_767e_d47b_3d4cn ],// 10^178
+    [ 591n,0x9def_bf01_b061_adabn,0x3a08_8813_6afa_64a7n,0x1360_aa0f_44cd_064fn ],// 10^179
+    [ 594n,0xc56b_aec2_1c7a_1916n,0x088a_aa18_45b8_fdd0n,0xd838_d493_1600_47e3n ],// 10^180
+    [ 597n,0xf6c6_9a72_a398_9f5bn,0x8aad_549e_5727_3d45n,0x0e47_09b7_db80_59dcn ],// 10^181
+    [ 601n,0x9a3c_2087_a63f_6399n,0x36ac_54e2_f678_864bn,0x28ec_6612_e930_3829n ],// 10^182
+    [ 604n,0xc0cb_28a9_8fcf_3c7fn,0x8457_6a1b_b416_a7ddn,0xf327_7f97_a37c_4634n ],// 10^183
+    [ 607n,0xf0fd_f2d3_f3c3_0b9fn,0x656d_44a2_a11c_51d5n,0x6ff1_5f7d_8c5b_57c1n ],// 10^184
+    [ 611n,0x969e_b7c4_7859_e743n,0x9f64_4ae5_a4b1_b325n,0x65f6_dbae_77b9_16d8n ],// 10^185
+    [ 614n,0xbc46_65b5_9670_6114n,0x873d_5d9f_0dde_1feen,0xbf74_929a_15a7_5c8fn ],// 10^186
+    [ 617n,0xeb57_ff22_fc0c_7959n,0xa90c_b506_d155_a7ean,0x6f51_b740_9b11_33b2n ],// 10^187
+    [ 621n,0x9316_ff75_dd87_cbd8n,0x09a7_f124_42d5_88f2n,0x8593_1288_60ea_c04fn ],// 10^188
+    [ 624n,0xb7dc_bf53_54e9_becen,0x0c11_ed6d_538a_eb2fn,0x26f7_d72a_7925_7063n ],// 10^189
+    [ 627n,0xe5d3_ef28_2a24_2e81n,0x8f16_68c8_a86d_a5fan,0xf0b5_ccf5_176e_cc7cn ],// 10^190
+    [ 631n,0x8fa4_7579_1a56_9d10n,0xf96e_017d_6944_87bcn,0xd671_a019_2ea5_3fcdn ],// 10^191
+    [ 634n,0xb38d_92d7_60ec_4455n,0x37c9_81dc_c395_a9acn,0x0c0e_081f_7a4e_8fc1n ],// 10^192
+    [ 637n,0xe070_f78d_3927_556an,0x85bb_e253_f47b_1417n,0x0f11_8a27_58e2_33b1n ],// 10^193
+    [ 641n,0x8c46_9ab8_43b8_9562n,0x9395_6d74_78cc_ec8en,0x696a_f658_978d_604fn ],// 10^194
+    [ 644n,0xaf58_4166_54a6_babbn,0x387a_c8d1_9700_27b2n,0x03c5_b3ee_bd70_b862n ],// 10^195
+    [ 647n,0xdb2e_51bf_e9d0_696an,0x0699_7b05_fcc0_319en,0x84b7_20ea_6ccc_e67bn ],// 10^196
+    [ 651n,0x88fc_f317_f222_41e2n,0x441f_ece3_bdf8_1f03n,0x12f2_7492_8400_100dn ],// 10^197
+    [ 654n,0xab3c_2fdd_eeaa_d25an,0xd527_e81c_ad76_26c3n,0xd7af_11b7_2500_1410n ],// 10^198
+    [ 657n,0xd60b_3bd5_6a55_86f1n,0x8a71_e223_d8d3_b074n,0xcd9a_d624_ee40_1914n ],// 10^199
+    [ 661n,0x85c7_0565_6275_7456n,0xf687_2d56_6784_4e49n,0x0080_c5d7_14e8_0facn ],// 10^200
+    [ 664n,0xa738_c6be_bb12_d16cn,0xb428_f8ac_0165_61dbn,0x40a0_f74c_da22_1398n ],// 10^201
+    [ 667n,0xd106_f86e_69d7_85c7n,0xe133_36d7_01be_ba52n,0x10c9_3520_10aa_987en ],// 10^202
+    [ 671n,0x82a4_5b45_0226_b39cn,0xecc0_0246_6117_3473n,0x4a7d_c134_0a6a_9f4en ],// 10^203
+    [ 674n,0xa34d_7216_42b0_6084n,0x27f0_02d7_f95d_0190n,0x1d1d_3181_0d05_4722n ],// 10^204
+    [ 677n,0xcc20_ce9b_d35c_78a5n,0x31ec_038d_f7b4_41f4n,0x2464_7de1_5046_98ebn ],// 10^205
+    [ 680n,0xff29_0242_c833_96cen,0x7e67_0471_75a1_5271n,0x2d7d_9d59_a458_3f26n ],// 10^206
+    [ 684n,0x9f79_a169_bd20_3e41n,0x0f00_62c6_e984_d386n,0xbc6e_8258_06b7_2777n ],// 10^207
+    [ 687n,0xc758_09c4_2c68_4dd1n,0x52c0_7b78_a3e6_0868n,0x6b8a_22ee_0864_f155n ],// 10^208
+    [ 690n,0xf92e_0c35_3782_6145n,0xa770_9a56_ccdf_8a82n,0x866c_aba9_8a7e_2dabn ],// 10^209
+    [ 694n,0x9bbc_c7a1_42b1_7ccbn,0x88a6_6076_400b_b691n,0x9403_eb49_f68e_dc8bn ],// 10^210
+    [ 697n,0xc2ab_f989_935d_dbfen,0x6acf_f893_d00e_a435n,0xf904_e61c_7432_93adn ],// 10^211
+    [ 700n,0xf356_f7eb_f835_52fen,0x0583_f6b8_c412_4d43n,0x7746_1fa3_913f_3899n ],// 10^212
+    [ 704n,0x9816_5af3_7b21_53den,0xc372_7a33_7a8b_704an,0x2a8b_d3c6_3ac7_835fn ],// 10^213
+    [ 707n,0xbe1b_f1b0_59e9_a8d6n,0x744f_18c0_592e_4c5cn,0xb52e_c8b7_c979_6437n ],// 10^214
+    [ 710n,0xeda2_ee1c_7064_130cn,0x1162_def0_6f79_df73n,0xe27a_7ae5_bbd7_bd45n ],// 10^215
+    [ 714n,0x9485_d4d1_c63e_8be7n,0x8add_cb56_45ac_2ba8n,0x6d8c_8ccf_9566_d64bn ],// 10^216
+    [ 717n,0xb9a7_4a06_37ce_2ee1n,0x6d95_3e2b_d717_3692n,0x88ef_b003_7ac0_8bden ],// 10^217
+    [ 720n,0xe811_1c87_c5c1_ba99n,0xc8fa_8db6_ccdd_0437n,0x2b2b_9c04_5970_aed5n ],// 10^218
+    [ 724n,0x910a_b1d4_db99_14a0n,0x1d9c_9892_400a_22a2n,0x7afb_4182_b7e6_6d45n ],// 10^219
+    [ 727n,0xb54d_5e4a_127f_59c8n,0x2503_beb6_d00c_ab4bn,0x19ba_11e3_65e0_0897n ],// 10^220
+    [ 730n,0xe2a0_b5dc_971f_303an,0x2e44_ae64_840f_d61dn,0xe028_965c_3f58_0abcn ],// 10^221
+    [ 734n,0x8da4_71a9_de73_7e24n,0x5cea_ecfe_d289_e5d2n,0xac19_5df9_a797_06b6n ],// 10^222
+    [ 737n,0xb10d_8e14_5610_5dadn,0x7425_a83e_872c_5f47n,0x571f_b578_117c_c863n ],// 10^223
+    [ 740n,0xdd50_f199_6b94_7518n,0xd12f_124e_28f7_7719n,0x2ce7_a2d6_15db_fa7cn ],// 10^224
+    [ 744n,0x8a52_96ff_e33c_c92fn,0x82bd_6b70_d99a_aa6fn,0xbc10_c5c5_cda9_7c8dn ],// 10^225
+    [ 747n,0xace7_3cbf_dc0b_fb7bn,0x636c_c64d_1001_550bn,0xab14_f737_4113_dbb1n ],// 10^226
+    [ 750n,0xd821_0bef_d30e_fa5an,0x3c47_f7e0_5401_aa4en,0x95da_3505_1158_d29dn ],// 10^227
+    [ 754n,0x8714_a775_e3e9_5c78n,0x65ac_faec_3481_0a71n,0x1da8_6123_2ad7_83a2n ],// 10^228
+    [ 757n,0xa8d9_d153_5ce3_b396n,0x7f18_39a7_41a1_4d0dn,0x6512_796b_f58d_648bn ],// 10^229
+    [ 760n,0xd310_45a8_341c_a07cn,0x1ede_4811_1209_a050n,0xbe57_17c6_f2f0_bdadn ],// 10^230
+    [ 764n,0x83ea_2b89_2091_e44dn,0x934a_ed0a_ab46_0432n,0x76f6_6edc_57d6_768cn ],// 10^231
+    [ 767n,0xa4e4_b66b_68b6_5d60n,0xf81d_a84d_5617_853fn,0x14b4_0a93_6dcc_142fn ],// 10^232
+    [ 770n,0xce1d_e406_42e3_f4b9n,0x3625_1260_ab9d_668en,0xd9e1_0d38_493f_193bn ],// 10^233
+    [ 774n,0x80d2_ae83_e9ce_78f3n,0xc1d7_2b7c_6b42_6019n,0x482c_a843_2dc7_6fc5n ],// 10^234
+    [ 777n,0xa107_5a24_e442_1730n,0xb24c_f65b_8612_f81fn,0x9a37_d253_f939_4bb6n ],// 10^235
+    [ 780n,0xc949_30ae_1d52_9cfcn,0xdee0_33f2_6797_b627n,0x80c5_c6e8_f787_9ea4n ],// 10^236
+    [ 783n,0xfb9b_7cd9_a4a7_443cn,0x1698_40ef_017d_a3b1n,0x60f7_38a3_3569_864dn ],// 10^237
+    [ 787n,0x9d41_2e08_06e8_8aa5n,0x8e1f_2895_60ee_864en,0xdc9a_8366_0161_f3f0n ],// 10^238
+    [ 790n,0xc491_798a_08a2_ad4en,0xf1a6_f2ba_b92a_27e2n,0x93c1_243f_81ba_70ecn ],// 10^239
+    [ 793n,0xf5b5_d7ec_8acb_58a2n,0xae10_af69_6774_b1dbn,0x38b1_6d4f_6229_0d27n ],// 10^240
+    [ 797n,0x9991_a6f3_d6bf_1765n,0xacca_6da1_e0a8_ef29n,0x036e_e451_9d59_a838n ],// 10^241
+    [ 800n,0xbff6_10b0_cc6e_dd3fn,0x17fd_090a_58d3_2af3n,0x444a_9d66_04b0_1247n ],// 10^242
+    [ 803n,0xeff3_94dc_ff8a_948en,0xddfc_4b4c_ef07_f5b0n,0x155d_44bf_85dc_16d8n ],// 10^243
+    [ 807n,0x95f8_3d0a_1fb6_9cd9n,0x4abd_af10_1564_f98en,0x0d5a_4af7_b3a9_8e47n ],// 10^244
+    [ 810n,0xbb76_4c4c_a7a4_440fn,0x9d6d_1ad4_1abe_37f1n,0x90b0_ddb5_a093_f1d9n ],// 10^245
+    [ 813n,0xea53_df5f_d18d_5513n,0x84c8_6189_216d_c5edn,0xf4dd_1523_08b8_ee4fn ],// 10^246
+    [ 817n,0x9274_6b9b_e2f8_552cn,0x32fd_3cf5_b4e4_9bb4n,0xb90a_2d35_e573_94f1n ],// 10^247
+    [ 820n,0xb711_8682_dbb6_6a77n,0x3fbc_8c33_221d_c2a1n,0xe74c_b883_5ed0_7a2en ],// 10^248
+    [ 823n,0xe4d5_e823_92a4_0515n,0x0fab_af3f_eaa5_334an,0x611f_e6a4_3684_98b9n ],// 10^249
+    [ 827n,0x8f05_b116_3ba6_832dn,0x29cb_4d87_f2a7_400en,0x7cb3_f026_a212_df74n ],// 10^250
+    [ 830n,0xb2c7_1d5b_ca90_23f8n,0x743e_20e9_ef51_1012n,0x1be0_ec30_4a97_9751n ],// 10^251
+    [ 833n,0xdf78_e4b2_bd34_2cf6n,0x914d_a924_6b25_5416n,0xa2d9_273c_5d3d_7d25n ],// 10^252
+    [ 837n,0x8bab_8eef_b640_9c1an,0x1ad0_89b6_c2f7_548en,0x25c7_b885_ba46_6e37n ],// 10^253
+    [ 840n,0xae96_72ab_a3d0_c320n,0xa184_ac24_73b5_29b1n,0xaf39_a6a7_28d8_09c5n ],// 10^254
+    [ 843n,0xda3c_0f56_8cc4_f3e8n,0xc9e5_d72d_90a2_741en,0x1b08_1050_f30e_0c36n ],// 10^255
+    [ 847n,0x8865_8996_17fb_1871n,0x7e2f_a67c_7a65_8892n,0xd0e5_0a32_97e8_c7a2n ],// 10^256
+    [ 850n,0xaa7e_ebfb_9df9_de8dn,0xddbb_901b_98fe_eab7n,0x851e_4cbf_3de2_f98an ],// 10^257
+    [ 853n,0xd51e_a6fa_8578_5631n,0x552a_7422_7f3e_a565n,0x6665_dfef_0d5b_b7edn ],// 10^258
+    [ 857n,0x8533_285c_936b_35den,0xd53a_8895_8f87_275fn,0x5fff_abf5_6859_52f4n ],// 10^259
+    [ 860n,0xa67f_f273_b846_0356n,0x8a89_2aba_f368_f137n,0x37ff_96f2_c26f_a7b1n ],// 10^260
+    [ 863n,0xd01f_ef10_a657_842cn,0x2d2b_7569_b043_2d85n,0x05ff_7caf_730b_919dn ],// 10^261
+    [ 867n,0x8213_f56a_67f6_b29bn,0x9c3b_2962_0e29_fc73n,0x23bf_aded_a7e7_3b02n ],// 10^262
+    [ 870n,0xa298_f2c5_01f4_5f42n,0x8349_f3ba_91b4_7b8fn,0xecaf_9969_11e1_09c3n ],// 10^263
+    [ 873n,0xcb3f_2f76_4271_7713n,0x241c_70a9_3621_9a73n,0xe7db_7fc3_5659_4c34n ],// 10^264
+    [ 876n,0xfe0e_fb53_d30d_d4d7n,0xed23_8cd3_83aa_0110n,0xe1d2_5fb4_2bef_9f41n ],// 10^265
+    [ 880n,0x9ec9_5d14_63e8_a506n,0xf436_3804_324a_40aan,0x8d23_7bd0_9b75_c388n ],// 10^266
+    [ 883n,0xc67b_b459_7ce2_ce48n,0xb143_c605_3edc_d0d5n,0x306c_5ac4_c253_346an ],// 10^267
+    [ 886n,0xf81a_a16f_dc1b_81dan,0xdd94_b786_8e94_050an,0x7c87_7175_f2e8_0185n ],// 10^268
+    [ 890n,0x9b10_a4e5_e991_3128n,0xca7c_f2b4_191c_8326n,0x8dd4_a6e9_b7d1_00f3n ],// 10^269
+    [ 893n,0xc1d4_ce1f_63f5_7d72n,0xfd1c_2f61_1f63_a3f0n,0x3149_d0a4_25c5_4130n ],// 10^270
+    [ 896n,0xf24a_01a7_3cf2_dccfn,0xbc63_3b39_673c_8cecn,0x3d9c_44cd_2f36_917cn ],// 10^271
+    [ 900n,0x976e_4108_8617_ca01n,0xd5be_0503_e085_d813n,0xa681_ab00_3d82_1aedn ],// 10^272
+    [ 903n,0xbd49_d14a_a79d_bc82n,0x4b2d_8644_d8a7_4e18n,0x9022_15c0_4ce2_a1a9n ],// 10^273
+    [ 906n,0xec9c_459d_5185_2ba2n,0xddf8_e7d6_0ed1_219en,0xb42a_9b30_601b_4a13n ],// 10^274
+    [ 910n,0x93e1_ab82_52f3_3b45n,0xcabb_90e5_c942_b503n,0x309a_a0fe_3c11_0e4cn ],// 10^275
+    [ 913n,0xb8da_1662_e7b0_0a17n,0x3d6a_751f_3b93_6243n,0xfcc1_493d_cb15_51dfn ],// 10^276
+    [ 916n,0xe710_9bfb_a19c_0c9dn,0x0cc5_1267_0a78_3ad4n,0xfbf1_9b8d_3dda_a657n ],// 10^277
+    [ 920n,0x906a_617d_4501_87e2n,0x27fb_2b80_668b_24c5n,0x1d77_0138_46a8_a7f6n ],// 10^278
+    [ 923n,0xb484_f9dc_9641_e9dan,0xb1f9_f660_802d_edf6n,0x64d4_c186_5852_d1f4n ],// 10^279
+    [ 926n,0xe1a6_3853_bbd2_6451n,0x5e78_73f8_a039_6973n,0xfe09_f1e7_ee67_8671n ],// 10^280
+    [ 930n,0x8d07_e334_5563_7eb2n,0xdb0b_487b_6423_e1e8n,0x7ec6_3730_f500_b406n ],// 10^281
+    [ 933n,0xb049_dc01_6abc_5e5fn,0x91ce_1a9a_3d2c_da62n,0x9e77_c4fd_3240_e108n ],// 10^282
+    [ 936n,0xdc5c_5301_c56b_75f7n,0x7641_a140_cc78_10fbn,0x4615_b63c_7ed1_194an ],// 10^283
+    [ 940n,0x89b9_b3e1_1b63_29ban,0xa9e9_04c8_7fcb_0a9dn,0x0bcd_91e5_cf42_afcen ],// 10^284
+    [ 943n,0xac28_20d9_623b_f429n,0x5463_45fa_9fbd_cd44n,0x4ec0_f65f_4313_5bc2n ],// 10^285
+    [ 946n,0xd732_290f_baca_f133n,0xa97c_1779_47ad_4095n,0x6271_33f7_13d8_32b2n ],// 10^286
+    [ 950n,0x867f_59a9_d4be_d6c0n,0x49ed_8eab_cccc_485dn,0x5d86_c07a_6c67_1fafn ],// 10^287
+    [ 953n,0xa81f_3014_49ee_8c70n,0x5c68_f256_bfff_5a74n,0xb4e8_7099_0780_e79bn ],// 10^288
+    [ 956n,0xd226_fc19_5c6a_2f8cn,0x7383_2eec_6fff_3111n,0xe222_8cbf_4961_2182n ],// 10^289
+    [ 960n,0x8358_5d8f_d9c2_5db7n,0xc831_fd53_c5ff_7eabn,0x2d55_97f7_8ddc_b4f1n ],// 10^290
+    [ 963n,0xa42e_74f3_d032_f525n,0xba3e_7ca8_b77f_5e55n,0xf8aa_fdf5_7153_e22dn ],// 10^291
+    [ 966n,0xcd3a_1230_c43f_b26fn,0x28ce_1bd2_e55f_35ebn,0x76d5_bd72_cda8_dab9n ],// 10^292
+    [ 970n,0x8044_4b5e_7aa7_cf85n,0x7980_d163_cf5b_81b3n,0x2a45_9667_c089_88b3n ],// 10^293
+    [ 973n,0xa055_5e36_1951_c366n,0xd7e1_05bc_c332_621fn,0xf4d6_fc01_b0ab_eae0n ],// 10^294
+    [ 976n,0xc86a_b5c3_9fa6_3440n,0x8dd9_472b_f3fe_faa7n,0xf20c_bb02_1cd6_e599n ],// 10^295
+    [ 979n,0xfa85_6334_878f_c150n,0xb14f_98f6_f0fe_b951n,0xee8f_e9c2_a40c_9effn ],// 10^296
+    [ 983n,0x9c93_5e00_d4b9_d8d2n,0x6ed1_bf9a_569f_33d3n,0x3519_f219_a687_e35fn ],// 10^297
+    [ 986n,0xc3b8_3581_09e8_4f07n,0x0a86_2f80_ec47_00c8n,0x0260_6ea0_1029_dc37n ],// 10^298
+    [ 989n,0xf4a6_42e1_4c62_62c8n,0xcd27_bb61_2758_c0fan,0x02f8_8a48_1434_5345n ],// 10^299
+    [ 993n,0x98e7_e9cc_cfbd_7dbdn,0x8038_d51c_b897_789cn,0x41db_566d_0ca0_b40bn ],// 10^300
+    [ 996n,0xbf21_e440_03ac_dd2cn,0xe047_0a63_e6bd_56c3n,0x5252_2c08_4fc8_e10en ],// 10^301
+    [ 999n,0xeeea_5d50_0498_1478n,0x1858_ccfc_e06c_ac74n,0x26e6_b70a_63bb_1951n ],// 10^302
+    [ 1003n,0x9552_7a52_02df_0ccbn,0x0f37_801e_0c43_ebc8n,0x9850_3266_7e54_efd3n ],// 10^303
+    [ 1006n,0xbaa7_18e6_8396_cffdn,0xd305_6025_8f54_e6ban,0xbe64_3f00_1dea_2bc7n ],// 10^304
+    [ 1009n,0xe950_df20_247c_83fdn,0x47c6_b82e_f32a_2069n,0x6dfd_4ec0_2564_b6b9n ],// 10^305
+    [ 1013n,0x91d2_8b74_16cd_d27en,0x4cdc_331d_57fa_5441n,0xe4be_5138_175e_f234n ],// 10^306
+    [ 1016n,0xb647_2e51_1c81_471dn,0xe013_3fe4_adf8_e952n,0x5ded_e586_1d36_aec1n ],// 10^307
+    [ 1019n,0xe3d8_f9e5_63a1_98e5n,0x5818_0fdd_d977_23a6n,0xf569_5ee7_a484_5a71n ],// 10^308
+    [ 1023n,0x8e67_9c2f_5e44_ff8fn,0x570f_09ea_a7ea_7648n,0x5961_db50_c6d2_b886n ],// 10^309
+    [ 1026n,0xb201_833b_35d6_3f73n,0x2cd2_cc65_51e5_13dan,0x6fba_5224_f887_66a8n ],// 10^310
+    [ 1029n,0xde81_e40a_034b_cf4fn,0xf807_7f7e_a65e_58d1n,0x0ba8_e6ae_36a9_4052n ],// 10^311
+    [ 1033n,0x8b11_2e86_420f_6191n,0xfb04_afaf_27fa_f782n,0xa749_902c_e229_c833n ],// 10^312
+    [ 1036n,0xadd5_7a27_d293_39f6n,0x79c5_db9a_f1f9_b563n,0x511b_f438_1ab4_3a40n ],// 10^313
+    [ 1039n,0xd94a_d8b1_c738_0874n,0x1837_5281_ae78_22bcn,0x2562_f146_2161_48d0n ],// 10^314
+    [ 1043n,0x87ce_c76f_1c83_0548n,0x8f22_9391_0d0b_15b5n,0x975d_d6cb_d4dc_cd82n ],// 10^315
+    [ 1046n,0xa9c2_794a_e3a3_c69an,0xb2eb_3875_504d_db22n,0xfd35_4c7e_ca14_00e3n ],// 10^316
+    [ 1049n,0xd433_179d_9c8c_b841n,0x5fa6_0692_a461_51ebn,0xbc82_9f9e_7c99_011bn ],// 10^317
+    [ 1053n,0x849f_eec2_81d7_f328n,0xdbc7_c41b_a6bc_d333n,0x55d1_a3c3_0ddf_a0b1n ],// 10^318
+    [ 1056n,0xa5c7_ea73_224d_eff3n,0x12b9_b522_906c_0800n,0x2b46_0cb3_d157_88ddn ],// 10^319
+    [ 1059n,0xcf39_e50f_eae1_6befn,0xd768_226b_3487_0a00n,0x3617_8fe0_c5ad_6b15n ],// 10^320
+    [ 1063n,0x8184_2f29_f2cc_e375n,0xe6a1_1583_00d4_6640n,0x21ce_b9ec_7b8c_62edn ],// 10^321
+    [ 1066n,0xa1e5_3af4_6f80_1c53n,0x6049_5ae3_c109_7fd0n,0x2a42_6867_9a6f_7ba8n ],// 10^322
+    [ 1069n,0xca5e_89b1_8b60_2368n,0x385b_b19c_b14b_dfc4n,0x34d3_0281_810b_5a92n ],// 10^323
+    [ 1072n,0xfcf6_2c1d_ee38_2c42n,0x4672_9e03_dd9e_d7b5n,0x4207_c321_e14e_3137n ],// 10^324
+    [ 1076n,0x9e19_db92_b4e3_1ba9n,0x6c07_a2c2_6a83_46d1n,0x4944_d9f5_2cd0_dec2n ],// 10^325
+    [ 1079n,0xc5a0_5277_621b_e293n,0xc709_8b73_0524_1885n,0x9b96_1072_7805_1673n ],// 10^326
+    [ 1082n,0xf708_6715_3aa2_db38n,0xb8cb_ee4f_c66d_1ea7n,0x027b_948f_1606_5c10n ],// 10^327
+    [ 1086n,0x9a65_406d_44a5_c903n,0x737f_74f1_dc04_3328n,0x618d_3cd9_6dc3_f98an ],// 10^328
+    [ 1089n,0xc0fe_9088_95cf_3b44n,0x505f_522e_5305_3ff2n,0x79f0_8c0f_c934_f7ecn ],// 10^329
+    [ 1092n,0xf13e_34aa_bb43_0a15n,0x6477_26b9_e7c6_8fefn,0x186c_af13_bb82_35e7n ],// 10^330
+    [ 1096n,0x96c6_e0ea_b509_e64dn,0x5eca_7834_30dc_19f5n,0x6f43_ed6c_5531_61b0n ],// 10^331
+    [ 1099n,0xbc78_9925_624c_5fe0n,0xb67d_1641_3d13_2072n,0xcb14_e8c7_6a7d_ba1dn ],// 10^332
+    [ 1102n,0xeb96_bf6e_badf_77d8n,0xe41c_5bd1_8c57_e88fn,0x7dda_22f9_451d_28a4n ],// 10^333
+    [ 1106n,0x933e_37a5_34cb_aae7n,0x8e91_b962_f7b6_f159n,0xaea8_55db_cb32_3966n ],// 10^334
+    [ 1109n,0xb80d_c58e_81fe_95a1n,0x7236_27bb_b5a4_adb0n,0x1a52_6b52_bdfe_c7c0n ],// 10^335
+    [ 1112n,0xe611_36f2_227e_3b09n,0xcec3_b1aa_a30d_d91cn,0x20e7_0627_6d7e_79b0n ],// 10^336
+    [ 1116n,0x8fca_c257_558e_e4e6n,0x213a_4f0a_a5e8_a7b1n,0x9490_63d8_a46f_0c0en ],// 10^337
+    [ 1119n,0xb3bd_72ed_2af2_9e1fn,0xa988_e2cd_4f62_d19dn,0xf9b4_7cce_cd8a_cf11n ],// 10^338
+    [ 1122n,0xe0ac_cfa8_75af_45a7n,0x93eb_1b80_a33b_8605n,0x7821_9c02_80ed_82d6n ],// 10^339
+    [ 1126n,0x8c6c_01c9_498d_8b88n,0xbc72_f130_6605_33c3n,0x6b15_0181_9094_71c5n ],// 10^340
+    [ 1129n,0xaf87_023b_9bf0_ee6an,0xeb8f_ad7c_7f86_80b4n,0x45da_41e1_f4b9_8e37n ],// 10^341
+    [ 1132n,0xdb68_c2ca_82ed_2a05n,0xa673_98db_9f68_20e1n,0x5750_d25a_71e7_f1c5n ],// 10^342
+    [ 1136n,0x8921_79be_91d4_3a43n,0x8808_3f89_43a1_148cn,0xd692_8378_8730_f71bn ],// 10^343
+    [ 1139n,0xab69_d82e_3649_48d4n,0x6a0a_4f6b_9489_59b0n,0x0c37_2456_a8fd_34e2n ],// 10^344
+    [ 1142n,0xd644_4e39_c3db_9b09n,0x848c_e346_79ab_b01cn,0x0f44_ed6c_533c_821an ],// 10^345
+    [ 1146n,0x85ea_b0e4_1a69_40e5n,0xf2d8_0e0c_0c0b_4e11n,0x898b_1463_b405_d150n ],// 10^346
+    [ 1149n,0xa765_5d1d_2103_911fn,0x6f8e_118f_0f0e_2195n,0xebed_d97c_a107_45a4n ],// 10^347
+    [ 1152n,0xd13e_b464_6944_7567n,0x4b71_95f2_d2d1_a9fbn,0x66e9_4fdb_c949_170en ],// 10^348
+    [ 1156n,0x82c7_30be_c1ca_c960n,0x8f26_fdb7_c3c3_0a3dn,0x2051_d1e9_5dcd_ae68n ],// 10^349
+    [ 1159n,0xa378_fcee_723d_7bb8n,0xb2f0_bd25_b4b3_ccccn,0x6866_4663_b541_1a03n ],// 10^350
+    [ 1162n,0xcc57_3c2a_0ecc_daa6n,0xdfac_ec6f_21e0_bfffn,0x827f_d7fc_a291_6083n ],// 10^351
+    [ 1165n,0xff6d_0b34_9280_1150n,0x9798_278a_ea58_efffn,0x631f_cdfb_cb35_b8a4n ],// 10^352
+    [ 1169n,0x9fa4_2700_db90_0ad2n,0x5ebf_18b6_d277_95ffn,0x9df3_e0bd_5f01_9366n ],// 10^353
+    [ 1172n,0xc78d_30c1_1274_0d86n,0xf66e_dee4_8715_7b7fn,0x8570_d8ec_b6c1_f840n ],// 10^354
+    [ 1175n,0xf970_7cf1_5711_10e8n,0xb40a_969d_a8da_da5fn,0x66cd_0f27_e472_7650n ],// 10^355
+    [ 1179n,0x9be6_4e16_d66a_aa91n,0x7086_9e22_8988_c87bn,0xa040_2978_eec7_89f2n ],// 10^356
+    [ 1182n,0xc2df_e19c_8c05_5535n,0xcca8_45ab_2bea_fa9an,0x8850_33d7_2a79_6c6fn ],// 10^357
+    [ 1185n,0xf397_da03_af06_aa83n,0x3fd2_5715_f6e5_b941n,0x2a64_40cc_f517_c78an ],// 10^358
+    [ 1189n,0x983e_e842_4d64_2a92n,0x07e3_766d_ba4f_93c8n,0xba7e_a880_192e_dcb6n ],// 10^359
+    [ 1192n,0xbe4e_a252_e0bd_3536n,0x89dc_5409_28e3_78ban,0xe91e_52a0_1f7a_93e4n ],// 10^360
+    [ 1195n,0xede2_4ae7_98ec_8284n,0x2c53_690b_731c_56e9n,0xa365_e748_2759_38ddn ],// 10^361
+    [ 1199n,0x94ad_6ed0_bf93_d192n,0x9bb4_21a7_27f1_b652n,0x061f_b08d_1897_c38an ],// 10^362
+    [ 1202n,0xb9d8_ca84_ef78_c5f7n,0x42a1_2a10_f1ee_23e6n,0x87a7_9cb0_5ebd_b46dn ],// 10^363
+    [ 1205n,0xe84e_fd26_2b56_f775n,0x1349_7495_2e69_ace0n,0x2991_83dc_766d_2188n ],// 10^364
+    [ 1209n,0x9131_5e37_db16_5aa9n,0x2c0d_e8dd_3d02_0c0cn,0x19fa_f269_ca04_34f5n ],// 10^365
+    [ 1212n,0xb57d_b5c5_d1db_f153n,0x7711_6314_8c42_8f0fn,0x2079_af04_3c85_4232n ],// 10^366
+    [ 1215n,0xe2dd_2337_4652_eda8n,0x54d5_bbd9_af53_32d2n,0xe898_1ac5_4ba6_92bfn ],// 10^367
+    [ 1219n,0x8dca_3602_8bf3_d489n,0x3505_9568_0d93_ffc3n,0xd15f_10bb_4f48_1bb7n ],// 10^368
+    [ 1222n,0xb13c_c383_2ef0_c9abn,0x8246_fac2_10f8_ffb4n,0xc5b6_d4ea_231a_22a5n ],// 10^369
+    [ 1225n,0xdd8b_f463_faac_fc16n,0x62d8_b972_9537_3fa1n,0xf724_8a24_abe0_ab4en ],// 10^370
+    [ 1229n,0x8a77_78be_7cac_1d8dn,0xfdc7_73e7_9d42_87c5n,0x3a76_d656_eb6c_6b11n ],// 10^371
+    [ 1232n,0xad15_56ee_1bd7_24f1n,0x7d39_50e1_8493_29b6n,0x8914_8bec_a647_85d5n ],// 10^372
+    [ 1235n,0xd85a_aca9_a2cc_ee2dn,0xdc87_a519_e5b7_f424n,0x2b59_aee7_cfd9_674an ],// 10^373
+    [ 1239n,0x8738_abea_05c0_14dcn,0xa9d4_c730_2f92_f896n,0x9b18_0d50_e1e7_e08en ],// 10^374
+    [ 1242n,0xa906_d6e4_8730_1a13n,0xd449_f8fc_3b77_b6bcn,0x41de_10a5_1a61_d8b2n ],// 10^375
+    [ 1245n,0xd348_8c9d_a8fc_2098n,0xc95c_773b_4a55_a46bn,0x5255_94ce_60fa_4edfn ],// 10^376
+    [ 1249n,0x840d_57e2_899d_945fn,0x7dd9_ca85_0e75_86c3n,0x1375_7d00_fc9c_714bn ],// 10^377
+    [ 1252n,0xa510_addb_2c04_f977n,0x5d50_3d26_5212_e873n,0xd852_dc41_3bc3_8d9en ],// 10^378
+    [ 1255n,0xce54_d951_f706_37d5n,0x34a4_4c6f_e697_a290n,0xce67_9351_8ab4_7105n ],// 10^379
+    [ 1259n,0x80f5_07d3_3a63_e2e5n,0x40e6_afc5_f01e_c59an,0x8100_bc12_f6b0_c6a3n ],// 10^380
+    [ 1262n,0xa132_49c8_08fc_db9en,0x9120_5bb7_6c26_7701n,0x2140_eb17_b45c_f84cn ],// 10^381
+    [ 1265n,0xc97e_dc3a_0b3c_1286n,0x3568_72a5_4730_14c1n,0x6991_25dd_a174_365fn ],// 10^382
+    [ 1268n,0xfbde_9348_8e0b_1727n,0xc2c2_8f4e_98fc_19f1n,0xc3f5_6f55_09d1_43f7n ],// 10^383
+    [ 1272n,0x9d6b_1c0d_58c6_ee78n,0xd9b9_9991_1f9d_9037n,0x1a79_6595_2622_ca7an ],// 10^384
+    [ 1275n,0xc4c5_e310_aef8_aa17n,0x1027_fff5_6784_f444n,0xe117_befa_6fab_7d19n ],// 10^385
+    [ 1278n,0xf5f7_5bd4_dab6_d49cn,0xd431_fff2_c166_3156n,0x195d_aeb9_0b96_5c60n ],// 10^386
+    [ 1282n,0x99ba_9965_08b2_44e2n,0x049f_3ff7_b8df_ded5n,0xcfda_8d33_a73d_f9bcn ],// 10^387
+    [ 1285n,0xc029_3fbe_4ade_d61an,0x85c7_0ff5_a717_d68bn,0x43d1_3080_910d_782bn ],// 10^388
+    [ 1288n,0xf033_8fad_dd96_8ba1n,0x2738_d3f3_10dd_cc2en,0x14c5_7ca0_b550_d635n ],// 10^389
+    [ 1292n,0x9620_39cc_aa7e_1744n,0xb883_8477_ea8a_9f9cn,0xccfb_6de4_7152_85e1n ],// 10^390
+    [ 1295n,0xbba8_483f_d51d_9d15n,0xe6a4_6595_e52d_4784n,0x003a_495d_8da7_275an ],// 10^391
+    [ 1298n,0xea92_5a4f_ca65_045bn,0x604d_7efb_5e78_9965n,0x0048_dbb4_f110_f130n ],// 10^392
+    [ 1302n,0x929b_7871_de7f_22b9n,0x1c30_6f5d_1b0b_5fdfn,0x202d_8951_16aa_96ben ],// 10^393
+    [ 1305n,0xb742_568e_561e_eb67n,0x633c_8b34_61ce_37d6n,0xe838_eba5_5c55_3c6dn ],// 10^394
+    [ 1308n,0xe512_ec31_eba6_a641n,0x3c0b_ae01_7a41_c5ccn,0xa247_268e_b36a_8b89n ],// 10^395
+    [ 1312n,0x8f2b_d39f_3348_27e8n,0xc587_4cc0_ec69_1b9fn,0xe56c_7819_3022_9735n ],// 10^396
+    [ 1315n,0xb2f6_c887_001a_31e2n,0xf6e9_1ff1_2783_6287n,0xdec7_961f_7c2b_3d03n ],// 10^397
+    [ 1318n,0xdfb4_7aa8_c020_be5bn,0xb4a3_67ed_7164_3b29n,0xd679_7ba7_5b36_0c44n ],// 10^398
+    [ 1322n,0x8bd0_cca9_7814_76f9n,0x50e6_20f4_66de_a4fan,0x260b_ed48_9901_c7aan ],// 10^399
+    [ 1325n,0xaec4_ffd3_d619_94b7n,0xa51f_a931_8096_4e38n,0xaf8e_e89a_bf42_3995n ],// 10^400
+    [ 1328n,0xda76_3fc8_cb9f_f9e5n,0x8e67_937d_e0bb_e1c6n,0xdb72_a2c1_6f12_c7fan ] ];
+
 
   // Buffers used internally
   // The order of words in the arrays is big-endian: the highest part is in buff[0] (in buff[1] for
@@ -283,16 +1099,22 @@ export class QuadrupleBuilder {
     buffer6x32C: bigint[] = new Array(6).fill(0n);
     buffer12x32: bigint[] = new Array(12).fill(0n);
 
-  parse(digits: number[],exp10: number) : void {
-    exp10 += (digits).length - 1; // digits is viewed as x.yyy below.
+  // Parses the first length decimal digits of digits, multiplied by 10^exp10. Only length digits
+  // are read, and digits is not modified, so a caller can reuse a larger buffer across calls.
+  parse(digits: number[],length: number,exp10: number) : void {
     this.exponent = 0;
     this.mantHi = 0n;
     this.mantLo = 0n;
     this.rounding = 0;
 
+    if (this.parseShort(digits, length, exp10)) {
+      return;
+    }
+    exp10 += length - 1; // digits is viewed as x.yyy below.
+
     // Finds numeric value of the decimal mantissa
     let mantissa: bigint[] = this.buffer6x32C;
-    let exp10Corr: number = this.parseMantissa(digits, mantissa);
+    let exp10Corr: number = this.parseMantissa(digits, length, mantissa);
 
     if (exp10Corr == 0 && this.isEmpty(mantissa)) {
       // Mantissa == 0
@@ -311,11 +1133,137 @@ export class QuadrupleBuilder {
       return;
     }
 
+    if (this.multiplyByPowerOf10(exp10, mantissa)) {
+      return;
+    }
+
     let exp2: number = this.findBinaryExponent(exp10, mantissa);
     // Finds binary mantissa and possible exponent correction. Fills the fields.
     this.findBinaryMantissa(exp10, exp2, mantissa);
   }
 
+  // Handles the common case of a mantissa with at most MAX_SHORT_MANTISSA_LENGTH significant
+  // digits, multiplied by a power of ten in POWERS_OF_10. The mantissa then fits in 64 bits, and a
+  // single multiplication by the 192-bit power of ten gives the binary mantissa with an error of at
+  // most 4 lsbs of its 192 bits. This is rounded exactly like the result of the general algorithm,
+  // unless bits 128..159 show it is within 2^32 lsbs of a rounding boundary (or of an exact value),
+  // in which case the error of up to MAX_ERROR of the general algorithm may decide the result.
+  // @param digits the decimal digits
+  // @param length the number of digits to use
+  // @param exp10 the decimal exponent of the last digit
+  // @return true if the fields were set, false if the general algorithm is needed
+  parseShort(digits: number[],length: number,exp10: number) : boolean {
+    let firstDigit: number = 0;
+    while (firstDigit < length && digits[firstDigit] == 0) {
+      firstDigit += 1;
+    }
+    if (firstDigit == length) {
+      return true; // Zero
+    }
+    let lastDigit: number = length;
+    while (digits[lastDigit - 1] == 0) { // Trailing zeroes only change the exponent
+      lastDigit -= 1;
+      exp10 += 1;
+    }
+    if (lastDigit - firstDigit > QuadrupleBuilder.MAX_SHORT_MANTISSA_LENGTH) {
+      return false;
+    }
+    if (exp10 < QuadrupleBuilder.MIN_POWER_OF_10) {
+      return false;
+    }
+    if (exp10 > QuadrupleBuilder.MAX_POWER_OF_10) {
+      return false;
+    }
+
+    let mant: bigint = 0n;
+    for (let  i = (firstDigit); i < (lastDigit); i++) {
+      let digit: bigint = BigInt(digits[i]) & 0xFFn;
+      if (digit > 9n) {
+        // Not a decimal digit (such as the Java Character.isDigit digits outside ASCII): keep the
+        // result of the general algorithm, whatever it is
+        return false;
+      }
+      mant = mant * 10n + digit;
+    }
+    // Left-justify the mantissa, and unpack it as the 64 most significant bits of a 192-bit value
+    let shift: number = QuadrupleBuilder.clz64(mant);
+    mant = ((mant << BigInt(shift)) & 0xffffffffffffffffn);
+    let mantissa: bigint[] = this.buffer6x32C;
+    mantissa[0] = ((mant) >> (32n));
+    mantissa[1] = mant & QuadrupleBuilder.LOWER_32_BITS;
+    for (let  i = (2); i < (6); i++) {
+      mantissa[i] = 0n;
+    }
+
+    // The value is mant * 2^-shift * power[1..3] * 2^(power[0] - 191), where mant is in [2^63, 2^64)
+    // and power[1..3] in [2^191, 2^192)
+    let exactPower: boolean = exp10 >= 0 && exp10 <= QuadrupleBuilder.MAX_EXACT_POWER_OF_10;
+    return this.roundPowerOf10Product(mantissa, exp10, 65 - shift, exactPower);
+  }
+
+  // Handles a mantissa with more than MAX_SHORT_MANTISSA_LENGTH digits multiplied by a power of ten
+  // in POWERS_OF_10, like parseShort: the 192-bit mantissa computed by parseMantissa (with an error
+  // of about one lsb) is multiplied by the 192-bit power of ten, which replaces the approximation of
+  // the binary exponent with logarithms and the multiplications by powers of two of
+  // findBinaryMantissa. The result is rounded exactly like the result of findBinaryMantissa unless it
+  // is within 2^32 lsbs of a rounding boundary.
+  // @param exp10 the decimal exponent, the mantissa being in the x.yyy form
+  // @param mantissa the decimal mantissa divided by ten, as computed by parseMantissa; not modified
+  // @return true if the fields were set, false if findBinaryMantissa is needed
+  multiplyByPowerOf10(exp10: number,mantissa: bigint[]) : boolean {
+    // The mantissa is x.yyy / 10
+    let exp: number = exp10 + 1;
+    if (exp < QuadrupleBuilder.MIN_POWER_OF_10) {
+      return false;
+    }
+    if (exp > QuadrupleBuilder.MAX_POWER_OF_10) {
+      return false;
+    }
+    // The value is mantissa * 2^-192 * power[1..3] * 2^(power[0] - 191). The mantissa is not exact
+    // in general.
+    return this.roundPowerOf10Product(mantissa, exp, 1, false);
+  }
+
+  // Multiplies the unpacked mantissa by 10^exp10 from POWERS_OF_10, and rounds the product to the
+  // fields with roundProduct, unless bits 128..159 of the normalized product show that the errors of
+  // the product (of a few lsbs) or of the general algorithm (of up to MAX_ERROR lsbs) could decide
+  // the rounding: the product is then within 2^32 lsbs of a rounding boundary, or of an exact value
+  // which is only accepted when it is known to be exact.
+  // @param mantissa the unpacked mantissa, not modified
+  // @param exp10 the decimal exponent, in [MIN_POWER_OF_10, MAX_POWER_OF_10]
+  // @param expCorr the binary exponent of the product, before normalization, minus power[0]
+  // @param exactPower true if the mantissa and 10^exp10 are exact
+  // @return true if the fields were set, false if the general algorithm is needed
+  roundPowerOf10Product(mantissa: bigint[],exp10: number,expCorr: number,exactPower: boolean) : boolean {
+    let power: bigint[] = QuadrupleBuilder.POWERS_OF_10[exp10 - QuadrupleBuilder.MIN_POWER_OF_10];
+    let product: bigint[] = this.buffer12x32;
+    this.multUnpacked6x32byPacked(mantissa, power, product);
+    expCorr += this.normalizeMant(product);
+
+    if (product[4] == 0n) {
+      if (!(exactPower)) {
+        return false;
+      }
+      for (let  i = (5); i < ((product).length); i++) {
+        if (product[i] != 0n) {
+          return false;
+        }
+      }
+      // Exact
+    }
+    if (product[4] == 0x7FFF_FFFFn) {
+      return false;
+    }
+    if (product[4] == 0x8000_0000n) {
+      return false;
+    }
+    if (product[4] == QuadrupleBuilder.LOWER_32_BITS) {
+      return false;
+    }
+    this.roundProduct(Number(((power[0] + BigInt(QuadrupleBuilder.EXPONENT_BIAS)) & 0xffffffffffffffffn)) + Number(expCorr), product);
+    return true;
+  }
+
   // There are doubles D and Decimal128 numbers M with M != D that have the same Quadruple
   // representation (example: D = 0.5 + 15877 * 2^-53, M = Decimal128.fromDouble(D)). To
   // allow correct comparison results of doubles and Decimal128 using Quadruple, this
@@ -357,39 +1305,49 @@ export class QuadrupleBuilder {
     }
   }
 
-  parseMantissa(digits: number[],mantissa: bigint[]) : number {
+  parseMantissa(digits: number[],length: number,mantissa: bigint[]) : number {
     for (let  i = (0); i < (6); i++) {
       mantissa[i] = 0n;
     }
 
     // Skip leading zeroes
     let firstDigit: number = 0;
-    while (firstDigit < (digits).length && digits[firstDigit] == 0) {
+    while (firstDigit < length && digits[firstDigit] == 0) {
       firstDigit += 1;
     }
-    if (firstDigit == (digits).length) {
+    if (firstDigit == length) {
       return 0; // All zeroes
     }
     let expCorr: number = -firstDigit;
 
     // Limit the string length to avoid unnecessary fuss
-    if ((digits).length - firstDigit > QuadrupleBuilder.MAX_MANTISSA_LENGTH) {
-      let carry: boolean = digits[QuadrupleBuilder.MAX_MANTISSA_LENGTH] >= 5; // The highest digit to be truncated
+    let lastDigit: number = length;
+    let carry: boolean = false;
+    if (length - firstDigit > QuadrupleBuilder.MAX_MANTISSA_LENGTH) {
+      carry = digits[QuadrupleBuilder.MAX_MANTISSA_LENGTH] >= 5; // The highest digit to be truncated
+      lastDigit = firstDigit + QuadrupleBuilder.MAX_MANTISSA_LENGTH;
+    }
 
-      let  truncated: number[] = new Array(QuadrupleBuilder.MAX_MANTISSA_LENGTH).fill(0);;
-      for (let  i = (0); i < (QuadrupleBuilder.MAX_MANTISSA_LENGTH); i++) {
-        truncated[i] = digits[i + firstDigit];
-      }
-      if (carry) { // Round-up: add carry
-        expCorr += this.addCarry(truncated); // May add an extra digit in front of it (99..99 -> 100)
+    // Round-up: the carry is added to the digits as they are consumed, rather than to a truncated
+    // copy of them
+    for (let  i = (lastDigit) - 1; i >= (firstDigit); i--) { // digits, starting from the last
+      let digit: bigint = BigInt(digits[i]);
+      if (carry) {
+        if (digit == 9n) {
+          digit = 0n;
+        } else {
+          digit += 1n;
+          carry = false;
+        }
       }
-      digits = truncated;
-      firstDigit = 0;
+      mantissa[0] |= digit << 32n;
+      this.divBuffBy10(mantissa);
     }
-
-    for (let  i = ((digits).length) - 1; i >= (firstDigit); i--) { // digits, starting from the last
-      mantissa[0] |= BigInt(digits[i]) << 32n;
+    if (carry) {
+      // All the digits were 9 - the carry adds an extra digit in front of them (99..99 -> 100..00)
+      mantissa[0] |= 1n << 32n;
       this.divBuffBy10(mantissa);
+      expCorr += 1;
     }
     return expCorr;
   }
@@ -420,24 +1378,6 @@ export class QuadrupleBuilder {
     return true;
   }
 
-  // Adds one to a decimal number represented as a sequence of decimal digits. propagates carry as
-  // needed, so that {@code addCarryTo("6789") = "6790", addCarryTo("9999") = "10000"} etc.
-  // @return 1 if an additional higher "1" was added in front of the number as a result of
-  //     rounding-up, 0 otherwise
-  addCarry(digits: number[]) : number {
-    for (let  i = ((digits).length) - 1; i >= (0); i--) { // starting with the lowest digit
-      let c: number = digits[i];
-      if (c == 9) {
-        digits[i] = 0;
-      } else {
-        digits[i] = (digits[i] + 1);
-        return 0;
-      }
-    }
-    digits[0] = 1;
-    return 1;
-  }
-
   // Finds binary exponent, using decimal exponent and mantissa.<br>
   // exp2 = exp10 * log<sub>2</sub>(10) + log<sub>2</sub>(mant)<br>
   // @param exp10 decimal exponent
@@ -477,7 +1417,13 @@ export class QuadrupleBuilder {
     // compensate possible inaccuracy of logarithms used to compute exp2
     exp2 += this.normalizeMant(product);
     exp2 += QuadrupleBuilder.EXPONENT_BIAS; // add bias
+    this.roundProduct(exp2, product);
+  }
 
+  // Rounds the normalized product to 128 bits and fills the fields.
+  // @param exp2 the biased binary exponent of the product
+  // @param product the unpacked and normalized product, 192 bits of which are used
+  roundProduct(exp2: number,product: bigint[]) : void {
     // For subnormal values, exp2 <= 0. We just return 0 for them, as they are
     // far from any range we are interested in.
     if (exp2 <= 0) {
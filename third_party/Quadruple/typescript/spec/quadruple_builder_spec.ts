@@ -46,6 +46,60 @@ describe("QuadrupleBuilderTest", function() {
     check("1", -1_000_000_000, 0n, 0n, 0);
   });
 
+  it("truncation", function() {
+    // More than 59 significant digits - truncated, and rounded up on a 60th digit >= 5.
+    check("999999999999999999999999999999999999999999999999999999999999", 0, 0x3e9e4e4c2f34448an, 0x3aec4845928cb22n, 2147483846);
+    check("999999999999999999999999999999999999999999999999999999999999", -70, 0xb7cdfd9d7bdbab7dn, 0x6ae6881cb5109a36n, 2147483613);
+    check("999999999999999999999999999999999999999999999999999999999994", 0, 0x3e9e4e4c2f34448an, 0x3aec4845928cb22n, 2147483846);
+    check("1234567890123456789012345678901234567890123456789012345678901234567890", -35, 0x30582ffdf3fe588bn, 0xd01278f16fbcd6e6n, 2147483760);
+    check("1234567890123456789012345678901234567890123456789012345678905", 12, 0x65c1561327036d10n, 0xcef502fe8fdd55n, 2147483886);
+    // Leading zeros do not count as significant digits.
+    check("00999999999999999999999999999999999999999999999999999999999999", 0, 0x3e9e4e4c2f34448an, 0x3aec4845928cb22n, 2147483846);
+    check("0111111111111111111111111111111111111111111111111111111111172", 0, 0x1b37620ad4a03cecn, 0x750d2075a49609e5n, 2147483843);
+  });
+
+  it("shortMantissa", function() {
+    // At most 19 significant digits and a decimal exponent in POWERS_OF_10 - exact results.
+    check("000", 3, 0x0n, 0x0n, 0);
+    check("1", 0, 0x0n, 0x0n, 2147483647);
+    check("9999999999999999999", 0, 0x158e460913cffffen, 0x0n, 2147483710);
+    check("12345678901234567890000", -4, 0x12210f47de981150n, 0x0n, 2147483707);
+    // Inexact results.
+    check("1", -1, 0x9999999999999999n, 0x999999999999999an, 2147483643);
+    check("123456789", -2, 0x2d687e3d70a3d70an, 0x3d70a3d70a3d70a4n, 2147483667);
+    check("31415926535897932", -16, 0x921fb54442d18306n, 0xc8336e79acefc545n, 2147483648);
+    // Either side of 10^64, the bound of an earlier, smaller POWERS_OF_10.
+    check("1", 64, 0x84f03e93ff9f4daan, 0x797ed6e38ed64bf7n, 2147483859);
+    check("1", -64, 0x50ffd44f4a73d34an, 0x7e4731ae8f66c448n, 2147483434);
+    check("1", 65, 0xe62c4e38ff872115n, 0x17de8c9c728bdef4n, 2147483862);
+    check("1", -65, 0xd9976a5d52975d5n, 0x31d28e253f8569d3n, 2147483431);
+    // The bound of POWERS_OF_10.
+    check("1", 400, 0xb4ec7f91973ff3cbn, 0x1ccf26fbc177c38en, 2147484975);
+    check("1", -400, 0x2bfcfc0f923df5f4n, 0x726370a1be11ce71n, 2147482318);
+    // Exact, but with an inexact power of ten - left to the general algorithm.
+    check("5", -1, 0x0n, 0x0n, 2147483646);
+    // Exactly half an lsb - left to the general algorithm.
+    check("1000000000000000001", 30, 0x5e531a0a1c872bc6n, 0x6b3a9bf78b6bdbd5n, 2147483806);
+    // Outside of the fast path: 20 digits, exponents beyond POWERS_OF_10.
+    check("18446744073709551615", 0, 0xfffffffffffffffen, 0x0n, 2147483710);
+    check("1", 401, 0x1113cfbafe87f85en, 0xf201785d58eada39n, 2147484979);
+    check("1", -401, 0xdffb2ce5b6c98987n, 0x1d6be769301c7d81n, 2147482314);
+  });
+
+  it("powerOf10Table", function() {
+    // More than 19 significant digits, multiplied by a power of ten in POWERS_OF_10.
+    check("1234567890123456789012345", -425, 0x2848df7d8177a107n, 0x61b8e5baf91f2e33n, 2147482315);
+    check("1234567890123456789012345", 375, 0xaf879a2f0797da82n, 0x9ef78750b9f40330n, 2147484972);
+    check("314159265358979323846264338327950288", -35, 0x921fb54442d18469n, 0x898cc51701b836d8n, 2147483648);
+    check("99999999999999999999999999999999999999999999999999999999999", 0, 0xfdca16e04b86d410n, 0x5e46da08ea7ab69n, 2147483842);
+    // Within 2^32 lsbs of a power of two or of half an lsb - left to the general algorithm.
+    check("9999999999999999999999999999999999", -34, 0xffffffffffffffffn, 0xfffffffffffef628n, 2147483646);
+    check("10000000000000000000000000000000000000014693679385278593849", -58, 0x0n, 0x1n, 2147483647);
+    // Outside of POWERS_OF_10.
+    check("1234567890123456789012345", -426, 0xda0e326268bf680bn, 0xcf8e3c5e5b6516b8n, 2147482311);
+    check("1234567890123456789012345", 376, 0xdb4c05d64bee891n, 0xa35ab492743881fen, 2147484976);
+  });
+
   it("random1", function() {
     check("804431787231960292174158641356728981", 3, 0x2e97f69eea35dee3n, 0xc40eb6485f7e2b04n, 2147483776);
     check("804431787231960292174158641356728981", -3, 0x3d4ada5428435dd0n, 0x56d475eefdc7d917n, 2147483756);